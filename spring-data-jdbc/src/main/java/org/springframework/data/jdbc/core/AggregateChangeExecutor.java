@@ -90,10 +90,18 @@ class AggregateChangeExecutor {
 				executionContext.executeBatchInsert((DbAction.BatchInsert<?>) action);
 			} else if (action instanceof DbAction.UpdateRoot) {
 				executionContext.executeUpdateRoot((DbAction.UpdateRoot<?>) action);
+			} else if (action instanceof DbAction.BatchUpdateRoot<?>) {
+				executionContext.executeBatchUpdateRoot((DbAction.BatchUpdateRoot<?>) action);
+			} else if (action instanceof DbAction.BatchUpdateRootWithVersion<?>) {
+				executionContext.executeBatchUpdateRootWithVersion((DbAction.BatchUpdateRootWithVersion<?>) action);
+			} else if (action instanceof DbAction.Update) {
+				executionContext.executeUpdate((DbAction.Update<?>) action);
 			} else if (action instanceof DbAction.Delete) {
 				executionContext.executeDelete((DbAction.Delete<?>) action);
 			} else if (action instanceof DbAction.BatchDelete<?>) {
 				executionContext.executeBatchDelete((DbAction.BatchDelete<?>) action);
+			} else if (action instanceof DbAction.DeleteById) {
+				executionContext.executeDeleteById((DbAction.DeleteById<?>) action);
 			} else if (action instanceof DbAction.DeleteAll) {
 				executionContext.executeDeleteAll((DbAction.DeleteAll<?>) action);
 			} else if (action instanceof DbAction.DeleteRoot) {
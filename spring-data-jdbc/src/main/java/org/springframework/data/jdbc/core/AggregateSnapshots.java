@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.Map;
+
+import org.springframework.data.relational.core.conversion.AggregateSnapshot;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Holds the {@link AggregateSnapshot}s of the aggregates loaded or saved through a {@link JdbcAggregateTemplate}, keyed
+ * by aggregate type and id. Snapshots are softly referenced, so they get discarded under memory pressure. Snapshots
+ * taken within a transaction get evicted when the transaction does not commit, since the database then might not
+ * reflect their state.
+ *
+ * @since 3.0
+ */
+class AggregateSnapshots {
+
+	private final RelationalMappingContext context;
+	private final Map<Key, AggregateSnapshot> snapshots = new ConcurrentReferenceHashMap<>(16,
+			ConcurrentReferenceHashMap.ReferenceType.SOFT);
+
+	AggregateSnapshots(RelationalMappingContext context) {
+		this.context = context;
+	}
+
+	/**
+	 * Takes a snapshot of the given aggregate root, replacing any previous snapshot of the same aggregate.
+	 */
+	void capture(Object aggregateRoot) {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(aggregateRoot.getClass());
+		Object id = entity.getIdentifierAccessor(aggregateRoot).getIdentifier();
+
+		if (id == null) {
+			return;
+		}
+
+		Key key = new Key(entity.getType(), id);
+		snapshots.put(key, AggregateSnapshot.of(context, aggregateRoot));
+		evictUnlessCommitted(key);
+	}
+
+	/**
+	 * Returns and removes the snapshot of the aggregate identified by the given aggregate root, if present.
+	 */
+	@Nullable
+	AggregateSnapshot remove(Object aggregateRoot) {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(aggregateRoot.getClass());
+		Object id = entity.getIdentifierAccessor(aggregateRoot).getIdentifier();
+
+		return id == null ? null : snapshots.remove(new Key(entity.getType(), id));
+	}
+
+	void evict(Class<?> domainType, Object id) {
+		snapshots.remove(new Key(context.getRequiredPersistentEntity(domainType).getType(), id));
+	}
+
+	void evictAll(Class<?> domainType) {
+
+		Class<?> type = context.getRequiredPersistentEntity(domainType).getType();
+		snapshots.keySet().removeIf(key -> key.type().equals(type));
+	}
+
+	private void evictUnlessCommitted(Key key) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+			@Override
+			public void afterCompletion(int status) {
+
+				if (status != STATUS_COMMITTED) {
+					snapshots.remove(key);
+				}
+			}
+		});
+	}
+
+	private record Key(Class<?> type, Object id) {
+	}
+}
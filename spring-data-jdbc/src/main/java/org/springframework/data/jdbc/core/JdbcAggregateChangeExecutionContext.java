@@ -122,6 +122,49 @@ class JdbcAggregateChangeExecutionContext {
 		add(new DbActionExecutionResult(update));
 	}
 
+	<T> void executeBatchUpdateRoot(DbAction.BatchUpdateRoot<T> batchUpdateRoot) {
+
+		List<DbAction.UpdateRoot<T>> updates = batchUpdateRoot.getActions();
+		boolean[] updated = accessStrategy.update(updates.stream().map(DbAction.UpdateRoot::getEntity).toList(),
+				batchUpdateRoot.getEntityType());
+
+		for (int i = 0; i < updates.size(); i++) {
+
+			DbAction.UpdateRoot<T> update = updates.get(i);
+			if (!updated[i]) {
+				throw new IncorrectUpdateSemanticsDataAccessException(
+						String.format(UPDATE_FAILED, update.getEntity(), getIdFrom(update)));
+			}
+			add(new DbActionExecutionResult(update));
+		}
+	}
+
+	<T> void executeBatchUpdateRootWithVersion(DbAction.BatchUpdateRootWithVersion<T> batchUpdateRoot) {
+
+		List<DbAction.UpdateRoot<T>> updates = batchUpdateRoot.getActions();
+		boolean[] updated = accessStrategy.updateWithVersion(
+				updates.stream().map(DbAction.UpdateRoot::getEntity).toList(), batchUpdateRoot.getEntityType(),
+				updates.stream().map(DbAction.UpdateRoot::getPreviousVersion).toList());
+
+		for (int i = 0; i < updates.size(); i++) {
+
+			DbAction.UpdateRoot<T> update = updates.get(i);
+			if (!updated[i]) {
+				throw new OptimisticLockingFailureException(String.format(UPDATE_FAILED_OPTIMISTIC_LOCKING, update.getEntity()));
+			}
+			add(new DbActionExecutionResult(update));
+		}
+	}
+
+	<T> void executeUpdate(DbAction.Update<T> update) {
+
+		if (!accessStrategy.update(update.getEntity(), update.getEntityType())) {
+
+			throw new IncorrectUpdateSemanticsDataAccessException(
+					String.format(UPDATE_FAILED, update.getEntity(), getIdFrom(update)));
+		}
+	}
+
 	<T> void executeDeleteRoot(DbAction.DeleteRoot<T> delete) {
 
 		if (delete.getPreviousVersion() != null) {
@@ -142,6 +185,11 @@ class JdbcAggregateChangeExecutionContext {
 		accessStrategy.delete(delete.getRootId(), delete.getPropertyPath());
 	}
 
+	<T> void executeDeleteById(DbAction.DeleteById<T> delete) {
+
+		accessStrategy.delete(delete.getId(), delete.getEntityType());
+	}
+
 	<T> void executeBatchDelete(DbAction.BatchDelete<T> batchDelete) {
 
 		List<Object> rootIds = batchDelete.getActions().stream().map(DbAction.Delete::getRootId).toList();
@@ -16,11 +16,14 @@
 package org.springframework.data.jdbc.core;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.KeysetPosition;
+import org.springframework.data.relational.core.query.KeysetWindow;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.lang.Nullable;
 
@@ -157,6 +160,20 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType);
 
+	/**
+	 * Load all aggregates of a given type as a {@link Stream}. The aggregates get read from the database while the
+	 * stream gets consumed, so the stream must be closed after use, e.g. using try-with-resources. Aggregates read this
+	 * way are not tracked for changes. Collections and maps get loaded in chunks of aggregates only if
+	 * {@link org.springframework.data.relational.core.mapping.RelationalMappingContext#isSingleQueryLoadingEnabled()
+	 * single query loading} is enabled; otherwise they get loaded by separate statements for each aggregate.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.0
+	 */
+	<T> Stream<T> streamAll(Class<T> domainType);
+
 	/**
 	 * Checks if an aggregate identified by type and id exists in the database.
 	 *
@@ -211,6 +228,21 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> select(Query query, Class<T> entityClass);
 
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Stream}. The aggregates get read from
+	 * the database while the stream gets consumed, so the stream must be closed after use, e.g. using
+	 * try-with-resources. Aggregates read this way are not tracked for changes. Collections and maps get loaded in
+	 * chunks of aggregates only if
+	 * {@link org.springframework.data.relational.core.mapping.RelationalMappingContext#isSingleQueryLoadingEnabled()
+	 * single query loading} is enabled; otherwise they get loaded by separate statements for each aggregate.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass the entity type must not be {@literal null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.0
+	 */
+	<T> Stream<T> stream(Query query, Class<T> entityClass);
+
 	/**
 	 * Determine whether there are aggregates that match the {@link Query}
 	 *
@@ -242,4 +274,19 @@ public interface JdbcAggregateOperations {
 	 * @since 3.0
 	 */
 	<T> Page<T> select(Query query, Class<T> entityClass, Pageable pageable);
+
+	/**
+	 * Returns a {@link KeysetWindow} of entities matching the given {@link Query} that sort after the given
+	 * {@link KeysetPosition}. Instead of skipping rows through an offset, the window is selected through a predicate on
+	 * the sort properties so that each window costs an index seek. The {@link Query} must be sorted and limited, the
+	 * limit defining the size of the window.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass the entity type must not be {@literal null}.
+	 * @param position the position to continue after, must not be {@literal null}. Use
+	 *          {@link KeysetPosition#initial()} to obtain the first window.
+	 * @return the {@link KeysetWindow} of entities. Guaranteed to be not {@code null}.
+	 * @since 3.0
+	 */
+	<T> KeysetWindow<T> scroll(Query query, Class<T> entityClass, KeysetPosition position);
 }
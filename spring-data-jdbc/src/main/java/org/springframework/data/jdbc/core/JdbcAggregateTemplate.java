@@ -21,8 +21,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.context.ApplicationContext;
@@ -32,10 +34,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.support.JdbcPageableExecutionUtils;
 import org.springframework.data.mapping.IdentifierAccessor;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.EntityLifecycleEventDelegate;
 import org.springframework.data.relational.core.conversion.AggregateChange;
+import org.springframework.data.relational.core.conversion.AggregateSnapshot;
 import org.springframework.data.relational.core.conversion.BatchingAggregateChange;
 import org.springframework.data.relational.core.conversion.DeleteAggregateChange;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
@@ -48,8 +53,9 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.mapping.event.*;
+import org.springframework.data.relational.core.query.KeysetPosition;
+import org.springframework.data.relational.core.query.KeysetWindow;
 import org.springframework.data.relational.core.query.Query;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -78,6 +84,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	private final JdbcConverter converter;
 
 	private EntityCallbacks entityCallbacks = EntityCallbacks.create();
+	@Nullable private AggregateSnapshots snapshots;
+	@Nullable private Executor countQueryExecutor;
 
 	/**
 	 * Creates a new {@link JdbcAggregateTemplate} given {@link ApplicationContext}, {@link RelationalMappingContext} and
@@ -158,6 +166,39 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		this.eventDelegate.setEventsEnabled(enabled);
 	}
 
+	/**
+	 * Configure whether the state of aggregates loaded or saved through this template should be tracked. When enabled,
+	 * updating an aggregate only writes the referenced entities that changed since it was last loaded or saved, instead
+	 * of deleting and inserting all of them again. Unchanged parts of the aggregate are assumed to be unchanged in the
+	 * database as well, so this should only be enabled when aggregates are not modified by other means. Disabled by
+	 * default.
+	 *
+	 * @param enabled {@code true} to enable change tracking; {@code false} to always rewrite all referenced entities.
+	 * @since 3.0
+	 */
+	public void setChangeTrackingEnabled(boolean enabled) {
+		this.snapshots = enabled ? new AggregateSnapshots(context) : null;
+	}
+
+	/**
+	 * Configure the {@link Executor} running the count query of {@link #findAll(Class, Pageable)} and
+	 * {@link #select(Query, Class, Pageable)} concurrently to the query selecting the content of the page. Defaults to
+	 * {@literal null} to always run them sequentially on the calling thread.
+	 * <p>
+	 * The count query runs on a second connection obtained from the same {@link javax.sql.DataSource}, so each page
+	 * request may hold two connections at once. As that connection doesn't participate in the transaction of the calling
+	 * thread, both queries run sequentially within an active transaction, and outside of one, content and total may be
+	 * read from different states of the database. The count query is submitted before the content is known and therefore
+	 * also runs for pages whose total follows from their content.
+	 *
+	 * @param countQueryExecutor can be {@literal null}.
+	 * @since 3.0
+	 * @see JdbcPageableExecutionUtils
+	 */
+	public void setCountQueryExecutor(@Nullable Executor countQueryExecutor) {
+		this.countQueryExecutor = countQueryExecutor;
+	}
+
 	@Override
 	public <T> T save(T instance) {
 
@@ -248,20 +289,34 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		Assert.notNull(domainType, "Domain type must not be null");
 
-		Iterable<T> items = triggerAfterConvert(accessStrategy.findAll(domainType, pageable));
-		List<T> content = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
+		return JdbcPageableExecutionUtils.getPage(() -> {
 
-		return PageableExecutionUtils.getPage(content, pageable, () -> accessStrategy.count(domainType));
+			Iterable<T> items = triggerAfterConvert(accessStrategy.findAll(domainType, pageable));
+			return StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
+		}, pageable, () -> accessStrategy.count(domainType), countQueryExecutor);
 	}
 
 	@Override
 	public <T> Optional<T> selectOne(Query query, Class<T> entityClass) {
-		return accessStrategy.selectOne(query, entityClass);
+
+		Optional<T> result = accessStrategy.selectOne(query, entityClass);
+		result.ifPresent(this::captureSnapshot);
+		return result;
 	}
 
 	@Override
 	public <T> Iterable<T> select(Query query, Class<T> entityClass) {
-		return accessStrategy.select(query, entityClass);
+
+		Iterable<T> result = accessStrategy.select(query, entityClass);
+		if (snapshots != null) {
+			result.forEach(this::captureSnapshot);
+		}
+		return result;
+	}
+
+	@Override
+	public <T> Stream<T> stream(Query query, Class<T> entityClass) {
+		return accessStrategy.stream(query, entityClass).map(this::publishAfterConvert);
 	}
 
 	@Override
@@ -277,10 +332,32 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	@Override
 	public <T> Page<T> select(Query query, Class<T> entityClass, Pageable pageable) {
 
-		Iterable<T> items = triggerAfterConvert(accessStrategy.select(query, entityClass, pageable));
+		return JdbcPageableExecutionUtils.getPage(() -> {
+
+			Iterable<T> items = triggerAfterConvert(accessStrategy.select(query, entityClass, pageable));
+			return StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
+		}, pageable, () -> accessStrategy.count(query, entityClass), countQueryExecutor);
+	}
+
+	@Override
+	public <T> KeysetWindow<T> scroll(Query query, Class<T> entityClass, KeysetPosition position) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity class must not be null");
+		Assert.notNull(position, "KeysetPosition must not be null");
+		Assert.isTrue(query.isSorted() && query.isLimited(), "Keyset pagination requires a sorted and limited query");
+
+		int limit = query.getLimit();
+		Iterable<T> items = select(query.after(position).limit(limit + 1), entityClass);
 		List<T> content = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
 
-		return PageableExecutionUtils.getPage(content, pageable, () -> accessStrategy.count(query, entityClass));
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(entityClass);
+
+		return KeysetWindow.of(content, limit, query.getSort(), entity -> {
+
+			PersistentPropertyAccessor<T> accessor = persistentEntity.getPropertyAccessor(entity);
+			return property -> accessor.getProperty(persistentEntity.getRequiredPersistentProperty(property));
+		});
 	}
 
 	@Override
@@ -292,6 +369,14 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return triggerAfterConvert(all);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return accessStrategy.streamAll(domainType).map(this::publishAfterConvert);
+	}
+
 	@Override
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 
@@ -333,6 +418,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		ids.forEach(id -> {
 
+			evictSnapshot(domainType, id);
 			DeleteAggregateChange<T> change = createDeletingChange(id, null, domainType);
 			triggerBeforeDelete(null, id, change);
 			batchingAggregateChange.add(change);
@@ -348,6 +434,10 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		Assert.notNull(domainType, "Domain type must not be null");
 
+		if (snapshots != null) {
+			snapshots.evictAll(domainType);
+		}
+
 		MutableAggregateChange<?> change = createDeletingChange(domainType);
 		executor.executeDelete(change);
 	}
@@ -365,6 +455,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 			Object id = context.getRequiredPersistentEntity(domainType).getIdentifierAccessor(instance)
 					.getRequiredIdentifier();
+			evictSnapshot(domainType, id);
 			DeleteAggregateChange<T> change = createDeletingChange(id, instance, domainType);
 			instancesBeforeExecute.put(id, triggerBeforeDelete(instance, id, change));
 			batchingAggregateChange.add(change);
@@ -382,6 +473,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		Assert.notNull(identifier, "After saving the identifier must not be null");
 
+		captureSnapshot(entityAfterExecution);
+
 		return triggerAfterSave(entityAfterExecution, change);
 	}
 
@@ -402,6 +495,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 	private <T> void deleteTree(Object id, @Nullable T entity, Class<T> domainType) {
 
+		evictSnapshot(domainType, id);
+
 		MutableAggregateChange<T> change = createDeletingChange(id, entity, domainType);
 
 		entity = triggerBeforeDelete(entity, id, change);
@@ -467,7 +562,9 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		RootAggregateChange<T> aggregateChange = MutableAggregateChange.forSave(entityAndVersion.entity,
 				entityAndVersion.version);
-		new RelationalEntityUpdateWriter<T>(context).write(entityAndVersion.entity, aggregateChange);
+		// the snapshot gets taken again once the change got executed successfully
+		AggregateSnapshot previousState = snapshots == null ? null : snapshots.remove(entityAndVersion.entity);
+		new RelationalEntityUpdateWriter<T>(context, previousState).write(entityAndVersion.entity, aggregateChange);
 		return aggregateChange;
 	}
 
@@ -542,10 +639,31 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 	private <T> T triggerAfterConvert(T entity) {
 
+		captureSnapshot(entity);
+
+		return publishAfterConvert(entity);
+	}
+
+	private <T> T publishAfterConvert(T entity) {
+
 		eventDelegate.publishEvent(() -> new AfterConvertEvent<>(entity));
 		return entityCallbacks.callback(AfterConvertCallback.class, entity);
 	}
 
+	private void captureSnapshot(Object aggregateRoot) {
+
+		if (snapshots != null) {
+			snapshots.capture(aggregateRoot);
+		}
+	}
+
+	private void evictSnapshot(Class<?> domainType, Object id) {
+
+		if (snapshots != null) {
+			snapshots.evict(domainType, id);
+		}
+	}
+
 	private <T> T triggerBeforeConvert(T aggregateRoot) {
 
 		eventDelegate.publishEvent(() -> new BeforeConvertEvent<>(aggregateRoot));
@@ -20,8 +20,13 @@ import java.sql.JDBCType;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLType;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -316,13 +321,70 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 	@Override
 	public <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key) {
-		return new ReadingContext<T>(new PersistentPropertyPathExtension(getMappingContext(), entity),
-				new ResultSetAccessor(resultSet), Identifier.empty(), key).mapRow();
+		return mapRow(entity, resultSet, key, relationResolver);
 	}
 
 	@Override
 	public <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key) {
-		return new ReadingContext<T>(path, new ResultSetAccessor(resultSet), identifier, key).mapRow();
+		return mapRow(path, resultSet, identifier, key, relationResolver);
+	}
+
+	@Override
+	public <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			RelationResolver relationResolver) {
+
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
+
+		return new ReadingContext<T>(
+				new ReadingPlan<>(new PersistentPropertyPathExtension(getMappingContext(), entity),
+						new ResultSetAccessor(resultSet)),
+				Identifier.empty(), key, relationResolver).mapRow();
+	}
+
+	@Override
+	public <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key,
+			RelationResolver relationResolver) {
+
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
+
+		return new ReadingContext<T>(new ReadingPlan<>(path, new ResultSetAccessor(resultSet)), identifier, key,
+				relationResolver).mapRow();
+	}
+
+	/**
+	 * Create a {@link ResultSetReader} reading entities of the leaf entity of {@code path} from the rows of a
+	 * {@link ResultSet}.
+	 *
+	 * @param path must point to an entity.
+	 * @param relationResolver resolver for collections and maps of the read entities. Can be {@literal null} to use the
+	 *          {@link RelationResolver} of this converter.
+	 * @return a new {@link ResultSetReader}.
+	 * @since 3.0
+	 */
+	<T> ResultSetReader<T> createResultSetReader(PersistentPropertyPathExtension path,
+			@Nullable RelationResolver relationResolver) {
+		return createResultSetReader(path, relationResolver, null);
+	}
+
+	/**
+	 * Create a {@link ResultSetReader} reading entities of the leaf entity of {@code path} from the rows of a
+	 * {@link ResultSet}, loading only the collections and maps among the given properties of the entity. Other
+	 * collections and maps of the entity are left empty, which avoids loading relations that are not used by a
+	 * projection.
+	 *
+	 * @param path must point to an entity.
+	 * @param relationResolver resolver for collections and maps of the read entities. Can be {@literal null} to use the
+	 *          {@link RelationResolver} of this converter.
+	 * @param requiredProperties names of the properties of the entity to be read. Can be {@literal null} to read all
+	 *          properties.
+	 * @return a new {@link ResultSetReader}.
+	 * @since 3.0
+	 */
+	<T> ResultSetReader<T> createResultSetReader(PersistentPropertyPathExtension path,
+			@Nullable RelationResolver relationResolver, @Nullable Collection<String> requiredProperties) {
+
+		return new ResultSetReader<>(path, relationResolver != null ? relationResolver : this.relationResolver,
+				requiredProperties != null ? new HashSet<>(requiredProperties) : null);
 	}
 
 	static Object[] requireObjectArray(Object source) {
@@ -362,22 +424,77 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		return (Object[]) source;
 	}
 
-	private class ReadingContext<T> {
+	/**
+	 * Reads entities from the rows of a {@link ResultSet}. The {@link ReadingPlan} of a {@link ResultSet} is created for
+	 * its first row and reused for all following rows, so column lookups and property paths are resolved once per
+	 * {@link ResultSet} rather than once per row. A {@link ResultSet} is read by a single thread, and plans are never
+	 * shared between {@link ResultSet result sets}.
+	 *
+	 * @since 3.0
+	 */
+	class ResultSetReader<T> {
+
+		private final PersistentPropertyPathExtension path;
+		private final RelationResolver relationResolver;
+		private final @Nullable Set<String> requiredProperties;
+		private volatile @Nullable ReadingPlan<T> plan;
+
+		private ResultSetReader(PersistentPropertyPathExtension path, RelationResolver relationResolver,
+				@Nullable Set<String> requiredProperties) {
+
+			this.path = path;
+			this.relationResolver = relationResolver;
+			this.requiredProperties = requiredProperties;
+		}
+
+		/**
+		 * Read the entity from the current row of the {@link ResultSet}.
+		 *
+		 * @param resultSet the {@link ResultSet} positioned at the row to read.
+		 * @param identifier the identifier of the parent entity, if any.
+		 * @param key the key of the entity within its parent or the row number.
+		 * @return the entity.
+		 */
+		T mapRow(ResultSet resultSet, Identifier identifier, Object key) {
+
+			ReadingPlan<T> plan = this.plan;
+
+			if (plan == null || !plan.accessor.isFor(resultSet)) {
+
+				plan = new ReadingPlan<>(path, new ResultSetAccessor(resultSet), requiredProperties);
+				this.plan = plan;
+			}
+
+			return new ReadingContext<>(plan, identifier, key, relationResolver).mapRow();
+		}
+	}
+
+	/**
+	 * The row independent part of a {@link ReadingContext}: the property paths of an entity along with the value
+	 * providers for a {@link ResultSet}. Plans of nested entities are created on first access and retained.
+	 */
+	private class ReadingPlan<T> {
 
 		private final RelationalPersistentEntity<T> entity;
 
 		private final PersistentPropertyPathExtension rootPath;
 		private final PersistentPropertyPathExtension path;
-		private final Identifier identifier;
-		private final Object key;
 
 		private final JdbcPropertyValueProvider propertyValueProvider;
 		private final JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider;
 		private final ResultSetAccessor accessor;
+		private final @Nullable Set<String> requiredProperties;
+		private final Map<RelationalPersistentProperty, ReadingPlan<?>> nestedPlans = new HashMap<>();
+		private final Map<RelationalPersistentProperty, LazyRelationBatch> lazyRelationBatches = new HashMap<>();
+
+		private ReadingPlan(PersistentPropertyPathExtension rootPath, ResultSetAccessor accessor) {
+			this(rootPath, accessor, null);
+		}
 
 		@SuppressWarnings("unchecked")
-		private ReadingContext(PersistentPropertyPathExtension rootPath, ResultSetAccessor accessor, Identifier identifier,
-				Object key) {
+		private ReadingPlan(PersistentPropertyPathExtension rootPath, ResultSetAccessor accessor,
+				@Nullable Set<String> requiredProperties) {
+
 			RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) rootPath.getLeafEntity();
 
 			Assert.notNull(entity, "The rootPath must point to an entity");
@@ -385,33 +502,86 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			this.entity = entity;
 			this.rootPath = rootPath;
 			this.path = new PersistentPropertyPathExtension(getMappingContext(), this.entity);
-			this.identifier = identifier;
-			this.key = key;
 			this.propertyValueProvider = new JdbcPropertyValueProvider(identifierProcessing, path, accessor);
 			this.backReferencePropertyValueProvider = new JdbcBackReferencePropertyValueProvider(identifierProcessing, path,
 					accessor);
 			this.accessor = accessor;
+			this.requiredProperties = requiredProperties;
 		}
 
-		private ReadingContext(RelationalPersistentEntity<T> entity, PersistentPropertyPathExtension rootPath,
-				PersistentPropertyPathExtension path, Identifier identifier, Object key,
-				JdbcPropertyValueProvider propertyValueProvider,
+		private ReadingPlan(RelationalPersistentEntity<T> entity, PersistentPropertyPathExtension rootPath,
+				PersistentPropertyPathExtension path, JdbcPropertyValueProvider propertyValueProvider,
 				JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider, ResultSetAccessor accessor) {
+
 			this.entity = entity;
 			this.rootPath = rootPath;
 			this.path = path;
-			this.identifier = identifier;
-			this.key = key;
 			this.propertyValueProvider = propertyValueProvider;
 			this.backReferencePropertyValueProvider = backReferencePropertyValueProvider;
 			this.accessor = accessor;
+			this.requiredProperties = null;
+		}
+
+		/**
+		 * Returns whether the given property of the entity of this plan is to be read. Properties of nested entities are
+		 * always read.
+		 */
+		private boolean isRequired(RelationalPersistentProperty property) {
+			return requiredProperties == null || requiredProperties.contains(property.getName());
+		}
+
+		/**
+		 * Returns the {@link LazyRelationBatch} for the given lazily loaded property, shared by all entities read with this
+		 * plan.
+		 */
+		private LazyRelationBatch getLazyRelationBatch(RelationalPersistentProperty property,
+				RelationResolver relationResolver) {
+
+			return lazyRelationBatches.computeIfAbsent(property,
+					it -> new LazyRelationBatch(relationResolver, path.extendBy(it).getRequiredPersistentPropertyPath()));
+		}
+
+		@SuppressWarnings("unchecked")
+		private <S> ReadingPlan<S> extendBy(RelationalPersistentProperty property) {
+			return (ReadingPlan<S>) nestedPlans.computeIfAbsent(property, it -> new ReadingPlan<>(
+					getMappingContext().getRequiredPersistentEntity(it.getActualType()), rootPath.extendBy(it),
+					path.extendBy(it), propertyValueProvider.extendBy(it), backReferencePropertyValueProvider.extendBy(it),
+					accessor));
+		}
+	}
+
+	private class ReadingContext<T> {
+
+		private final ReadingPlan<T> plan;
+		private final RelationalPersistentEntity<T> entity;
+
+		private final PersistentPropertyPathExtension rootPath;
+		private final PersistentPropertyPathExtension path;
+		private final Identifier identifier;
+		private final Object key;
+
+		private final JdbcPropertyValueProvider propertyValueProvider;
+		private final JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider;
+		private final ResultSetAccessor accessor;
+		private final RelationResolver relationResolver;
+
+		private ReadingContext(ReadingPlan<T> plan, Identifier identifier, Object key,
+				RelationResolver relationResolver) {
+
+			this.plan = plan;
+			this.entity = plan.entity;
+			this.rootPath = plan.rootPath;
+			this.path = plan.path;
+			this.identifier = identifier;
+			this.key = key;
+			this.propertyValueProvider = plan.propertyValueProvider;
+			this.backReferencePropertyValueProvider = plan.backReferencePropertyValueProvider;
+			this.accessor = plan.accessor;
+			this.relationResolver = relationResolver;
 		}
 
 		private <S> ReadingContext<S> extendBy(RelationalPersistentProperty property) {
-			return new ReadingContext<>(
-					(RelationalPersistentEntity<S>) getMappingContext().getRequiredPersistentEntity(property.getActualType()),
-					rootPath.extendBy(property), path.extendBy(property), identifier, key,
-					propertyValueProvider.extendBy(property), backReferencePropertyValueProvider.extendBy(property), accessor);
+			return new ReadingContext<>(plan.<S> extendBy(property), identifier, key, relationResolver);
 		}
 
 		T mapRow() {
@@ -454,7 +624,14 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 			if ((property.isCollectionLike() && property.isEntity()) || property.isMap()) {
 
-				Iterable<Object> allByPath = resolveRelation(id, property);
+				if (plan.isRequired(property) && property.isLazy()) {
+					return plan.getLazyRelationBatch(property, relationResolver).createPlaceholder(property,
+							getRelationIdentifier(id, property));
+				}
+
+				Iterable<Object> allByPath = plan.isRequired(property) //
+						? resolveRelation(id, property) //
+						: Collections.emptyList();
 
 				return property.isMap() //
 						? ITERABLE_OF_ENTRY_TO_MAP_CONVERTER.convert(allByPath) //
@@ -469,14 +646,17 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 		private Iterable<Object> resolveRelation(@Nullable Object id, RelationalPersistentProperty property) {
 
-			Identifier identifier = id == null //
-					? this.identifier.withPart(rootPath.getQualifierColumn(), key, Object.class) //
-					: Identifier.of(rootPath.extendBy(property).getReverseColumnName(), id, Object.class);
-
 			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath = path.extendBy(property)
 					.getRequiredPersistentPropertyPath();
 
-			return relationResolver.findAllByPath(identifier, propertyPath);
+			return relationResolver.findAllByPath(getRelationIdentifier(id, property), propertyPath);
+		}
+
+		private Identifier getRelationIdentifier(@Nullable Object id, RelationalPersistentProperty property) {
+
+			return id == null //
+					? this.identifier.withPart(rootPath.getQualifierColumn(), key, Object.class) //
+					: Identifier.of(rootPath.extendBy(property).getReverseColumnName(), id, Object.class);
 		}
 
 		/**
@@ -33,4 +33,18 @@ interface BatchInsertStrategy {
 	 * @since 2.4
 	 */
 	Object[] execute(String sql, SqlParameterSource[] sqlParameterSources);
+
+	/**
+	 * Executes the batch insert, possibly combining the rows into statements inserting multiple rows at once.
+	 *
+	 * @param sql the insert sql. Must not be {@code null}.
+	 * @param renderedInsert the rendered table and column names of the insert sql. Must not be {@code null}.
+	 * @param sqlParameterSources the sql parameters for each record to be inserted. Must not be {@code null}.
+	 * @return the ids corresponding to each record that was inserted, if ids were generated. If ids were not generated,
+	 *         elements will be {@code null}.
+	 * @since 3.0
+	 */
+	default Object[] execute(String sql, RenderedInsert renderedInsert, SqlParameterSource[] sqlParameterSources) {
+		return execute(sql, sqlParameterSources);
+	}
 }
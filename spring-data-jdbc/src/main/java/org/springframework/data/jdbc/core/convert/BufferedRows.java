@@ -0,0 +1,256 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Rows copied from a {@link ResultSet}, so they can be read again as a {@link ResultSet} after the original one has
+ * moved on. Values get copied using {@link JdbcUtils#getResultSetValue(ResultSet, int)}, so LOBs are materialized while
+ * the row they belong to is still current. All other values, including vendor specific types, are kept as returned by
+ * the driver.
+ * <p>
+ * The {@link ResultSet} returned by {@link #getResultSet()} is forward-only and read-only. It supports navigating with
+ * {@link ResultSet#next()}, reading values with {@link ResultSet#getObject(int)} and
+ * {@link ResultSet#getObject(String)} and the column labels, names and class names of its
+ * {@link ResultSet#getMetaData() metadata}. Other methods throw a {@link SQLFeatureNotSupportedException}.
+ *
+ * @since 3.0
+ */
+class BufferedRows {
+
+	private final String[] labels;
+	private final String[] names;
+	private final String[] classNames;
+	private final Map<String, Integer> indexLookUp;
+	private final List<Object[]> rows = new ArrayList<>();
+
+	/**
+	 * Creates empty {@link BufferedRows} for rows of the given {@link ResultSetMetaData}.
+	 *
+	 * @param metaData must not be {@literal null}.
+	 * @throws SQLException if the metadata can't be read.
+	 */
+	BufferedRows(ResultSetMetaData metaData) throws SQLException {
+
+		int columnCount = metaData.getColumnCount();
+
+		this.labels = new String[columnCount];
+		this.names = new String[columnCount];
+		this.classNames = new String[columnCount];
+		this.indexLookUp = new LinkedCaseInsensitiveMap<>(columnCount);
+
+		for (int i = 0; i < columnCount; i++) {
+
+			labels[i] = metaData.getColumnLabel(i + 1);
+			names[i] = metaData.getColumnName(i + 1);
+			classNames[i] = metaData.getColumnClassName(i + 1);
+
+			indexLookUp.putIfAbsent(labels[i], i + 1);
+		}
+	}
+
+	/**
+	 * Returns the index of the column with the given label or {@literal -1} if there is no such column.
+	 *
+	 * @param columnLabel the label of the column.
+	 * @return the one-based index of the column.
+	 */
+	int findColumn(String columnLabel) {
+		return indexLookUp.getOrDefault(columnLabel, -1);
+	}
+
+	/**
+	 * Copies the values of the current row of the given {@link ResultSet}, without adding them.
+	 *
+	 * @param resultSet must be positioned on a row with the columns of these {@link BufferedRows}.
+	 * @return the values of the row.
+	 * @throws SQLException if a value can't be read.
+	 */
+	Object[] copyRow(ResultSet resultSet) throws SQLException {
+
+		Object[] values = new Object[labels.length];
+
+		for (int i = 0; i < values.length; i++) {
+			values[i] = JdbcUtils.getResultSetValue(resultSet, i + 1);
+		}
+
+		return values;
+	}
+
+	/**
+	 * Adds a row as copied by {@link #copyRow(ResultSet)}.
+	 *
+	 * @param values the values of the row.
+	 */
+	void add(Object[] values) {
+		rows.add(values);
+	}
+
+	/**
+	 * Removes all rows.
+	 */
+	void clear() {
+		rows.clear();
+	}
+
+	int size() {
+		return rows.size();
+	}
+
+	/**
+	 * Returns a new {@link ResultSet} positioned before the first of the rows added so far.
+	 *
+	 * @return guaranteed to be not {@literal null}.
+	 */
+	ResultSet getResultSet() {
+
+		return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ResultSet.class },
+				new ResultSetHandler());
+	}
+
+	private ResultSetMetaData getMetaData() {
+
+		return (ResultSetMetaData) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { ResultSetMetaData.class }, new MetaDataHandler());
+	}
+
+	private static Object invokeObjectMethod(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+
+		return switch (method.getName()) {
+			case "equals" -> proxy == args[0];
+			case "hashCode" -> System.identityHashCode(proxy);
+			case "toString" -> "Buffered " + method.getDeclaringClass().getSimpleName();
+			default -> throw new IllegalStateException("Unexpected method " + method);
+		};
+	}
+
+	private static Object unsupported(Method method) throws SQLException {
+		throw new SQLFeatureNotSupportedException(method.getName() + " is not supported by buffered rows");
+	}
+
+	/**
+	 * Reads the rows with a forward-only cursor.
+	 */
+	private class ResultSetHandler implements InvocationHandler {
+
+		private int current = -1;
+		private boolean wasNull;
+		private boolean closed;
+
+		@Override
+		@Nullable
+		public Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+
+			if (method.getDeclaringClass() == Object.class) {
+				return invokeObjectMethod(proxy, method, args);
+			}
+
+			return switch (method.getName()) {
+				case "next" -> ++current < rows.size();
+				case "getObject" -> args.length == 1 ? getValue(args[0]) : unsupported(method);
+				case "findColumn" -> getIndex((String) args[0]);
+				case "wasNull" -> wasNull;
+				case "getRow" -> current >= 0 && current < rows.size() ? current + 1 : 0;
+				case "getMetaData" -> BufferedRows.this.getMetaData();
+				case "getType" -> ResultSet.TYPE_FORWARD_ONLY;
+				case "getConcurrency" -> ResultSet.CONCUR_READ_ONLY;
+				case "close" -> closed = true;
+				case "isClosed" -> closed;
+				case "isWrapperFor" -> false;
+				default -> unsupported(method);
+			};
+		}
+
+		@Nullable
+		private Object getValue(Object column) throws SQLException {
+
+			if (current < 0 || current >= rows.size()) {
+				throw new SQLException("Not positioned on a row");
+			}
+
+			int index = column instanceof String label ? getIndex(label) : (Integer) column;
+
+			if (index < 1 || index > labels.length) {
+				throw new SQLException("Invalid column index " + index);
+			}
+
+			Object value = rows.get(current)[index - 1];
+			wasNull = value == null;
+
+			return value;
+		}
+
+		private int getIndex(String columnLabel) throws SQLException {
+
+			int index = findColumn(columnLabel);
+
+			if (index < 0) {
+				throw new SQLException("Invalid column label " + columnLabel);
+			}
+
+			return index;
+		}
+	}
+
+	/**
+	 * Exposes the column labels, names and class names of the copied {@link ResultSetMetaData}.
+	 */
+	private class MetaDataHandler implements InvocationHandler {
+
+		@Override
+		@Nullable
+		public Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+
+			if (method.getDeclaringClass() == Object.class) {
+				return invokeObjectMethod(proxy, method, args);
+			}
+
+			return switch (method.getName()) {
+				case "getColumnCount" -> labels.length;
+				case "getColumnLabel" -> get(labels, args[0]);
+				case "getColumnName" -> get(names, args[0]);
+				case "getColumnClassName" -> get(classNames, args[0]);
+				case "isWrapperFor" -> false;
+				default -> unsupported(method);
+			};
+		}
+
+		private String get(String[] values, Object column) throws SQLException {
+
+			int index = (Integer) column;
+
+			if (index < 1 || index > values.length) {
+				throw new SQLException("Invalid column index " + index);
+			}
+
+			return values[index - 1];
+		}
+	}
+}
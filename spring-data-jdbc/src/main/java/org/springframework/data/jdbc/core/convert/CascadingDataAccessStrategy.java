@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -77,6 +78,16 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.updateWithVersion(instance, domainType, previousVersion));
 	}
 
+	@Override
+	public <S> boolean[] update(List<S> instances, Class<S> domainType) {
+		return collect(das -> das.update(instances, domainType));
+	}
+
+	@Override
+	public <S> boolean[] updateWithVersion(List<S> instances, Class<S> domainType, List<Number> previousVersions) {
+		return collect(das -> das.updateWithVersion(instances, domainType, previousVersions));
+	}
+
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 		collectVoid(das -> das.delete(id, domainType));
@@ -148,6 +159,12 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAllByPath(identifier, path));
 	}
 
+	@Override
+	public List<Iterable<Object>> findAllByPathForEach(List<Identifier> identifiers,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+		return collect(das -> das.findAllByPathForEach(identifiers, path));
+	}
+
 	@Override
 	public <T> boolean existsById(Object id, Class<T> domainType) {
 		return collect(das -> das.existsById(id, domainType));
@@ -178,6 +195,16 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.select(query, probeType, pageable));
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return collect(das -> das.streamAll(domainType));
+	}
+
+	@Override
+	public <T> Stream<T> stream(Query query, Class<T> probeType) {
+		return collect(das -> das.stream(query, probeType));
+	}
+
 	@Override
 	public <T> boolean exists(Query query, Class<T> probeType) {
 		return collect(das -> das.exists(query, probeType));
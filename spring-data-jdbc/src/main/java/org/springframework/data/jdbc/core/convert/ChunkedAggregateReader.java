@@ -0,0 +1,158 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
+
+/**
+ * Reads aggregates from a stream of rows in chunks of a fixed number of rows. The rows of a chunk get buffered, so the
+ * collections of all aggregates of the chunk can be loaded by their ids before the first of them gets materialized.
+ * Only a single chunk is held in memory at a time.
+ *
+ * @param <T> the type of the aggregate root.
+ * @since 3.0
+ */
+class ChunkedAggregateReader<T> implements RowMapper<Object[]> {
+
+	private final String idColumn;
+	private final int chunkSize;
+	private final Function<List<Object>, RowMapper<T>> rowMapperFactory;
+
+	@Nullable private BufferedRows buffer;
+	private int idIndex = -1;
+
+	/**
+	 * @param idColumn the label of the id column of the aggregate root.
+	 * @param chunkSize the maximum number of rows per chunk. Must be greater than zero.
+	 * @param rowMapperFactory creates the {@link RowMapper} for the aggregates with the given ids.
+	 */
+	ChunkedAggregateReader(String idColumn, int chunkSize, Function<List<Object>, RowMapper<T>> rowMapperFactory) {
+
+		this.idColumn = idColumn;
+		this.chunkSize = chunkSize;
+		this.rowMapperFactory = rowMapperFactory;
+	}
+
+	/**
+	 * Copies the values of the current row, to be passed on to {@link #read(Stream)}.
+	 */
+	@Override
+	public Object[] mapRow(ResultSet resultSet, int rowNumber) throws SQLException {
+
+		if (buffer == null) {
+
+			BufferedRows buffer = new BufferedRows(resultSet.getMetaData());
+			idIndex = buffer.findColumn(idColumn);
+
+			if (idIndex < 0) {
+				throw new IllegalStateException(String.format("Result does not contain id column %s", idColumn));
+			}
+
+			this.buffer = buffer;
+		}
+
+		return buffer.copyRow(resultSet);
+	}
+
+	/**
+	 * Reads the aggregates from the given rows, which must have been obtained using this reader as {@link RowMapper}.
+	 * Closing the returned {@link Stream} closes the stream of rows.
+	 *
+	 * @param rows the rows to read.
+	 * @return the aggregates. Guaranteed to be not {@literal null}.
+	 */
+	Stream<T> read(Stream<Object[]> rows) {
+
+		Iterator<T> aggregates = new ChunkIterator(rows.iterator());
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(aggregates, Spliterator.ORDERED), false)
+				.onClose(rows::close);
+	}
+
+	private class ChunkIterator implements Iterator<T> {
+
+		private final Iterator<Object[]> rows;
+		private final Deque<T> chunk = new ArrayDeque<>();
+
+		ChunkIterator(Iterator<Object[]> rows) {
+			this.rows = rows;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			if (chunk.isEmpty() && rows.hasNext()) {
+				readChunk();
+			}
+
+			return !chunk.isEmpty();
+		}
+
+		@Override
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return chunk.removeFirst();
+		}
+
+		private void readChunk() {
+
+			try {
+
+				List<Object> ids = new ArrayList<>(chunkSize);
+
+				while (ids.size() < chunkSize && rows.hasNext()) {
+
+					Object[] values = rows.next();
+
+					buffer.add(values);
+					ids.add(values[idIndex - 1]);
+				}
+
+				RowMapper<T> rowMapper = rowMapperFactory.apply(ids);
+				ResultSet bufferedRows = buffer.getResultSet();
+
+				int rowNumber = 0;
+				while (bufferedRows.next()) {
+					chunk.add(rowMapper.mapRow(bufferedRows, rowNumber++));
+				}
+
+				buffer.clear();
+			} catch (SQLException e) {
+				throw new UncategorizedSQLException("Buffering rows of aggregates", null, e);
+			}
+		}
+	}
+}
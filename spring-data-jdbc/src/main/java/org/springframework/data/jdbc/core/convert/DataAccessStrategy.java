@@ -18,6 +18,7 @@ package org.springframework.data.jdbc.core.convert;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
@@ -120,6 +121,36 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> boolean updateWithVersion(T instance, Class<T> domainType, Number previousVersion);
 
+	/**
+	 * Updates the data of multiple entities of the same type in the database using a single batch. Referenced entities
+	 * don't get handled.
+	 *
+	 * @param instances the instances to save. Must not be {@code null} or empty.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @return whether the update of each instance actually updated a row, in the order of the given instances. Drivers
+	 *         not reporting the number of affected rows of a batch are considered to have updated a row.
+	 * @since 3.0
+	 */
+	<T> boolean[] update(List<T> instances, Class<T> domainType);
+
+	/**
+	 * Updates the data of multiple entities of the same type in the database using a single batch and enforce optimistic
+	 * record locking using the {@code previousVersions}. Referenced entities don't get handled.
+	 *
+	 * @param instances the instances to save. Must not be {@code null} or empty.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param previousVersions the previous versions assigned to the instances being saved, in the order of the
+	 *          instances. Must not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @return whether the update of each instance actually updated a row, in the order of the given instances. Drivers
+	 *         not reporting the number of affected rows of a batch are considered to have updated a row.
+	 * @throws OptimisticLockingFailureException if any of the updates fails to update a row assuming the optimistic
+	 *           locking version check failed.
+	 * @since 3.0
+	 */
+	<T> boolean[] updateWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions);
+
 	/**
 	 * Deletes a single row identified by the id, from the table identified by the domainType. Does not handle cascading
 	 * deletes.
@@ -320,6 +351,28 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> Iterable<T> select(Query query, Class<T> probeType, Pageable pageable);
 
+	/**
+	 * Loads all entities of the given type as a {@link Stream}, reading them from the database while the stream gets
+	 * consumed. The returned stream must be closed to release the underlying resources.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.0
+	 */
+	<T> Stream<T> streamAll(Class<T> domainType);
+
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Stream}, reading them from the database
+	 * while the stream gets consumed. The returned stream must be closed to release the underlying resources.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param probeType the type of entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.0
+	 */
+	<T> Stream<T> stream(Query query, Class<T> probeType);
+
 	/**
 	 * Determine whether there is an aggregate of type <code>probeType</code> that matches the provided {@link Query}.
 	 *
@@ -18,16 +18,26 @@ package org.springframework.data.jdbc.core.convert;
 import static org.springframework.data.jdbc.core.convert.SqlGenerator.*;
 
 import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
+import org.springframework.data.relational.core.mapping.IdSequence;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -35,10 +45,17 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentProp
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -63,12 +80,20 @@ import org.springframework.util.Assert;
  */
 public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
+	static final int DEFAULT_RELATION_BATCH_SIZE = 500;
+
 	private final SqlGeneratorSource sqlGeneratorSource;
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final NamedParameterJdbcOperations operations;
 	private final SqlParametersFactory sqlParametersFactory;
 	private final InsertStrategyFactory insertStrategyFactory;
+	private final SequenceIdAllocator sequenceIdAllocator;
+	private final Map<Class<?>, List<PersistentPropertyPathExtension>> relationPaths = new ConcurrentHashMap<>();
+	private @Nullable PreparedStatementCreatorCache preparedStatementCreators;
+
+	private int relationBatchSize = DEFAULT_RELATION_BATCH_SIZE;
+	private int streamFetchSize = -1;
 
 	/**
 	 * Creates a {@link DefaultDataAccessStrategy}
@@ -96,6 +121,65 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		this.operations = operations;
 		this.sqlParametersFactory = sqlParametersFactory;
 		this.insertStrategyFactory = insertStrategyFactory;
+		this.sequenceIdAllocator = new SequenceIdAllocator(operations.getJdbcOperations(),
+				sqlGeneratorSource.getDialect());
+
+		// subclasses and custom NamedParameterJdbcOperations may rely on receiving statements with named parameters
+		this.preparedStatementCreators = operations.getClass() == NamedParameterJdbcTemplate.class
+				? new PreparedStatementCreatorCache()
+				: null;
+	}
+
+	/**
+	 * Sets the maximum number of aggregate ids bound to a single {@code IN} clause when the collections of multiple
+	 * aggregates get loaded by the ids of those aggregates. Only used if
+	 * {@link RelationalMappingContext#isSingleQueryLoadingEnabled() single query loading} is enabled. Defaults to
+	 * {@literal 500}.
+	 *
+	 * @param relationBatchSize must be greater than zero.
+	 * @since 3.0
+	 */
+	public void setRelationBatchSize(int relationBatchSize) {
+
+		Assert.isTrue(relationBatchSize > 0, "Relation batch size must be greater than zero");
+
+		this.relationBatchSize = relationBatchSize;
+	}
+
+	/**
+	 * Sets the number of rows fetched from the database at once when aggregates get streamed by
+	 * {@link #streamAll(Class)} or {@link #stream(Query, Class)} without a {@link Query#getFetchSize() fetch size} of
+	 * their own. Some drivers, like the PostgreSQL driver, read the entire result into memory unless a fetch size is set.
+	 * Only applied if the {@link NamedParameterJdbcOperations} are a {@link NamedParameterJdbcTemplate}, see
+	 * {@link StatementSettings}. Defaults to {@literal -1}, which keeps the fetch size of the driver.
+	 *
+	 * @param streamFetchSize must be greater than zero or {@literal -1}.
+	 * @since 3.0
+	 */
+	public void setStreamFetchSize(int streamFetchSize) {
+
+		Assert.isTrue(streamFetchSize == -1 || streamFetchSize > 0,
+				"Stream fetch size must be greater than zero or -1");
+
+		this.streamFetchSize = streamFetchSize;
+	}
+
+	/**
+	 * Sets the maximum number of statements for which the substitution of named parameters gets cached, per statement
+	 * and shape of its parameters. A limit of {@literal 0} disables caching. Only used if the
+	 * {@link NamedParameterJdbcOperations} are a {@link NamedParameterJdbcTemplate}. Defaults to {@literal 256}.
+	 *
+	 * @param statementCacheLimit must not be negative.
+	 * @since 3.0
+	 * @see PreparedStatementCreatorCache
+	 */
+	public void setStatementCacheLimit(int statementCacheLimit) {
+
+		Assert.isTrue(statementCacheLimit >= 0, "Statement cache limit must not be negative");
+
+		if (this.preparedStatementCreators != null) {
+			this.preparedStatementCreators = new PreparedStatementCreatorCache(statementCacheLimit);
+		}
 	}
 
 	@Override
@@ -111,6 +195,18 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forInsert(instance, domainType, identifier,
 				idValueSource);
 
+		IdSequence idSequence = getIdSequence(domainType, idValueSource);
+
+		if (idSequence != null) {
+
+			Object id = sequenceIdAllocator.allocate(idSequence, 1)[0];
+			sqlParametersFactory.addIdForInsert(parameterSource, domainType, id);
+
+			insertStrategyFactory.insertStrategy(IdValueSource.PROVIDED, getIdColumn(domainType))
+					.execute(sql(domainType).getInsert(parameterSource.getIdentifiers()), parameterSource);
+			return id;
+		}
+
 		String insertSql = sql(domainType).getInsert(parameterSource.getIdentifiers());
 
 		return insertStrategyFactory.insertStrategy(idValueSource, getIdColumn(domainType)).execute(insertSql,
@@ -126,15 +222,31 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 						insertSubject.getIdentifier(), idValueSource))
 				.toArray(SqlIdentifierParameterSource[]::new);
 
-		String insertSql = sql(domainType).getInsert(sqlParameterSources[0].getIdentifiers());
+		IdSequence idSequence = getIdSequence(domainType, idValueSource);
+
+		if (idSequence != null) {
+
+			Object[] ids = sequenceIdAllocator.allocate(idSequence, sqlParameterSources.length);
+			for (int i = 0; i < ids.length; i++) {
+				sqlParametersFactory.addIdForInsert(sqlParameterSources[i], domainType, ids[i]);
+			}
+
+			insertStrategyFactory.batchInsertStrategy(IdValueSource.PROVIDED, getIdColumn(domainType))
+					.execute(sql(domainType).getInsert(sqlParameterSources[0].getIdentifiers()), sqlParameterSources);
+			return ids;
+		}
+
+		Set<SqlIdentifier> identifiers = sqlParameterSources[0].getIdentifiers();
+		String insertSql = sql(domainType).getInsert(identifiers);
+		RenderedInsert renderedInsert = sql(domainType).getRenderedInsert(identifiers);
 
 		return insertStrategyFactory.batchInsertStrategy(idValueSource, getIdColumn(domainType)).execute(insertSql,
-				sqlParameterSources);
+				renderedInsert, sqlParameterSources);
 	}
 
 	@Override
 	public <S> boolean update(S instance, Class<S> domainType) {
-		return operations.update(sql(domainType).getUpdate(), sqlParametersFactory.forUpdate(instance, domainType)) != 0;
+		return update(sql(domainType).getUpdate(), sqlParametersFactory.forUpdate(instance, domainType)) != 0;
 	}
 
 	@Override
@@ -146,7 +258,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forUpdate(instance, domainType);
 		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
 
-		int affectedRows = operations.update(sql(domainType).getUpdateWithVersion(), parameterSource);
+		int affectedRows = update(sql(domainType).getUpdateWithVersion(), parameterSource);
 
 		if (affectedRows == 0) {
 
@@ -157,13 +269,58 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return true;
 	}
 
+	@Override
+	public <S> boolean[] update(List<S> instances, Class<S> domainType) {
+
+		Assert.notEmpty(instances, "Batch update must contain at least one instance");
+
+		SqlParameterSource[] parameterSources = instances.stream()
+				.map(instance -> sqlParametersFactory.forUpdate(instance, domainType)).toArray(SqlParameterSource[]::new);
+
+		return toUpdated(operations.batchUpdate(sql(domainType).getUpdate(), parameterSources));
+	}
+
+	@Override
+	public <S> boolean[] updateWithVersion(List<S> instances, Class<S> domainType, List<Number> previousVersions) {
+
+		Assert.notEmpty(instances, "Batch update must contain at least one instance");
+		Assert.isTrue(instances.size() == previousVersions.size(),
+				"The number of previous versions must match the number of instances");
+
+		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
+
+		SqlParameterSource[] parameterSources = new SqlParameterSource[instances.size()];
+		for (int i = 0; i < parameterSources.length; i++) {
+
+			// Adjust update statement to set the new version and use the old version in where clause.
+			SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forUpdate(instances.get(i), domainType);
+			parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersions.get(i));
+			parameterSources[i] = parameterSource;
+		}
+
+		boolean[] updated = toUpdated(operations.batchUpdate(sql(domainType).getUpdateWithVersion(), parameterSources));
+
+		for (int i = 0; i < updated.length; i++) {
+			if (!updated[i]) {
+
+				Object id = persistentEntity.getIdentifierAccessor(instances.get(i)).getIdentifier();
+
+				throw new OptimisticLockingFailureException(
+						String.format("Optimistic lock exception on saving entity of type %s with id %s and version %s",
+								persistentEntity.getName(), id, previousVersions.get(i)));
+			}
+		}
+
+		return updated;
+	}
+
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 
 		String deleteByIdSql = sql(domainType).getDeleteById();
 		SqlParameterSource parameter = sqlParametersFactory.forQueryById(id, domainType, ID_SQL_PARAMETER);
 
-		operations.update(deleteByIdSql, parameter);
+		update(deleteByIdSql, parameter);
 	}
 
 	@Override
@@ -172,7 +329,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		String deleteByIdInSql = sql(domainType).getDeleteByIdIn();
 		SqlParameterSource parameter = sqlParametersFactory.forQueryByIds(ids, domainType);
 
-		operations.update(deleteByIdInSql, parameter);
+		update(deleteByIdInSql, parameter);
 	}
 
 	@Override
@@ -184,7 +341,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forQueryById(id, domainType, ID_SQL_PARAMETER);
 		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
-		int affectedRows = operations.update(sql(domainType).getDeleteByIdAndVersion(), parameterSource);
+		int affectedRows = update(sql(domainType).getDeleteByIdAndVersion(), parameterSource);
 
 		if (affectedRows == 0) {
 			throw new OptimisticLockingFailureException(
@@ -204,7 +361,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		SqlIdentifierParameterSource parameters = sqlParametersFactory.forQueryById(rootId, rootEntity.getType(),
 				ROOT_ID_PARAMETER);
-		operations.update(delete, parameters);
+		update(delete, parameters);
 	}
 
 	@Override
@@ -219,7 +376,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		String delete = sql(rootEntity.getType()).createDeleteInByPath(propertyPath);
 
 		SqlIdentifierParameterSource parameters = sqlParametersFactory.forQueryByIds(rootIds, rootEntity.getType());
-		operations.update(delete, parameters);
+		update(delete, parameters);
 	}
 
 	@Override
@@ -265,8 +422,11 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		String findOneSql = sql(domainType).getFindOne();
 		SqlIdentifierParameterSource parameter = sqlParametersFactory.forQueryById(id, domainType, ID_SQL_PARAMETER);
 
+		RowMapper<T> rowMapper = getAggregateRowMapper(domainType, SqlGenerator::getFindAllByPathAndRootId,
+				() -> Collections.singletonList(sqlParametersFactory.forQueryById(id, domainType, ROOT_ID_PARAMETER)));
+
 		try {
-			return operations.queryForObject(findOneSql, parameter, getEntityRowMapper(domainType));
+			return queryForObject(findOneSql, parameter, rowMapper);
 		} catch (EmptyResultDataAccessException e) {
 			return null;
 		}
@@ -274,7 +434,8 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType) {
-		return operations.query(sql(domainType).getFindAll(), getEntityRowMapper(domainType));
+		return queryAggregates(sql(domainType).getFindAll(), EmptySqlParameterSource.INSTANCE, domainType,
+				StatementSettings.DEFAULT);
 	}
 
 	@Override
@@ -288,7 +449,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		String findAllInListSql = sql(domainType).getFindAllInList();
 
-		return operations.query(findAllInListSql, parameterSource, getEntityRowMapper(domainType));
+		return operations.query(findAllInListSql, parameterSource, getAggregateRowMapper(domainType, ids));
 	}
 
 	@Override
@@ -312,6 +473,83 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return operations.query(findAllByProperty, parameterSource, (RowMapper<Object>) rowMapper);
 	}
 
+	/**
+	 * Loads the collections or maps of multiple aggregate roots at once, along with the collections and maps within them,
+	 * selecting the entities by the ids of the aggregate roots in batches of {@link #setRelationBatchSize(int)
+	 * relationBatchSize} ids. Paths not starting at an aggregate root get resolved parent by parent.
+	 */
+	@Override
+	public List<Iterable<Object>> findAllByPathForEach(List<Identifier> identifiers,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath) {
+
+		Assert.notNull(identifiers, "identifiers must not be null");
+		Assert.notNull(propertyPath, "propertyPath must not be null");
+
+		PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context, propertyPath);
+		List<Object> rootIds = getRootIds(identifiers, path);
+
+		if (rootIds == null) {
+			return DataAccessStrategy.super.findAllByPathForEach(identifiers, propertyPath);
+		}
+
+		Class<?> rootType = propertyPath.getBaseProperty().getOwner().getType();
+		List<SqlParameterSource> parameters = forQueryByIdsInBatches(rootIds, rootType);
+
+		PrefetchingRelationResolver relationResolver = new PrefetchingRelationResolver(context, converter,
+				getIdentifierProcessing(), this);
+
+		for (PersistentPropertyPathExtension relationPath : PrefetchingRelationResolver.getRelationPaths(context, path)) {
+
+			String findAllByPath = sql(relationPath.getActualType()).getFindAllByPathAndRootIds(relationPath,
+					PrefetchingRelationResolver.getIdentifierColumns(relationPath));
+
+			for (SqlParameterSource parameterSource : parameters) {
+
+				operations.query(findAllByPath, parameterSource, (ResultSetExtractor<Void>) resultSet -> {
+
+					relationResolver.load(relationPath, resultSet);
+					return null;
+				});
+			}
+		}
+
+		List<Iterable<Object>> result = new ArrayList<>(identifiers.size());
+		for (Identifier identifier : identifiers) {
+			result.add(relationResolver.findAllByPath(identifier, propertyPath));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the ids of the aggregate roots referenced by the given identifiers or {@literal null} if the entities
+	 * reachable via {@literal path} can't be selected by the ids of their aggregate roots.
+	 */
+	@Nullable
+	private static List<Object> getRootIds(List<Identifier> identifiers, PersistentPropertyPathExtension path) {
+
+		if (identifiers.size() < 2 || path.getLength() != 1) {
+			return null;
+		}
+
+		SqlIdentifier reverseColumn = path.getReverseColumnName();
+		List<Object> rootIds = new ArrayList<>(identifiers.size());
+
+		for (Identifier identifier : identifiers) {
+
+			Map<SqlIdentifier, Object> parts = identifier.toMap();
+			Object rootId = parts.get(reverseColumn);
+
+			if (parts.size() != 1 || rootId == null) {
+				return null;
+			}
+
+			rootIds.add(rootId);
+		}
+
+		return rootIds;
+	}
+
 	@Override
 	public <T> boolean existsById(Object id, Class<T> domainType) {
 
@@ -326,12 +564,14 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
-		return operations.query(sql(domainType).getFindAll(sort), getEntityRowMapper(domainType));
+		return queryAggregates(sql(domainType).getFindAll(sort), EmptySqlParameterSource.INSTANCE, domainType,
+				StatementSettings.DEFAULT);
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
-		return operations.query(sql(domainType).getFindAll(pageable), getEntityRowMapper(domainType));
+		return queryAggregates(sql(domainType).getFindAll(pageable), EmptySqlParameterSource.INSTANCE, domainType,
+				StatementSettings.DEFAULT);
 	}
 
 	@Override
@@ -339,10 +579,17 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(probeType).selectByQuery(query, parameterSource);
+		StatementSettings settings = StatementSettings.of(query);
 
 		try {
-			return Optional.ofNullable(
-					operations.queryForObject(sqlQuery, parameterSource, getEntityRowMapper(probeType)));
+
+			if (isLimited(query) && loadsRelationsByIds(probeType)) {
+				return Optional.ofNullable(
+						DataAccessUtils.nullableSingleResult(queryAggregates(sqlQuery, parameterSource, probeType, settings)));
+			}
+
+			return Optional
+					.ofNullable(queryForObject(sqlQuery, parameterSource, getAggregateRowMapper(query, probeType), settings));
 		} catch (EmptyResultDataAccessException e) {
 			return Optional.empty();
 		}
@@ -354,7 +601,13 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(probeType).selectByQuery(query, parameterSource);
 
-		return operations.query(sqlQuery, parameterSource, getEntityRowMapper(probeType));
+		StatementSettings settings = StatementSettings.of(query);
+
+		if (isLimited(query)) {
+			return queryAggregates(sqlQuery, parameterSource, probeType, settings);
+		}
+
+		return query(sqlQuery, parameterSource, getAggregateRowMapper(query, probeType), settings);
 	}
 
 	@Override
@@ -363,7 +616,22 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(probeType).selectByQuery(query, parameterSource, pageable);
 
-		return operations.query(sqlQuery, parameterSource, getEntityRowMapper(probeType));
+		return queryAggregates(sqlQuery, parameterSource, probeType, StatementSettings.of(query));
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return streamAggregates(sql(domainType).getFindAll(), EmptySqlParameterSource.INSTANCE, domainType,
+				StatementSettings.DEFAULT);
+	}
+
+	@Override
+	public <T> Stream<T> stream(Query query, Class<T> probeType) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String sqlQuery = sql(probeType).selectByQuery(query, parameterSource);
+
+		return streamAggregates(sqlQuery, parameterSource, probeType, StatementSettings.of(query));
 	}
 
 	@Override
@@ -372,7 +640,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(probeType).existsByQuery(query, parameterSource);
 
-		Boolean result = operations.queryForObject(sqlQuery, parameterSource, Boolean.class);
+		Boolean result = queryForObject(sqlQuery, parameterSource, Boolean.class, StatementSettings.of(query));
 
 		Assert.state(result != null, "The result of an exists query must not be null");
 
@@ -385,7 +653,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(probeType).countByQuery(query, parameterSource);
 
-		Long result = operations.queryForObject(sqlQuery, parameterSource, Long.class);
+		Long result = queryForObject(sqlQuery, parameterSource, Long.class, StatementSettings.of(query));
 
 		Assert.state(result != null, "The result of a count query must not be null.");
 
@@ -396,6 +664,254 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return new EntityRowMapper<>(getRequiredPersistentEntity(domainType), converter);
 	}
 
+	/**
+	 * Returns a {@link RowMapper} for aggregates of the given type selected by {@literal query}, which must not be
+	 * {@link #isLimited(Query) limited}.
+	 */
+	private <T> RowMapper<T> getAggregateRowMapper(Query query, Class<T> domainType) {
+
+		if (getRelationPaths(domainType).isEmpty()) {
+			return getEntityRowMapper(domainType);
+		}
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		Select rootIdSelect = sql(domainType).getIdSelectByQuery(query, parameterSource);
+
+		return getAggregateRowMapper(domainType, //
+				(sqlGenerator, path, identifierColumns) -> sqlGenerator.getFindAllByPathAndRootIdSelect(path,
+						identifierColumns, rootIdSelect), //
+				() -> Collections.singletonList(parameterSource));
+	}
+
+	/**
+	 * Returns a {@link RowMapper} for the aggregates with the given ids, loading their collections in batches of
+	 * {@link #setRelationBatchSize(int) relationBatchSize} ids.
+	 */
+	private <T> RowMapper<T> getAggregateRowMapper(Class<T> domainType, Iterable<?> ids) {
+
+		return getAggregateRowMapper(domainType, SqlGenerator::getFindAllByPathAndRootIds,
+				() -> forQueryByIdsInBatches(ids, domainType));
+	}
+
+	/**
+	 * Splits the given ids into parameter sources of at most {@link #setRelationBatchSize(int) relationBatchSize} ids.
+	 */
+	private List<SqlParameterSource> forQueryByIdsInBatches(Iterable<?> ids, Class<?> domainType) {
+
+		List<SqlParameterSource> batches = new ArrayList<>();
+		List<Object> batch = new ArrayList<>();
+
+		for (Object id : ids) {
+
+			batch.add(id);
+
+			if (batch.size() == relationBatchSize) {
+
+				batches.add(sqlParametersFactory.forQueryByIds(batch, domainType));
+				batch = new ArrayList<>();
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			batches.add(sqlParametersFactory.forQueryByIds(batch, domainType));
+		}
+
+		return batches;
+	}
+
+	/**
+	 * Returns a {@link RowMapper} for aggregates of the given type. If single query loading is enabled, all collections
+	 * and maps of the aggregates get loaded upfront, using one statement per collection level and parameter source.
+	 */
+	private <T> RowMapper<T> getAggregateRowMapper(Class<T> domainType, FindAllByPathSql findAllByPathSql,
+			Supplier<? extends Collection<? extends SqlParameterSource>> parameterSources) {
+
+		List<PersistentPropertyPathExtension> paths = getRelationPaths(domainType);
+
+		if (paths.isEmpty()) {
+			return getEntityRowMapper(domainType);
+		}
+
+		PrefetchingRelationResolver relationResolver = new PrefetchingRelationResolver(context, converter,
+				getIdentifierProcessing(), this);
+		Collection<? extends SqlParameterSource> parameters = parameterSources.get();
+
+		for (PersistentPropertyPathExtension path : paths) {
+
+			String findAllByPath = findAllByPathSql.create(sql(path.getActualType()), path,
+					PrefetchingRelationResolver.getIdentifierColumns(path));
+
+			for (SqlParameterSource parameterSource : parameters) {
+
+				operations.query(findAllByPath, parameterSource, (ResultSetExtractor<Void>) resultSet -> {
+
+					relationResolver.load(path, resultSet);
+					return null;
+				});
+			}
+		}
+
+		return new EntityRowMapper<>(getRequiredPersistentEntity(domainType), converter, relationResolver);
+	}
+
+	/**
+	 * Selects the aggregates of the given type using a statement that can't be used as a sub-select. If single query
+	 * loading is enabled, the selected rows get buffered, so the collections of all selected aggregates can be loaded by
+	 * their ids before the first aggregate gets materialized.
+	 */
+	private <T> List<T> queryAggregates(String sql, SqlParameterSource parameterSource, Class<T> domainType,
+			StatementSettings settings) {
+
+		if (!loadsRelationsByIds(domainType)) {
+			return query(sql, parameterSource, getEntityRowMapper(domainType), settings);
+		}
+
+		return query(sql, parameterSource, (ResultSetExtractor<List<T>>) resultSet -> {
+
+			BufferedRows rows = new BufferedRows(resultSet.getMetaData());
+			String idColumn = getRequiredPersistentEntity(domainType).getIdColumn().getReference(getIdentifierProcessing());
+			int idIndex = rows.findColumn(idColumn);
+
+			Assert.state(idIndex > 0, () -> String.format("Result does not contain id column %s", idColumn));
+
+			List<Object> ids = new ArrayList<>();
+			while (resultSet.next()) {
+
+				Object[] values = rows.copyRow(resultSet);
+				rows.add(values);
+				ids.add(values[idIndex - 1]);
+			}
+
+			if (ids.isEmpty()) {
+				return Collections.emptyList();
+			}
+
+			RowMapper<T> rowMapper = getAggregateRowMapper(domainType, ids);
+			List<T> aggregates = new ArrayList<>(ids.size());
+
+			ResultSet bufferedRows = rows.getResultSet();
+			while (bufferedRows.next()) {
+				aggregates.add(rowMapper.mapRow(bufferedRows, aggregates.size()));
+			}
+
+			return aggregates;
+		}, settings);
+	}
+
+	/**
+	 * Streams the aggregates of the given type from a forward-only cursor. If single query loading is enabled, the
+	 * collections of the aggregates get loaded in chunks of {@link #setRelationBatchSize(int) relationBatchSize}
+	 * aggregates, so only the aggregates of the current chunk are held in memory. Otherwise each aggregate gets mapped
+	 * by an {@link EntityRowMapper}, which loads its collections by separate statements while the cursor is open.
+	 */
+	private <T> Stream<T> streamAggregates(String sql, SqlParameterSource parameterSource, Class<T> domainType,
+			StatementSettings settings) {
+
+		if (!loadsRelationsByIds(domainType)) {
+			return queryForStream(sql, parameterSource, getEntityRowMapper(domainType), settings);
+		}
+
+		String idColumn = getRequiredPersistentEntity(domainType).getIdColumn().getReference(getIdentifierProcessing());
+		ChunkedAggregateReader<T> reader = new ChunkedAggregateReader<>(idColumn, relationBatchSize,
+				ids -> getAggregateRowMapper(domainType, ids));
+
+		return reader.read(queryForStream(sql, parameterSource, reader, settings));
+	}
+
+	/**
+	 * Executes the given statement with the given {@link StatementSettings}, mapping the rows while the returned
+	 * {@link Stream} gets consumed. Unless the settings define a fetch size, {@link #setStreamFetchSize(int)
+	 * streamFetchSize} is used.
+	 */
+	private <T> Stream<T> queryForStream(String sql, SqlParameterSource parameterSource, RowMapper<T> rowMapper,
+			StatementSettings settings) {
+
+		PreparedStatementCreator statementCreator = getPreparedStatementCreator(sql, parameterSource,
+				settings.withDefaultFetchSize(streamFetchSize));
+
+		return statementCreator != null //
+				? operations.getJdbcOperations().queryForStream(statementCreator, rowMapper) //
+				: operations.queryForStream(sql, parameterSource, rowMapper);
+	}
+
+	/**
+	 * Executes a query with the given {@link StatementSettings}, which get ignored unless
+	 * {@link #getPreparedStatementCreator(String, SqlParameterSource, StatementSettings) prepared statements get created}.
+	 */
+	private <T> List<T> query(String sql, SqlParameterSource parameterSource, RowMapper<T> rowMapper,
+			StatementSettings settings) {
+
+		PreparedStatementCreator statementCreator = getPreparedStatementCreator(sql, parameterSource, settings);
+
+		return statementCreator != null //
+				? operations.getJdbcOperations().query(statementCreator, rowMapper) //
+				: operations.query(sql, parameterSource, rowMapper);
+	}
+
+	/**
+	 * Executes a query expected to return a single row with the given {@link StatementSettings}.
+	 *
+	 * @throws EmptyResultDataAccessException if the query does not return a row.
+	 */
+	@Nullable
+	private <T> T queryForObject(String sql, SqlParameterSource parameterSource, RowMapper<T> rowMapper,
+			StatementSettings settings) {
+
+		PreparedStatementCreator statementCreator = getPreparedStatementCreator(sql, parameterSource, settings);
+
+		return statementCreator != null //
+				? DataAccessUtils.nullableSingleResult(operations.getJdbcOperations().query(statementCreator, rowMapper)) //
+				: operations.queryForObject(sql, parameterSource, rowMapper);
+	}
+
+	/**
+	 * Executes a query expected to return a single value with the given {@link StatementSettings}.
+	 */
+	@Nullable
+	private <T> T queryForObject(String sql, SqlParameterSource parameterSource, Class<T> requiredType,
+			StatementSettings settings) {
+
+		PreparedStatementCreator statementCreator = getPreparedStatementCreator(sql, parameterSource, settings);
+
+		return statementCreator != null //
+				? DataAccessUtils.nullableSingleResult(
+						operations.getJdbcOperations().query(statementCreator, new SingleColumnRowMapper<>(requiredType))) //
+				: operations.queryForObject(sql, parameterSource, requiredType);
+	}
+
+	/**
+	 * Executes a query with the given {@link StatementSettings}, which get ignored unless
+	 * {@link #getPreparedStatementCreator(String, SqlParameterSource, StatementSettings) prepared statements get created}.
+	 */
+	@Nullable
+	private <T> T query(String sql, SqlParameterSource parameterSource, ResultSetExtractor<T> resultSetExtractor,
+			StatementSettings settings) {
+
+		PreparedStatementCreator statementCreator = getPreparedStatementCreator(sql, parameterSource, settings);
+
+		return statementCreator != null //
+				? operations.getJdbcOperations().query(statementCreator, resultSetExtractor) //
+				: operations.query(sql, parameterSource, resultSetExtractor);
+	}
+
+	private boolean loadsRelationsByIds(Class<?> domainType) {
+		return getRequiredPersistentEntity(domainType).hasIdProperty() && !getRelationPaths(domainType).isEmpty();
+	}
+
+	private List<PersistentPropertyPathExtension> getRelationPaths(Class<?> domainType) {
+
+		if (!context.isSingleQueryLoadingEnabled()) {
+			return Collections.emptyList();
+		}
+
+		return relationPaths.computeIfAbsent(domainType,
+				type -> PrefetchingRelationResolver.getRelationPaths(context, type));
+	}
+
+	private static boolean isLimited(Query query) {
+		return query.getLimit() > 0 || query.getOffset() > 0;
+	}
+
 	private EntityRowMapper<?> getEntityRowMapper(PersistentPropertyPathExtension path, Identifier identifier) {
 		return new EntityRowMapper<>(path, converter, identifier);
 	}
@@ -417,10 +933,85 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return (RelationalPersistentEntity<S>) context.getRequiredPersistentEntity(domainType);
 	}
 
+	/**
+	 * Converts the update counts of a batch into flags whether a row got updated. Drivers might report
+	 * {@link Statement#SUCCESS_NO_INFO} instead of an actual count, which is considered a successful update.
+	 */
+	private static boolean[] toUpdated(int[] updateCounts) {
+
+		boolean[] updated = new boolean[updateCounts.length];
+		for (int i = 0; i < updateCounts.length; i++) {
+			updated[i] = updateCounts[i] > 0 || updateCounts[i] == Statement.SUCCESS_NO_INFO;
+		}
+		return updated;
+	}
+
 	private SqlGenerator sql(Class<?> domainType) {
 		return sqlGeneratorSource.getSqlGenerator(domainType);
 	}
 
+	/**
+	 * Executes an update statement, using a cached {@link PreparedStatementCreatorFactory} if possible.
+	 */
+	private int update(String sql, SqlParameterSource parameterSource) {
+
+		PreparedStatementCreator statementCreator = getPreparedStatementCreator(sql, parameterSource);
+
+		return statementCreator != null //
+				? operations.getJdbcOperations().update(statementCreator) //
+				: operations.update(sql, parameterSource);
+	}
+
+	/**
+	 * Executes a query expected to return a single row, using a cached {@link PreparedStatementCreatorFactory} if
+	 * possible.
+	 *
+	 * @throws EmptyResultDataAccessException if the query does not return a row.
+	 */
+	@Nullable
+	private <T> T queryForObject(String sql, SqlParameterSource parameterSource, RowMapper<T> rowMapper) {
+
+		PreparedStatementCreator statementCreator = getPreparedStatementCreator(sql, parameterSource);
+
+		return statementCreator != null //
+				? DataAccessUtils.nullableSingleResult(operations.getJdbcOperations().query(statementCreator, rowMapper)) //
+				: operations.queryForObject(sql, parameterSource, rowMapper);
+	}
+
+	@Nullable
+	private PreparedStatementCreator getPreparedStatementCreator(String sql, SqlParameterSource parameterSource) {
+		return getPreparedStatementCreator(sql, parameterSource, StatementSettings.DEFAULT);
+	}
+
+	/**
+	 * Returns a {@link PreparedStatementCreator} applying the given {@link StatementSettings}, using a cached
+	 * {@link PreparedStatementCreatorFactory} if possible. Returns {@literal null} if the statement has to be passed on
+	 * to the {@link NamedParameterJdbcOperations} with its named parameters, in which case the settings can't be
+	 * applied.
+	 */
+	@Nullable
+	private PreparedStatementCreator getPreparedStatementCreator(String sql, SqlParameterSource parameterSource,
+			StatementSettings settings) {
+
+		PreparedStatementCreatorCache statementCreators = this.preparedStatementCreators;
+
+		return statementCreators != null //
+				? settings.apply(statementCreators.createPreparedStatementCreator(sql, parameterSource)) //
+				: null;
+	}
+
+	/**
+	 * Returns the sequence to take the id of an insert from, if the id is not provided by the entity and its
+	 * {@link RelationalPersistentEntity} is configured to take ids from a sequence.
+	 */
+	@Nullable
+	private IdSequence getIdSequence(Class<?> domainType, IdValueSource idValueSource) {
+
+		return IdValueSource.GENERATED.equals(idValueSource)
+				? context.getRequiredPersistentEntity(domainType).getIdSequence()
+				: null;
+	}
+
 	@Nullable
 	private <T> SqlIdentifier getIdColumn(Class<T> domainType) {
 
@@ -436,4 +1027,14 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		return baseProperty.getOwner().getType();
 	}
+
+	/**
+	 * Creates the statement selecting all entities of a collection level of the aggregates to load.
+	 */
+	@FunctionalInterface
+	private interface FindAllByPathSql {
+
+		String create(SqlGenerator sqlGenerator, PersistentPropertyPathExtension path,
+				Collection<SqlIdentifier> identifierColumns);
+	}
 }
@@ -17,6 +17,7 @@ package org.springframework.data.jdbc.core.convert;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -69,6 +70,16 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 
 	}
 
+	@Override
+	public <S> boolean[] update(List<S> instances, Class<S> domainType) {
+		return delegate.update(instances, domainType);
+	}
+
+	@Override
+	public <S> boolean[] updateWithVersion(List<S> instances, Class<S> domainType, List<Number> previousVersions) {
+		return delegate.updateWithVersion(instances, domainType, previousVersions);
+	}
+
 	@Override
 	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 		delegate.delete(rootId, propertyPath);
@@ -143,6 +154,12 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAllByPath(identifier, path);
 	}
 
+	@Override
+	public List<Iterable<Object>> findAllByPathForEach(List<Identifier> identifiers,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+		return delegate.findAllByPathForEach(identifiers, path);
+	}
+
 	@Override
 	public <T> boolean existsById(Object id, Class<T> domainType) {
 		return delegate.existsById(id, domainType);
@@ -173,6 +190,16 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.select(query, probeType, pageable);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return delegate.streamAll(domainType);
+	}
+
+	@Override
+	public <T> Stream<T> stream(Query query, Class<T> probeType) {
+		return delegate.stream(query, probeType);
+	}
+
 	@Override
 	public <T> boolean exists(Query query, Class<T> probeType) {
 		return delegate.exists(query, probeType);
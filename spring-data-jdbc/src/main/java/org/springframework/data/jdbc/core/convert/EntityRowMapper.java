@@ -16,14 +16,19 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.sql.ResultSet;
+import java.util.Collection;
 
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Maps a {@link ResultSet} to an entity of type {@code T}, including entities referenced. This {@link RowMapper} might
- * trigger additional SQL statements in order to load other members of the same aggregate.
+ * trigger additional SQL statements in order to load other members of the same aggregate. When used with a
+ * {@link BasicJdbcConverter}, columns and property paths are resolved for the first row of a {@link ResultSet} and
+ * reused for its remaining rows.
  *
  * @author Jens Schauder
  * @author Oliver Gierke
@@ -38,6 +43,8 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	private final PersistentPropertyPathExtension path;
 	private final JdbcConverter converter;
 	private final Identifier identifier;
+	private final @Nullable RelationResolver relationResolver;
+	private final @Nullable BasicJdbcConverter.ResultSetReader<T> reader;
 
 	@SuppressWarnings("unchecked")
 	public EntityRowMapper(PersistentPropertyPathExtension path, JdbcConverter converter, Identifier identifier) {
@@ -46,6 +53,8 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 		this.path = path;
 		this.converter = converter;
 		this.identifier = identifier;
+		this.relationResolver = null;
+		this.reader = createReader(path, converter, null);
 	}
 
 	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter) {
@@ -54,11 +63,89 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 		this.path = null;
 		this.converter = converter;
 		this.identifier = null;
+		this.relationResolver = null;
+		this.reader = createReader(entity, converter, null);
+	}
+
+	/**
+	 * Creates a new {@link EntityRowMapper} resolving the collections and maps of the mapped entities using the given
+	 * {@link RelationResolver} instead of the one configured in the {@link JdbcConverter}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param relationResolver must not be {@literal null}.
+	 * @since 3.0
+	 */
+	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter,
+			RelationResolver relationResolver) {
+
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
+
+		this.entity = entity;
+		this.path = null;
+		this.converter = converter;
+		this.identifier = null;
+		this.relationResolver = relationResolver;
+		this.reader = createReader(entity, converter, relationResolver);
+	}
+
+	/**
+	 * Creates a new {@link EntityRowMapper} that only loads the collections and maps among the given properties of the
+	 * mapped entities, e.g. the properties used by a projection. Other collections and maps are left empty.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param converter must be a {@link BasicJdbcConverter}.
+	 * @param requiredProperties the names of the properties to read, must not be {@literal null}.
+	 * @since 3.0
+	 */
+	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter,
+			Collection<String> requiredProperties) {
+
+		Assert.notNull(requiredProperties, "Required properties must not be null");
+		Assert.isInstanceOf(BasicJdbcConverter.class, converter,
+				"Reading only the required properties requires a BasicJdbcConverter");
+
+		BasicJdbcConverter basicConverter = (BasicJdbcConverter) converter;
+
+		this.entity = entity;
+		this.path = null;
+		this.converter = converter;
+		this.identifier = null;
+		this.relationResolver = null;
+		this.reader = basicConverter.createResultSetReader(
+				new PersistentPropertyPathExtension(basicConverter.getMappingContext(), entity), null, requiredProperties);
+	}
+
+	@Nullable
+	private static <T> BasicJdbcConverter.ResultSetReader<T> createReader(RelationalPersistentEntity<T> entity,
+			JdbcConverter converter, @Nullable RelationResolver relationResolver) {
+
+		return converter instanceof BasicJdbcConverter basicConverter //
+				? createReader(new PersistentPropertyPathExtension(basicConverter.getMappingContext(), entity), converter,
+						relationResolver) //
+				: null;
+	}
+
+	@Nullable
+	static <T> BasicJdbcConverter.ResultSetReader<T> createReader(PersistentPropertyPathExtension path,
+			JdbcConverter converter, @Nullable RelationResolver relationResolver) {
+
+		return converter instanceof BasicJdbcConverter basicConverter //
+				? basicConverter.createResultSetReader(path, relationResolver) //
+				: null;
 	}
 
 	@Override
 	public T mapRow(ResultSet resultSet, int rowNumber) {
 
+		if (reader != null) {
+			return reader.mapRow(resultSet, identifier != null ? identifier : Identifier.empty(), rowNumber);
+		}
+
+		if (relationResolver != null) {
+			return converter.mapRow(entity, resultSet, rowNumber, relationResolver);
+		}
+
 		return path == null //
 				? converter.mapRow(entity, resultSet, rowNumber) //
 				: converter.mapRow(path, resultSet, identifier, rowNumber);
@@ -23,13 +23,15 @@ import java.util.Optional;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.IdGeneration;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.lang.Nullable;
 
 /**
  * A {@link BatchInsertStrategy} that expects ids to be generated from the batch insert. When the {@link Dialect} does
- * not support id generation for batch operations, this implementation falls back to performing the inserts serially.
+ * not support id generation for batch operations, this implementation falls back to a {@link MultiRowInsertStrategy}
+ * or, if none is available, to performing the inserts serially.
  *
  * @author Chirag Tailor
  * @since 2.4
@@ -40,14 +42,38 @@ class IdGeneratingBatchInsertStrategy implements BatchInsertStrategy {
 	private final Dialect dialect;
 	private final BatchJdbcOperations batchJdbcOperations;
 	private final SqlIdentifier idColumn;
+	@Nullable private final MultiRowInsertStrategy multiRowInsertStrategy;
 
 	IdGeneratingBatchInsertStrategy(InsertStrategy insertStrategy, Dialect dialect,
 			BatchJdbcOperations batchJdbcOperations, @Nullable SqlIdentifier idColumn) {
+		this(insertStrategy, dialect, batchJdbcOperations, null, idColumn);
+	}
+
+	/**
+	 * @param jdbcOperations used to insert multiple rows with a single statement when the {@link Dialect} does not
+	 *          support id generation for batch operations. Inserts are performed serially if {@literal null}.
+	 * @since 3.0
+	 */
+	IdGeneratingBatchInsertStrategy(InsertStrategy insertStrategy, Dialect dialect,
+			BatchJdbcOperations batchJdbcOperations, @Nullable JdbcOperations jdbcOperations,
+			@Nullable SqlIdentifier idColumn) {
 
 		this.insertStrategy = insertStrategy;
 		this.dialect = dialect;
 		this.batchJdbcOperations = batchJdbcOperations;
 		this.idColumn = idColumn;
+		this.multiRowInsertStrategy = jdbcOperations == null ? null
+				: new MultiRowInsertStrategy(insertStrategy, dialect, jdbcOperations, idColumn);
+	}
+
+	@Override
+	public Object[] execute(String sql, RenderedInsert renderedInsert, SqlParameterSource[] sqlParameterSources) {
+
+		if (!dialect.getIdGeneration().supportedForBatchOperations() && multiRowInsertStrategy != null) {
+			return multiRowInsertStrategy.execute(sql, renderedInsert, sqlParameterSources);
+		}
+
+		return execute(sql, sqlParameterSources);
 	}
 
 	@Override
@@ -68,7 +68,7 @@ public class InsertStrategyFactory {
 		if (IdValueSource.GENERATED.equals(idValueSource)) {
 			return new IdGeneratingBatchInsertStrategy(
 					new IdGeneratingInsertStrategy(dialect, namedParameterJdbcOperations, idColumn), dialect, batchJdbcOperations,
-					idColumn);
+					namedParameterJdbcOperations.getJdbcOperations(), idColumn);
 		}
 		return new DefaultBatchInsertStrategy(namedParameterJdbcOperations);
 	}
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.data.mapping.model.PropertyValueProvider;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
@@ -32,6 +35,8 @@ class JdbcBackReferencePropertyValueProvider implements PropertyValueProvider<Re
 	private final IdentifierProcessing identifierProcessing;
 	private final PersistentPropertyPathExtension basePath;
 	private final ResultSetAccessor resultSet;
+	private final Map<RelationalPersistentProperty, Integer> columnIndexes = new HashMap<>();
+	private final Map<RelationalPersistentProperty, JdbcBackReferencePropertyValueProvider> nestedProviders = new HashMap<>();
 
 	/**
 	 * @param identifierProcessing used for converting the
@@ -49,11 +54,15 @@ class JdbcBackReferencePropertyValueProvider implements PropertyValueProvider<Re
 
 	@Override
 	public <T> T getPropertyValue(RelationalPersistentProperty property) {
-		return (T) resultSet
-				.getObject(basePath.extendBy(property).getReverseColumnNameAlias().getReference(identifierProcessing));
+
+		int index = columnIndexes.computeIfAbsent(property, it -> resultSet.findColumnIndex(
+				basePath.extendBy(it).getReverseColumnNameAlias().getReference(identifierProcessing)));
+
+		return index > 0 ? (T) resultSet.getObject(index) : null;
 	}
 
 	public JdbcBackReferencePropertyValueProvider extendBy(RelationalPersistentProperty property) {
-		return new JdbcBackReferencePropertyValueProvider(identifierProcessing, basePath.extendBy(property), resultSet);
+		return nestedProviders.computeIfAbsent(property,
+				it -> new JdbcBackReferencePropertyValueProvider(identifierProcessing, basePath.extendBy(it), resultSet));
 	}
 }
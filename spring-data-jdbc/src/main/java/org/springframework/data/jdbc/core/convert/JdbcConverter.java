@@ -81,6 +81,41 @@ public interface JdbcConverter extends RelationalConverter {
 	 */
 	<T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key);
 
+	/**
+	 * Read the current row from {@link ResultSet} to an {@link RelationalPersistentEntity#getType() entity} resolving
+	 * collections and maps of the aggregate using the given {@link RelationResolver}.
+	 *
+	 * @param entity the persistent entity type.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param key primary key.
+	 * @param relationResolver the {@link RelationResolver} to use for loading referenced entities.
+	 * @param <T>
+	 * @return
+	 * @since 3.0
+	 */
+	default <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			RelationResolver relationResolver) {
+		return mapRow(entity, resultSet, key);
+	}
+
+	/**
+	 * Read the current row from {@link ResultSet} to an {@link PersistentPropertyPathExtension#getActualType() entity}
+	 * resolving collections and maps of the aggregate using the given {@link RelationResolver}.
+	 *
+	 * @param path path to the owning property.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param identifier entity identifier.
+	 * @param key primary key.
+	 * @param relationResolver the {@link RelationResolver} to use for loading referenced entities.
+	 * @param <T>
+	 * @return
+	 * @since 3.0
+	 */
+	default <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key,
+			RelationResolver relationResolver) {
+		return mapRow(path, resultSet, identifier, key);
+	}
+
 	/**
 	 * The type to be used to store this property in the database. Multidimensional arrays are unwrapped to reflect a
 	 * top-level array type (e.g. {@code String[][]} returns {@code String[]}).
@@ -15,13 +15,18 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.data.mapping.model.PropertyValueProvider;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 
 /**
- * {@link PropertyValueProvider} obtaining values from a {@link ResultSetAccessor}.
+ * {@link PropertyValueProvider} obtaining values from a {@link ResultSetAccessor}. Column indexes and nested providers
+ * are resolved once and reused for all rows of the underlying {@link java.sql.ResultSet}, so instances must not be
+ * shared across threads.
  *
  * @author Jens Schauder
  * @since 2.0
@@ -31,6 +36,8 @@ class JdbcPropertyValueProvider implements PropertyValueProvider<RelationalPersi
 	private final IdentifierProcessing identifierProcessing;
 	private final PersistentPropertyPathExtension basePath;
 	private final ResultSetAccessor resultSet;
+	private final Map<RelationalPersistentProperty, Integer> columnIndexes = new HashMap<>();
+	private final Map<RelationalPersistentProperty, JdbcPropertyValueProvider> nestedProviders = new HashMap<>();
 
 	/**
 	 * @param identifierProcessing used for converting the
@@ -48,7 +55,9 @@ class JdbcPropertyValueProvider implements PropertyValueProvider<RelationalPersi
 
 	@Override
 	public <T> T getPropertyValue(RelationalPersistentProperty property) {
-		return (T) resultSet.getObject(getColumnName(property));
+
+		int index = getColumnIndex(property);
+		return index > 0 ? (T) resultSet.getObject(index) : null;
 	}
 
 	/**
@@ -58,7 +67,11 @@ class JdbcPropertyValueProvider implements PropertyValueProvider<RelationalPersi
 	 * @return
 	 */
 	public boolean hasProperty(RelationalPersistentProperty property) {
-		return resultSet.hasValue(getColumnName(property));
+		return getColumnIndex(property) > 0;
+	}
+
+	private int getColumnIndex(RelationalPersistentProperty property) {
+		return columnIndexes.computeIfAbsent(property, it -> resultSet.findColumnIndex(getColumnName(it)));
 	}
 
 	private String getColumnName(RelationalPersistentProperty property) {
@@ -66,6 +79,7 @@ class JdbcPropertyValueProvider implements PropertyValueProvider<RelationalPersi
 	}
 
 	public JdbcPropertyValueProvider extendBy(RelationalPersistentProperty property) {
-		return new JdbcPropertyValueProvider(identifierProcessing, basePath.extendBy(property), resultSet);
+		return nestedProviders.computeIfAbsent(property,
+				it -> new JdbcPropertyValueProvider(identifierProcessing, basePath.extendBy(it), resultSet));
 	}
 }
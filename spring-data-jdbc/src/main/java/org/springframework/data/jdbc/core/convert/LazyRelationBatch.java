@@ -0,0 +1,322 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.LazyLoadingValue;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Creates placeholders for the {@link RelationalPersistentProperty#isLazy() lazily loaded} collections and maps
+ * reachable via a single path. The first access to any of the placeholders loads all placeholders created so far that
+ * haven't been loaded yet, using a single call to
+ * {@link RelationResolver#findAllByPathForEach(List, PersistentPropertyPath)}. Placeholders created afterwards form the
+ * next batch.
+ *
+ * @since 3.0
+ */
+class LazyRelationBatch {
+
+	private final RelationResolver relationResolver;
+	private final PersistentPropertyPath<? extends RelationalPersistentProperty> path;
+	private final List<Content<?>> pending = new ArrayList<>();
+
+	/**
+	 * Creates a new {@link LazyRelationBatch}.
+	 *
+	 * @param relationResolver used to load the placeholders. Must not be {@literal null}.
+	 * @param path the path from the aggregate root to the entities to be loaded. Must not be {@literal null}.
+	 */
+	LazyRelationBatch(RelationResolver relationResolver,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
+		Assert.notNull(path, "PersistentPropertyPath must not be null");
+
+		this.relationResolver = relationResolver;
+		this.path = path;
+	}
+
+	/**
+	 * Creates a placeholder for the collection or map referenced by the given parent.
+	 *
+	 * @param property the property to be populated with the placeholder. Must be
+	 *          {@link RelationalPersistentProperty#isLazy() lazily loaded}.
+	 * @param identifier the identifier of the parent. Must not be {@literal null}.
+	 * @return a placeholder of the type of the property.
+	 */
+	Object createPlaceholder(RelationalPersistentProperty property, Identifier identifier) {
+
+		Assert.notNull(identifier, "Identifier must not be null");
+
+		Class<?> type = property.getType();
+
+		if (type == Map.class) {
+			return new LazyMap(register(identifier, LazyRelationBatch::toMap));
+		}
+
+		if (type == Set.class) {
+			return new LazySet(register(identifier, LinkedHashSet::new));
+		}
+
+		return new LazyList(register(identifier, ArrayList::new));
+	}
+
+	private synchronized <C> Content<C> register(Identifier identifier, Function<Collection<Object>, C> factory) {
+
+		Content<C> content = new Content<>(this, identifier, factory);
+		pending.add(content);
+
+		return content;
+	}
+
+	/**
+	 * Loads all placeholders that haven't been loaded yet.
+	 */
+	private synchronized void load() {
+
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		List<Identifier> identifiers = new ArrayList<>(pending.size());
+		for (Content<?> content : pending) {
+			identifiers.add(content.identifier);
+		}
+
+		List<Iterable<Object>> results = relationResolver.findAllByPathForEach(identifiers, path);
+
+		Assert.state(results.size() == pending.size(),
+				() -> String.format("Expected %d results for %s but got %d", pending.size(), path, results.size()));
+
+		for (int i = 0; i < results.size(); i++) {
+			pending.get(i).initialize(results.get(i));
+		}
+
+		pending.clear();
+	}
+
+	private static Map<Object, Object> toMap(Collection<Object> entries) {
+
+		Map<Object, Object> map = new HashMap<>();
+
+		for (Object entry : entries) {
+
+			Assert.isInstanceOf(Map.Entry.class, entry, "Map entries expected");
+
+			Map.Entry<?, ?> mapEntry = (Map.Entry<?, ?>) entry;
+			map.put(mapEntry.getKey(), mapEntry.getValue());
+		}
+
+		return map;
+	}
+
+	/**
+	 * The content of a placeholder. Gets created when the {@link LazyRelationBatch} the placeholder belongs to is loaded.
+	 */
+	private static class Content<C> {
+
+		private final LazyRelationBatch batch;
+		private final Identifier identifier;
+		private final Function<Collection<Object>, C> factory;
+		private volatile @Nullable C value;
+
+		Content(LazyRelationBatch batch, Identifier identifier, Function<Collection<Object>, C> factory) {
+
+			this.batch = batch;
+			this.identifier = identifier;
+			this.factory = factory;
+		}
+
+		C get() {
+
+			C value = this.value;
+
+			if (value == null) {
+
+				batch.load();
+				value = this.value;
+
+				Assert.state(value != null, "Lazily loaded relation was not initialized");
+			}
+
+			return value;
+		}
+
+		boolean isLoaded() {
+			return value != null;
+		}
+
+		private void initialize(Iterable<Object> entities) {
+
+			List<Object> elements = new ArrayList<>();
+			entities.forEach(elements::add);
+
+			this.value = factory.apply(elements);
+		}
+	}
+
+	/**
+	 * A {@link List} placeholder.
+	 */
+	static class LazyList extends AbstractList<Object> implements RandomAccess, LazyLoadingValue {
+
+		private final Content<List<Object>> content;
+
+		private LazyList(Content<List<Object>> content) {
+			this.content = content;
+		}
+
+		@Override
+		public boolean isLoaded() {
+			return content.isLoaded();
+		}
+
+		@Override
+		public Object get(int index) {
+			return content.get().get(index);
+		}
+
+		@Override
+		public Object set(int index, Object element) {
+			return content.get().set(index, element);
+		}
+
+		@Override
+		public void add(int index, Object element) {
+
+			content.get().add(index, element);
+			modCount++;
+		}
+
+		@Override
+		public Object remove(int index) {
+
+			modCount++;
+			return content.get().remove(index);
+		}
+
+		@Override
+		public int size() {
+			return content.get().size();
+		}
+	}
+
+	/**
+	 * A {@link Set} placeholder.
+	 */
+	static class LazySet extends AbstractSet<Object> implements LazyLoadingValue {
+
+		private final Content<Set<Object>> content;
+
+		private LazySet(Content<Set<Object>> content) {
+			this.content = content;
+		}
+
+		@Override
+		public boolean isLoaded() {
+			return content.isLoaded();
+		}
+
+		@Override
+		public Iterator<Object> iterator() {
+			return content.get().iterator();
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return content.get().contains(o);
+		}
+
+		@Override
+		public boolean add(Object element) {
+			return content.get().add(element);
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			return content.get().remove(o);
+		}
+
+		@Override
+		public int size() {
+			return content.get().size();
+		}
+	}
+
+	/**
+	 * A {@link Map} placeholder.
+	 */
+	static class LazyMap extends AbstractMap<Object, Object> implements LazyLoadingValue {
+
+		private final Content<Map<Object, Object>> content;
+
+		private LazyMap(Content<Map<Object, Object>> content) {
+			this.content = content;
+		}
+
+		@Override
+		public boolean isLoaded() {
+			return content.isLoaded();
+		}
+
+		@Override
+		public Set<Entry<Object, Object>> entrySet() {
+			return content.get().entrySet();
+		}
+
+		@Override
+		public Object get(Object key) {
+			return content.get().get(key);
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return content.get().containsKey(key);
+		}
+
+		@Override
+		public Object put(Object key, Object value) {
+			return content.get().put(key, value);
+		}
+
+		@Override
+		public Object remove(Object key) {
+			return content.get().remove(key);
+		}
+
+		@Override
+		public int size() {
+			return content.get().size();
+		}
+	}
+}
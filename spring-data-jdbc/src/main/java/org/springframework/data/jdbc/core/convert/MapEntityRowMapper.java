@@ -24,6 +24,7 @@ import org.springframework.data.relational.core.mapping.PersistentPropertyPathEx
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
 
 /**
  * A {@link RowMapper} that maps a row to a {@link Map.Entry} so an {@link Iterable} of those can be converted to a
@@ -39,6 +40,7 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 	private final Identifier identifier;
 	private final SqlIdentifier keyColumn;
 	private final IdentifierProcessing identifierProcessing;
+	private final @Nullable BasicJdbcConverter.ResultSetReader<T> reader;
 
 	MapEntityRowMapper(PersistentPropertyPathExtension path, JdbcConverter converter, Identifier identifier,
 			SqlIdentifier keyColumn, IdentifierProcessing identifierProcessing) {
@@ -48,6 +50,7 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 		this.identifier = identifier;
 		this.keyColumn = keyColumn;
 		this.identifierProcessing = identifierProcessing;
+		this.reader = EntityRowMapper.createReader(path, converter, null);
 	}
 
 	@Override
@@ -58,6 +61,9 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 	}
 
 	private T mapEntity(ResultSet resultSet, Object key) {
-		return converter.mapRow(path, resultSet, identifier, key);
+
+		return reader != null //
+				? reader.mapRow(resultSet, identifier, key) //
+				: converter.mapRow(path, resultSet, identifier, key);
 	}
 }
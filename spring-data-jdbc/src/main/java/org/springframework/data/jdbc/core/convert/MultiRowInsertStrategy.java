@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.IdGeneration;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link BatchInsertStrategy} for databases that don't return generated ids from JDBC batches. It inserts the rows
+ * with statements created by {@link IdGeneration#createMultiRowInsert(String, List, String, int, String)} from the
+ * {@link RenderedInsert rendered table and columns} of the insert, each containing as many rows as
+ * {@link IdGeneration#getMaxBindParameters()} allows, and reads the generated ids from their result sets. Inserts that
+ * can't be combined, e.g. because the {@link Dialect} doesn't support it or there are no columns to insert, are
+ * performed serially.
+ *
+ * @since 3.0
+ */
+class MultiRowInsertStrategy implements BatchInsertStrategy {
+
+	private final InsertStrategy insertStrategy;
+	private final Dialect dialect;
+	private final JdbcOperations jdbcOperations;
+	@Nullable private final SqlIdentifier idColumn;
+
+	MultiRowInsertStrategy(InsertStrategy insertStrategy, Dialect dialect, JdbcOperations jdbcOperations,
+			@Nullable SqlIdentifier idColumn) {
+
+		this.insertStrategy = insertStrategy;
+		this.dialect = dialect;
+		this.jdbcOperations = jdbcOperations;
+		this.idColumn = idColumn;
+	}
+
+	@Override
+	public Object[] execute(String sql, SqlParameterSource[] sqlParameterSources) {
+		return insertSerially(sql, sqlParameterSources);
+	}
+
+	@Override
+	public Object[] execute(String sql, RenderedInsert renderedInsert, SqlParameterSource[] sqlParameterSources) {
+
+		List<String> columns = renderedInsert.columns();
+
+		if (idColumn == null || sqlParameterSources.length < 2 || columns.isEmpty()) {
+			return insertSerially(sql, sqlParameterSources);
+		}
+
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+
+		List<Object[]> rows = new ArrayList<>(sqlParameterSources.length);
+		for (SqlParameterSource sqlParameterSource : sqlParameterSources) {
+
+			Object[] row = NamedParameterUtils.buildValueArray(parsedSql, sqlParameterSource, null);
+
+			// values expanding into multiple bind markers don't line up with the columns
+			if (row.length != columns.size() || Arrays.stream(row).anyMatch(Iterable.class::isInstance)) {
+				return insertSerially(sql, sqlParameterSources);
+			}
+
+			rows.add(row);
+		}
+
+		IdGeneration idGeneration = dialect.getIdGeneration();
+		int rowsPerStatement = Math.max(1, idGeneration.getMaxBindParameters() / columns.size());
+		String values = String.join(", ", Collections.nCopies(columns.size(), "?"));
+		String renderedIdColumn = idColumn.toSql(dialect.getIdentifierProcessing());
+
+		Object[] ids = new Object[sqlParameterSources.length];
+
+		for (int offset = 0; offset < rows.size(); offset += rowsPerStatement) {
+
+			List<Object[]> chunk = rows.subList(offset, Math.min(offset + rowsPerStatement, rows.size()));
+			String multiRowInsert = idGeneration.createMultiRowInsert(renderedInsert.table(), columns, values, chunk.size(),
+					renderedIdColumn);
+
+			if (multiRowInsert == null) {
+				return insertSerially(sql, sqlParameterSources);
+			}
+
+			readIds(multiRowInsert, chunk, ids, offset);
+		}
+
+		return ids;
+	}
+
+	private void readIds(String multiRowInsert, List<Object[]> chunk, Object[] ids, int offset) {
+
+		Object[] arguments = chunk.stream().flatMap(Arrays::stream).toArray();
+
+		jdbcOperations.query(multiRowInsert, resultSet -> {
+
+			boolean indexed = resultSet.getMetaData().getColumnCount() > 1;
+			int row = 0;
+
+			while (resultSet.next()) {
+
+				int index = indexed ? resultSet.getInt(2) : row;
+				ids[offset + index] = JdbcUtils.getResultSetValue(resultSet, 1);
+				row++;
+			}
+
+			return null;
+		}, arguments);
+	}
+
+	private Object[] insertSerially(String sql, SqlParameterSource[] sqlParameterSources) {
+
+		return Arrays.stream(sqlParameterSources)
+				.map(sqlParameterSource -> insertStrategy.execute(sql, sqlParameterSource)).toArray();
+	}
+}
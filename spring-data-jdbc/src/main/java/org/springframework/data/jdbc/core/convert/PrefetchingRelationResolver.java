@@ -0,0 +1,403 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RelationResolver} serving collections and maps of aggregates from entities loaded upfront with a single
+ * statement per collection level instead of one statement per referencing entity. Lookups for paths or identifiers
+ * that haven't been loaded are passed on to a delegate {@link RelationResolver}.
+ * <p>
+ * Levels must be {@link #load(PersistentPropertyPathExtension, ResultSet) loaded} deepest first, since the entities of
+ * a level get materialized right away and resolve their own collections from the levels loaded before.
+ *
+ * @since 3.0
+ */
+class PrefetchingRelationResolver implements RelationResolver {
+
+	private final RelationalMappingContext context;
+	private final JdbcConverter converter;
+	private final IdentifierProcessing identifierProcessing;
+	private final RelationResolver delegate;
+
+	private final Map<PersistentPropertyPath<? extends RelationalPersistentProperty>, LoadedRelation> relations = new HashMap<>();
+	private final Set<PersistentPropertyPath<? extends RelationalPersistentProperty>> ambiguousPaths = new HashSet<>();
+
+	/**
+	 * Creates a new {@link PrefetchingRelationResolver}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param identifierProcessing must not be {@literal null}.
+	 * @param delegate used for everything that wasn't loaded upfront. Must not be {@literal null}.
+	 */
+	PrefetchingRelationResolver(RelationalMappingContext context, JdbcConverter converter,
+			IdentifierProcessing identifierProcessing, RelationResolver delegate) {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+		Assert.notNull(converter, "JdbcConverter must not be null");
+		Assert.notNull(identifierProcessing, "IdentifierProcessing must not be null");
+		Assert.notNull(delegate, "Delegate RelationResolver must not be null");
+
+		this.context = context;
+		this.converter = converter;
+		this.identifierProcessing = identifierProcessing;
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Returns the paths of all collections and maps of entities within the aggregate, deepest paths first, which is the
+	 * order in which they have to be {@link #load(PersistentPropertyPathExtension, ResultSet) loaded}.
+	 * {@link RelationalPersistentProperty#isLazy() Lazily loaded} collections and maps, including everything within them,
+	 * are left out.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param aggregateType the type of the aggregate root. Must not be {@literal null}.
+	 * @return guaranteed to be not {@literal null}.
+	 */
+	static List<PersistentPropertyPathExtension> getRelationPaths(RelationalMappingContext context,
+			Class<?> aggregateType) {
+		return getRelationPaths(context, aggregateType, null);
+	}
+
+	/**
+	 * Returns the path of a {@link RelationalPersistentProperty#isLazy() lazily loaded} collection or map of an aggregate
+	 * root along with the paths of all collections and maps within it, deepest paths first. Collections and maps that are
+	 * lazily loaded themselves are left out.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param lazyPath the path of a lazily loaded collection or map. Must not be {@literal null}.
+	 * @return guaranteed to be not {@literal null}.
+	 */
+	static List<PersistentPropertyPathExtension> getRelationPaths(RelationalMappingContext context,
+			PersistentPropertyPathExtension lazyPath) {
+
+		Class<?> aggregateType = lazyPath.getRequiredPersistentPropertyPath().getBaseProperty().getOwner().getType();
+
+		return getRelationPaths(context, aggregateType, lazyPath);
+	}
+
+	private static List<PersistentPropertyPathExtension> getRelationPaths(RelationalMappingContext context,
+			Class<?> aggregateType, @Nullable PersistentPropertyPathExtension basePath) {
+
+		List<PersistentPropertyPathExtension> paths = new ArrayList<>();
+		int offset = basePath == null ? 0 : basePath.getLength();
+
+		context.findPersistentPropertyPaths(aggregateType, property -> property.isEntity() && !property.isEmbedded())
+				.forEach(path -> {
+
+					if (basePath != null && !basePath.getRequiredPersistentPropertyPath().isBasePathOf(path)) {
+						return;
+					}
+
+					PersistentPropertyPathExtension extension = new PersistentPropertyPathExtension(context, path);
+					if (extension.isMultiValued() && !isLazy(path, offset)) {
+						paths.add(extension);
+					}
+				});
+
+		paths.sort(Comparator.comparingInt(PersistentPropertyPathExtension::getLength).reversed());
+
+		return paths;
+	}
+
+	/**
+	 * Returns whether any of the properties of the path, starting at {@literal offset}, is loaded lazily.
+	 */
+	private static boolean isLazy(PersistentPropertyPath<RelationalPersistentProperty> path, int offset) {
+
+		int index = 0;
+		for (RelationalPersistentProperty property : path) {
+
+			if (index++ >= offset && property.isLazy()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the back reference columns of the entities reachable via {@literal path}: the reverse column plus the
+	 * qualifier columns of all qualified entities between the path and the next entity with an id.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @return guaranteed to be not {@literal null}.
+	 */
+	static Set<SqlIdentifier> getIdentifierColumns(PersistentPropertyPathExtension path) {
+
+		Set<SqlIdentifier> columns = new LinkedHashSet<>();
+		columns.add(path.getReverseColumnName());
+
+		int idDefiningParentLength = path.getIdDefiningParentPath().getLength();
+
+		for (PersistentPropertyPathExtension current = path.getParentPath(); current
+				.getLength() > idDefiningParentLength; current = current.getParentPath()) {
+
+			if (current.isQualified()) {
+				columns.add(current.getQualifierColumn());
+			}
+		}
+
+		return columns;
+	}
+
+	/**
+	 * Materializes all rows of the {@link ResultSet} as the entities reachable via {@literal path}. The
+	 * {@link ResultSet} must contain the columns returned by {@link #getIdentifierColumns(PersistentPropertyPathExtension)}
+	 * and the qualifier column of the path if there is one. A path may be loaded with multiple statements, as long as
+	 * all entities referenced by the same parent are contained in the same {@link ResultSet}.
+	 *
+	 * @param path the path from the aggregate root to the loaded entities. Must not be {@literal null}.
+	 * @param resultSet the {@link ResultSet} to read. Must not be {@literal null}.
+	 * @throws SQLException when reading the {@link ResultSet} fails.
+	 */
+	void load(PersistentPropertyPathExtension path, ResultSet resultSet) throws SQLException {
+
+		PersistentPropertyPath<RelationalPersistentProperty> relativePath = getRelativePath(path);
+		PersistentPropertyPathExtension relativePathExtension = new PersistentPropertyPathExtension(context,
+				relativePath);
+
+		Set<SqlIdentifier> identifierColumns = getIdentifierColumns(path);
+		SqlIdentifier keyColumn = path.getQualifierColumn();
+
+		LoadedRelation relation = relations.get(relativePath);
+		if (relation == null || !relation.isLoadedFrom(path)) {
+			relation = new LoadedRelation(path.getRequiredPersistentPropertyPath(), identifierColumns);
+		}
+
+		Map<List<Object>, Integer> indexes = new HashMap<>();
+
+		while (resultSet.next()) {
+
+			Map<SqlIdentifier, Object> identifierValues = new LinkedHashMap<>();
+			for (SqlIdentifier column : identifierColumns) {
+				identifierValues.put(column, resultSet.getObject(column.getReference(identifierProcessing)));
+			}
+
+			Object key;
+			if (path.isMap()) {
+				key = resultSet.getObject(keyColumn.getReference(identifierProcessing));
+			} else {
+
+				// mirrors the row number used as key when a collection is loaded for a single parent
+				List<Object> group = new ArrayList<>(identifierValues.values());
+				key = indexes.merge(group, 1, Integer::sum) - 1;
+			}
+
+			Object entity = converter.mapRow(relativePathExtension, resultSet, Identifier.from(identifierValues), key, this);
+
+			relation.add(normalize(identifierValues), path.isMap() ? new HashMap.SimpleEntry<>(key, entity) : entity);
+		}
+
+		register(relativePath, relation);
+	}
+
+	@Override
+	public Iterable<Object> findAllByPath(Identifier identifier,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		LoadedRelation relation = relations.get(path);
+
+		if (relation != null) {
+
+			Map<SqlIdentifier, Object> identifierValues = identifier.toMap();
+
+			if (relation.covers(identifierValues.keySet())) {
+				return relation.find(normalize(identifierValues));
+			}
+		}
+
+		return delegate.findAllByPath(identifier, path);
+	}
+
+	@Override
+	public List<Iterable<Object>> findAllByPathForEach(List<Identifier> identifiers,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		return relations.containsKey(path) //
+				? RelationResolver.super.findAllByPathForEach(identifiers, path) //
+				: delegate.findAllByPathForEach(identifiers, path);
+	}
+
+	/**
+	 * Registers the relation for lookups. Different paths of an aggregate that look the same relative to their closest
+	 * collection can't be told apart, so lookups for those get delegated.
+	 */
+	private void register(PersistentPropertyPath<RelationalPersistentProperty> relativePath, LoadedRelation relation) {
+
+		LoadedRelation existing = relations.get(relativePath);
+
+		if (ambiguousPaths.contains(relativePath) || (existing != null && existing != relation)) {
+
+			relations.remove(relativePath);
+			ambiguousPaths.add(relativePath);
+			return;
+		}
+
+		relations.put(relativePath, relation);
+	}
+
+	/**
+	 * The path as it gets passed to {@link #findAllByPath(Identifier, PersistentPropertyPath)}, i.e. relative to the
+	 * closest collection or map containing it.
+	 */
+	private PersistentPropertyPath<RelationalPersistentProperty> getRelativePath(PersistentPropertyPathExtension path) {
+
+		PersistentPropertyPath<RelationalPersistentProperty> absolutePath = path.getRequiredPersistentPropertyPath();
+
+		for (PersistentPropertyPathExtension ancestor = path.getParentPath(); ancestor.getLength() > 0; ancestor = ancestor
+				.getParentPath()) {
+
+			if (ancestor.isMultiValued()) {
+				return absolutePath.getExtensionForBaseOf(ancestor.getRequiredPersistentPropertyPath());
+			}
+		}
+
+		return absolutePath;
+	}
+
+	private Map<SqlIdentifier, Object> normalize(Map<SqlIdentifier, Object> identifierValues) {
+
+		Map<SqlIdentifier, Object> normalized = new HashMap<>();
+		identifierValues.forEach((column, value) -> normalized.put(column, normalize(value)));
+
+		return normalized;
+	}
+
+	/**
+	 * Brings values read from the database and values from the domain model into a common form, so they can be compared.
+	 */
+	@Nullable
+	private Object normalize(@Nullable Object value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		Object written = converter.writeValue(value, ClassTypeInformation.OBJECT);
+
+		if (written instanceof BigDecimal decimal) {
+
+			try {
+				return decimal.longValueExact();
+			} catch (ArithmeticException e) {
+				return decimal.stripTrailingZeros();
+			}
+		}
+
+		if (written instanceof BigInteger || written instanceof Long || written instanceof Integer
+				|| written instanceof Short || written instanceof Byte) {
+			return ((Number) written).longValue();
+		}
+
+		return written;
+	}
+
+	/**
+	 * The entities of a single collection level, indexed by the values of their back reference columns.
+	 */
+	private static class LoadedRelation {
+
+		private final PersistentPropertyPath<RelationalPersistentProperty> path;
+		private final Set<SqlIdentifier> identifierColumns;
+		private final List<Map<SqlIdentifier, Object>> identifiers = new ArrayList<>();
+		private final List<Object> values = new ArrayList<>();
+		private final Map<List<SqlIdentifier>, Map<List<Object>, List<Object>>> indexes = new HashMap<>();
+
+		LoadedRelation(PersistentPropertyPath<RelationalPersistentProperty> path, Set<SqlIdentifier> identifierColumns) {
+
+			this.path = path;
+			this.identifierColumns = identifierColumns;
+		}
+
+		boolean isLoadedFrom(PersistentPropertyPathExtension path) {
+			return this.path.equals(path.getRequiredPersistentPropertyPath());
+		}
+
+		void add(Map<SqlIdentifier, Object> identifier, Object value) {
+
+			identifiers.add(identifier);
+			values.add(value);
+			indexes.clear();
+		}
+
+		boolean covers(Set<SqlIdentifier> columns) {
+			return !columns.isEmpty() && identifierColumns.containsAll(columns);
+		}
+
+		List<Object> find(Map<SqlIdentifier, Object> identifier) {
+
+			List<SqlIdentifier> columns = new ArrayList<>();
+			for (SqlIdentifier column : identifierColumns) {
+				if (identifier.containsKey(column)) {
+					columns.add(column);
+				}
+			}
+
+			Map<List<Object>, List<Object>> index = indexes.computeIfAbsent(columns, this::createIndex);
+
+			List<Object> result = index.get(valuesOf(identifier, columns));
+
+			return result == null ? Collections.emptyList() : new ArrayList<>(result);
+		}
+
+		private Map<List<Object>, List<Object>> createIndex(List<SqlIdentifier> columns) {
+
+			Map<List<Object>, List<Object>> index = new HashMap<>();
+
+			for (int i = 0; i < identifiers.size(); i++) {
+				index.computeIfAbsent(valuesOf(identifiers.get(i), columns), key -> new ArrayList<>()).add(values.get(i));
+			}
+
+			return index;
+		}
+
+		private static List<Object> valuesOf(Map<SqlIdentifier, Object> identifier, List<SqlIdentifier> columns) {
+
+			List<Object> values = new ArrayList<>(columns.size());
+			for (SqlIdentifier column : columns) {
+				values.add(identifier.get(column));
+			}
+
+			return values;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Caches the {@link PreparedStatementCreatorFactory} for SQL statements with named parameters. A factory holds the
+ * statement with named parameters substituted by {@code ?} placeholders along with the declared parameter types, so
+ * executing a cached statement only requires building the array of parameter values.
+ * <p>
+ * Factories are keyed by the SQL statement and the shape of its parameters, i.e. their names, SQL types and the sizes
+ * of collection values that get expanded into multiple placeholders. Since {@link SqlGenerator} hands out the same
+ * statement for each operation of an entity, the number of cached factories is bounded by the number of operations
+ * and parameter shapes. When the cache is full, the least recently used factory gets evicted.
+ * <p>
+ * The parsed statements are cached as well. For statements executed through a
+ * {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate} this duplicates the cache of the
+ * template, which isn't accessible from the outside. What this cache saves on top of it is the substitution of the
+ * named parameters and the declaration of the parameter types on each execution.
+ * <p>
+ * Each component executing statements holds its own instance, so the cached factories get released along with it.
+ *
+ * @since 3.0
+ */
+public class PreparedStatementCreatorCache {
+
+	/**
+	 * Default maximum number of cached statements: 256.
+	 */
+	public static final int DEFAULT_CACHE_LIMIT = 256;
+
+	private final ConcurrentLruCache<String, ParsedSql> parsedStatements;
+	private final ConcurrentLruCache<Key, PreparedStatementCreatorFactory> factories;
+
+	/**
+	 * Create a new {@link PreparedStatementCreatorCache} holding up to {@link #DEFAULT_CACHE_LIMIT} statements.
+	 */
+	public PreparedStatementCreatorCache() {
+		this(DEFAULT_CACHE_LIMIT);
+	}
+
+	/**
+	 * Create a new {@link PreparedStatementCreatorCache} holding up to the given number of statements.
+	 *
+	 * @param cacheLimit the maximum number of cached statements. A limit of {@literal 0} disables caching.
+	 */
+	public PreparedStatementCreatorCache(int cacheLimit) {
+
+		Assert.isTrue(cacheLimit >= 0, "Cache limit must not be negative");
+
+		this.parsedStatements = new ConcurrentLruCache<>(cacheLimit, NamedParameterUtils::parseSqlStatement);
+		this.factories = new ConcurrentLruCache<>(cacheLimit, this::createFactory);
+	}
+
+	/**
+	 * Returns a {@link PreparedStatementCreator} for the given statement and parameters.
+	 *
+	 * @param sql the SQL statement with named parameters.
+	 * @param parameterSource the parameters of the statement.
+	 * @return the {@link PreparedStatementCreator} or {@literal null} if the parameters cannot be used as part of a cache
+	 *         key, e.g. because they do not expose their names.
+	 */
+	@Nullable
+	public PreparedStatementCreator getPreparedStatementCreator(String sql, SqlParameterSource parameterSource) {
+
+		List<ParameterShape> shape = getShape(parameterSource);
+
+		if (shape == null) {
+			return null;
+		}
+
+		PreparedStatementCreatorFactory factory = factories.get(new Key(sql, shape));
+		Object[] parameters = NamedParameterUtils.buildValueArray(parsedStatements.get(sql), parameterSource, null);
+
+		return factory.newPreparedStatementCreator(parameters);
+	}
+
+	/**
+	 * Returns a {@link PreparedStatementCreator} for the given statement and parameters, using a cached
+	 * {@link PreparedStatementCreatorFactory} if possible.
+	 *
+	 * @param sql the SQL statement with named parameters.
+	 * @param parameterSource the parameters of the statement.
+	 * @return the {@link PreparedStatementCreator}.
+	 * @see #getPreparedStatementCreator(String, SqlParameterSource)
+	 */
+	public PreparedStatementCreator createPreparedStatementCreator(String sql, SqlParameterSource parameterSource) {
+
+		PreparedStatementCreator cached = getPreparedStatementCreator(sql, parameterSource);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		ParsedSql parsedSql = parsedStatements.get(sql);
+		Object[] parameters = NamedParameterUtils.buildValueArray(parsedSql, parameterSource, null);
+
+		return createFactory(parsedSql, parameterSource).newPreparedStatementCreator(parameters);
+	}
+
+	/**
+	 * Creates the factory for a cache key from placeholder parameters of the same shape, so the cache doesn't hold on to
+	 * the values of the parameters the factory was created for.
+	 */
+	private PreparedStatementCreatorFactory createFactory(Key key) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		for (ParameterShape parameter : key.shape()) {
+
+			Object value = parameter.size() == -1 ? null : Collections.nCopies(parameter.size(), null);
+			parameterSource.addValue(parameter.name(), value, parameter.sqlType(), parameter.typeName());
+		}
+
+		return createFactory(parsedStatements.get(key.sql()), parameterSource);
+	}
+
+	private static PreparedStatementCreatorFactory createFactory(ParsedSql parsedSql,
+			SqlParameterSource parameterSource) {
+
+		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, parameterSource);
+		List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, parameterSource);
+
+		return new PreparedStatementCreatorFactory(sqlToUse, declaredParameters);
+	}
+
+	/**
+	 * Returns the names, types and expanded sizes of the parameters or {@literal null} if the parameters do not expose
+	 * their names or contain values that do not have a fixed size.
+	 */
+	@Nullable
+	private static List<ParameterShape> getShape(SqlParameterSource parameterSource) {
+
+		String[] parameterNames = parameterSource.getParameterNames();
+
+		if (parameterNames == null) {
+			return null;
+		}
+
+		List<ParameterShape> shape = new ArrayList<>(parameterNames.length);
+
+		for (String parameterName : parameterNames) {
+
+			Object value = parameterSource.getValue(parameterName);
+			if (value instanceof SqlParameterValue sqlParameterValue) {
+				value = sqlParameterValue.getValue();
+			}
+
+			int size = -1;
+			if (value instanceof Iterable<?> iterable) {
+
+				if (!(iterable instanceof Collection<?> collection)) {
+					return null;
+				}
+
+				for (Object element : collection) {
+					if (element instanceof Object[]) {
+						return null;
+					}
+				}
+
+				size = collection.size();
+			}
+
+			shape.add(new ParameterShape(parameterName, parameterSource.getSqlType(parameterName),
+					parameterSource.getTypeName(parameterName), size));
+		}
+
+		return shape;
+	}
+
+	private record Key(String sql, List<ParameterShape> shape) {
+	}
+
+	private record ParameterShape(String name, int sqlType, @Nullable String typeName, int size) {
+	}
+}
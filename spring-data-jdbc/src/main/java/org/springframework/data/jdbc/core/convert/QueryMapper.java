@@ -519,6 +519,9 @@ public class QueryMapper {
 					expressions.add(bind(o, sqlType, parameterSource, column.getName().getReference()));
 				}
 
+				// repeating the last bind marker keeps the statement stable across list sizes
+				expressions = dialect.getInListPadding().pad(expressions);
+
 				condition = Conditions.in(columnExpression, expressions.toArray(new Expression[0]));
 
 			} else {
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * A bounded cache of the SQL statements rendered for {@link Query}-based selects and derived queries, keyed by the
+ * shape of the query, i.e. its criteria structure, bound parameters, sorting, limit and offset, but not the values of
+ * its parameters. Lookups do not acquire a lock. When the cache is full, the least recently used statement gets
+ * evicted.
+ *
+ * @since 3.0
+ * @see SqlGeneratorSource#getQueryStatementCache()
+ */
+public class QueryStatementCache {
+
+	/**
+	 * Default maximum number of cached statements: 256.
+	 */
+	public static final int DEFAULT_CACHE_LIMIT = 256;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	private volatile ConcurrentLruCache<Object, StatementHolder> statements = createCache(DEFAULT_CACHE_LIMIT);
+
+	/**
+	 * Specify the maximum number of cached statements. A limit of {@literal 0} disables caching. Changing the limit
+	 * discards the statements cached so far. Default is 256.
+	 *
+	 * @param cacheLimit must not be negative.
+	 */
+	public void setCacheLimit(int cacheLimit) {
+
+		Assert.isTrue(cacheLimit >= 0, "Cache limit must not be negative");
+
+		this.statements = createCache(cacheLimit);
+	}
+
+	/**
+	 * @return the maximum number of cached statements.
+	 */
+	public int getCacheLimit() {
+		return statements.capacity();
+	}
+
+	/**
+	 * @return the number of lookups that found a cached statement.
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the number of lookups that required rendering the statement.
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the number of currently cached statements.
+	 */
+	public int size() {
+		return statements.size();
+	}
+
+	/**
+	 * Removes all cached statements. Hit and miss counts are retained.
+	 */
+	public void clear() {
+		statements.clear();
+	}
+
+	/**
+	 * Returns the statement cached for the given key, rendering and caching it if not present.
+	 *
+	 * @param key the shape of the query. Must implement {@link Object#equals(Object)} and {@link Object#hashCode()}.
+	 * @param renderer renders the statement on a cache miss.
+	 * @return the statement. Guaranteed to be not {@literal null}.
+	 */
+	public String get(Object key, Supplier<String> renderer) {
+
+		StatementHolder holder = statements.get(key);
+		String statement = holder.statement;
+
+		if (statement != null) {
+
+			hits.increment();
+			return statement;
+		}
+
+		misses.increment();
+		statement = renderer.get();
+		holder.statement = statement;
+
+		return statement;
+	}
+
+	private static ConcurrentLruCache<Object, StatementHolder> createCache(int cacheLimit) {
+		return new ConcurrentLruCache<>(cacheLimit, key -> new StatementHolder());
+	}
+
+	/**
+	 * Holds the statement of a key once it got rendered, so rendering doesn't happen while the cache gets updated.
+	 */
+	private static class StatementHolder {
+		volatile @Nullable String statement;
+	}
+}
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 
@@ -36,4 +39,26 @@ public interface RelationResolver {
 	 */
 	Iterable<Object> findAllByPath(Identifier identifier,
 			PersistentPropertyPath<? extends RelationalPersistentProperty> path);
+
+	/**
+	 * Finds all entities reachable via {@literal path} for each of the given parents. Used to load the lazily loaded
+	 * collections and maps of multiple entities at once. The default implementation resolves the parents one by one.
+	 *
+	 * @param identifiers the identifiers of the parents of the entities to be loaded. Must not be {@literal null}.
+	 * @param path the path from the aggregate root to the entities to be resolved. Must not be {@literal null}.
+	 * @return the entities for each of the {@literal identifiers}, in the same order. Guaranteed to be not
+	 *         {@literal null}.
+	 * @since 3.0
+	 */
+	default List<Iterable<Object>> findAllByPathForEach(List<Identifier> identifiers,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		List<Iterable<Object>> result = new ArrayList<>(identifiers.size());
+
+		for (Identifier identifier : identifiers) {
+			result.add(findAllByPath(identifier, path));
+		}
+
+		return result;
+	}
 }
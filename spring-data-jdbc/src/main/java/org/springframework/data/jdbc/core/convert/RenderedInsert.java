@@ -0,0 +1,29 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.List;
+
+/**
+ * The rendered table and column names of an {@code INSERT INTO … (…) VALUES (…)} statement created by
+ * {@link SqlGenerator#getInsert(java.util.Set)}. The columns are in the order of the bind markers of the statement.
+ *
+ * @param table the rendered name of the table.
+ * @param columns the rendered names of the columns.
+ * @since 3.0
+ */
+record RenderedInsert(String table, List<String> columns) {
+}
@@ -87,19 +87,50 @@ class ResultSetAccessor {
 	@Nullable
 	public Object getObject(String columnName) {
 
-		try {
+		int index = findColumnIndex(columnName);
+		return index > 0 ? getObject(index) : null;
+	}
 
-			int index = findColumnIndex(columnName);
-			return index > 0 ? JdbcUtils.getResultSetValue(resultSet, index) : null;
+	/**
+	 * Returns the value of the column at {@code index} of the current row.
+	 *
+	 * @param index the column index as obtained from {@link #findColumnIndex(String)}.
+	 * @return
+	 * @see ResultSet#getObject(int)
+	 * @since 3.0
+	 */
+	@Nullable
+	Object getObject(int index) {
+
+		try {
+			return JdbcUtils.getResultSetValue(resultSet, index);
 		} catch (SQLException o_O) {
-			throw new MappingException(String.format("Could not read value %s from result set", columnName), o_O);
+			throw new MappingException(String.format("Could not read value of column %d from result set", index), o_O);
 		}
 	}
 
-	private int findColumnIndex(String columnName) {
+	/**
+	 * Returns the index of the column {@code columnName} or {@literal -1} if the result set does not contain it.
+	 *
+	 * @param columnName the column name (label).
+	 * @return
+	 * @since 3.0
+	 */
+	int findColumnIndex(String columnName) {
 		return indexLookUp.getOrDefault(columnName, -1);
 	}
 
+	/**
+	 * Returns {@literal true} if this accessor wraps the given {@link ResultSet}.
+	 *
+	 * @param resultSet
+	 * @return
+	 * @since 3.0
+	 */
+	boolean isFor(ResultSet resultSet) {
+		return this.resultSet == resultSet;
+	}
+
 	/**
 	 * Returns {@literal true} if the result set contains the {@code columnName}.
 	 *
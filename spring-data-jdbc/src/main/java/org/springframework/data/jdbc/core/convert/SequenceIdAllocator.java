@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.IdGeneration;
+import org.springframework.data.relational.core.mapping.IdSequence;
+import org.springframework.data.relational.core.mapping.Sequence;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Allocates ids from database sequences as configured by {@link IdSequence}. Each value fetched from a sequence
+ * provides a block of {@link IdSequence#getAllocationSize()} ids, which get handed out before the next value is
+ * fetched, so allocating ids for a batch of inserts requires at most one query per block. Blocks are kept per sequence
+ * name, allocation size and optimizer, so entities declaring the same sequence differently never hand out ids from a
+ * block computed for another declaration.
+ *
+ * @since 3.0
+ */
+class SequenceIdAllocator {
+
+	private final JdbcOperations operations;
+	private final Dialect dialect;
+	private final Map<PoolKey, Pool> pools = new ConcurrentHashMap<>();
+
+	SequenceIdAllocator(JdbcOperations operations, Dialect dialect) {
+
+		this.operations = operations;
+		this.dialect = dialect;
+	}
+
+	/**
+	 * Allocates the given number of ids from the given sequence. The sequence query runs while holding the lock of the
+	 * sequence's pool, so concurrent allocations from the same sequence wait for that query instead of fetching blocks
+	 * they don't need. This happens at most once per {@link IdSequence#getAllocationSize() allocation size} ids.
+	 *
+	 * @param sequence the sequence to take the ids from. Must not be {@literal null}.
+	 * @param count the number of ids to allocate.
+	 * @return the allocated ids. Guaranteed to be not {@literal null}.
+	 */
+	Long[] allocate(IdSequence sequence, int count) {
+
+		IdGeneration idGeneration = dialect.getIdGeneration();
+
+		if (!idGeneration.sequencesSupported()) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("%s does not support sequences; Can't take ids from %s", dialect.getClass().getName(),
+							sequence.getSequenceName()));
+		}
+
+		String query = idGeneration.createSequenceQuery(sequence.getSequenceName().toSql(dialect.getIdentifierProcessing()));
+		Pool pool = pools.computeIfAbsent(
+				new PoolKey(sequence.getSequenceName(), sequence.getAllocationSize(), sequence.getOptimizer()),
+				key -> new Pool());
+
+		synchronized (pool) {
+
+			Long[] ids = new Long[count];
+
+			for (int i = 0; i < count; i++) {
+
+				if (pool.remaining == 0) {
+
+					Long value = operations.queryForObject(query, Long.class);
+
+					if (value == null) {
+						throw new DataRetrievalFailureException(
+								String.format("Sequence %s returned no value", sequence.getSequenceName()));
+					}
+
+					pool.next = sequence.getOptimizer().getFirstId(value, sequence.getAllocationSize());
+					pool.remaining = sequence.getAllocationSize();
+				}
+
+				ids[i] = pool.next++;
+				pool.remaining--;
+			}
+
+			return ids;
+		}
+	}
+
+	private record PoolKey(SqlIdentifier sequenceName, int allocationSize, Sequence.Optimizer optimizer) {
+	}
+
+	/**
+	 * The ids of the current block of a sequence that are not handed out yet.
+	 */
+	private static class Pool {
+
+		long next;
+		int remaining;
+	}
+}
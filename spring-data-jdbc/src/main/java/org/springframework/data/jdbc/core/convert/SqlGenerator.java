@@ -16,6 +16,7 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -35,6 +36,7 @@ import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.*;
 import org.springframework.data.relational.core.sql.render.RenderContext;
+import org.springframework.data.relational.core.sql.render.RenderNamingStrategy;
 import org.springframework.data.relational.core.sql.render.SqlRenderer;
 import org.springframework.data.util.Lazy;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -89,6 +91,11 @@ class SqlGenerator {
 	private final Lazy<String> deleteByListSql = Lazy.of(this::createDeleteByListSql);
 	private final QueryMapper queryMapper;
 	private final Dialect dialect;
+	private final QueryStatementCache statementCache;
+
+	// bounded by the back references and additional columns the mapping of the entity allows for
+	private final Map<Set<SqlIdentifier>, String> insertStatements = new ConcurrentHashMap<>();
+	private final Map<BackReferenceSignature, String> findAllByPropertyStatements = new ConcurrentHashMap<>();
 
 	/**
 	 * Create a new {@link SqlGenerator} given {@link RelationalMappingContext} and {@link RelationalPersistentEntity}.
@@ -100,6 +107,21 @@ class SqlGenerator {
 	 */
 	SqlGenerator(RelationalMappingContext mappingContext, JdbcConverter converter, RelationalPersistentEntity<?> entity,
 			Dialect dialect) {
+		this(mappingContext, converter, entity, dialect, new QueryStatementCache());
+	}
+
+	/**
+	 * Create a new {@link SqlGenerator} given {@link RelationalMappingContext} and {@link RelationalPersistentEntity}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param statementCache caches the statements rendered for {@link Query Queries}. Must not be {@literal null}.
+	 * @since 3.0
+	 */
+	SqlGenerator(RelationalMappingContext mappingContext, JdbcConverter converter, RelationalPersistentEntity<?> entity,
+			Dialect dialect, QueryStatementCache statementCache) {
 
 		this.mappingContext = mappingContext;
 		this.entity = entity;
@@ -109,6 +131,7 @@ class SqlGenerator {
 		this.columns = new Columns(entity, mappingContext, converter);
 		this.queryMapper = new QueryMapper(dialect, converter);
 		this.dialect = dialect;
+		this.statementCache = statementCache;
 	}
 
 	/**
@@ -216,6 +239,26 @@ class SqlGenerator {
 		Assert.isTrue(keyColumn != null || !ordered,
 				"If the SQL statement should be ordered a keyColumn to order by must be provided");
 
+		List<SqlIdentifier> backReferenceColumns = new ArrayList<>(parentIdentifier.size());
+		for (Identifier.SingleIdentifierValue part : parentIdentifier.getParts()) {
+			backReferenceColumns.add(part.getName());
+		}
+
+		BackReferenceSignature signature = new BackReferenceSignature(backReferenceColumns, keyColumn, ordered);
+		String statement = findAllByPropertyStatements.get(signature);
+
+		if (statement == null) {
+
+			statement = createFindAllByPropertySql(parentIdentifier, keyColumn, ordered);
+			findAllByPropertyStatements.putIfAbsent(signature, statement);
+		}
+
+		return statement;
+	}
+
+	private String createFindAllByPropertySql(Identifier parentIdentifier, @Nullable SqlIdentifier keyColumn,
+			boolean ordered) {
+
 		Table table = getTable();
 
 		SelectBuilder.SelectWhere builder = selectBuilder( //
@@ -234,6 +277,82 @@ class SqlGenerator {
 		return render(select);
 	}
 
+	/**
+	 * Returns a query for selecting all entities reachable via {@literal path} from the aggregate root identified by the
+	 * {@code :rootId} parameter. Together with the columns of the entity the {@literal identifierColumns} and the
+	 * qualifier column of the path get selected, so the parent of each row can be determined.
+	 *
+	 * @param path the path from the aggregate root to the entities to select. Must not be {@literal null}.
+	 * @param identifierColumns the back reference columns to select. Must not be {@literal null}.
+	 * @return a SQL String.
+	 * @since 3.0
+	 */
+	String getFindAllByPathAndRootId(PersistentPropertyPathExtension path, Collection<SqlIdentifier> identifierColumns) {
+		return createFindAllByPathSql(path, identifierColumns,
+				filterColumn -> filterColumn.isEqualTo(getBindMarker(ROOT_ID_PARAMETER)));
+	}
+
+	/**
+	 * Returns a query for selecting all entities reachable via {@literal path} from the aggregate roots identified by
+	 * the {@code :ids} parameter.
+	 *
+	 * @param path the path from the aggregate root to the entities to select. Must not be {@literal null}.
+	 * @param identifierColumns the back reference columns to select. Must not be {@literal null}.
+	 * @return a SQL String.
+	 * @see #getFindAllByPathAndRootId(PersistentPropertyPathExtension, Collection)
+	 * @since 3.0
+	 */
+	String getFindAllByPathAndRootIds(PersistentPropertyPathExtension path,
+			Collection<SqlIdentifier> identifierColumns) {
+		return createFindAllByPathSql(path, identifierColumns,
+				filterColumn -> filterColumn.in(getBindMarker(IDS_SQL_PARAMETER)));
+	}
+
+	/**
+	 * Returns a query for selecting all entities reachable via {@literal path} from the aggregate roots whose ids get
+	 * selected by {@literal rootIdSelect}.
+	 *
+	 * @param path the path from the aggregate root to the entities to select. Must not be {@literal null}.
+	 * @param identifierColumns the back reference columns to select. Must not be {@literal null}.
+	 * @param rootIdSelect a {@link Select} returning the ids of the aggregate roots. Must not be {@literal null}.
+	 * @return a SQL String.
+	 * @see #getIdSelectByQuery(Query, MapSqlParameterSource)
+	 * @since 3.0
+	 */
+	String getFindAllByPathAndRootIdSelect(PersistentPropertyPathExtension path,
+			Collection<SqlIdentifier> identifierColumns, Select rootIdSelect) {
+		return createFindAllByPathSql(path, identifierColumns, filterColumn -> filterColumn.in(rootIdSelect));
+	}
+
+	private String createFindAllByPathSql(PersistentPropertyPathExtension path,
+			Collection<SqlIdentifier> identifierColumns, Function<Column, Condition> rootCondition) {
+
+		Assert.notNull(path, "Path must not be null");
+		Assert.notNull(identifierColumns, "Identifier columns must not be null");
+		Assert.isTrue(path.getLength() > 0, "Path must not be empty");
+
+		Table table = getTable();
+		SqlIdentifier keyColumn = path.getQualifierColumn();
+
+		Set<SqlIdentifier> selectedColumns = new LinkedHashSet<>(identifierColumns);
+		if (keyColumn != null) {
+			selectedColumns.add(keyColumn);
+		}
+
+		Column filterColumn = table.column(path.getReverseColumnName());
+		Condition condition = path.getLength() == 1 //
+				? rootCondition.apply(filterColumn) //
+				: getSubselectCondition(path, rootCondition, filterColumn);
+
+		SelectBuilder.SelectWhereAndOr withWhereClause = selectBuilder(selectedColumns).where(condition);
+
+		Select select = path.isOrdered() //
+				? withWhereClause.orderBy(table.column(keyColumn).as(keyColumn)).build() //
+				: withWhereClause.build();
+
+		return render(select);
+	}
+
 	private Condition buildConditionForBackReference(Identifier parentIdentifier, Table table) {
 
 		Condition condition = null;
@@ -292,7 +411,35 @@ class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getInsert(Set<SqlIdentifier> additionalColumns) {
-		return createInsertSql(additionalColumns);
+		String statement = insertStatements.get(additionalColumns);
+
+		if (statement == null) {
+
+			statement = createInsertSql(additionalColumns);
+			insertStatements.putIfAbsent(Set.copyOf(additionalColumns), statement);
+		}
+
+		return statement;
+	}
+
+	/**
+	 * Returns the rendered table and column names of the statement returned by {@link #getInsert(Set)}, so the statement
+	 * can be combined into one inserting multiple rows.
+	 *
+	 * @return the {@link RenderedInsert}. Guaranteed to be not {@literal null}.
+	 */
+	RenderedInsert getRenderedInsert(Set<SqlIdentifier> additionalColumns) {
+
+		RenderNamingStrategy namingStrategy = renderContext.getNamingStrategy();
+		IdentifierProcessing identifierProcessing = renderContext.getIdentifierProcessing();
+		Table table = getTable();
+
+		List<String> columnNames = new ArrayList<>();
+		for (SqlIdentifier cn : getColumnNamesForInsert(additionalColumns)) {
+			columnNames.add(namingStrategy.getName(table.column(cn)).toSql(identifierProcessing));
+		}
+
+		return new RenderedInsert(namingStrategy.getName(table).toSql(identifierProcessing), columnNames);
 	}
 
 	/**
@@ -446,10 +593,28 @@ class SqlGenerator {
 	}
 
 	private SelectBuilder.SelectWhere selectBuilder(Collection<SqlIdentifier> keyColumns) {
+		return selectBuilder(keyColumns, Collections.emptyList());
+	}
+
+	/**
+	 * Creates a select for the given {@link Query}, restricted to the {@link Query#getColumns() columns} of the query if
+	 * present.
+	 */
+	private SelectBuilder.SelectWhere selectBuilder(Query query) {
+		return selectBuilder(Collections.emptyList(), query.getColumns());
+	}
+
+	/**
+	 * Creates a select of all columns and joins required to read the entity. If {@literal properties} is not empty, only
+	 * the columns and joins of the id and the given properties of the entity are selected.
+	 */
+	private SelectBuilder.SelectWhere selectBuilder(Collection<SqlIdentifier> keyColumns,
+			Collection<SqlIdentifier> properties) {
 
 		Table table = getTable();
 
 		List<Expression> columnExpressions = new ArrayList<>();
+		Set<RelationalPersistentProperty> selectedProperties = getSelectedProperties(properties);
 
 		List<Join> joinTables = new ArrayList<>();
 		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
@@ -457,6 +622,10 @@ class SqlGenerator {
 
 			PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(mappingContext, path);
 
+			if (!selectedProperties.isEmpty() && !selectedProperties.contains(path.getBaseProperty())) {
+				continue;
+			}
+
 			// add a join if necessary
 			Join join = getJoin(extPath);
 			if (join != null) {
@@ -483,6 +652,52 @@ class SqlGenerator {
 		return (SelectBuilder.SelectWhere) baseSelect;
 	}
 
+	/**
+	 * Resolves the {@link Query#getColumns() columns} of a query to the properties of the entity to select. Each column
+	 * gets looked up by column name first and by property name second. Columns matching neither are ignored, as they
+	 * were before columns restricted the select. The id property is always selected.
+	 *
+	 * @param columns the columns of a {@link Query}. Must not be {@literal null}.
+	 * @return the properties to select. Empty if all properties are to be selected.
+	 */
+	private Set<RelationalPersistentProperty> getSelectedProperties(Collection<SqlIdentifier> columns) {
+
+		if (columns.isEmpty()) {
+			return Collections.emptySet();
+		}
+
+		Set<RelationalPersistentProperty> selectedProperties = new LinkedHashSet<>();
+
+		for (SqlIdentifier column : columns) {
+
+			RelationalPersistentProperty property = findSelectedProperty(column);
+			if (property != null) {
+				selectedProperties.add(property);
+			}
+		}
+
+		if (!selectedProperties.isEmpty() && entity.hasIdProperty()) {
+			selectedProperties.add(entity.getRequiredIdProperty());
+		}
+
+		return selectedProperties;
+	}
+
+	@Nullable
+	private RelationalPersistentProperty findSelectedProperty(SqlIdentifier column) {
+
+		String reference = column.getReference();
+
+		for (RelationalPersistentProperty property : entity) {
+
+			if (!property.isEmbedded() && property.getColumnName().getReference().equalsIgnoreCase(reference)) {
+				return property;
+			}
+		}
+
+		return entity.getPersistentProperty(reference);
+	}
+
 	private SelectBuilder.SelectOrdered selectBuilder(Collection<SqlIdentifier> keyColumns, Sort sort,
 			Pageable pageable) {
 
@@ -600,10 +815,7 @@ class SqlGenerator {
 	private String createInsertSql(Set<SqlIdentifier> additionalColumns) {
 
 		Table table = getTable();
-
-		Set<SqlIdentifier> columnNamesForInsert = new TreeSet<>(Comparator.comparing(SqlIdentifier::getReference));
-		columnNamesForInsert.addAll(columns.getInsertableColumns());
-		columnNamesForInsert.addAll(additionalColumns);
+		Set<SqlIdentifier> columnNamesForInsert = getColumnNamesForInsert(additionalColumns);
 
 		InsertBuilder.InsertIntoColumnsAndValuesWithBuild insert = Insert.builder().into(table);
 
@@ -623,6 +835,15 @@ class SqlGenerator {
 		return render(insertWithValues.build());
 	}
 
+	private Set<SqlIdentifier> getColumnNamesForInsert(Set<SqlIdentifier> additionalColumns) {
+
+		Set<SqlIdentifier> columnNamesForInsert = new TreeSet<>(Comparator.comparing(SqlIdentifier::getReference));
+		columnNamesForInsert.addAll(columns.getInsertableColumns());
+		columnNamesForInsert.addAll(additionalColumns);
+
+		return columnNamesForInsert;
+	}
+
 	private String createUpdateSql() {
 		return render(createBaseUpdate().build());
 	}
@@ -777,12 +998,8 @@ class SqlGenerator {
 
 		Assert.notNull(parameterSource, "parameterSource must not be null");
 
-		SelectBuilder.SelectWhere selectBuilder = selectBuilder();
-
-		Select select = applyQueryOnSelect(query, parameterSource, selectBuilder) //
-				.build();
-
-		return render(select);
+		return renderByQuery("select", query, null, parameterSource,
+				condition -> render(applyQueryOnSelect(query, condition, selectBuilder(query)).build()));
 	}
 
 	/**
@@ -798,16 +1015,40 @@ class SqlGenerator {
 
 		Assert.notNull(parameterSource, "parameterSource must not be null");
 
-		SelectBuilder.SelectWhere selectBuilder = selectBuilder();
+		return renderByQuery("select", query, pageable, parameterSource, condition -> {
 
-		// first apply query and then pagination. This means possible query sorting and limiting might be overwritten by the
-		// pagination. This is desired.
-		SelectBuilder.SelectOrdered selectOrdered = applyQueryOnSelect(query, parameterSource, selectBuilder);
-		selectOrdered = applyPagination(pageable, selectOrdered);
-		selectOrdered = selectOrdered.orderBy(extractOrderByFields(pageable.getSort()));
+			// first apply query and then pagination. This means possible query sorting and limiting might be overwritten by
+			// the pagination. This is desired.
+			SelectBuilder.SelectOrdered selectOrdered = applyQueryOnSelect(query, condition, selectBuilder(query));
+			selectOrdered = applyPagination(pageable, selectOrdered);
+			selectOrdered = selectOrdered.orderBy(extractOrderByFields(pageable.getSort()));
 
-		Select select = selectOrdered.build();
-		return render(select);
+			return render(selectOrdered.build());
+		});
+	}
+
+	/**
+	 * Constructs a {@link Select} returning the ids of all aggregate roots matching the criteria of the provided query.
+	 * Sorting, limit and offset of the query are not applied. Additional the bindings for the where clause are stored
+	 * after execution into the <code>parameterSource</code>
+	 *
+	 * @param query the query to base the select on. Must not be null
+	 * @param parameterSource the source for holding the bindings
+	 * @return a non null {@link Select}.
+	 * @since 3.0
+	 */
+	Select getIdSelectByQuery(Query query, MapSqlParameterSource parameterSource) {
+
+		Assert.notNull(parameterSource, "parameterSource must not be null");
+
+		Table table = getTable();
+
+		SelectBuilder.SelectJoin baseSelect = addJoins(StatementBuilder //
+				.select(getIdColumn()) //
+				.from(table));
+
+		return applyCriteria(query.getCriteria().orElse(null), (SelectBuilder.SelectWhere) baseSelect, parameterSource,
+				table).build();
 	}
 
 	/**
@@ -820,12 +1061,8 @@ class SqlGenerator {
 	 */
 	public String existsByQuery(Query query, MapSqlParameterSource parameterSource) {
 
-		SelectBuilder.SelectJoin baseSelect = getExistsSelect();
-
-		Select select = applyQueryOnSelect(query, parameterSource, (SelectBuilder.SelectWhere) baseSelect) //
-				.build();
-
-		return render(select);
+		return renderByQuery("exists", query, null, parameterSource, condition -> render(
+				applyQueryOnSelect(query, condition, (SelectBuilder.SelectWhere) getExistsSelect()).build()));
 	}
 
 	/**
@@ -838,13 +1075,74 @@ class SqlGenerator {
 	 */
 	public String countByQuery(Query query, MapSqlParameterSource parameterSource) {
 
-		Expression countExpression = Expressions.just("1");
-		SelectBuilder.SelectJoin baseSelect = getSelectCountWithExpression(countExpression);
+		return renderByQuery("count", query, null, parameterSource, condition -> {
 
-		Select select = applyQueryOnSelect(query, parameterSource, (SelectBuilder.SelectWhere) baseSelect) //
-				.build();
+			Expression countExpression = Expressions.just("1");
+			SelectBuilder.SelectJoin baseSelect = getSelectCountWithExpression(countExpression);
 
-		return render(select);
+			return render(applyQueryOnSelect(query, condition, (SelectBuilder.SelectWhere) baseSelect).build());
+		});
+	}
+
+	/**
+	 * Binds the criteria of the query to the <code>parameterSource</code> and returns the statement for the query,
+	 * either taken from the {@link QueryStatementCache} or rendered by the given renderer from the mapped criteria.
+	 * Statements get cached by the shape of the query, which includes the names and types of the bound parameters, so
+	 * queries that only differ in their parameter values share a statement.
+	 */
+	private String renderByQuery(String statement, Query query, @Nullable Pageable pageable,
+			MapSqlParameterSource parameterSource, Function<Condition, String> renderer) {
+
+		// parameter names depend on the parameters already present, so only statements for fresh sources are cached
+		boolean cacheable = parameterSource.getValues().isEmpty();
+
+		Table table = Table.create(this.entity.getTableName());
+		Condition condition = query.getCriteria() //
+				.map(criteria -> queryMapper.getMappedObject(parameterSource, criteria, table, entity)) //
+				.orElse(null);
+
+		if (!cacheable) {
+			return renderer.apply(condition);
+		}
+
+		List<Object> criteriaShape = new ArrayList<>();
+		query.getCriteria().ifPresent(criteria -> addCriteriaShape(criteria, criteriaShape));
+
+		List<Object> parameters = new ArrayList<>();
+		for (String parameterName : parameterSource.getParameterNames()) {
+			parameters.add(parameterName);
+			parameters.add(parameterSource.getSqlType(parameterName));
+		}
+
+		QueryShape shape = new QueryShape(entity.getType(), statement, criteriaShape, parameters, query.getColumns(),
+				query.getSort(), query.getLimit(), query.getOffset(), pageable == null || !pageable.isPaged() ? null
+						: Arrays.<Object> asList(pageable.getPageSize(), pageable.getOffset()),
+				pageable == null ? null : pageable.getSort());
+
+		return statementCache.get(shape, () -> renderer.apply(condition));
+	}
+
+	private static void addCriteriaShape(CriteriaDefinition criteria, List<Object> shape) {
+
+		if (criteria.hasPrevious()) {
+			addCriteriaShape(criteria.getPrevious(), shape);
+		}
+
+		shape.add(criteria.getCombinator());
+
+		if (criteria.isGroup()) {
+
+			List<Object> group = new ArrayList<>();
+			for (CriteriaDefinition member : criteria.getGroup()) {
+				addCriteriaShape(member, group);
+			}
+			shape.add(group);
+		} else if (!criteria.isEmpty()) {
+
+			shape.add(criteria.getColumn());
+			shape.add(criteria.getComparator());
+			shape.add(criteria.isIgnoreCase());
+		}
 	}
 
 	/**
@@ -862,19 +1160,7 @@ class SqlGenerator {
 				.select(dialect.getExistsFunction()) //
 				.from(table);
 
-		// add possible joins
-		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
-				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
-
-			PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(mappingContext, path);
-
-			// add a join if necessary
-			Join join = getJoin(extPath);
-			if (join != null) {
-				baseSelect = baseSelect.leftOuterJoin(join.joinTable).on(join.joinColumn).equals(join.parentId);
-			}
-		}
-		return baseSelect;
+		return addJoins(baseSelect);
 	}
 
 	/**
@@ -896,7 +1182,17 @@ class SqlGenerator {
 				.select(Functions.count(countExpressions)) //
 				.from(table);
 
-		// add possible joins
+		return addJoins(baseSelect);
+	}
+
+	/**
+	 * Adds a {@code LEFT OUTER JOIN} for each one-to-one relationship of the entity.
+	 *
+	 * @param baseSelect the select to add the joins to.
+	 * @return a non-null {@link org.springframework.data.relational.core.sql.SelectBuilder.SelectJoin}.
+	 */
+	private SelectBuilder.SelectJoin addJoins(SelectBuilder.SelectJoin baseSelect) {
+
 		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
 				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
 
@@ -911,15 +1207,12 @@ class SqlGenerator {
 		return baseSelect;
 	}
 
-	private SelectBuilder.SelectOrdered applyQueryOnSelect(Query query, MapSqlParameterSource parameterSource,
+	private SelectBuilder.SelectOrdered applyQueryOnSelect(Query query, @Nullable Condition condition,
 			SelectBuilder.SelectWhere selectBuilder) {
 
 		Table table = Table.create(this.entity.getTableName());
 
-		SelectBuilder.SelectOrdered selectOrdered = query //
-				.getCriteria() //
-				.map(item -> this.applyCriteria(item, selectBuilder, parameterSource, table)) //
-				.orElse(selectBuilder);
+		SelectBuilder.SelectOrdered selectOrdered = condition != null ? selectBuilder.where(condition) : selectBuilder;
 
 		if (query.isSorted()) {
 			List<OrderByField> sort = this.queryMapper.getMappedSort(table, query.getSort(), entity);
@@ -1095,4 +1388,20 @@ class SqlGenerator {
 			return updatableColumns;
 		}
 	}
+
+	/**
+	 * The back reference columns, key column and ordering of a statement selecting the elements of a collection or map,
+	 * used as key of the statements cached per generator.
+	 */
+	private record BackReferenceSignature(List<SqlIdentifier> backReferenceColumns, @Nullable SqlIdentifier keyColumn,
+			boolean ordered) {
+	}
+
+	/**
+	 * The shape of a {@link Query}-based statement, used as key of the {@link QueryStatementCache}.
+	 */
+	private record QueryShape(Class<?> type, String statement, List<Object> criteria, List<Object> parameters,
+			List<SqlIdentifier> columns, Sort sort, int limit, long offset, @Nullable List<Object> page,
+			@Nullable Sort pageSort) {
+	}
 }
@@ -36,6 +36,7 @@ public class SqlGeneratorSource {
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final Dialect dialect;
+	private final QueryStatementCache queryStatementCache = new QueryStatementCache();
 
 	public SqlGeneratorSource(RelationalMappingContext context, JdbcConverter converter, Dialect dialect) {
 
@@ -56,9 +57,19 @@ public class SqlGeneratorSource {
 		return dialect;
 	}
 
+	/**
+	 * @return the cache of statements rendered for {@link org.springframework.data.relational.core.query.Query}-based
+	 *         selects, shared by all created {@link SqlGenerator} instances. Provides hit and miss counts and allows to
+	 *         configure the cache limit. Guaranteed to be not {@literal null}.
+	 * @since 3.0
+	 */
+	public QueryStatementCache getQueryStatementCache() {
+		return queryStatementCache;
+	}
+
 	SqlGenerator getSqlGenerator(Class<?> domainType) {
 
-		return CACHE.computeIfAbsent(domainType,
-				t -> new SqlGenerator(context, converter, context.getRequiredPersistentEntity(t), dialect));
+		return CACHE.computeIfAbsent(domainType, t -> new SqlGenerator(context, converter,
+				context.getRequiredPersistentEntity(t), dialect, queryStatementCache));
 	}
 }
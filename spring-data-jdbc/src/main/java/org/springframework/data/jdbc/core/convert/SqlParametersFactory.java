@@ -85,6 +85,21 @@ public class SqlParametersFactory {
 		return parameterSource;
 	}
 
+	/**
+	 * Adds an id that is not provided by the entity itself, e.g. because it got taken from a sequence, to the parameters
+	 * of an insert created by {@link #forInsert(Object, Class, Identifier, IdValueSource)}.
+	 *
+	 * @param parameterSource the parameters of the insert. Must not be {@code null}.
+	 * @param domainType the type of the inserted entity. Must not be {@code null}.
+	 * @param id the id of the inserted entity. Must not be {@code null}.
+	 * @since 3.0
+	 */
+	<T> void addIdForInsert(SqlIdentifierParameterSource parameterSource, Class<T> domainType, Object id) {
+
+		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(domainType).getRequiredIdProperty();
+		addConvertedPropertyValue(parameterSource, idProperty, id, idProperty.getColumnName());
+	}
+
 	/**
 	 * Creates the parameters for a SQL update operation.
 	 *
@@ -218,7 +233,8 @@ public class SqlParametersFactory {
 		SQLType jdbcType = jdbcValue.getJdbcType();
 		int typeNumber = jdbcType == null ? JdbcUtils.TYPE_UNKNOWN : jdbcType.getVendorTypeNumber();
 
-		parameterSource.addValue(SqlGenerator.IDS_SQL_PARAMETER, convertedIds, typeNumber);
+		parameterSource.addValue(SqlGenerator.IDS_SQL_PARAMETER, dialect.getInListPadding().pad(convertedIds),
+				typeNumber);
 	}
 
 	@SuppressWarnings("unchecked")
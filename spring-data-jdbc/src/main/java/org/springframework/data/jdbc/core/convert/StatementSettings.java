@@ -0,0 +1,237 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Settings applied to a single {@link Statement}: the fetch size, the maximum number of rows and the query timeout.
+ * Unlike the corresponding properties of {@link org.springframework.jdbc.core.JdbcTemplate}, these apply only to the
+ * statement they are created for. A value of {@literal -1} leaves the respective setting of the driver in place.
+ * Settings configured on the {@link org.springframework.jdbc.core.JdbcTemplate} itself get applied afterwards and
+ * therefore take precedence.
+ * <p>
+ * Settings can only be applied to statements created by a
+ * {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate} itself. Custom implementations or
+ * subclasses of {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations} receive the statement
+ * with its named parameters and the settings get ignored.
+ *
+ * @since 3.0
+ */
+public final class StatementSettings {
+
+	/**
+	 * {@link StatementSettings} that leave all settings in place.
+	 */
+	public static final StatementSettings DEFAULT = new StatementSettings(-1, -1, -1);
+
+	private final int fetchSize;
+	private final int maxRows;
+	private final int queryTimeout;
+
+	private StatementSettings(int fetchSize, int maxRows, int queryTimeout) {
+
+		this.fetchSize = fetchSize;
+		this.maxRows = maxRows;
+		this.queryTimeout = queryTimeout;
+	}
+
+	/**
+	 * Create new {@link StatementSettings}.
+	 *
+	 * @param fetchSize the number of rows to fetch per roundtrip or {@literal -1}.
+	 * @param maxRows the maximum number of rows to read or {@literal -1}.
+	 * @param queryTimeout the query timeout in seconds or {@literal -1}.
+	 * @return new {@link StatementSettings}.
+	 */
+	public static StatementSettings of(int fetchSize, int maxRows, int queryTimeout) {
+
+		Assert.isTrue(fetchSize == -1 || fetchSize > 0, "Fetch size must be greater than zero or -1");
+		Assert.isTrue(maxRows == -1 || maxRows > 0, "Max rows must be greater than zero or -1");
+		Assert.isTrue(queryTimeout == -1 || queryTimeout > 0, "Query timeout must be greater than zero or -1");
+
+		return fetchSize == -1 && maxRows == -1 && queryTimeout == -1 //
+				? DEFAULT //
+				: new StatementSettings(fetchSize, maxRows, queryTimeout);
+	}
+
+	/**
+	 * Create {@link StatementSettings} from the {@link Query#getFetchSize() fetch size} and {@link Query#getTimeout()
+	 * timeout} of the given {@link Query}. The timeout gets rounded up to full seconds.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @return {@link StatementSettings} for the {@link Query}.
+	 */
+	public static StatementSettings of(Query query) {
+
+		Assert.notNull(query, "Query must not be null");
+
+		Duration timeout = query.getTimeout();
+		int queryTimeout = -1;
+
+		if (timeout != null) {
+
+			long seconds = timeout.getSeconds() + (timeout.getNano() > 0 ? 1 : 0);
+			queryTimeout = (int) Math.min(seconds, Integer.MAX_VALUE);
+		}
+
+		return of(query.getFetchSize(), -1, queryTimeout);
+	}
+
+	/**
+	 * Return new {@link StatementSettings} using the given fetch size, unless a fetch size is already set.
+	 *
+	 * @param fetchSize the fetch size to use by default, must be greater than zero or {@literal -1}.
+	 * @return {@link StatementSettings} with a fetch size.
+	 */
+	StatementSettings withDefaultFetchSize(int fetchSize) {
+		return this.fetchSize != -1 ? this : of(fetchSize, this.maxRows, this.queryTimeout);
+	}
+
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	public int getMaxRows() {
+		return maxRows;
+	}
+
+	public int getQueryTimeout() {
+		return queryTimeout;
+	}
+
+	/**
+	 * @return {@literal true} if these settings leave all settings in place.
+	 */
+	public boolean isDefault() {
+		return this == DEFAULT;
+	}
+
+	/**
+	 * Apply the settings to the given {@link Statement}.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @throws SQLException if the driver rejects a setting.
+	 */
+	public void apply(Statement statement) throws SQLException {
+
+		if (fetchSize != -1) {
+			statement.setFetchSize(fetchSize);
+		}
+
+		if (maxRows != -1) {
+			statement.setMaxRows(maxRows);
+		}
+
+		if (queryTimeout != -1) {
+			statement.setQueryTimeout(queryTimeout);
+		}
+	}
+
+	/**
+	 * Decorate the given {@link PreparedStatementCreator}, so it applies these settings to the {@link PreparedStatement}
+	 * it creates.
+	 *
+	 * @param statementCreator must not be {@literal null}.
+	 * @return a {@link PreparedStatementCreator} applying these settings, the given one if these are the
+	 *         {@link #DEFAULT} settings.
+	 */
+	public PreparedStatementCreator apply(PreparedStatementCreator statementCreator) {
+
+		Assert.notNull(statementCreator, "PreparedStatementCreator must not be null");
+
+		if (isDefault()) {
+			return statementCreator;
+		}
+
+		return new SettingsApplyingPreparedStatementCreator(statementCreator, this);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof StatementSettings that)) {
+			return false;
+		}
+		return fetchSize == that.fetchSize && maxRows == that.maxRows && queryTimeout == that.queryTimeout;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(fetchSize, maxRows, queryTimeout);
+	}
+
+	@Override
+	public String toString() {
+		return "StatementSettings{fetchSize=" + fetchSize + ", maxRows=" + maxRows + ", queryTimeout=" + queryTimeout
+				+ '}';
+	}
+
+	/**
+	 * {@link PreparedStatementCreator} applying {@link StatementSettings} to the statements created by its delegate.
+	 * Exposes the SQL and the parameter cleanup of the delegate, so that {@link org.springframework.jdbc.core.JdbcTemplate}
+	 * can use them for logging, exception translation and cleanup.
+	 */
+	private static class SettingsApplyingPreparedStatementCreator
+			implements PreparedStatementCreator, SqlProvider, ParameterDisposer {
+
+		private final PreparedStatementCreator delegate;
+		private final StatementSettings settings;
+
+		SettingsApplyingPreparedStatementCreator(PreparedStatementCreator delegate, StatementSettings settings) {
+
+			this.delegate = delegate;
+			this.settings = settings;
+		}
+
+		@Override
+		public PreparedStatement createPreparedStatement(Connection connection) throws SQLException {
+
+			PreparedStatement statement = delegate.createPreparedStatement(connection);
+			settings.apply(statement);
+			return statement;
+		}
+
+		@Override
+		@Nullable
+		public String getSql() {
+			return delegate instanceof SqlProvider sqlProvider ? sqlProvider.getSql() : null;
+		}
+
+		@Override
+		public void cleanupParameters() {
+
+			if (delegate instanceof ParameterDisposer parameterDisposer) {
+				parameterDisposer.cleanupParameters();
+			}
+		}
+	}
+}
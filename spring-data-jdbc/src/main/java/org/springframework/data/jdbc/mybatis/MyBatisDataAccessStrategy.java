@@ -22,6 +22,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.ibatis.session.SqlSession;
 import org.mybatis.spring.SqlSessionTemplate;
@@ -186,6 +188,26 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		return sqlSession().update(statement, parameter) != 0;
 	}
 
+	@Override
+	public <S> boolean[] update(List<S> instances, Class<S> domainType) {
+
+		boolean[] updated = new boolean[instances.size()];
+		for (int i = 0; i < updated.length; i++) {
+			updated[i] = update(instances.get(i), domainType);
+		}
+		return updated;
+	}
+
+	@Override
+	public <S> boolean[] updateWithVersion(List<S> instances, Class<S> domainType, List<Number> previousVersions) {
+
+		boolean[] updated = new boolean[instances.size()];
+		for (int i = 0; i < updated.length; i++) {
+			updated[i] = updateWithVersion(instances.get(i), domainType, previousVersions.get(i));
+		}
+		return updated;
+	}
+
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 
@@ -339,6 +361,16 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		throw new UnsupportedOperationException("Not implemented");
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return StreamSupport.stream(findAll(domainType).spliterator(), false);
+	}
+
+	@Override
+	public <T> Stream<T> stream(Query query, Class<T> probeType) {
+		throw new UnsupportedOperationException("Not implemented");
+	}
+
 	@Override
 	public <T> boolean exists(Query query, Class<T> probeType) {
 		throw new UnsupportedOperationException("Not implemented");
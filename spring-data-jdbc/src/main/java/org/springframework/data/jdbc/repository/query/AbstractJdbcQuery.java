@@ -22,13 +22,19 @@ import java.util.stream.Stream;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.data.jdbc.core.convert.PreparedStatementCreatorCache;
+import org.springframework.data.jdbc.core.convert.StatementSettings;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.RowMapperResultSetExtractor;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -48,6 +54,8 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 
 	private final JdbcQueryMethod queryMethod;
 	private final NamedParameterJdbcOperations operations;
+	private final StatementSettings statementSettings;
+	private final @Nullable PreparedStatementCreatorCache preparedStatementCreators;
 
 	/**
 	 * Creates a new {@link AbstractJdbcQuery} for the given {@link JdbcQueryMethod} and
@@ -63,6 +71,11 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 
 		this.queryMethod = queryMethod;
 		this.operations = operations;
+		this.statementSettings = queryMethod.getStatementSettings();
+
+		// subclasses and custom NamedParameterJdbcOperations may rely on receiving statements with named parameters
+		this.preparedStatementCreators = !statementSettings.isDefault()
+				&& operations.getClass() == NamedParameterJdbcTemplate.class ? new PreparedStatementCreatorCache() : null;
 	}
 
 	@Override
@@ -101,7 +114,7 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 
 		return (query, parameters) -> {
 
-			int updatedCount = operations.update(query, parameters);
+			int updatedCount = update(query, parameters);
 			Class<?> returnedObjectType = queryMethod.getReturnedObjectType();
 
 			return (returnedObjectType == boolean.class || returnedObjectType == Boolean.class) ? updatedCount != 0
@@ -113,7 +126,7 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 
 		return (query, parameters) -> {
 			try {
-				return operations.queryForObject(query, parameters, rowMapper);
+				return queryForObject(query, parameters, rowMapper);
 			} catch (EmptyResultDataAccessException e) {
 				return null;
 			}
@@ -143,11 +156,59 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 	}
 
 	private <T> JdbcQueryExecution<Stream<T>> streamQuery(RowMapper<T> rowMapper) {
-		return (query, parameters) -> operations.queryForStream(query, parameters, rowMapper);
+
+		return (query, parameters) -> {
+
+			PreparedStatementCreator statementCreator = getPreparedStatementCreator(query, parameters);
+
+			return statementCreator != null //
+					? operations.getJdbcOperations().queryForStream(statementCreator, rowMapper) //
+					: operations.queryForStream(query, parameters, rowMapper);
+		};
 	}
 
 	private <T> JdbcQueryExecution<T> getQueryExecution(ResultSetExtractor<T> resultSetExtractor) {
-		return (query, parameters) -> operations.query(query, parameters, resultSetExtractor);
+
+		return (query, parameters) -> {
+
+			PreparedStatementCreator statementCreator = getPreparedStatementCreator(query, parameters);
+
+			return statementCreator != null //
+					? operations.getJdbcOperations().query(statementCreator, resultSetExtractor) //
+					: operations.query(query, parameters, resultSetExtractor);
+		};
+	}
+
+	private int update(String query, SqlParameterSource parameters) {
+
+		PreparedStatementCreator statementCreator = getPreparedStatementCreator(query, parameters);
+
+		return statementCreator != null //
+				? operations.getJdbcOperations().update(statementCreator) //
+				: operations.update(query, parameters);
+	}
+
+	@Nullable
+	private <T> T queryForObject(String query, SqlParameterSource parameters, RowMapper<T> rowMapper) {
+
+		PreparedStatementCreator statementCreator = getPreparedStatementCreator(query, parameters);
+
+		return statementCreator != null //
+				? DataAccessUtils.nullableSingleResult(operations.getJdbcOperations().query(statementCreator, rowMapper)) //
+				: operations.queryForObject(query, parameters, rowMapper);
+	}
+
+	/**
+	 * Creates a {@link PreparedStatementCreator} applying the {@link StatementSettings} of the query method configured by
+	 * {@link QueryHints}. Returns {@literal null} if the query method has no settings or the statement has to be passed
+	 * on to the {@link NamedParameterJdbcOperations} with its named parameters, in which case the settings get ignored.
+	 */
+	@Nullable
+	private PreparedStatementCreator getPreparedStatementCreator(String query, SqlParameterSource parameters) {
+
+		return preparedStatementCreators != null //
+				? statementSettings.apply(preparedStatementCreators.createPreparedStatementCreator(query, parameters)) //
+				: null;
 	}
 
 	/**
@@ -156,7 +217,22 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 	 * @since 2.3
 	 */
 	public interface RowMapperFactory {
+
 		RowMapper<Object> create(Class<?> result);
+
+		/**
+		 * Create a {@link RowMapper} for {@code result} that is used to read the entities a projection gets created from.
+		 * Implementations may skip reading properties that are not used by the {@link ReturnedType}. Defaults to
+		 * {@link #create(Class)}.
+		 *
+		 * @param result the type to read.
+		 * @param returnedType the type the read entities get converted to.
+		 * @return a {@link RowMapper} for {@code result}.
+		 * @since 3.0
+		 */
+		default RowMapper<Object> create(Class<?> result, ReturnedType returnedType) {
+			return create(result);
+		}
 	}
 
 	/**
@@ -15,15 +15,20 @@
  */
 package org.springframework.data.jdbc.repository.query;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.QueryMapper;
+import org.springframework.data.jdbc.core.convert.QueryStatementCache;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.relational.core.dialect.Dialect;
@@ -34,6 +39,7 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentEnti
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Condition;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
 import org.springframework.data.relational.core.sql.Functions;
@@ -74,6 +80,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	private final boolean isSliceQuery;
 	private final ReturnedType returnedType;
 	private final Optional<Lock> lockMode;
+	@Nullable private final QueryStatementCache statementCache;
 
 	/**
 	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
@@ -91,6 +98,28 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
 			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
 			ReturnedType returnedType, Optional<Lock> lockMode) {
+		this(context, tree, converter, dialect, entityMetadata, accessor, isSliceQuery, returnedType, lockMode, null);
+	}
+
+	/**
+	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
+	 * {@link RelationalEntityMetadata} and {@link RelationalParameterAccessor}.
+	 *
+	 * @param context the mapping context. Must not be {@literal null}.
+	 * @param tree part tree, must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param entityMetadata relational entity metadata, must not be {@literal null}.
+	 * @param accessor parameter metadata provider, must not be {@literal null}.
+	 * @param isSliceQuery flag denoting if the query returns a {@link org.springframework.data.domain.Slice}.
+	 * @param returnedType the {@link ReturnedType} to be returned by the query. Must not be {@literal null}.
+	 * @param statementCache caches the rendered statements per variant of the query. Statements get rendered for each
+	 *          invocation if {@literal null}.
+	 * @since 3.0
+	 */
+	JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
+			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
+			ReturnedType returnedType, Optional<Lock> lockMode, @Nullable QueryStatementCache statementCache) {
 		super(tree, accessor);
 
 		Assert.notNull(converter, "JdbcConverter must not be null");
@@ -108,6 +137,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		this.isSliceQuery = isSliceQuery;
 		this.returnedType = returnedType;
 		this.lockMode = lockMode;
+		this.statementCache = statementCache;
 	}
 
 	/**
@@ -168,10 +198,25 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		Table table = Table.create(entityMetadata.getTableName());
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 
+		criteria = applyKeysetPosition(criteria, sort);
+
+		Condition condition = criteria != null //
+				? queryMapper.getMappedObject(parameterSource, criteria, table, entity) //
+				: null;
+
+		Supplier<String> renderer = () -> render(entity, table, condition, sort);
+		String sql = statementCache != null //
+				? statementCache.get(getVariant(sort, parameterSource), renderer) //
+				: renderer.get();
+
+		return new ParametrizedQuery(sql, parameterSource);
+	}
+
+	private String render(RelationalPersistentEntity<?> entity, Table table, @Nullable Condition condition, Sort sort) {
+
 		SelectBuilder.SelectLimitOffset limitOffsetBuilder = createSelectClause(entity, table);
 		SelectBuilder.SelectWhere whereBuilder = applyLimitAndOffset(limitOffsetBuilder);
-		SelectBuilder.SelectOrdered selectOrderBuilder = applyCriteria(criteria, entity, table, parameterSource,
-				whereBuilder);
+		SelectBuilder.SelectOrdered selectOrderBuilder = applyCriteria(condition, whereBuilder);
 		selectOrderBuilder = applyOrderBy(sort, entity, table, selectOrderBuilder);
 
 		SelectBuilder.BuildSelect completedBuildSelect = selectOrderBuilder;
@@ -181,9 +226,38 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 
 		Select select = completedBuildSelect.build();
 
-		String sql = SqlRenderer.create(renderContextFactory.createRenderContext()).render(select);
+		return SqlRenderer.create(renderContextFactory.createRenderContext()).render(select);
+	}
 
-		return new ParametrizedQuery(sql, parameterSource);
+	/**
+	 * Determines the variant of the query for the current invocation. The statement of a derived query only varies by
+	 * the dynamic {@link Sort} and {@link Pageable}, the returned type, {@literal null} arguments, the sizes of
+	 * collection arguments and the names and types of the parameters bound for them.
+	 */
+	private Variant getVariant(Sort sort, MapSqlParameterSource parameterSource) {
+
+		List<Object> arguments = new ArrayList<>();
+		for (Object value : accessor.getValues()) {
+
+			if (value instanceof Collection<?> collection) {
+				arguments.add(collection.size());
+			} else if (value != null && value.getClass().isArray()) {
+				arguments.add(Array.getLength(value));
+			} else {
+				arguments.add(value == null);
+			}
+		}
+
+		List<Object> parameters = new ArrayList<>();
+		for (String parameterName : parameterSource.getParameterNames()) {
+			parameters.add(parameterName);
+			parameters.add(parameterSource.getSqlType(parameterName));
+		}
+
+		Pageable pageable = accessor.getPageable();
+
+		return new Variant(getClass(), returnedType.getReturnedType(), sort, arguments, parameters,
+				pageable.isPaged() ? Arrays.<Object> asList(pageable.getPageSize(), pageable.getOffset()) : null);
 	}
 
 	SelectBuilder.SelectOrdered applyOrderBy(Sort sort, RelationalPersistentEntity<?> entity, Table table,
@@ -194,12 +268,8 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 				: selectOrdered;
 	}
 
-	SelectBuilder.SelectOrdered applyCriteria(@Nullable Criteria criteria, RelationalPersistentEntity<?> entity,
-			Table table, MapSqlParameterSource parameterSource, SelectBuilder.SelectWhere whereBuilder) {
-
-		return criteria != null //
-				? whereBuilder.where(queryMapper.getMappedObject(parameterSource, criteria, table, entity)) //
-				: whereBuilder;
+	SelectBuilder.SelectOrdered applyCriteria(@Nullable Condition condition, SelectBuilder.SelectWhere whereBuilder) {
+		return condition != null ? whereBuilder.where(condition) : whereBuilder;
 	}
 
 	SelectBuilder.SelectWhere applyLimitAndOffset(SelectBuilder.SelectLimitOffset limitOffsetBuilder) {
@@ -373,4 +443,11 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 			return "Join{" + "joinTable=" + joinTable + ", joinColumn=" + joinColumn + ", parentId=" + parentId + '}';
 		}
 	}
+
+	/**
+	 * A variant of a derived query, used as key of the {@link QueryStatementCache}.
+	 */
+	private record Variant(Class<?> creator, Class<?> returnedType, Sort sort, List<Object> arguments,
+			List<Object> parameters, @Nullable List<Object> page) {
+	}
 }
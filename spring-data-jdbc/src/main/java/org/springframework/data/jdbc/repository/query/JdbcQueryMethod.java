@@ -22,6 +22,7 @@ import java.util.Optional;
 
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.jdbc.core.convert.StatementSettings;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -253,6 +254,19 @@ public class JdbcQueryMethod extends QueryMethod {
 		return doFindAnnotation(Lock.class);
 	}
 
+	/**
+	 * Returns the {@link StatementSettings} configured by a {@link QueryHints} annotation on the query method.
+	 *
+	 * @return the {@link StatementSettings}, {@link StatementSettings#DEFAULT} if the method is not annotated.
+	 * @since 3.0
+	 */
+	StatementSettings getStatementSettings() {
+
+		return doFindAnnotation(QueryHints.class) //
+				.map(hints -> StatementSettings.of(hints.fetchSize(), hints.maxRows(), hints.queryTimeout())) //
+				.orElse(StatementSettings.DEFAULT);
+	}
+
 	@SuppressWarnings("unchecked")
 	private <A extends Annotation> Optional<A> doFindAnnotation(Class<A> annotationType) {
 
@@ -21,6 +21,7 @@ import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.LongSupplier;
 
 import org.springframework.core.convert.converter.Converter;
@@ -29,6 +30,8 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.QueryStatementCache;
+import org.springframework.data.jdbc.support.JdbcPageableExecutionUtils;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
@@ -38,11 +41,11 @@ import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -61,6 +64,8 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 	private final JdbcConverter converter;
 	private final RowMapperFactory rowMapperFactory;
 	private final PartTree tree;
+	private final QueryStatementCache statementCache = new QueryStatementCache();
+	@Nullable private Executor countQueryExecutor;
 
 	/**
 	 * Creates a new {@link PartTreeJdbcQuery}.
@@ -110,6 +115,20 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 	}
 
+	/**
+	 * Configure the {@link Executor} running the count query of methods returning a
+	 * {@link org.springframework.data.domain.Page} concurrently to the content query. Defaults to {@literal null} to run
+	 * both queries sequentially. The count query uses a second connection outside of the transaction of the calling
+	 * thread, see {@link JdbcPageableExecutionUtils} for details.
+	 *
+	 * @param countQueryExecutor can be {@literal null}.
+	 * @since 3.0
+	 * @see JdbcPageableExecutionUtils
+	 */
+	public void setCountQueryExecutor(@Nullable Executor countQueryExecutor) {
+		this.countQueryExecutor = countQueryExecutor;
+	}
+
 	private Sort getDynamicSort(RelationalParameterAccessor accessor) {
 		return parameters.potentiallySortsDynamically() ? accessor.getSort() : Sort.unsorted();
 	}
@@ -140,7 +159,8 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 			Converter<Object, Object> resultProcessingConverter = new ResultProcessingConverter(processor,
 					this.converter.getMappingContext(), this.converter.getEntityInstantiators());
-			rowMapper = new ConvertingRowMapper<>(rowMapperFactory.create(processor.getReturnedType().getDomainType()),
+			ReturnedType returnedType = processor.getReturnedType();
+			rowMapper = new ConvertingRowMapper<>(rowMapperFactory.create(returnedType.getDomainType(), returnedType),
 					resultProcessingConverter);
 		}
 
@@ -160,14 +180,15 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 						RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
 
 						JdbcCountQueryCreator queryCreator = new JdbcCountQueryCreator(context, tree, converter, dialect,
-								entityMetadata, accessor, false, processor.getReturnedType(), getQueryMethod().lookupLockAnnotation());
+								entityMetadata, accessor, false, processor.getReturnedType(), getQueryMethod().lookupLockAnnotation(),
+								statementCache);
 
 						ParametrizedQuery countQuery = queryCreator.createQuery(Sort.unsorted());
 						Object count = singleObjectQuery((rs, i) -> rs.getLong(1)).execute(countQuery.getQuery(),
 								countQuery.getParameterSource());
 
 						return converter.getConversionService().convert(count, Long.class);
-					});
+					}, countQueryExecutor);
 		}
 
 		return queryExecution;
@@ -178,7 +199,7 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
 
 		JdbcQueryCreator queryCreator = new JdbcQueryCreator(context, tree, converter, dialect, entityMetadata, accessor,
-				getQueryMethod().isSliceQuery(), returnedType, this.getQueryMethod().lookupLockAnnotation());
+				getQueryMethod().isSliceQuery(), returnedType, this.getQueryMethod().lookupLockAnnotation(), statementCache);
 		return queryCreator.createQuery(getDynamicSort(accessor));
 	}
 
@@ -226,21 +247,24 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		private final JdbcQueryExecution<? extends Collection<T>> delegate;
 		private final Pageable pageable;
 		private final LongSupplier countSupplier;
+		@Nullable private final Executor countExecutor;
 
 		PageQueryExecution(JdbcQueryExecution<? extends Collection<T>> delegate, Pageable pageable,
-				LongSupplier countSupplier) {
+				LongSupplier countSupplier, @Nullable Executor countExecutor) {
 			this.delegate = delegate;
 			this.pageable = pageable;
 			this.countSupplier = countSupplier;
+			this.countExecutor = countExecutor;
 		}
 
 		@Override
 		public Slice<T> execute(String query, SqlParameterSource parameter) {
 
-			Collection<T> result = delegate.execute(query, parameter);
+			return JdbcPageableExecutionUtils.getPage(() -> {
 
-			return PageableExecutionUtils.getPage(result instanceof List ? (List<T>) result : new ArrayList<>(result),
-					pageable, countSupplier);
+				Collection<T> result = delegate.execute(query, parameter);
+				return result instanceof List ? (List<T>) result : new ArrayList<>(result);
+			}, pageable, countSupplier, countExecutor);
 		}
 
 	}
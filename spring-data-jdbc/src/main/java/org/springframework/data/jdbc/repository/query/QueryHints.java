@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the JDBC statement executing the query of a repository method. Applies to annotated as well as derived
+ * queries. Attributes left at {@literal -1} keep the setting of the driver. The settings only get applied if the
+ * repository executes its queries through a {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate}
+ * and are ignored for other {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations}.
+ *
+ * @since 3.0
+ * @see org.springframework.data.jdbc.core.convert.StatementSettings
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface QueryHints {
+
+	/**
+	 * The number of rows to fetch from the database per roundtrip. Allows drivers that otherwise read the entire result
+	 * into memory, like the PostgreSQL driver, to stream large results from the server.
+	 *
+	 * @see java.sql.Statement#setFetchSize(int)
+	 */
+	int fetchSize() default -1;
+
+	/**
+	 * The maximum number of rows to read. Further rows get dropped silently.
+	 *
+	 * @see java.sql.Statement#setMaxRows(int)
+	 */
+	int maxRows() default -1;
+
+	/**
+	 * The number of seconds to wait for the query to execute.
+	 *
+	 * @see java.sql.Statement#setQueryTimeout(int)
+	 */
+	int queryTimeout() default -1;
+}
@@ -21,6 +21,10 @@ import java.lang.reflect.Constructor;
 import java.sql.SQLType;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.BeanFactory;
@@ -30,6 +34,7 @@ import org.springframework.data.jdbc.core.convert.JdbcColumnTypes;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.mapping.JdbcValue;
 import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.relational.core.dialect.InListPadding;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParameters;
@@ -68,6 +73,8 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 	private final JdbcConverter converter;
 	private final RowMapperFactory rowMapperFactory;
 	private BeanFactory beanFactory;
+	private InListPadding inListPadding = InListPadding.NONE;
+	private final Map<String, Boolean> inListParameters = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new {@link StringBasedJdbcQuery} for the given {@link JdbcQueryMethod}, {@link RelationalMappingContext}
@@ -179,7 +186,7 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 				mapped.add(elementJdbcValue.getValue());
 			}
 
-			jdbcValue = JdbcValue.of(mapped, jdbcType);
+			jdbcValue = JdbcValue.of(isInListParameter(parameterName) ? inListPadding.pad(mapped) : mapped, jdbcType);
 		} else {
 			jdbcValue = converter.writeJdbcValue(value, type,
 					JdbcUtil.targetSqlTypeFor(JdbcColumnTypes.INSTANCE.resolvePrimitiveType(type)));
@@ -194,6 +201,36 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 		}
 	}
 
+	/**
+	 * Returns whether every occurrence of the named parameter in the query is the only element of an {@code IN} list,
+	 * so padding its values can't change the result. Other occurrences, e.g. in a {@code VALUES} clause or as arguments
+	 * of a function, would see the repeated values.
+	 */
+	private boolean isInListParameter(String parameterName) {
+
+		return inListParameters.computeIfAbsent(parameterName, name -> {
+
+			String query = determineQuery();
+			String parameter = ":" + Pattern.quote(name) + "(?![\\w$])";
+
+			int occurrences = count(Pattern.compile(parameter).matcher(query));
+			int inListOccurrences = count(
+					Pattern.compile("\\bIN\\s*\\(\\s*" + parameter + "\\s*\\)", Pattern.CASE_INSENSITIVE).matcher(query));
+
+			return occurrences > 0 && occurrences == inListOccurrences;
+		});
+	}
+
+	private static int count(Matcher matcher) {
+
+		int count = 0;
+		while (matcher.find()) {
+			count++;
+		}
+
+		return count;
+	}
+
 	private String determineQuery() {
 
 		String query = queryMethod.getDeclaredQuery();
@@ -276,4 +313,18 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 	public void setBeanFactory(BeanFactory beanFactory) {
 		this.beanFactory = beanFactory;
 	}
+
+	/**
+	 * Configure the {@link InListPadding} applied to {@link Iterable} parameters that are used exclusively as the list of
+	 * an {@code IN} condition, e.g. {@code WHERE id IN (:ids)}. Defaults to {@link InListPadding#NONE}.
+	 *
+	 * @param inListPadding must not be {@literal null}.
+	 * @since 3.0
+	 */
+	public void setInListPadding(InListPadding inListPadding) {
+
+		Assert.notNull(inListPadding, "InListPadding must not be null");
+
+		this.inListPadding = inListPadding;
+	}
 }
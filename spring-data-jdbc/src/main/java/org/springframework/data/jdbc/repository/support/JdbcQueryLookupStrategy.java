@@ -18,14 +18,17 @@ package org.springframework.data.jdbc.repository.support;
 import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.EntityRowMapper;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
+import org.springframework.data.jdbc.repository.query.AbstractJdbcQuery.RowMapperFactory;
 import org.springframework.data.jdbc.repository.query.JdbcQueryMethod;
 import org.springframework.data.jdbc.repository.query.PartTreeJdbcQuery;
 import org.springframework.data.jdbc.repository.query.StringBasedJdbcQuery;
@@ -40,6 +43,7 @@ import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
@@ -101,11 +105,23 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 	 */
 	static class CreateQueryLookupStrategy extends JdbcQueryLookupStrategy {
 
+		@Nullable private final Executor countQueryExecutor;
+
 		CreateQueryLookupStrategy(ApplicationEventPublisher publisher, @Nullable EntityCallbacks callbacks,
 				RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
 				QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations,
 				@Nullable BeanFactory beanfactory) {
+			this(publisher, callbacks, context, converter, dialect, queryMappingConfiguration, operations, beanfactory, null);
+		}
+
+		CreateQueryLookupStrategy(ApplicationEventPublisher publisher, @Nullable EntityCallbacks callbacks,
+				RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+				QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations,
+				@Nullable BeanFactory beanfactory, @Nullable Executor countQueryExecutor) {
+
 			super(publisher, callbacks, context, converter, dialect, queryMappingConfiguration, operations, beanfactory);
+
+			this.countQueryExecutor = countQueryExecutor;
 		}
 
 		@Override
@@ -114,8 +130,11 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 
 			JdbcQueryMethod queryMethod = getJdbcQueryMethod(method, repositoryMetadata, projectionFactory, namedQueries);
 
-			return new PartTreeJdbcQuery(getContext(), queryMethod, getDialect(), getConverter(), getOperations(),
-					this::createMapper);
+			PartTreeJdbcQuery query = new PartTreeJdbcQuery(getContext(), queryMethod, getDialect(), getConverter(),
+					getOperations(), createRowMapperFactory());
+			query.setCountQueryExecutor(countQueryExecutor);
+
+			return query;
 		}
 	}
 
@@ -151,6 +170,7 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 				StringBasedJdbcQuery query = new StringBasedJdbcQuery(queryMethod, getOperations(), this::createMapper,
 						getConverter());
 				query.setBeanFactory(getBeanFactory());
+				query.setInListPadding(getDialect().getInListPadding());
 				return query;
 			}
 
@@ -231,6 +251,31 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 			@Nullable EntityCallbacks callbacks, RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
 			QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations,
 			@Nullable BeanFactory beanFactory) {
+		return create(key, publisher, callbacks, context, converter, dialect, queryMappingConfiguration, operations,
+				beanFactory, null);
+	}
+
+	/**
+	 * Creates a {@link QueryLookupStrategy} based on the provided
+	 * {@link org.springframework.data.repository.query.QueryLookupStrategy.Key}.
+	 *
+	 * @param key the key that decides what {@link QueryLookupStrategy} should be used.
+	 * @param publisher must not be {@literal null}
+	 * @param callbacks may be {@literal null}
+	 * @param context must not be {@literal null}
+	 * @param converter must not be {@literal null}
+	 * @param dialect must not be {@literal null}
+	 * @param queryMappingConfiguration must not be {@literal null}
+	 * @param operations must not be {@literal null}
+	 * @param beanFactory may be {@literal null}
+	 * @param countQueryExecutor runs count queries of derived queries returning a page concurrently, may be
+	 *          {@literal null}.
+	 * @since 3.0
+	 */
+	public static QueryLookupStrategy create(@Nullable Key key, ApplicationEventPublisher publisher,
+			@Nullable EntityCallbacks callbacks, RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations,
+			@Nullable BeanFactory beanFactory, @Nullable Executor countQueryExecutor) {
 
 		Assert.notNull(publisher, "ApplicationEventPublisher must not be null");
 		Assert.notNull(context, "RelationalMappingContextPublisher must not be null");
@@ -240,7 +285,7 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null");
 
 		CreateQueryLookupStrategy createQueryLookupStrategy = new CreateQueryLookupStrategy(publisher, callbacks, context,
-				converter, dialect, queryMappingConfiguration, operations, beanFactory);
+				converter, dialect, queryMappingConfiguration, operations, beanFactory, countQueryExecutor);
 
 		DeclaredQueryLookupStrategy declaredQueryLookupStrategy = new DeclaredQueryLookupStrategy(publisher, callbacks,
 				context, converter, dialect, queryMappingConfiguration, operations, beanFactory);
@@ -296,6 +341,44 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		return (RowMapper<Object>) determineDefaultMapper(returnedObjectType);
 	}
 
+	/**
+	 * Creates a {@link RowMapper} for entities of {@code returnedObjectType} that get converted into the
+	 * {@link ReturnedType}. If the {@link ReturnedType} is a closed interface or DTO projection and the converter is a
+	 * {@link BasicJdbcConverter}, only the collections and maps used by the projection get loaded.
+	 */
+	@SuppressWarnings("unchecked")
+	RowMapper<Object> createMapper(Class<?> returnedObjectType, ReturnedType returnedType) {
+
+		RelationalPersistentEntity<?> persistentEntity = context.getPersistentEntity(returnedObjectType);
+
+		if (persistentEntity == null || !returnedType.needsCustomConstruction()
+				|| queryMappingConfiguration.getRowMapper(returnedObjectType) != null
+				|| !(converter instanceof BasicJdbcConverter)) {
+			return createMapper(returnedObjectType);
+		}
+
+		EntityRowMapper<?> projectingEntityRowMapper = new EntityRowMapper<>(persistentEntity, converter,
+				returnedType.getInputProperties());
+
+		return (RowMapper<Object>) new PostProcessingRowMapper<>(projectingEntityRowMapper);
+	}
+
+	private RowMapperFactory createRowMapperFactory() {
+
+		return new RowMapperFactory() {
+
+			@Override
+			public RowMapper<Object> create(Class<?> result) {
+				return createMapper(result);
+			}
+
+			@Override
+			public RowMapper<Object> create(Class<?> result, ReturnedType returnedType) {
+				return createMapper(result, returnedType);
+			}
+		};
+	}
+
 	private RowMapper<?> determineDefaultMapper(Class<?> returnedObjectType) {
 
 		RowMapper<?> configuredQueryMapper = queryMappingConfiguration.getRowMapper(returnedObjectType);
@@ -16,6 +16,7 @@
 package org.springframework.data.jdbc.repository.support;
 
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.ApplicationEventPublisher;
@@ -60,6 +61,7 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 
 	private QueryMappingConfiguration queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
 	private EntityCallbacks entityCallbacks;
+	@Nullable private Executor countQueryExecutor;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactory} for the given {@link DataAccessStrategy},
@@ -119,6 +121,8 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 			template.setEntityCallbacks(entityCallbacks);
 		}
 
+		template.setCountQueryExecutor(countQueryExecutor);
+
 		RelationalPersistentEntity<?> persistentEntity = context
 				.getRequiredPersistentEntity(repositoryInformation.getDomainType());
 
@@ -136,7 +140,7 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
 		return Optional.of(JdbcQueryLookupStrategy.create(key, publisher, entityCallbacks, context, converter, dialect,
-				queryMappingConfiguration, operations, beanFactory));
+				queryMappingConfiguration, operations, beanFactory, countQueryExecutor));
 	}
 
 	/**
@@ -147,6 +151,18 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * @param countQueryExecutor the {@link Executor} running count queries for methods returning a
+	 *          {@link org.springframework.data.domain.Page} concurrently to their content query. Can be {@literal null}
+	 *          to run both queries sequentially. The count query runs on a second connection and doesn't take part
+	 *          in the transaction of the calling thread.
+	 * @since 3.0
+	 * @see org.springframework.data.jdbc.support.JdbcPageableExecutionUtils
+	 */
+	public void setCountQueryExecutor(@Nullable Executor countQueryExecutor) {
+		this.countQueryExecutor = countQueryExecutor;
+	}
+
 	/**
 	 * @param beanFactory the {@link BeanFactory} used for looking up {@link org.springframework.jdbc.core.RowMapper} and
 	 *          {@link org.springframework.jdbc.core.ResultSetExtractor} beans.
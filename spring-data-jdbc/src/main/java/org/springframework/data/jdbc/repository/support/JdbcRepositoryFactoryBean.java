@@ -16,6 +16,7 @@
 package org.springframework.data.jdbc.repository.support;
 
 import java.io.Serializable;
+import java.util.concurrent.Executor;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,6 +37,7 @@ import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -62,6 +64,7 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 	private NamedParameterJdbcOperations operations;
 	private EntityCallbacks entityCallbacks;
 	private Dialect dialect;
+	@Nullable private Executor countQueryExecutor;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactoryBean} for the given repository interface.
@@ -91,6 +94,7 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		jdbcRepositoryFactory.setQueryMappingConfiguration(queryMappingConfiguration);
 		jdbcRepositoryFactory.setEntityCallbacks(entityCallbacks);
 		jdbcRepositoryFactory.setBeanFactory(beanFactory);
+		jdbcRepositoryFactory.setCountQueryExecutor(countQueryExecutor);
 
 		return jdbcRepositoryFactory;
 	}
@@ -141,6 +145,18 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		this.operations = operations;
 	}
 
+	/**
+	 * @param countQueryExecutor the {@link Executor} running count queries for methods returning a
+	 *          {@link org.springframework.data.domain.Page} concurrently to their content query. Can be {@literal null}
+	 *          to run both queries sequentially, which is the default. Enabling it requires a second connection per
+	 *          page request, and the count query doesn't take part in the transaction of the calling thread.
+	 * @since 3.0
+	 * @see org.springframework.data.jdbc.support.JdbcPageableExecutionUtils
+	 */
+	public void setCountQueryExecutor(@Nullable Executor countQueryExecutor) {
+		this.countQueryExecutor = countQueryExecutor;
+	}
+
 	@Autowired
 	public void setConverter(JdbcConverter converter) {
 
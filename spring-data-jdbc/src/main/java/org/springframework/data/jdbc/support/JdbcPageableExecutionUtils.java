@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.support;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Support for query execution returning a {@link Page}, optionally running the count query concurrently to the content
+ * query.
+ * <p>
+ * As with {@link PageableExecutionUtils}, the count query is not required if the total can be determined from the
+ * content, e.g. for the last page. When an {@link Executor} is given, the count query is submitted to it before the
+ * content query runs so both queries execute in parallel on separate connections. The count is awaited only if it is
+ * required and discarded otherwise. Within an active transaction both queries run sequentially on the calling thread as
+ * the transaction is bound to it.
+ * <p>
+ * Running the count query concurrently is a trade-off: it occupies a second connection, content and total are read
+ * outside of a common transaction, and the count query runs even if its result is discarded. Discarding it only cancels
+ * the pending future and doesn't stop a statement that is already executing.
+ *
+ * @since 3.0
+ */
+public abstract class JdbcPageableExecutionUtils {
+
+	private JdbcPageableExecutionUtils() {}
+
+	/**
+	 * Execute the content query and construct a {@link Page} from its results, executing the count query if required.
+	 *
+	 * @param content supplier of the content of the page, must not be {@literal null}.
+	 * @param pageable the requested page, must not be {@literal null}.
+	 * @param totalSupplier supplier of the total number of elements, must not be {@literal null}.
+	 * @param countExecutor the {@link Executor} running the count query concurrently. Can be {@literal null} to run both
+	 *          queries sequentially.
+	 * @return the {@link Page} for the {@code content} and a total.
+	 */
+	public static <T> Page<T> getPage(Supplier<List<T>> content, Pageable pageable, LongSupplier totalSupplier,
+			@Nullable Executor countExecutor) {
+
+		Assert.notNull(content, "Content must not be null");
+		Assert.notNull(pageable, "Pageable must not be null");
+		Assert.notNull(totalSupplier, "TotalSupplier must not be null");
+
+		if (countExecutor == null || pageable.isUnpaged()
+				|| TransactionSynchronizationManager.isActualTransactionActive()) {
+			return PageableExecutionUtils.getPage(content.get(), pageable, totalSupplier);
+		}
+
+		CompletableFuture<Long> total = CompletableFuture.supplyAsync(totalSupplier::getAsLong, countExecutor);
+
+		try {
+			return PageableExecutionUtils.getPage(content.get(), pageable, () -> getTotal(total));
+		} finally {
+			total.cancel(false);
+		}
+	}
+
+	private static long getTotal(CompletableFuture<Long> total) {
+
+		try {
+			return total.join();
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			throw e;
+		}
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.jdbc.core;
 
+import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,6 +27,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
@@ -243,6 +246,69 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		assertThat(content2.id).isEqualTo(12L);
 	}
 
+	@Test
+	void batchUpdateRootOperation() {
+
+		DummyEntity root1 = new DummyEntity();
+		root1.id = 1L;
+		DummyEntity root2 = new DummyEntity();
+		root2.id = 2L;
+		when(accessStrategy.update(asList(root1, root2), DummyEntity.class)).thenReturn(new boolean[] { true, true });
+
+		executionContext.executeBatchUpdateRoot(new DbAction.BatchUpdateRoot<>(
+				asList(new DbAction.UpdateRoot<>(root1, null), new DbAction.UpdateRoot<>(root2, null))));
+
+		assertThat(executionContext.<DummyEntity> populateIdsIfNecessary()).containsExactly(root1, root2);
+	}
+
+	@Test
+	void batchUpdateRootWithVersionFailsWhenAnyRootIsNotUpdated() {
+
+		DummyEntity root1 = new DummyEntity();
+		root1.id = 1L;
+		DummyEntity root2 = new DummyEntity();
+		root2.id = 2L;
+		when(accessStrategy.updateWithVersion(asList(root1, root2), DummyEntity.class, asList(3L, 4L)))
+				.thenReturn(new boolean[] { true, false });
+
+		DbAction.BatchUpdateRootWithVersion<DummyEntity> batchUpdate = new DbAction.BatchUpdateRootWithVersion<>(
+				asList(new DbAction.UpdateRoot<>(root1, 3L), new DbAction.UpdateRoot<>(root2, 4L)));
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> executionContext.executeBatchUpdateRootWithVersion(batchUpdate));
+	}
+
+	@Test
+	void updatesSingleReferencedEntityById() {
+
+		Content content = new Content();
+		content.id = 42L;
+		when(accessStrategy.update(content, Content.class)).thenReturn(true);
+
+		executionContext.executeUpdate(new DbAction.Update<>(content, getPersistentPropertyPath("list")));
+
+		verify(accessStrategy).update(content, Content.class);
+	}
+
+	@Test
+	void failsWhenSingleReferencedEntityToUpdateDoesNotExist() {
+
+		Content content = new Content();
+		content.id = 42L;
+		when(accessStrategy.update(content, Content.class)).thenReturn(false);
+
+		assertThatExceptionOfType(IncorrectUpdateSemanticsDataAccessException.class).isThrownBy(
+				() -> executionContext.executeUpdate(new DbAction.Update<>(content, getPersistentPropertyPath("list"))));
+	}
+
+	@Test
+	void deletesSingleReferencedEntityById() {
+
+		executionContext.executeDeleteById(new DbAction.DeleteById<>(42L, getPersistentPropertyPath("list")));
+
+		verify(accessStrategy).delete(42L, Content.class);
+	}
+
 	DbAction.Insert<?> createInsert(DbAction.WithEntity<?> parent, String propertyName, Object value,
 			@Nullable Object key, IdValueSource idValueSource) {
 
@@ -67,6 +67,10 @@ import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.KeysetPosition;
+import org.springframework.data.relational.core.query.KeysetWindow;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
@@ -274,6 +278,53 @@ class JdbcAggregateTemplateIntegrationTests {
 				.containsExactly("Frozen", "Star", null);
 	}
 
+	@Test
+	@EnabledOnFeature({ SUPPORTS_QUOTED_IDS, SUPPORTS_NULL_PRECEDENCE })
+	void scrollThroughWindowsWithNullSortKeysAndMixedDirections() {
+
+		LegoSet alpha = template.save(createLegoSet("Alpha"));
+		LegoSet firstUnnamed = template.save(createLegoSet(null));
+		LegoSet firstBeta = template.save(createLegoSet("Beta"));
+		LegoSet secondUnnamed = template.save(createLegoSet(null));
+		LegoSet secondBeta = template.save(createLegoSet("Beta"));
+
+		Sort sort = Sort.by(Sort.Order.desc("name").nullsFirst(), Sort.Order.asc("id"));
+		Query query = Query.empty().sort(sort).limit(2);
+
+		KeysetWindow<LegoSet> first = template.scroll(query, LegoSet.class, KeysetPosition.initial());
+
+		assertThat(first.getContent()).extracting(LegoSet::getId).containsExactly(firstUnnamed.getId(),
+				secondUnnamed.getId());
+		assertThat(first.hasNext()).isTrue();
+
+		KeysetWindow<LegoSet> second = template.scroll(query, LegoSet.class, first.getNextPosition());
+
+		assertThat(second.getContent()).extracting(LegoSet::getId).containsExactly(firstBeta.getId(),
+				secondBeta.getId());
+		assertThat(second.hasNext()).isTrue();
+
+		KeysetWindow<LegoSet> third = template.scroll(query, LegoSet.class, second.getNextPosition());
+
+		assertThat(third.getContent()).extracting(LegoSet::getId).containsExactly(alpha.getId());
+		assertThat(third.hasNext()).isFalse();
+	}
+
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void selectAfterKeysetPositionCombinesWithCriteria() {
+
+		template.save(createLegoSet("Alpha"));
+		LegoSet beta = template.save(createLegoSet("Beta"));
+		template.save(createLegoSet("Gamma"));
+		LegoSet delta = template.save(createLegoSet("Delta"));
+
+		Query query = Query.query(Criteria.where("name").not("Gamma")).sort(Sort.by("name"))
+				.after(KeysetPosition.of(Map.of("name", "Alpha")));
+
+		assertThat(template.select(query, LegoSet.class)).extracting(LegoSet::getId).containsExactly(beta.getId(),
+				delta.getId());
+	}
+
 	@Test // DATAJDBC-112
 	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
 	void saveAndLoadManyEntitiesByIdWithReferencedEntity() {
@@ -573,6 +624,29 @@ class JdbcAggregateTemplateIntegrationTests {
 		assertThat(reloaded.content).extracting(e -> e.content).containsExactly("content");
 	}
 
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void selectWithColumnsLoadsCollections() {
+
+		ListParent entity = new ListParent();
+		entity.name = "name";
+
+		ElementNoId element = new ElementNoId();
+		element.content = "content";
+
+		entity.content.add(element);
+
+		template.save(entity);
+
+		Iterable<ListParent> reloaded = template.select(Query.empty().columns("name"), ListParent.class);
+
+		assertThat(reloaded).hasSize(1).allSatisfy(parent -> {
+
+			assertThat(parent.name).isEqualTo("name");
+			assertThat(parent.content).extracting(e -> e.content).containsExactly("content");
+		});
+	}
+
 	@Test // GH-498 DATAJDBC-273
 	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
 	void saveAndLoadAnEntityWithListOfElementsInConstructor() {
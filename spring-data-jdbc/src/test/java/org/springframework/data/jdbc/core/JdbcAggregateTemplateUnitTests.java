@@ -24,6 +24,10 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -51,6 +55,8 @@ import org.springframework.data.relational.core.mapping.event.AfterSaveCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeDeleteCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeSaveCallback;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
 
 /**
  * Unit tests for {@link JdbcAggregateTemplate}.
@@ -314,6 +320,37 @@ public class JdbcAggregateTemplateUnitTests {
 		assertThat(all).containsExactly(alfred2, neumann2);
 	}
 
+	@Test
+	void callbackOnStreamAll() {
+
+		SampleEntity alfred1 = new SampleEntity(23L, "Alfred");
+		SampleEntity alfred2 = new SampleEntity(23L, "Alfred E.");
+
+		when(dataAccessStrategy.streamAll(SampleEntity.class)).thenReturn(Stream.of(alfred1));
+		when(callbacks.callback(any(Class.class), eq(alfred1), any())).thenReturn(alfred2);
+
+		List<SampleEntity> all = template.streamAll(SampleEntity.class).collect(Collectors.toList());
+
+		verify(callbacks).callback(AfterConvertCallback.class, alfred1);
+		assertThat(all).containsExactly(alfred2);
+	}
+
+	@Test
+	void callbackOnStreamQuery() {
+
+		SampleEntity alfred1 = new SampleEntity(23L, "Alfred");
+		SampleEntity alfred2 = new SampleEntity(23L, "Alfred E.");
+		Query query = Query.query(Criteria.where("name").is("Alfred"));
+
+		when(dataAccessStrategy.stream(query, SampleEntity.class)).thenReturn(Stream.of(alfred1));
+		when(callbacks.callback(any(Class.class), eq(alfred1), any())).thenReturn(alfred2);
+
+		List<SampleEntity> all = template.stream(query, SampleEntity.class).collect(Collectors.toList());
+
+		verify(callbacks).callback(AfterConvertCallback.class, alfred1);
+		assertThat(all).containsExactly(alfred2);
+	}
+
 	@Data
 	@AllArgsConstructor
 	private static class SampleEntity {
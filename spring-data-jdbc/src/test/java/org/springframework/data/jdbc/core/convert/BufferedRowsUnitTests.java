@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLFeatureNotSupportedException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Unit tests for {@link BufferedRows}, reading from result sets of an embedded database.
+ */
+class BufferedRowsUnitTests {
+
+	EmbeddedDatabase database;
+	JdbcTemplate template;
+
+	@BeforeEach
+	void before() {
+
+		database = new EmbeddedDatabaseBuilder().generateUniqueName(true).setType(EmbeddedDatabaseType.HSQL).build();
+		template = new JdbcTemplate(database);
+
+		template.execute("CREATE TABLE DOCUMENT (ID BIGINT PRIMARY KEY, TITLE VARCHAR(100), CONTENT CLOB, DATA BLOB)");
+		template.update("INSERT INTO DOCUMENT VALUES (1, 'one', 'first content', X'0102')");
+		template.update("INSERT INTO DOCUMENT VALUES (2, NULL, 'second content', X'03')");
+	}
+
+	@AfterEach
+	void after() {
+		database.shutdown();
+	}
+
+	@Test
+	void materializesLobsWhileTheRowIsCurrent() throws Exception {
+
+		BufferedRows rows = bufferAll("SELECT ID, CONTENT, DATA FROM DOCUMENT ORDER BY ID");
+		ResultSet resultSet = rows.getResultSet();
+
+		assertThat(resultSet.next()).isTrue();
+		assertThat(resultSet.getObject(2)).isEqualTo("first content");
+		assertThat(resultSet.getObject("data")).isEqualTo(new byte[] { 1, 2 });
+
+		assertThat(resultSet.next()).isTrue();
+		assertThat(resultSet.getObject("CONTENT")).isEqualTo("second content");
+		assertThat(resultSet.getObject(3)).isEqualTo(new byte[] { 3 });
+
+		assertThat(resultSet.next()).isFalse();
+	}
+
+	@Test
+	void exposesColumnsAndNullValues() throws Exception {
+
+		BufferedRows rows = bufferAll("SELECT ID, TITLE AS NAME FROM DOCUMENT ORDER BY ID");
+		ResultSet resultSet = rows.getResultSet();
+
+		assertThat(rows.size()).isEqualTo(2);
+		assertThat(rows.findColumn("name")).isEqualTo(2);
+		assertThat(rows.findColumn("TITLE")).isEqualTo(-1);
+		assertThat(resultSet.getMetaData().getColumnCount()).isEqualTo(2);
+		assertThat(resultSet.getMetaData().getColumnLabel(2)).isEqualTo("NAME");
+
+		resultSet.next();
+		resultSet.next();
+
+		assertThat(resultSet.getObject("NAME")).isNull();
+		assertThat(resultSet.wasNull()).isTrue();
+		assertThat(resultSet.getRow()).isEqualTo(2);
+	}
+
+	@Test
+	void rejectsUnsupportedAccess() throws Exception {
+
+		ResultSet resultSet = bufferAll("SELECT ID FROM DOCUMENT").getResultSet();
+		resultSet.next();
+
+		assertThatExceptionOfType(SQLFeatureNotSupportedException.class).isThrownBy(() -> resultSet.getLong(1));
+		assertThatExceptionOfType(SQLFeatureNotSupportedException.class).isThrownBy(resultSet::previous);
+	}
+
+	private BufferedRows bufferAll(String sql) {
+
+		return template.query(sql, (ResultSetExtractor<BufferedRows>) resultSet -> {
+
+			BufferedRows rows = new BufferedRows(resultSet.getMetaData());
+			while (resultSet.next()) {
+				rows.add(rows.copyRow(resultSet));
+			}
+
+			return rows;
+		});
+	}
+}
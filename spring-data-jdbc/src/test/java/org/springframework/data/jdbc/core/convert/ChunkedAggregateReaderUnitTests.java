@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ChunkedAggregateReader}.
+ */
+class ChunkedAggregateReaderUnitTests {
+
+	List<List<Object>> chunks = new ArrayList<>();
+	ChunkedAggregateReader<String> reader = new ChunkedAggregateReader<>("id", 2, ids -> {
+
+		chunks.add(ids);
+		return (resultSet, rowNumber) -> resultSet.getObject("ID") + ":" + resultSet.getObject("NAME");
+	});
+
+	@Test
+	void readsAggregatesInChunks() throws Exception {
+
+		Stream<Object[]> rows = Stream.of(row(1L, "one"), row(2L, "two"), row(3L, "three"));
+
+		assertThat(reader.read(rows).collect(Collectors.toList())).containsExactly("1:one", "2:two", "3:three");
+		assertThat(chunks).containsExactly(asList(1L, 2L), singletonList(3L));
+	}
+
+	@Test
+	void readsChunksOnlyWhenConsumed() throws Exception {
+
+		Stream<Object[]> rows = Stream.of(row(1L, "one"), row(2L, "two"), row(3L, "three"));
+
+		assertThat(reader.read(rows).findFirst()).contains("1:one");
+		assertThat(chunks).containsExactly(asList(1L, 2L));
+	}
+
+	@Test
+	void closingStreamClosesRows() {
+
+		AtomicBoolean closed = new AtomicBoolean();
+
+		reader.read(Stream.<Object[]> empty().onClose(() -> closed.set(true))).close();
+
+		assertThat(closed).isTrue();
+		assertThat(chunks).isEmpty();
+	}
+
+	private Object[] row(long id, String name) throws Exception {
+
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+		when(metaData.getColumnCount()).thenReturn(2);
+		when(metaData.getColumnLabel(1)).thenReturn("ID");
+		when(metaData.getColumnName(1)).thenReturn("ID");
+		when(metaData.getColumnLabel(2)).thenReturn("NAME");
+		when(metaData.getColumnName(2)).thenReturn("NAME");
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getMetaData()).thenReturn(metaData);
+		when(resultSet.getObject(1)).thenReturn(id);
+		when(resultSet.getObject(2)).thenReturn(name);
+
+		return reader.mapRow(resultSet, 0);
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.mapping.MappedCollection;
+import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.lang.Nullable;
+
+/**
+ * Tests for loading aggregates with {@link JdbcMappingContext#isSingleQueryLoadingEnabled() single query loading}
+ * through {@link DefaultDataAccessStrategy} against an embedded HSQLDB.
+ */
+class DefaultDataAccessStrategyHsqlIntegrationTests {
+
+	EmbeddedDatabase database;
+	DefaultDataAccessStrategy accessStrategy;
+	List<String> queries = new ArrayList<>();
+
+	@BeforeEach
+	void before() {
+
+		database = new EmbeddedDatabaseBuilder().generateUniqueName(true).setType(EmbeddedDatabaseType.HSQL).build();
+
+		JdbcTemplate template = new JdbcTemplate(database) {
+
+			@Override
+			public <T> T query(PreparedStatementCreator psc, @Nullable PreparedStatementSetter pss,
+					ResultSetExtractor<T> rse) {
+
+				if (psc instanceof SqlProvider sqlProvider) {
+					queries.add(sqlProvider.getSql());
+				}
+
+				return super.query(psc, pss, rse);
+			}
+		};
+		template.execute("CREATE TABLE AUTHOR (ID BIGINT PRIMARY KEY, NAME VARCHAR(100), BIO CLOB)");
+		template.execute("CREATE TABLE BOOK (AUTHOR BIGINT, TITLE VARCHAR(100))");
+		template.execute("CREATE TABLE SUMMARY (AUTHOR BIGINT, LANGUAGE VARCHAR(10), TEXT VARCHAR(100))");
+
+		for (int i = 1; i <= 5; i++) {
+
+			template.update("INSERT INTO AUTHOR VALUES (?, ?, ?)", i, "author " + i, "bio of author " + i);
+			template.update("INSERT INTO BOOK VALUES (?, ?)", i, "first book of " + i);
+			template.update("INSERT INTO BOOK VALUES (?, ?)", i, "second book of " + i);
+			template.update("INSERT INTO SUMMARY VALUES (?, ?, ?)", i, "en", "summary of " + i);
+		}
+
+		JdbcMappingContext context = new JdbcMappingContext();
+		context.setSingleQueryLoadingEnabled(true);
+
+		Dialect dialect = HsqlDbDialect.INSTANCE;
+		NamedParameterJdbcTemplate operations = new NamedParameterJdbcTemplate(template);
+		DelegatingDataAccessStrategy relationResolver = new DelegatingDataAccessStrategy();
+		JdbcConverter converter = new BasicJdbcConverter(context, relationResolver, new JdbcCustomConversions(),
+				new DefaultJdbcTypeFactory(template), dialect.getIdentifierProcessing());
+
+		accessStrategy = new DefaultDataAccessStrategy(new SqlGeneratorSource(context, converter, dialect), context,
+				converter, operations, new SqlParametersFactory(context, converter, dialect),
+				new InsertStrategyFactory(operations, new BatchJdbcOperations(template), dialect));
+		accessStrategy.setRelationBatchSize(2);
+
+		relationResolver.setDelegate(accessStrategy);
+	}
+
+	@AfterEach
+	void after() {
+		database.shutdown();
+	}
+
+	@Test
+	void findAllLoadsLobsAndCollectionsOfBufferedRows() {
+
+		Iterable<Author> authors = accessStrategy.findAll(Author.class);
+
+		assertThat(authors).hasSize(5).allSatisfy(this::assertLoaded);
+	}
+
+	@Test
+	void streamAllLoadsLobsAndCollectionsInChunks() {
+
+		try (Stream<Author> authors = accessStrategy.streamAll(Author.class)) {
+
+			List<Author> loaded = authors.collect(Collectors.toList());
+
+			assertThat(loaded).hasSize(5).allSatisfy(this::assertLoaded);
+		}
+	}
+
+	@Test
+	void loadsLazyCollectionsOfAllReadAggregatesInBatchesOfRootIds() {
+
+		List<LazyAuthor> authors = new ArrayList<>();
+		accessStrategy.findAll(LazyAuthor.class).forEach(authors::add);
+		queries.clear();
+
+		assertThat(authors).hasSize(5).allSatisfy(author -> {
+
+			assertThat(author.books).extracting(book -> book.title).containsExactlyInAnyOrder("first book of " + author.id,
+					"second book of " + author.id);
+			assertThat(author.summaries).containsOnlyKeys("en");
+			assertThat(author.summaries.get("en").text).isEqualTo("summary of " + author.id);
+		});
+
+		// 5 aggregate roots with a relation batch size of 2 take 3 statements per collection
+		assertThat(queries).filteredOn(sql -> sql.contains("BOOK")).hasSize(3);
+		assertThat(queries).filteredOn(sql -> sql.contains("SUMMARY")).hasSize(3);
+		assertThat(queries).hasSize(6);
+	}
+
+	private void assertLoaded(Author author) {
+
+		assertThat(author.bio).isEqualTo("bio of author " + author.id);
+		assertThat(author.books).extracting(book -> book.title).containsExactlyInAnyOrder("first book of " + author.id,
+				"second book of " + author.id);
+	}
+
+	static class Author {
+
+		@Id Long id;
+		String name;
+		String bio;
+		Set<Book> books;
+	}
+
+	static class Book {
+		String title;
+	}
+
+	@Table("AUTHOR")
+	static class LazyAuthor {
+
+		@Id Long id;
+		String name;
+		@MappedCollection(idColumn = "AUTHOR", lazy = true) Set<Book> books;
+		@MappedCollection(idColumn = "AUTHOR", keyColumn = "LANGUAGE", lazy = true) Map<String, Summary> summaries;
+	}
+
+	static class Summary {
+		String text;
+	}
+}
@@ -15,23 +15,40 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import static java.util.Arrays.*;
 import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import lombok.RequiredArgsConstructor;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.HsqlDbDialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.Sequence;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 /**
  * Unit tests for {@link DefaultDataAccessStrategy}.
@@ -59,6 +76,8 @@ public class DefaultDataAccessStrategyUnitTests {
 	@BeforeEach
 	public void before() {
 
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+
 		DelegatingDataAccessStrategy relationResolver = new DelegatingDataAccessStrategy();
 		Dialect dialect = HsqlDbDialect.INSTANCE;
 		converter = new BasicJdbcConverter(context, relationResolver, new JdbcCustomConversions(),
@@ -115,6 +134,156 @@ public class DefaultDataAccessStrategyUnitTests {
 		verify(insertStrategyFactory).batchInsertStrategy(IdValueSource.GENERATED, null);
 	}
 
+	@Test
+	void passesNamedParametersToSubclassesOfNamedParameterJdbcTemplate() {
+
+		NamedParameterJdbcTemplate template = mock(NamedParameterJdbcTemplate.class);
+		SqlParameterSource parameters = new MapSqlParameterSource("id", ORIGINAL_ID);
+		when(sqlParametersFactory.forQueryById(ORIGINAL_ID, DummyEntity.class, SqlGenerator.ID_SQL_PARAMETER))
+				.thenReturn(parameters);
+
+		DefaultDataAccessStrategy strategy = new DefaultDataAccessStrategy(
+				new SqlGeneratorSource(context, converter, HsqlDbDialect.INSTANCE), context, converter, template,
+				sqlParametersFactory, insertStrategyFactory);
+
+		strategy.delete(ORIGINAL_ID, DummyEntity.class);
+
+		verify(template).update(contains(":id"), eq(parameters));
+	}
+
+	@Test
+	void batchInsertTakesIdsFromSequence() {
+
+		when(jdbcOperations.queryForObject(anyString(), eq(Long.class))).thenReturn(100L);
+
+		Object[] ids = accessStrategy.insert(
+				asList(InsertSubject.describedBy(new EntityWithSequence(), Identifier.empty()),
+						InsertSubject.describedBy(new EntityWithSequence(), Identifier.empty())),
+				EntityWithSequence.class, IdValueSource.GENERATED);
+
+		assertThat(ids).containsExactly(100L, 101L);
+		verify(jdbcOperations).queryForObject("CALL NEXT VALUE FOR \"entity_seq\"", Long.class);
+		verify(sqlParametersFactory).addIdForInsert(any(), eq(EntityWithSequence.class), eq(100L));
+		verify(sqlParametersFactory).addIdForInsert(any(), eq(EntityWithSequence.class), eq(101L));
+		verify(insertStrategyFactory).batchInsertStrategy(IdValueSource.PROVIDED, SqlIdentifier.quoted("ID"));
+	}
+
+	@Test
+	void findAllByIdLoadsCollectionsInBatchesOfIds() {
+
+		context.setSingleQueryLoadingEnabled(true);
+		accessStrategy.setRelationBatchSize(2);
+
+		accessStrategy.findAllById(asList(1L, 2L, 3L), EntityWithCollection.class);
+
+		verify(sqlParametersFactory).forQueryByIds(asList(1L, 2L), EntityWithCollection.class);
+		verify(sqlParametersFactory).forQueryByIds(singletonList(3L), EntityWithCollection.class);
+		verify(namedJdbcOperations, times(2)).query(contains("IN (:ids)"), nullable(SqlParameterSource.class),
+				any(ResultSetExtractor.class));
+	}
+
+	@Test
+	void findAllLoadsCollectionsByTheIdsOfTheSelectedAggregatesOnly() {
+
+		context.setSingleQueryLoadingEnabled(true);
+
+		accessStrategy.findAll(EntityWithCollection.class);
+
+		verify(namedJdbcOperations).query(anyString(), nullable(SqlParameterSource.class), any(ResultSetExtractor.class));
+		verify(namedJdbcOperations, never()).query(contains("IS NOT NULL"), nullable(SqlParameterSource.class),
+				any(ResultSetExtractor.class));
+	}
+
+	@Test
+	void findAllByIdDoesNotLoadCollectionsUpfrontByDefault() {
+
+		accessStrategy.findAllById(asList(1L, 2L, 3L), EntityWithCollection.class);
+
+		verify(namedJdbcOperations, never()).query(anyString(), nullable(SqlParameterSource.class),
+				any(ResultSetExtractor.class));
+	}
+
+	@Test
+	void streamAllFetchesRowsWithStreamFetchSize() throws Exception {
+
+		DefaultDataAccessStrategy strategy = new DefaultDataAccessStrategy(
+				new SqlGeneratorSource(context, converter, HsqlDbDialect.INSTANCE), context, converter,
+				new NamedParameterJdbcTemplate(jdbcOperations), sqlParametersFactory, insertStrategyFactory);
+		strategy.setStreamFetchSize(100);
+		when(jdbcOperations.queryForStream(any(PreparedStatementCreator.class), any(RowMapper.class)))
+				.thenReturn(Stream.empty());
+
+		assertThat(strategy.streamAll(DummyEntity.class)).isEmpty();
+
+		ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+		verify(jdbcOperations).queryForStream(creator.capture(), any(RowMapper.class));
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+		creator.getValue().createPreparedStatement(connection);
+		verify(statement).setFetchSize(100);
+	}
+
+	@Test
+	void streamsThroughCustomNamedParameterJdbcOperations() {
+
+		accessStrategy.setStreamFetchSize(100);
+		when(namedJdbcOperations.queryForStream(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(Stream.empty());
+
+		assertThat(accessStrategy.streamAll(DummyEntity.class)).isEmpty();
+
+		verify(namedJdbcOperations).queryForStream(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+		verifyNoInteractions(jdbcOperations);
+	}
+
+	@Test
+	void rejectsRelationBatchSizeOfZero() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> accessStrategy.setRelationBatchSize(0));
+	}
+
+	@Test
+	void batchUpdateReportsUpdatedRowsPerInstance() {
+
+		when(sqlParametersFactory.forUpdate(any(), any()))
+				.thenReturn(new SqlIdentifierParameterSource(HsqlDbDialect.INSTANCE.getIdentifierProcessing()));
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { 1, Statement.SUCCESS_NO_INFO, 0 });
+
+		boolean[] updated = accessStrategy.update(
+				asList(new DummyEntity(1L), new DummyEntity(2L), new DummyEntity(3L)), DummyEntity.class);
+
+		assertThat(updated).containsExactly(true, true, false);
+		verify(namedJdbcOperations).batchUpdate(startsWith("UPDATE"), any(SqlParameterSource[].class));
+	}
+
+	@Test
+	void batchUpdateWithVersionFailsWhenAnyRowIsNotUpdated() {
+
+		when(sqlParametersFactory.forUpdate(any(), any()))
+				.thenReturn(new SqlIdentifierParameterSource(HsqlDbDialect.INSTANCE.getIdentifierProcessing()));
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[] { 1, 0 });
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> accessStrategy.updateWithVersion(asList(new DummyEntity(1L), new DummyEntity(2L)),
+						DummyEntity.class, asList(3L, 4L)))
+				.withMessageContaining("with id 2 and version 4");
+	}
+
+	@RequiredArgsConstructor
+	private static class EntityWithCollection {
+
+		@Id private final Long id;
+		private final Set<DummyEntity> elements;
+	}
+
+	private static class EntityWithSequence {
+		@Id @Sequence(value = "entity_seq", allocationSize = 10) Long id;
+	}
+
 	@RequiredArgsConstructor
 	private static class DummyEntity {
 
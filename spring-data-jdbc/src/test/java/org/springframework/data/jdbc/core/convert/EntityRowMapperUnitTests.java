@@ -56,6 +56,7 @@ import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.Embedded.OnEmpty;
+import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -734,6 +735,13 @@ public class EntityRowMapperUnitTests {
 		List<Trivial> children;
 	}
 
+	static class LazyOneToList {
+
+		@Id Long id;
+		String name;
+		@MappedCollection(lazy = true) List<Trivial> children;
+	}
+
 	static class EmbeddedEntity {
 
 		@Id Long id;
@@ -846,6 +854,83 @@ public class EntityRowMapperUnitTests {
 		return new FixtureBuilder<>();
 	}
 
+	@Test
+	void resolvesColumnsOncePerResultSet() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME", "PREFIX_ID", "PREFIX_NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", 24L, "beta", //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "gamma", 25L, "delta");
+		EntityRowMapper<EmbeddedEntity> rowMapper = createRowMapper(EmbeddedEntity.class);
+
+		rs.next();
+		EmbeddedEntity first = rowMapper.mapRow(rs, 1);
+		rs.next();
+		EmbeddedEntity second = rowMapper.mapRow(rs, 2);
+
+		assertThat(first).extracting(e -> e.name, e -> e.children.id, e -> e.children.name) //
+				.containsExactly("alpha", 24L, "beta");
+		assertThat(second).extracting(e -> e.name, e -> e.children.id, e -> e.children.name) //
+				.containsExactly("gamma", 25L, "delta");
+		verify(rs, times(1)).getMetaData();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void doesNotLoadCollectionsOutsideOfRequiredProperties() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		RelationalMappingContext context = new JdbcMappingContext();
+		DataAccessStrategy accessStrategy = mock(DataAccessStrategy.class);
+		BasicJdbcConverter converter = new BasicJdbcConverter(context, accessStrategy, new JdbcCustomConversions(),
+				JdbcTypeFactory.unsupported(), IdentifierProcessing.ANSI);
+
+		RelationalPersistentEntity<OneToSet> entity = (RelationalPersistentEntity<OneToSet>) context
+				.getRequiredPersistentEntity(OneToSet.class);
+
+		OneToSet extracted = new EntityRowMapper<>(entity, converter, singletonList("name")).mapRow(rs, 1);
+
+		assertThat(extracted).extracting(e -> e.id, e -> e.name).containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP,
+				"alpha");
+		assertThat(extracted.children).isEmpty();
+		verify(accessStrategy, never()).findAllByPath(any(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void loadsLazyCollectionsOfAllReadEntitiesOnFirstAccess() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				1L, "alpha", //
+				2L, "beta");
+
+		RelationalMappingContext context = new JdbcMappingContext();
+		DataAccessStrategy accessStrategy = mock(DataAccessStrategy.class);
+		doReturn(asList(singletonList(new Trivial(3L, "gamma")), emptyList())).when(accessStrategy)
+				.findAllByPathForEach(anyList(), any(PersistentPropertyPath.class));
+		BasicJdbcConverter converter = new BasicJdbcConverter(context, accessStrategy, new JdbcCustomConversions(),
+				JdbcTypeFactory.unsupported(), IdentifierProcessing.ANSI);
+
+		EntityRowMapper<LazyOneToList> rowMapper = new EntityRowMapper<>(
+				(RelationalPersistentEntity<LazyOneToList>) context.getRequiredPersistentEntity(LazyOneToList.class),
+				converter);
+
+		rs.next();
+		LazyOneToList first = rowMapper.mapRow(rs, 1);
+		rs.next();
+		LazyOneToList second = rowMapper.mapRow(rs, 2);
+
+		verifyNoInteractions(accessStrategy);
+
+		assertThat(first.children).extracting(Trivial::getName).containsExactly("gamma");
+		assertThat(second.children).isEmpty();
+		verify(accessStrategy).findAllByPathForEach(argThat(identifiers -> identifiers.size() == 2),
+				any(PersistentPropertyPath.class));
+		verifyNoMoreInteractions(accessStrategy);
+	}
+
 	private <T> EntityRowMapper<T> createRowMapper(Class<T> type) {
 		return createRowMapper(type, NamingStrategy.INSTANCE);
 	}
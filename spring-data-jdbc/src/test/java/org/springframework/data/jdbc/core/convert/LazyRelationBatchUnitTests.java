@@ -0,0 +1,159 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.core.mapping.PersistentPropertyPathTestUtils;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.LazyLoadingValue;
+import org.springframework.data.relational.core.mapping.MappedCollection;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+/**
+ * Unit tests for {@link LazyRelationBatch}.
+ */
+class LazyRelationBatchUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	RelationResolver relationResolver = mock(RelationResolver.class);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void loadsAllPendingSetsOnFirstAccess() {
+
+		PersistentPropertyPath<RelationalPersistentProperty> path = getPath("children");
+		doReturn(asList(asList(new Child("a"), new Child("b")), emptyList())).when(relationResolver)
+				.findAllByPathForEach(anyList(), eq(path));
+
+		LazyRelationBatch batch = new LazyRelationBatch(relationResolver, path);
+		Set<Child> first = (Set<Child>) batch.createPlaceholder(path.getLeafProperty(), identifier(1L));
+		Set<Child> second = (Set<Child>) batch.createPlaceholder(path.getLeafProperty(), identifier(2L));
+
+		assertThat(((LazyLoadingValue) first).isLoaded()).isFalse();
+		verifyNoInteractions(relationResolver);
+
+		assertThat(first).extracting(child -> child.name).containsExactly("a", "b");
+		assertThat(((LazyLoadingValue) second).isLoaded()).isTrue();
+		assertThat(second).isEmpty();
+
+		verify(relationResolver).findAllByPathForEach(asList(identifier(1L), identifier(2L)), path);
+		verifyNoMoreInteractions(relationResolver);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void setsAreModifiable() {
+
+		PersistentPropertyPath<RelationalPersistentProperty> path = getPath("children");
+		doReturn(singletonList(singletonList(new Child("a")))).when(relationResolver).findAllByPathForEach(anyList(),
+				eq(path));
+
+		Set<Child> children = (Set<Child>) new LazyRelationBatch(relationResolver, path)
+				.createPlaceholder(path.getLeafProperty(), identifier(1L));
+		Child added = new Child("b");
+
+		assertThat(children.add(added)).isTrue();
+		assertThat(children.contains(added)).isTrue();
+		assertThat(children.remove(added)).isTrue();
+		assertThat(children).hasSize(1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void loadsMapsFromEntries() {
+
+		PersistentPropertyPath<RelationalPersistentProperty> path = getPath("childrenByKey");
+		Child alpha = new Child("alpha");
+		doReturn(asList(singletonList(new SimpleEntry<>("a", alpha)), emptyList())).when(relationResolver)
+				.findAllByPathForEach(anyList(), eq(path));
+
+		LazyRelationBatch batch = new LazyRelationBatch(relationResolver, path);
+		Map<String, Child> first = (Map<String, Child>) batch.createPlaceholder(path.getLeafProperty(), identifier(1L));
+		Map<String, Child> second = (Map<String, Child>) batch.createPlaceholder(path.getLeafProperty(), identifier(2L));
+
+		assertThat(((LazyLoadingValue) first).isLoaded()).isFalse();
+
+		assertThat(first.get("a")).isSameAs(alpha);
+		assertThat(first.containsKey("b")).isFalse();
+		assertThat(second).isEmpty();
+
+		first.put("b", new Child("beta"));
+		assertThat(first).containsOnlyKeys("a", "b");
+
+		verify(relationResolver).findAllByPathForEach(anyList(), eq(path));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void placeholdersCreatedAfterLoadingFormTheNextBatch() {
+
+		PersistentPropertyPath<RelationalPersistentProperty> path = getPath("children");
+		doReturn(singletonList(singletonList(new Child("a")))).when(relationResolver).findAllByPathForEach(anyList(),
+				eq(path));
+
+		LazyRelationBatch batch = new LazyRelationBatch(relationResolver, path);
+
+		Set<Child> first = (Set<Child>) batch.createPlaceholder(path.getLeafProperty(), identifier(1L));
+		assertThat(first).hasSize(1);
+
+		Set<Child> second = (Set<Child>) batch.createPlaceholder(path.getLeafProperty(), identifier(2L));
+		assertThat(((LazyLoadingValue) second).isLoaded()).isFalse();
+		assertThat(second).hasSize(1);
+
+		verify(relationResolver).findAllByPathForEach(singletonList(identifier(1L)), path);
+		verify(relationResolver).findAllByPathForEach(singletonList(identifier(2L)), path);
+	}
+
+	private PersistentPropertyPath<RelationalPersistentProperty> getPath(String path) {
+		return PersistentPropertyPathTestUtils.getPath(context, path, Parent.class);
+	}
+
+	private static Identifier identifier(Object id) {
+		return Identifier.of(unquoted("PARENT"), id, Long.class);
+	}
+
+	@SuppressWarnings("unused")
+	static class Parent {
+
+		@Id Long id;
+		@MappedCollection(lazy = true) Set<Child> children;
+		@MappedCollection(lazy = true) Map<String, Child> childrenByKey;
+	}
+
+	static class Child {
+
+		String name;
+
+		Child(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.dialect.Db2Dialect;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link MultiRowInsertStrategy}.
+ */
+class MultiRowInsertStrategyTest {
+
+	SqlIdentifier idColumn = SqlIdentifier.unquoted("id");
+	InsertStrategy insertStrategy = mock(InsertStrategy.class);
+	JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+	String sql = "INSERT INTO person (first, last) VALUES (:first, :last)";
+	RenderedInsert renderedInsert = new RenderedInsert("person", List.of("first", "last"));
+
+	@Test
+	void insertsAllRowsWithSingleStatementAndAssignsIdsByRowIndex() throws Exception {
+
+		ResultSet resultSet = resultSet(2, new Object[][] { { 11L, 1 }, { 10L, 0 } });
+		doAnswer(invocation -> invocation.<ResultSetExtractor<?>> getArgument(1).extractData(resultSet))
+				.when(jdbcOperations).query(anyString(), any(ResultSetExtractor.class), (Object[]) any());
+
+		BatchInsertStrategy strategy = new MultiRowInsertStrategy(insertStrategy, SqlServerDialect.INSTANCE,
+				jdbcOperations, idColumn);
+
+		Object[] ids = strategy.execute(sql, renderedInsert,
+				new SqlParameterSource[] { person("Ada", "Lovelace"), person("Alan", "Turing") });
+
+		assertThat(ids).containsExactly(10L, 11L);
+		verify(jdbcOperations).query(eq(
+				"MERGE INTO person USING (VALUES (?, ?, 0), (?, ?, 1)) AS source (c0, c1, row_index) ON 1 = 0 WHEN NOT MATCHED "
+						+ "THEN INSERT (first, last) VALUES (source.c0, source.c1) OUTPUT INSERTED.id, source.row_index;"),
+				any(ResultSetExtractor.class), eq("Ada"), eq("Lovelace"), eq("Alan"), eq("Turing"));
+		verifyNoInteractions(insertStrategy);
+	}
+
+	@Test
+	void assignsIdsInOrderOfResultWithoutRowIndex() throws Exception {
+
+		ResultSet resultSet = resultSet(1, new Object[][] { { 10L }, { 11L } });
+		doAnswer(invocation -> invocation.<ResultSetExtractor<?>> getArgument(1).extractData(resultSet))
+				.when(jdbcOperations).query(anyString(), any(ResultSetExtractor.class), (Object[]) any());
+
+		BatchInsertStrategy strategy = new MultiRowInsertStrategy(insertStrategy, Db2Dialect.INSTANCE, jdbcOperations,
+				idColumn);
+
+		Object[] ids = strategy.execute(sql, renderedInsert,
+				new SqlParameterSource[] { person("Ada", "Lovelace"), person("Alan", "Turing") });
+
+		assertThat(ids).containsExactly(10L, 11L);
+	}
+
+	@Test
+	void splitsRowsIntoStatementsByParameterLimit() throws Exception {
+
+		ResultSet resultSet = resultSet(2, new Object[0][]);
+		doAnswer(invocation -> invocation.<ResultSetExtractor<?>> getArgument(1).extractData(resultSet))
+				.when(jdbcOperations).query(anyString(), any(ResultSetExtractor.class), (Object[]) any());
+
+		BatchInsertStrategy strategy = new MultiRowInsertStrategy(insertStrategy, SqlServerDialect.INSTANCE,
+				jdbcOperations, idColumn);
+
+		SqlParameterSource[] rows = IntStream.range(0, 1500).mapToObj(i -> person("first" + i, "last" + i))
+				.toArray(SqlParameterSource[]::new);
+
+		strategy.execute(sql, renderedInsert, rows);
+
+		// 2000 bind parameters allowed by SQL Server, 2 per row
+		verify(jdbcOperations, times(2)).query(anyString(), any(ResultSetExtractor.class), (Object[]) any());
+	}
+
+	@Test
+	void insertsSeriallyWhenStatementHasNoValues() {
+
+		String defaultValuesSql = "INSERT INTO person DEFAULT VALUES";
+		SqlParameterSource first = new MapSqlParameterSource();
+		SqlParameterSource second = new MapSqlParameterSource();
+		when(insertStrategy.execute(defaultValuesSql, first)).thenReturn(1L);
+		when(insertStrategy.execute(defaultValuesSql, second)).thenReturn(2L);
+
+		BatchInsertStrategy strategy = new MultiRowInsertStrategy(insertStrategy, SqlServerDialect.INSTANCE,
+				jdbcOperations, idColumn);
+
+		assertThat(strategy.execute(defaultValuesSql, new RenderedInsert("person", List.of()),
+				new SqlParameterSource[] { first, second })).containsExactly(1L, 2L);
+		verifyNoInteractions(jdbcOperations);
+	}
+
+	@Test
+	void insertsSeriallyWhenValuesExpandIntoMultipleBindMarkers() {
+
+		SqlParameterSource first = person("Ada", "Lovelace").addValue("last", List.of("Byron", "King"));
+		SqlParameterSource second = person("Alan", "Turing");
+		when(insertStrategy.execute(sql, first)).thenReturn(1L);
+		when(insertStrategy.execute(sql, second)).thenReturn(2L);
+
+		BatchInsertStrategy strategy = new MultiRowInsertStrategy(insertStrategy, SqlServerDialect.INSTANCE,
+				jdbcOperations, idColumn);
+
+		assertThat(strategy.execute(sql, renderedInsert, new SqlParameterSource[] { first, second })).containsExactly(1L,
+				2L);
+		verifyNoInteractions(jdbcOperations);
+	}
+
+	private static MapSqlParameterSource person(String first, String last) {
+		return new MapSqlParameterSource("first", first).addValue("last", last);
+	}
+
+	private static ResultSet resultSet(int columnCount, Object[][] rows) throws Exception {
+
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+		when(metaData.getColumnCount()).thenReturn(columnCount);
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getMetaData()).thenReturn(metaData);
+
+		int[] current = { -1 };
+		when(resultSet.next()).thenAnswer(invocation -> ++current[0] < rows.length);
+		when(resultSet.getObject(1)).thenAnswer(invocation -> rows[current[0]][0]);
+		when(resultSet.getInt(2)).thenAnswer(invocation -> rows[current[0]][1]);
+
+		return resultSet;
+	}
+}
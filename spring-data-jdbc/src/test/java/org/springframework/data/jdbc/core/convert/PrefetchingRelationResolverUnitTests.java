@@ -0,0 +1,295 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.core.mapping.PersistentPropertyPathTestUtils;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.MappedCollection;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+
+/**
+ * Unit tests for {@link PrefetchingRelationResolver}.
+ */
+class PrefetchingRelationResolverUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	RelationResolver delegate = mock(RelationResolver.class);
+	JdbcConverter converter = new BasicJdbcConverter(context, delegate);
+
+	@Test
+	void relationPathsAreOrderedDeepestFirst() {
+
+		List<PersistentPropertyPathExtension> paths = PrefetchingRelationResolver.getRelationPaths(context,
+				Parent.class);
+
+		assertThat(paths).extracting(path -> path.getRequiredPersistentPropertyPath().toDotPath()) //
+				.containsExactlyInAnyOrder("children.grandChildren", "children", "mappedChildren") //
+				.first().isEqualTo("children.grandChildren");
+	}
+
+	@Test
+	void oneToOneReferencesAreNoRelationPaths() {
+
+		assertThat(PrefetchingRelationResolver.getRelationPaths(context, GrandChild.class)).isEmpty();
+	}
+
+	@Test
+	void lazyRelationsAreLoadedSeparately() {
+
+		assertThat(PrefetchingRelationResolver.getRelationPaths(context, LazyParent.class))
+				.extracting(path -> path.getRequiredPersistentPropertyPath().toDotPath()) //
+				.containsExactly("eagerChildren.grandChildren", "eagerChildren");
+
+		PersistentPropertyPathExtension lazyPath = getPathExtension("lazyChildren", LazyParent.class);
+
+		assertThat(PrefetchingRelationResolver.getRelationPaths(context, lazyPath))
+				.extracting(path -> path.getRequiredPersistentPropertyPath().toDotPath()) //
+				.containsExactly("lazyChildren.grandChildren", "lazyChildren");
+	}
+
+	@Test
+	void identifierColumnsOfEntityReferencedByEntityWithId() {
+
+		PersistentPropertyPathExtension path = getPathExtension("children.grandChildren", Parent.class);
+
+		assertThat(PrefetchingRelationResolver.getIdentifierColumns(path)).containsExactly(quoted("CHILD"));
+	}
+
+	@Test
+	void identifierColumnsIncludeQualifiersOfEntitiesWithoutId() {
+
+		PersistentPropertyPathExtension path = getPathExtension("elements.grandChildren", ParentWithoutIdChild.class);
+
+		assertThat(PrefetchingRelationResolver.getIdentifierColumns(path)) //
+				.containsExactly(quoted("PARENT_WITHOUT_ID_CHILD"), quoted("PARENT_WITHOUT_ID_CHILD_KEY"));
+	}
+
+	@Test
+	void delegatesLookupsOfPathsNotLoaded() {
+
+		PrefetchingRelationResolver resolver = new PrefetchingRelationResolver(context, converter,
+				IdentifierProcessing.ANSI, delegate);
+		Identifier identifier = Identifier.of(quoted("PARENT"), 23L, Long.class);
+		PersistentPropertyPath<RelationalPersistentProperty> path = getPath("children", Parent.class);
+
+		resolver.findAllByPath(identifier, path);
+
+		verify(delegate).findAllByPath(identifier, path);
+	}
+
+	@Test
+	void resolvesNestedListsFromLoadedLevels() throws SQLException {
+
+		PrefetchingRelationResolver resolver = new PrefetchingRelationResolver(context, converter,
+				IdentifierProcessing.ANSI, delegate);
+
+		resolver.load(getPathExtension("children.grandChildren", Parent.class), resultSet(asList("ID", "NAME", "CHILD"), //
+				1L, "one", 10, //
+				2L, "two", 20, //
+				3L, "three", 10));
+		resolver.load(getPathExtension("children", Parent.class), resultSet(asList("ID", "PARENT", "PARENT_KEY"), //
+				10L, 100, 0, //
+				20L, 100, 1, //
+				30L, 200, 0));
+
+		Iterable<Object> children = resolver.findAllByPath(Identifier.of(quoted("PARENT"), 100L, Long.class),
+				getPath("children", Parent.class));
+
+		assertThat(children).hasSize(2);
+		assertThat(children).extracting("id").containsExactly(10L, 20L);
+		assertThat(children).flatExtracting("grandChildren").extracting("name") //
+				.containsExactlyInAnyOrder("one", "three", "two");
+		assertThat(resolver.findAllByPath(Identifier.of(quoted("PARENT"), 200L, Long.class),
+				getPath("children", Parent.class))).extracting("grandChildren").containsExactly(emptySet());
+		verifyNoInteractions(delegate);
+	}
+
+	@Test
+	void resolvesMapsAsEntriesByKey() throws SQLException {
+
+		PrefetchingRelationResolver resolver = new PrefetchingRelationResolver(context, converter,
+				IdentifierProcessing.ANSI, delegate);
+
+		resolver.load(getPathExtension("mappedChildren", Parent.class),
+				resultSet(asList("ID", "NAME", "PARENT", "PARENT_KEY"), //
+						1L, "one", 100, "a", //
+						2L, "two", 100, "b", //
+						3L, "three", 200, "a"));
+
+		Iterable<Object> entries = resolver.findAllByPath(Identifier.of(quoted("PARENT"), 100L, Long.class),
+				getPath("mappedChildren", Parent.class));
+
+		assertThat(entries).extracting("key").containsExactly("a", "b");
+		assertThat(entries).extracting("value.name").containsExactly("one", "two");
+	}
+
+	@Test
+	void resolvesEntitiesOfQualifiedParentsWithoutIdByQualifier() throws SQLException {
+
+		PrefetchingRelationResolver resolver = new PrefetchingRelationResolver(context, converter,
+				IdentifierProcessing.ANSI, delegate);
+
+		resolver.load(getPathExtension("elements.grandChildren", ParentWithoutIdChild.class),
+				resultSet(asList("ID", "NAME", "PARENT_WITHOUT_ID_CHILD", "PARENT_WITHOUT_ID_CHILD_KEY"), //
+						1L, "first", 100, 0, //
+						2L, "second", 100, 1, //
+						3L, "other", 200, 0));
+		resolver.load(getPathExtension("elements", ParentWithoutIdChild.class),
+				resultSet(asList("NAME", "PARENT_WITHOUT_ID_CHILD", "PARENT_WITHOUT_ID_CHILD_KEY"), //
+						"zero", 100, 0, //
+						"one", 100, 1));
+
+		Iterable<Object> elements = resolver.findAllByPath(
+				Identifier.of(quoted("PARENT_WITHOUT_ID_CHILD"), 100L, Long.class),
+				getPath("elements", ParentWithoutIdChild.class));
+
+		assertThat(elements).extracting("name").containsExactly("zero", "one");
+		assertThat(elements).flatExtracting("grandChildren").extracting("name").containsExactly("first", "second");
+	}
+
+	@Test
+	void delegatesLookupsOfAmbiguousRelativePaths() throws SQLException {
+
+		PrefetchingRelationResolver resolver = new PrefetchingRelationResolver(context, converter,
+				IdentifierProcessing.ANSI, delegate);
+
+		resolver.load(getPathExtension("first.grandChildren", TwoLists.class), resultSet(asList("ID", "NAME", "CHILD")));
+		resolver.load(getPathExtension("second.grandChildren", TwoLists.class), resultSet(asList("ID", "NAME", "CHILD")));
+
+		Identifier identifier = Identifier.of(quoted("CHILD"), 10L, Long.class);
+		PersistentPropertyPath<RelationalPersistentProperty> relativePath = getPath("grandChildren", Child.class);
+
+		resolver.findAllByPath(identifier, relativePath);
+
+		verify(delegate).findAllByPath(identifier, relativePath);
+	}
+
+	/**
+	 * Creates a {@link ResultSet} of the given columns, with the values filling up the rows one after the other.
+	 */
+	private static ResultSet resultSet(List<String> columns, Object... values) throws SQLException {
+
+		int columnCount = columns.size();
+		AtomicInteger row = new AtomicInteger(-1);
+
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+		when(metaData.getColumnCount()).thenReturn(columnCount);
+		when(metaData.getColumnLabel(anyInt()))
+				.thenAnswer(invocation -> columns.get(invocation.<Integer> getArgument(0) - 1));
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getMetaData()).thenReturn(metaData);
+		when(resultSet.next()).thenAnswer(invocation -> (row.incrementAndGet() + 1) * columnCount <= values.length);
+		when(resultSet.getObject(anyInt()))
+				.thenAnswer(invocation -> values[row.get() * columnCount + invocation.<Integer> getArgument(0) - 1]);
+		when(resultSet.getObject(anyString())).thenAnswer(invocation -> {
+
+			int index = columns.stream().map(String::toUpperCase).toList()
+					.indexOf(invocation.<String> getArgument(0).toUpperCase());
+
+			return values[row.get() * columnCount + index];
+		});
+
+		return resultSet;
+	}
+
+	private PersistentPropertyPath<RelationalPersistentProperty> getPath(String path, Class<?> baseType) {
+		return PersistentPropertyPathTestUtils.getPath(context, path, baseType);
+	}
+
+	private PersistentPropertyPathExtension getPathExtension(String path, Class<?> baseType) {
+		return new PersistentPropertyPathExtension(context, getPath(path, baseType));
+	}
+
+	@SuppressWarnings("unused")
+	static class Parent {
+
+		@Id Long id;
+		List<Child> children;
+		Map<String, GrandChild> mappedChildren;
+	}
+
+	@SuppressWarnings("unused")
+	static class Child {
+
+		@Id Long id;
+		Set<GrandChild> grandChildren;
+	}
+
+	@SuppressWarnings("unused")
+	static class GrandChild {
+
+		@Id Long id;
+		String name;
+		Detail detail;
+	}
+
+	@SuppressWarnings("unused")
+	static class Detail {
+		String content;
+	}
+
+	@SuppressWarnings("unused")
+	static class LazyParent {
+
+		@Id Long id;
+		@MappedCollection(lazy = true) List<Child> lazyChildren;
+		List<Child> eagerChildren;
+	}
+
+	@SuppressWarnings("unused")
+	static class TwoLists {
+
+		@Id Long id;
+		List<Child> first;
+		List<Child> second;
+	}
+
+	@SuppressWarnings("unused")
+	static class ParentWithoutIdChild {
+
+		@Id Long id;
+		List<ElementWithoutId> elements;
+	}
+
+	@SuppressWarnings("unused")
+	static class ElementWithoutId {
+
+		String name;
+		Set<GrandChild> grandChildren;
+	}
+}
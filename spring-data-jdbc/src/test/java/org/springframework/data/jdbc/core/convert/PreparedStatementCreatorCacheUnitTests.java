@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link PreparedStatementCreatorCache}.
+ */
+class PreparedStatementCreatorCacheUnitTests {
+
+	PreparedStatementCreatorCache cache = new PreparedStatementCreatorCache();
+
+	@Test
+	void reusesStatementForSameParameterShape() {
+
+		String sql = "SELECT * FROM dummy WHERE id = :id";
+
+		String first = getSql(sql, new MapSqlParameterSource("id", 1));
+		String second = getSql(sql, new MapSqlParameterSource("id", 2));
+
+		assertThat(first).isEqualTo("SELECT * FROM dummy WHERE id = ?");
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	void expandsCollectionsPerSize() {
+
+		String sql = "SELECT * FROM dummy WHERE id IN (:ids)";
+
+		String two = getSql(sql, new MapSqlParameterSource("ids", Arrays.asList(1, 2)));
+		String three = getSql(sql, new MapSqlParameterSource("ids", Arrays.asList(1, 2, 3)));
+
+		assertThat(two).isEqualTo("SELECT * FROM dummy WHERE id IN (?, ?)");
+		assertThat(three).isEqualTo("SELECT * FROM dummy WHERE id IN (?, ?, ?)");
+	}
+
+	@Test
+	void rendersStatementsWithoutCachingIfDisabled() {
+
+		PreparedStatementCreatorCache disabled = new PreparedStatementCreatorCache(0);
+		String sql = "SELECT * FROM dummy WHERE id = :id";
+
+		PreparedStatementCreator first = disabled.createPreparedStatementCreator(sql, new MapSqlParameterSource("id", 1));
+		PreparedStatementCreator second = disabled.createPreparedStatementCreator(sql, new MapSqlParameterSource("id", 2));
+
+		assertThat(((SqlProvider) first).getSql()).isEqualTo("SELECT * FROM dummy WHERE id = ?");
+		assertThat(((SqlProvider) second).getSql()).isNotSameAs(((SqlProvider) first).getSql());
+	}
+
+	@Test
+	void doesNotCacheParametersWithoutNames() {
+
+		SqlParameterSource parameters = new MapSqlParameterSource("id", 1) {
+
+			@Override
+			public String[] getParameterNames() {
+				return null;
+			}
+		};
+
+		assertThat(cache.getPreparedStatementCreator("SELECT * FROM dummy WHERE id = :id", parameters)).isNull();
+	}
+
+	private String getSql(String sql, SqlParameterSource parameters) {
+
+		PreparedStatementCreator creator = cache.getPreparedStatementCreator(sql, parameters);
+
+		assertThat(creator).isInstanceOf(SqlProvider.class);
+
+		return ((SqlProvider) creator).getSql();
+	}
+}
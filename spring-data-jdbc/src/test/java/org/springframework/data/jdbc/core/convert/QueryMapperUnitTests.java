@@ -29,6 +29,7 @@ import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.QueryMapper;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.AnsiDialect;
 import org.springframework.data.relational.core.dialect.PostgresDialect;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.query.Criteria;
@@ -295,7 +296,7 @@ public class QueryMapperUnitTests {
 
 		Condition condition = map(criteria);
 
-		assertThat(condition).hasToString("person.\"NAME\" IN (?[:name], ?[:name1], ?[:name2])");
+		assertThat(condition).hasToString("person.\"NAME\" IN (?[:name], ?[:name1], ?[:name2], ?[:name2])");
 	}
 
 	@Test // DATAJDBC-318
@@ -305,7 +306,19 @@ public class QueryMapperUnitTests {
 
 		Condition condition = map(criteria);
 
-		assertThat(condition).hasToString("person.\"NAME\" NOT IN (?[:name], ?[:name1], ?[:name2])");
+		assertThat(condition).hasToString("person.\"NAME\" NOT IN (?[:name], ?[:name1], ?[:name2], ?[:name2])");
+	}
+
+	@Test
+	void shouldNotPadInListsForDialectsWithoutInListPadding() {
+
+		QueryMapper mapper = new QueryMapper(AnsiDialect.INSTANCE, converter);
+		Criteria criteria = Criteria.where("name").in("a", "b", "c");
+
+		Condition condition = mapper.getMappedObject(new MapSqlParameterSource(), criteria, Table.create("person"),
+				context.getRequiredPersistentEntity(Person.class));
+
+		assertThat(condition).hasToString("person.\"NAME\" IN (?[:name], ?[:name1], ?[:name2])");
 	}
 
 	@Test // DATAJDBC-318
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link QueryStatementCache}.
+ */
+class QueryStatementCacheUnitTests {
+
+	QueryStatementCache cache = new QueryStatementCache();
+
+	@Test
+	void evictsLeastRecentlyUsedStatement() {
+
+		cache.setCacheLimit(2);
+
+		cache.get("one", () -> "SELECT 1");
+		cache.get("two", () -> "SELECT 2");
+		cache.get("one", () -> "SELECT 1");
+		cache.get("three", () -> "SELECT 3");
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("one", () -> "rendered again")).isEqualTo("SELECT 1");
+		assertThat(cache.get("two", () -> "rendered again")).isEqualTo("rendered again");
+		assertThat(cache.getHitCount()).isEqualTo(2);
+		assertThat(cache.getMissCount()).isEqualTo(4);
+	}
+
+	@Test
+	void cacheLimitOfZeroDisablesCaching() {
+
+		cache.setCacheLimit(0);
+
+		cache.get("one", () -> "SELECT 1");
+
+		assertThat(cache.get("one", () -> "rendered again")).isEqualTo("rendered again");
+		assertThat(cache.size()).isZero();
+		assertThat(cache.getHitCount()).isZero();
+	}
+}
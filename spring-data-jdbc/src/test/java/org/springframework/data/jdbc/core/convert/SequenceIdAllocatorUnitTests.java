@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.mapping.IdSequence;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.Sequence;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Unit tests for {@link SequenceIdAllocator}.
+ */
+class SequenceIdAllocatorUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	JdbcOperations operations = mock(JdbcOperations.class);
+	SequenceIdAllocator allocator = new SequenceIdAllocator(operations, PostgresDialect.INSTANCE);
+
+	@Test
+	void pooledSequenceValueProvidesBlockOfIds() {
+
+		when(operations.queryForObject("SELECT nextval('\"pooled_seq\"')", Long.class)).thenReturn(1L, 4L);
+
+		IdSequence sequence = getIdSequence(PooledEntity.class);
+
+		assertThat(allocator.allocate(sequence, 5)).containsExactly(1L, 2L, 3L, 4L, 5L);
+		assertThat(allocator.allocate(sequence, 1)).containsExactly(6L);
+		verify(operations, times(2)).queryForObject(anyString(), eq(Long.class));
+	}
+
+	@Test
+	void hiLoSequenceValueIsMultipliedByAllocationSize() {
+
+		when(operations.queryForObject("SELECT nextval('\"hilo_seq\"')", Long.class)).thenReturn(2L);
+
+		assertThat(allocator.allocate(getIdSequence(HiLoEntity.class), 3)).containsExactly(20L, 21L, 22L);
+	}
+
+	@Test
+	void keepsSeparateBlocksForDifferentDeclarationsOfSameSequence() {
+
+		when(operations.queryForObject("SELECT nextval('\"pooled_seq\"')", Long.class)).thenReturn(1L, 4L);
+
+		assertThat(allocator.allocate(getIdSequence(PooledEntity.class), 1)).containsExactly(1L);
+		assertThat(allocator.allocate(getIdSequence(SingleIdEntity.class), 1)).containsExactly(4L);
+		verify(operations, times(2)).queryForObject(anyString(), eq(Long.class));
+	}
+
+	@Test
+	void failsForDialectWithoutSequences() {
+
+		SequenceIdAllocator allocator = new SequenceIdAllocator(operations, MySqlDialect.INSTANCE);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> allocator.allocate(getIdSequence(PooledEntity.class), 1));
+		verifyNoInteractions(operations);
+	}
+
+	private IdSequence getIdSequence(Class<?> type) {
+		return context.getRequiredPersistentEntity(type).getIdSequence();
+	}
+
+	static class PooledEntity {
+		@Id @Sequence(value = "pooled_seq", allocationSize = 3) Long id;
+	}
+
+	static class SingleIdEntity {
+		@Id @Sequence(value = "pooled_seq", allocationSize = 1) Long id;
+	}
+
+	static class HiLoEntity {
+		@Id @Sequence(value = "hilo_seq", allocationSize = 10, optimizer = Sequence.Optimizer.HILO) Long id;
+	}
+}
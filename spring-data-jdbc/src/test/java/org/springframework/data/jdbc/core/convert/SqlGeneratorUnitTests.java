@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.SoftAssertions.*;
 import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
 
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -399,6 +400,108 @@ class SqlGeneratorUnitTests {
 				+ "WHERE dummy_entity.backref = :backref");
 	}
 
+	@Test
+	void reusesFindAllByPropertyStatementForSameBackReferenceColumns() {
+
+		String sql = sqlGenerator.getFindAllByProperty(BACKREF, unquoted("key-column"), true);
+
+		assertThat(sqlGenerator.getFindAllByProperty(Identifier.of(unquoted("backref"), "other-value", String.class),
+				unquoted("key-column"), true)).isSameAs(sql);
+		assertThat(sqlGenerator.getFindAllByProperty(BACKREF, unquoted("key-column"), false)).isNotEqualTo(sql);
+	}
+
+	@Test
+	void reusesInsertStatementForSameAdditionalColumns() {
+
+		String insert = sqlGenerator.getInsert(singleton(unquoted("backref")));
+
+		assertThat(sqlGenerator.getInsert(new HashSet<>(singleton(unquoted("backref"))))).isSameAs(insert);
+		assertThat(sqlGenerator.getInsert(emptySet())).isNotEqualTo(insert);
+	}
+
+	@Test
+	void cachesInsertAndFindAllByPropertyStatementsPerGenerator() {
+
+		QueryStatementCache cache = new QueryStatementCache();
+		SqlGenerator sqlGenerator = new SqlGenerator(context, converter,
+				context.getRequiredPersistentEntity(DummyEntity.class), NonQuotingDialect.INSTANCE, cache);
+		Set<SqlIdentifier> additionalColumns = new HashSet<>(singleton(unquoted("backref")));
+
+		String insert = sqlGenerator.getInsert(additionalColumns);
+		additionalColumns.add(unquoted("other"));
+
+		assertThat(sqlGenerator.getInsert(singleton(unquoted("backref")))).isSameAs(insert);
+		assertThat(sqlGenerator.getFindAllByProperty(BACKREF, null, false))
+				.isSameAs(sqlGenerator.getFindAllByProperty(BACKREF, null, false));
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void findAllByPathAndRootIdsFirstLevel() {
+
+		PersistentPropertyPathExtension path = getPathExtension("mappedElements", DummyEntity.class);
+
+		String sql = createSqlGenerator(Element.class).getFindAllByPathAndRootIds(path,
+				singleton(unquoted("dummy_entity")));
+
+		assertThat(sql).contains("SELECT", //
+				"element.x_content AS x_content", //
+				"element.dummy_entity AS dummy_entity", //
+				"element.dummy_entity_key AS dummy_entity_key", //
+				"FROM element") //
+				.endsWith("WHERE element.dummy_entity IN (:ids)");
+	}
+
+	@Test
+	void findAllByPathAndRootIdSecondLevel() {
+
+		PersistentPropertyPathExtension path = getPathExtension("ref.further", DummyEntity.class);
+
+		String sql = createSqlGenerator(SecondLevelReferencedEntity.class).getFindAllByPathAndRootId(path,
+				singleton(unquoted("referenced_entity")));
+
+		assertThat(sql).isEqualTo("SELECT second_level_referenced_entity.x_l2id AS x_l2id, " //
+				+ "second_level_referenced_entity.x_something AS x_something, " //
+				+ "second_level_referenced_entity.referenced_entity AS referenced_entity " //
+				+ "FROM second_level_referenced_entity " //
+				+ "WHERE second_level_referenced_entity.referenced_entity IN " //
+				+ "(SELECT referenced_entity.x_l1id FROM referenced_entity WHERE referenced_entity.dummy_entity = :rootId)");
+	}
+
+	@Test
+	void findAllByPathAndRootIdsSecondLevel() {
+
+		PersistentPropertyPathExtension path = getPathExtension("ref.further", DummyEntity.class);
+
+		String sql = createSqlGenerator(SecondLevelReferencedEntity.class).getFindAllByPathAndRootIds(path,
+				singleton(unquoted("referenced_entity")));
+
+		assertThat(sql).endsWith("WHERE second_level_referenced_entity.referenced_entity IN " //
+				+ "(SELECT referenced_entity.x_l1id FROM referenced_entity WHERE referenced_entity.dummy_entity IN (:ids))");
+	}
+
+	@Test
+	void findAllByPathAndRootIdSelect() {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		Query query = Query.query(Criteria.where("name").is("Diego"));
+
+		org.springframework.data.relational.core.sql.Select rootIdSelect = sqlGenerator.getIdSelectByQuery(query,
+				parameterSource);
+
+		PersistentPropertyPathExtension path = getPathExtension("elements", DummyEntity.class);
+		String sql = createSqlGenerator(Element.class).getFindAllByPathAndRootIdSelect(path,
+				singleton(unquoted("dummy_entity")), rootIdSelect);
+
+		assertThat(sql).contains("SELECT", //
+				"element.dummy_entity AS dummy_entity", //
+				"FROM element", //
+				"WHERE element.dummy_entity IN (SELECT dummy_entity.id1 FROM dummy_entity", //
+				"LEFT OUTER JOIN referenced_entity ref ON ref.dummy_entity = dummy_entity.id1", //
+				"dummy_entity.x_name = :x_name");
+		assertThat(parameterSource.getValues()).containsOnly(entry("x_name", "Diego"));
+	}
+
 	@Test // DATAJDBC-130
 	void findAllByPropertyOrderedWithoutKey() {
 		assertThatExceptionOfType(IllegalArgumentException.class)
@@ -469,6 +572,17 @@ class SqlGeneratorUnitTests {
 				+ "(\"test\"\"_@123\") " + "VALUES (:test_123)");
 	}
 
+	@Test
+	void getRenderedInsertMatchesColumnsOfInsert() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithQuotedColumnName.class, AnsiDialect.INSTANCE);
+
+		RenderedInsert renderedInsert = sqlGenerator.getRenderedInsert(emptySet());
+
+		assertThat(renderedInsert.table()).isEqualTo("\"ENTITY_WITH_QUOTED_COLUMN_NAME\"");
+		assertThat(renderedInsert.columns()).containsExactly("\"test\"\"_@123\"");
+	}
+
 	@Test // DATAJDBC-266
 	void joinForOneToOneWithoutIdIncludesTheBackReferenceOfTheOuterJoin() {
 
@@ -832,6 +946,88 @@ class SqlGeneratorUnitTests {
 				.containsOnly(entry("x_name", probe.name));
 	}
 
+	@Test
+	void selectByQuerySelectsOnlyIdAndQueriedColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class);
+
+		Query query = Query.query(Criteria.where("name").is("Diego")).columns("name");
+
+		String generatedSQL = sqlGenerator.selectByQuery(query, new MapSqlParameterSource());
+
+		assertSoftly(softly -> softly //
+				.assertThat(generatedSQL) //
+				.contains("dummy_entity.id1 AS id1") //
+				.contains("dummy_entity.x_name AS x_name") //
+				.doesNotContain("x_other") //
+				.doesNotContain("ref_x_content") //
+				.doesNotContain("JOIN"));
+	}
+
+	@Test
+	void selectByQueryResolvesColumnNamesAndIgnoresUnknownColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class);
+
+		String byColumnName = sqlGenerator.selectByQuery(Query.empty().columns("x_name"), new MapSqlParameterSource());
+		String unknownColumn = sqlGenerator.selectByQuery(Query.empty().columns("unknown"), new MapSqlParameterSource());
+
+		assertSoftly(softly -> {
+
+			softly.assertThat(byColumnName) //
+					.contains("dummy_entity.x_name AS x_name") //
+					.doesNotContain("x_other");
+			softly.assertThat(unknownColumn) //
+					.contains("dummy_entity.x_name AS x_name") //
+					.contains("x_other");
+		});
+	}
+
+	@Test
+	void selectByQueryReusesStatementOfQueryWithSameShape() {
+
+		QueryStatementCache cache = new QueryStatementCache();
+		SqlGenerator sqlGenerator = new SqlGenerator(context, converter,
+				context.getRequiredPersistentEntity(DummyEntity.class), NonQuotingDialect.INSTANCE, cache);
+
+		MapSqlParameterSource first = new MapSqlParameterSource();
+		String firstSql = sqlGenerator.selectByQuery(Query.query(Criteria.where("name").is("Diego")), first);
+
+		MapSqlParameterSource second = new MapSqlParameterSource();
+		String secondSql = sqlGenerator.selectByQuery(Query.query(Criteria.where("name").is("Jens")), second);
+
+		assertThat(secondSql).isSameAs(firstSql);
+		assertThat(second.getValues()).containsOnly(entry("x_name", "Jens"));
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void selectByQueryRendersQueriesOfDifferentShapeSeparately() {
+
+		QueryStatementCache cache = new QueryStatementCache();
+		SqlGenerator sqlGenerator = new SqlGenerator(context, converter,
+				context.getRequiredPersistentEntity(DummyEntity.class), NonQuotingDialect.INSTANCE, cache);
+
+		String twoValues = sqlGenerator.selectByQuery(Query.query(Criteria.where("name").in("a", "b")),
+				new MapSqlParameterSource());
+		String threeValues = sqlGenerator.selectByQuery(Query.query(Criteria.where("name").in("a", "b", "c")),
+				new MapSqlParameterSource());
+		String notEqual = sqlGenerator.selectByQuery(Query.query(Criteria.where("name").not("a")),
+				new MapSqlParameterSource());
+		String limited = sqlGenerator.selectByQuery(Query.query(Criteria.where("name").not("a")).limit(5),
+				new MapSqlParameterSource());
+		String counted = sqlGenerator.countByQuery(Query.query(Criteria.where("name").not("a")),
+				new MapSqlParameterSource());
+
+		assertThat(threeValues).isNotEqualTo(twoValues).contains(":x_name2");
+		assertThat(notEqual).isNotEqualTo(twoValues);
+		assertThat(limited).isNotEqualTo(notEqual).containsIgnoringCase("LIMIT 5");
+		assertThat(counted).containsIgnoringCase("COUNT(1)");
+		assertThat(cache.getHitCount()).isZero();
+		assertThat(cache.getMissCount()).isEqualTo(5);
+	}
+
 	@Nullable
 	private SqlIdentifier getAlias(Object maybeAliased) {
 
@@ -852,6 +1048,10 @@ class SqlGeneratorUnitTests {
 		return PersistentPropertyPathTestUtils.getPath(context, path, baseType);
 	}
 
+	private PersistentPropertyPathExtension getPathExtension(String path, Class<?> baseType) {
+		return new PersistentPropertyPathExtension(context, getPath(path, baseType));
+	}
+
 	@SuppressWarnings("unused")
 	static class DummyEntity {
 
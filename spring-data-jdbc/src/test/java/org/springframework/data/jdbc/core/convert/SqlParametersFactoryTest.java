@@ -38,6 +38,7 @@ import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.AnsiDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.jdbc.core.JdbcOperations;
@@ -147,6 +148,26 @@ class SqlParametersFactoryTest {
 		assertThat(sqlParameterSource.getValue("value")).isEqualTo(value);
 	}
 
+	@Test
+	void padsIdsForDialectsWithInListPadding() {
+
+		SqlParametersFactory sqlParametersFactory = new SqlParametersFactory(context, converter, PostgresDialect.INSTANCE);
+
+		SqlIdentifierParameterSource sqlParameterSource = sqlParametersFactory.forQueryByIds(asList(1L, 2L, 3L),
+				EntityWithBoolean.class);
+
+		assertThat(sqlParameterSource.getValue("ids")).asList().containsExactly(1L, 2L, 3L, 3L);
+	}
+
+	@Test
+	void doesNotPadIdsByDefault() {
+
+		SqlIdentifierParameterSource sqlParameterSource = sqlParametersFactory.forQueryByIds(asList(1L, 2L, 3L),
+				EntityWithBoolean.class);
+
+		assertThat(sqlParameterSource.getValue("ids")).asList().containsExactly(1L, 2L, 3L);
+	}
+
 	@WritingConverter
 	enum IdValueToStringConverter implements Converter<IdValue, String> {
 
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Unit tests for {@link StatementSettings}.
+ */
+class StatementSettingsUnitTests {
+
+	@Test
+	void createsSettingsFromQuery() {
+
+		StatementSettings settings = StatementSettings
+				.of(Query.empty().fetchSize(50).timeout(Duration.ofMillis(1500)));
+
+		assertThat(settings.getFetchSize()).isEqualTo(50);
+		assertThat(settings.getMaxRows()).isEqualTo(-1);
+		assertThat(settings.getQueryTimeout()).isEqualTo(2);
+		assertThat(StatementSettings.of(Query.empty())).isSameAs(StatementSettings.DEFAULT);
+	}
+
+	@Test
+	void appliesSettingsToCreatedStatement() throws Exception {
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(connection.prepareStatement("SELECT * FROM dummy WHERE id = ?")).thenReturn(statement);
+
+		PreparedStatementCreator creator = StatementSettings.of(100, 10, -1).apply(new PreparedStatementCreatorCache()
+				.createPreparedStatementCreator("SELECT * FROM dummy WHERE id = :id", new MapSqlParameterSource("id", 1)));
+
+		assertThat(creator.createPreparedStatement(connection)).isSameAs(statement);
+		assertThat(((SqlProvider) creator).getSql()).isEqualTo("SELECT * FROM dummy WHERE id = ?");
+
+		verify(statement).setFetchSize(100);
+		verify(statement).setMaxRows(10);
+		verify(statement, never()).setQueryTimeout(anyInt());
+	}
+
+	@Test
+	void defaultSettingsKeepStatementCreator() {
+
+		PreparedStatementCreator creator = connection -> mock(PreparedStatement.class);
+
+		assertThat(StatementSettings.DEFAULT.apply(creator)).isSameAs(creator);
+	}
+
+	@Test
+	void keepsConfiguredFetchSizeOverDefault() {
+
+		assertThat(StatementSettings.of(100, -1, -1).withDefaultFetchSize(500).getFetchSize()).isEqualTo(100);
+		assertThat(StatementSettings.DEFAULT.withDefaultFetchSize(500).getFetchSize()).isEqualTo(500);
+		assertThat(StatementSettings.DEFAULT.withDefaultFetchSize(-1)).isSameAs(StatementSettings.DEFAULT);
+	}
+}
@@ -72,6 +72,7 @@ import org.springframework.data.jdbc.testing.TestDatabaseFeatures;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.event.AbstractRelationalEvent;
 import org.springframework.data.relational.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.relational.core.query.KeysetPosition;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.repository.CrudRepository;
@@ -490,6 +491,35 @@ public class JdbcRepositoryIntegrationTests {
 		assertThat(slice.hasNext()).isTrue();
 	}
 
+	@Test
+	@EnabledOnFeature(TestDatabaseFeatures.Feature.SUPPORTS_NULL_PRECEDENCE)
+	void derivedQueryContinuesAfterKeysetPositionWithNullKeysAndMixedDirections() {
+
+		DummyEntity alpha = repository.save(new DummyEntity("alpha"));
+		DummyEntity firstUnnamed = repository.save(new DummyEntity(null));
+		DummyEntity beta = repository.save(new DummyEntity("beta"));
+		DummyEntity secondUnnamed = repository.save(new DummyEntity(null));
+
+		Sort sort = Sort.by(Sort.Order.desc("name").nullsFirst(), Sort.Order.asc("idProp"));
+
+		List<DummyEntity> first = repository.findFirst2ByFlagFalse(KeysetPosition.initial(), sort);
+
+		assertThat(first).extracting(DummyEntity::getIdProp).containsExactly(firstUnnamed.getIdProp(),
+				secondUnnamed.getIdProp());
+
+		KeysetPosition afterUnnamed = KeysetPosition.of(sort,
+				property -> property.equals("name") ? null : firstUnnamed.getIdProp());
+
+		assertThat(repository.findFirst2ByFlagFalse(afterUnnamed, sort)).extracting(DummyEntity::getIdProp)
+				.containsExactly(secondUnnamed.getIdProp(), beta.getIdProp());
+
+		KeysetPosition afterBeta = KeysetPosition.of(sort,
+				property -> property.equals("name") ? "beta" : beta.getIdProp());
+
+		assertThat(repository.findFirst2ByFlagFalse(afterBeta, sort)).extracting(DummyEntity::getIdProp)
+				.containsExactly(alpha.getIdProp());
+	}
+
 	@Test // GH-935
 	public void queryByOffsetDateTime() {
 
@@ -1318,6 +1348,8 @@ public class JdbcRepositoryIntegrationTests {
 
 		Slice<DummyEntity> findSliceByNameContains(String name, Pageable pageable);
 
+		List<DummyEntity> findFirst2ByFlagFalse(KeysetPosition position, Sort sort);
+
 		@Query("SELECT * FROM DUMMY_ENTITY WHERE OFFSET_DATE_TIME > :threshhold")
 		List<DummyEntity> findByOffsetDateTime(@Param("threshhold") OffsetDateTime threshhold);
 
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.jdbc.core.convert.StatementSettings;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.repository.core.NamedQueries;
@@ -122,6 +123,15 @@ public class JdbcQueryMethodUnitTests {
 		assertThat(queryMethod.getDeclaredQuery()).isEqualTo(null);
 	}
 
+	@Test
+	void returnsStatementSettingsFromQueryHints() throws NoSuchMethodException {
+
+		JdbcQueryMethod queryMethod = createJdbcQueryMethod("queryMethodWithQueryHints");
+
+		assertThat(queryMethod.getStatementSettings()).isEqualTo(StatementSettings.of(100, -1, 5));
+		assertThat(createJdbcQueryMethod("queryMethod").getStatementSettings()).isSameAs(StatementSettings.DEFAULT);
+	}
+
 	@Test // GH-1041
 	void returnsQueryMethodWithCorrectLockTypeWriteLock() throws NoSuchMethodException {
 
@@ -148,6 +158,10 @@ public class JdbcQueryMethodUnitTests {
 		assertThat(queryMethodWithWriteLock.lookupLockAnnotation()).isEmpty();
 	}
 
+	@QueryHints(fetchSize = 100, queryTimeout = 5)
+	@Query(QUERY)
+	private void queryMethodWithQueryHints() {}
+
 	@Lock(LockMode.PESSIMISTIC_WRITE)
 	@Query
 	private void queryMethodWithWriteLock() {}
@@ -669,6 +669,32 @@ public class PartTreeJdbcQueryUnitTests {
 				.isEqualTo("SELECT COUNT(*) FROM " + TABLE + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
 	}
 
+	@Test
+	void reusesStatementForInvocationsOfSameVariant() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery first = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }), returnedType);
+		ParametrizedQuery second = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "Jane" }), returnedType);
+
+		assertThat(second.getQuery()).isSameAs(first.getQuery());
+		assertThat(second.getParameterSource().getValue("first_name")).isEqualTo("Jane");
+	}
+
+	@Test
+	void rendersStatementPerVariantOfArguments() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery nonNull = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }), returnedType);
+		ParametrizedQuery isNull = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { null }), returnedType);
+
+		assertThat(nonNull.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
+		assertThat(isNull.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" IS NULL");
+	}
+
 	private PartTreeJdbcQuery createQuery(JdbcQueryMethod queryMethod) {
 		return new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
 				mock(NamedParameterJdbcOperations.class), mock(RowMapper.class));
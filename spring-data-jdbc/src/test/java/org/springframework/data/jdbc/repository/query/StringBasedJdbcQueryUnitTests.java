@@ -44,6 +44,7 @@ import org.springframework.data.jdbc.core.convert.JdbcTypeFactory;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
 import org.springframework.data.jdbc.core.mapping.JdbcValue;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.relational.core.dialect.InListPadding;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.repository.Repository;
@@ -230,6 +231,38 @@ class StringBasedJdbcQueryUnitTests {
 		assertThat(sqlParameterSource.getValue("value")).isEqualTo(1);
 	}
 
+	@Test
+	void padsIterableParameterUsedAsInList() {
+
+		JdbcQueryMethod queryMethod = createMethod("findByIdIn", List.class);
+		BasicJdbcConverter converter = new BasicJdbcConverter(mock(RelationalMappingContext.class), mock(RelationResolver.class));
+		StringBasedJdbcQuery query = new StringBasedJdbcQuery(queryMethod, operations, result -> mock(RowMapper.class), converter);
+		query.setInListPadding(InListPadding.POWER_OF_TWO);
+
+		query.execute(new Object[] { List.of(1L, 2L, 3L) });
+
+		ArgumentCaptor<SqlParameterSource> captor = ArgumentCaptor.forClass(SqlParameterSource.class);
+		verify(operations).query(anyString(), captor.capture(), any(ResultSetExtractor.class));
+
+		assertThat(captor.getValue().getValue("ids")).asList().containsExactly(1L, 2L, 3L, 3L);
+	}
+
+	@Test
+	void doesNotPadIterableParameterUsedOutsideOfInLists() {
+
+		JdbcQueryMethod queryMethod = createMethod("findByIdInAndArray", List.class);
+		BasicJdbcConverter converter = new BasicJdbcConverter(mock(RelationalMappingContext.class), mock(RelationResolver.class));
+		StringBasedJdbcQuery query = new StringBasedJdbcQuery(queryMethod, operations, result -> mock(RowMapper.class), converter);
+		query.setInListPadding(InListPadding.POWER_OF_TWO);
+
+		query.execute(new Object[] { List.of(1L, 2L, 3L) });
+
+		ArgumentCaptor<SqlParameterSource> captor = ArgumentCaptor.forClass(SqlParameterSource.class);
+		verify(operations).query(anyString(), captor.capture(), any(ResultSetExtractor.class));
+
+		assertThat(captor.getValue().getValue("ids")).asList().containsExactly(1L, 2L, 3L);
+	}
+
 	private JdbcQueryMethod createMethod(String methodName, Class<?>... paramTypes) {
 
 		Method method = ReflectionUtils.findMethod(MyRepository.class, methodName, paramTypes);
@@ -275,6 +308,12 @@ class StringBasedJdbcQueryUnitTests {
 
 		@Query(value = "some sql statement")
 		List<Object> findBySimpleValue(Integer value);
+
+		@Query(value = "SELECT * FROM dummy_entity WHERE id IN (:ids)")
+		List<Object> findByIdIn(List<Long> ids);
+
+		@Query(value = "SELECT * FROM dummy_entity WHERE id IN (:ids) AND ARRAY[:ids] <> ARRAY[0]")
+		List<Object> findByIdInAndArray(List<Long> ids);
 	}
 
 	private static class CustomRowMapper implements RowMapper<Object> {
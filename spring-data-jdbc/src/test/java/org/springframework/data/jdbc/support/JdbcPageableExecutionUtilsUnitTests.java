@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link JdbcPageableExecutionUtils}.
+ */
+class JdbcPageableExecutionUtilsUnitTests {
+
+	ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void runsCountQueryConcurrentlyToContentQuery() {
+
+		CountDownLatch countStarted = new CountDownLatch(1);
+
+		Page<String> page = JdbcPageableExecutionUtils.getPage(() -> {
+
+			try {
+				assertThat(countStarted.await(5, TimeUnit.SECONDS)).isTrue();
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+
+			return Arrays.asList("a", "b");
+		}, PageRequest.of(1, 2), () -> {
+
+			countStarted.countDown();
+			return 10;
+		}, executor);
+
+		assertThat(page.getContent()).containsExactly("a", "b");
+		assertThat(page.getTotalElements()).isEqualTo(10);
+	}
+
+	@Test
+	void runsQueriesSequentiallyWithoutExecutor() {
+
+		AtomicInteger counts = new AtomicInteger();
+
+		Page<String> page = JdbcPageableExecutionUtils.getPage(() -> Arrays.asList("a", "b"), PageRequest.of(0, 2),
+				() -> {
+					counts.incrementAndGet();
+					return 5;
+				}, null);
+
+		assertThat(page.getTotalElements()).isEqualTo(5);
+		assertThat(counts).hasValue(1);
+	}
+
+	@Test
+	void runsQueriesSequentiallyWithinTransaction() {
+
+		Thread caller = Thread.currentThread();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		try {
+
+			Page<String> page = JdbcPageableExecutionUtils.getPage(() -> Arrays.asList("a", "b"), PageRequest.of(0, 2),
+					() -> {
+						assertThat(Thread.currentThread()).isSameAs(caller);
+						return 5;
+					}, executor);
+
+			assertThat(page.getTotalElements()).isEqualTo(5);
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+	}
+
+	@Test
+	void doesNotRequireCountForLastPage() {
+
+		List<String> content = Arrays.asList("a");
+
+		Page<String> page = JdbcPageableExecutionUtils.getPage(() -> content, PageRequest.of(2, 2), () -> {
+			throw new IllegalStateException("Count query must not be awaited");
+		}, executor);
+
+		assertThat(page.getTotalElements()).isEqualTo(5);
+	}
+
+	@Test
+	void propagatesCountQueryFailure() {
+
+		assertThatIllegalStateException().isThrownBy(() -> JdbcPageableExecutionUtils.getPage(
+				() -> Arrays.asList("a", "b"), PageRequest.of(0, 2), () -> {
+					throw new IllegalStateException("Count failed");
+				}, executor)).withMessage("Count failed");
+	}
+}
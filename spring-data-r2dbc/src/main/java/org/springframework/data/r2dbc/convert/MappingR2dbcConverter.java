@@ -22,9 +22,12 @@ import io.r2dbc.spi.RowMetadata;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import org.springframework.core.CollectionFactory;
@@ -57,6 +60,10 @@ import org.springframework.r2dbc.core.Parameter;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+import org.springframework.util.LinkedCaseInsensitiveMap;
 
 /**
  * Converter for R2DBC.
@@ -66,6 +73,15 @@ import org.springframework.util.CollectionUtils;
  */
 public class MappingR2dbcConverter extends BasicRelationalConverter implements R2dbcConverter {
 
+	/**
+	 * Maximum number of distinct column lists whose {@link RowShape} gets retained: 256.
+	 */
+	private static final int ROW_SHAPE_CACHE_LIMIT = 256;
+
+	private final Map<RowMetadata, RowShape> rowShapes = new ConcurrentReferenceHashMap<>(16, ReferenceType.WEAK);
+	private final ConcurrentLruCache<List<String>, RowShape> rowShapesByColumns = new ConcurrentLruCache<>(
+			ROW_SHAPE_CACHE_LIMIT, RowShape::new);
+
 	/**
 	 * Creates a new {@link MappingR2dbcConverter} given {@link MappingContext}.
 	 *
@@ -124,7 +140,11 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 
 	private <R> R read(RelationalPersistentEntity<R> entity, Row row, @Nullable RowMetadata metadata) {
 
-		R result = createInstance(row, metadata, "", entity);
+		if (metadata != null) {
+			return getRowShape(metadata).getReader(entity).read(row, metadata);
+		}
+
+		R result = createInstance(row, null, "", entity);
 
 		if (entity.requiresPropertyPopulation()) {
 			ConvertingPropertyAccessor<R> propertyAccessor = new ConvertingPropertyAccessor<>(
@@ -170,19 +190,7 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 				value = row.get(identifier);
 			}
 
-			if (value == null) {
-				return null;
-			}
-
-			if (getConversions().hasCustomReadTarget(value.getClass(), property.getType())) {
-				return readValue(value, property.getTypeInformation());
-			}
-
-			if (property.isEntity()) {
-				return readEntityFrom(row, metadata, property);
-			}
-
-			return readValue(value, property.getTypeInformation());
+			return readPropertyValue(row, metadata, property, value);
 
 		} catch (Exception o_O) {
 			throw new MappingException(String.format("Could not read property %s from column %s", property, identifier),
@@ -190,6 +198,34 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 		}
 	}
 
+	/**
+	 * Read the value of the {@link RelationalPersistentProperty} from the column value obtained from the {@link Row}.
+	 *
+	 * @param row the {@link Row} the value was obtained from. Must not be {@literal null}.
+	 * @param metadata the {@link RowMetadata}. Can be {@literal null}.
+	 * @param property the {@link RelationalPersistentProperty} for which the value is intended. Must not be
+	 *          {@literal null}.
+	 * @param value the column value. Can be {@literal null}.
+	 * @return the value of the property. May be {@literal null}.
+	 */
+	@Nullable
+	private Object readPropertyValue(Row row, @Nullable RowMetadata metadata, RelationalPersistentProperty property,
+			@Nullable Object value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (getConversions().hasCustomReadTarget(value.getClass(), property.getType())) {
+			return readValue(value, property.getTypeInformation());
+		}
+
+		if (property.isEntity()) {
+			return readEntityFrom(row, metadata, property);
+		}
+
+		return readValue(value, property.getTypeInformation());
+	}
 
 	public Object readValue(@Nullable Object value, TypeInformation<?> type) {
 
@@ -311,6 +347,19 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 		return (S) instance;
 	}
 
+	private RowShape getRowShape(RowMetadata metadata) {
+
+		return this.rowShapes.computeIfAbsent(metadata, it -> {
+
+			List<String> columnNames = new ArrayList<>();
+			for (ColumnMetadata column : RowMetadataUtils.getColumnMetadata(it)) {
+				columnNames.add(column.getName());
+			}
+
+			return this.rowShapesByColumns.get(columnNames);
+		});
+	}
+
 	private <S> S createInstance(Row row, @Nullable RowMetadata rowMetadata, String prefix,
 			RelationalPersistentEntity<S> entity) {
 
@@ -731,20 +780,201 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 			RelationalPersistentProperty property = this.entity.getRequiredPersistentProperty(parameter.getName());
 			Object value = readFrom(this.resultSet, this.metadata, property, this.prefix);
 
-			if (value == null) {
-				return null;
+			return convertParameterValue(this.converter, parameter, value);
+		}
+	}
+
+	@Nullable
+	private static <T> T convertParameterValue(RelationalConverter converter,
+			org.springframework.data.mapping.Parameter<T, RelationalPersistentProperty> parameter, @Nullable Object value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		Class<T> type = parameter.getType().getType();
+
+		if (type.isInstance(value)) {
+			return type.cast(value);
+		}
+
+		try {
+			return converter.getConversionService().convert(value, type);
+		} catch (Exception o_O) {
+			throw new MappingException(String.format("Couldn't read parameter %s", parameter.getName()), o_O);
+		}
+	}
+
+	/**
+	 * The columns of rows described by a {@link RowMetadata}. Rows of the same shape share their columns and
+	 * {@link RowReader readers}, regardless of the {@link RowMetadata} instance describing them.
+	 */
+	private class RowShape {
+
+		private final Map<String, Boolean> columns;
+		private final Map<Class<?>, RowReader<?>> readers = new ConcurrentHashMap<>();
+
+		RowShape(List<String> columnNames) {
+
+			this.columns = new LinkedCaseInsensitiveMap<>(columnNames.size());
+
+			for (String columnName : columnNames) {
+				this.columns.put(columnName, Boolean.TRUE);
 			}
+		}
 
-			Class<T> type = parameter.getType().getType();
+		/**
+		 * Check whether the rows contain the column {@code name}. The check happens case-insensitive.
+		 *
+		 * @param name column name.
+		 * @return {@code true} if the rows contain the column {@code name}.
+		 */
+		boolean containsColumn(String name) {
+			return this.columns.containsKey(name);
+		}
+
+		@SuppressWarnings("unchecked")
+		<R> RowReader<R> getReader(RelationalPersistentEntity<R> entity) {
+			return (RowReader<R>) this.readers.computeIfAbsent(entity.getType(), type -> new RowReader<>(entity, this));
+		}
+	}
+
+	/**
+	 * A property along with its column in a {@link RowShape}, {@literal null} if the rows do not contain the column.
+	 */
+	private record ColumnProperty(RelationalPersistentProperty property, @Nullable String column) {}
+
+	/**
+	 * Reads entities from rows of a {@link RowShape}. The columns of the properties and constructor parameters get
+	 * resolved once, so that reading a row neither inspects the {@link RowMetadata} nor matches column names.
+	 */
+	private class RowReader<R> {
+
+		private final RelationalPersistentEntity<R> entity;
+		private final List<ColumnProperty> properties = new ArrayList<>();
+		private final Map<org.springframework.data.mapping.Parameter<?, RelationalPersistentProperty>, ColumnProperty> parameters = new IdentityHashMap<>();
+		private final boolean hasParameters;
+		private final boolean hasSpelParameters;
+
+		RowReader(RelationalPersistentEntity<R> entity, RowShape shape) {
+
+			this.entity = entity;
+
+			PreferredConstructor<R, RelationalPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
+			boolean hasSpelParameters = false;
+
+			if (persistenceConstructor != null && persistenceConstructor.hasParameters()) {
+
+				for (org.springframework.data.mapping.Parameter<Object, RelationalPersistentProperty> parameter : persistenceConstructor
+						.getParameters()) {
+
+					if (parameter.hasSpelExpression()) {
+						hasSpelParameters = true;
+						continue;
+					}
+
+					RelationalPersistentProperty property = entity.getRequiredPersistentProperty(parameter.getName());
+					this.parameters.put(parameter, new ColumnProperty(property, getColumn(shape, property)));
+				}
+
+				this.hasParameters = true;
+			} else {
+				this.hasParameters = false;
+			}
+
+			this.hasSpelParameters = hasSpelParameters;
+
+			if (entity.requiresPropertyPopulation()) {
+
+				for (RelationalPersistentProperty property : entity) {
+
+					if (!entity.isConstructorArgument(property)) {
+						this.properties.add(new ColumnProperty(property, getColumn(shape, property)));
+					}
+				}
+			}
+		}
+
+		@Nullable
+		private String getColumn(RowShape shape, RelationalPersistentProperty property) {
+
+			String column = property.getColumnName().getReference();
+			return shape.containsColumn(column) ? column : null;
+		}
+
+		R read(Row row, RowMetadata metadata) {
+
+			ParameterValueProvider<RelationalPersistentProperty> provider = NoOpParameterValueProvider.INSTANCE;
+
+			if (this.hasParameters) {
+
+				provider = new ParameterValueProvider<RelationalPersistentProperty>() {
 
-			if (type.isInstance(value)) {
-				return type.cast(value);
+					@Override
+					@Nullable
+					public <T> T getParameterValue(
+							org.springframework.data.mapping.Parameter<T, RelationalPersistentProperty> parameter) {
+						return readParameter(row, metadata, parameter);
+					}
+				};
+
+				if (this.hasSpelParameters) {
+
+					SpELContext spELContext = new SpELContext(new RowPropertyAccessor(metadata));
+					SpELExpressionEvaluator expressionEvaluator = new DefaultSpELExpressionEvaluator(row, spELContext);
+					provider = new SpELExpressionParameterValueProvider<>(expressionEvaluator, getConversionService(), provider);
+				}
 			}
 
+			R result = createInstance(this.entity, provider::getParameterValue);
+
+			if (!this.properties.isEmpty()) {
+
+				ConvertingPropertyAccessor<R> propertyAccessor = new ConvertingPropertyAccessor<>(
+						this.entity.getPropertyAccessor(result), getConversionService());
+
+				for (ColumnProperty property : this.properties) {
+
+					Object value = readColumn(row, metadata, property);
+
+					if (value != null) {
+						propertyAccessor.setProperty(property.property(), value);
+					}
+				}
+			}
+
+			return result;
+		}
+
+		@Nullable
+		private <T> T readParameter(Row row, RowMetadata metadata,
+				org.springframework.data.mapping.Parameter<T, RelationalPersistentProperty> parameter) {
+
+			ColumnProperty column = this.parameters.get(parameter);
+
+			if (column == null) {
+				column = new ColumnProperty(this.entity.getRequiredPersistentProperty(parameter.getName()), null);
+			}
+
+			return convertParameterValue(MappingR2dbcConverter.this, parameter, readColumn(row, metadata, column));
+		}
+
+		@Nullable
+		private Object readColumn(Row row, RowMetadata metadata, ColumnProperty column) {
+
+			String columnName = column.column();
+
+			if (columnName == null) {
+				return null;
+			}
+
+			RelationalPersistentProperty property = column.property();
+
 			try {
-				return this.converter.getConversionService().convert(value, type);
+				return readPropertyValue(row, metadata, property, row.get(columnName));
 			} catch (Exception o_O) {
-				throw new MappingException(String.format("Couldn't read parameter %s", parameter.getName()), o_O);
+				throw new MappingException(String.format("Could not read property %s from column %s", property, columnName),
+						o_O);
 			}
 		}
 	}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.r2dbc.core.PreparedOperation;
+import org.springframework.r2dbc.core.binding.BindTarget;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Cache of the statements {@link R2dbcEntityTemplate} uses to insert, update and delete entities. A statement is cached
+ * along with the layout of its bind markers per entity type, operation, set of columns and the types of the bound
+ * values, so that subsequent entities of the same shape bind their values directly instead of mapping and rendering the
+ * statement again. {@literal null} values are part of the shape, since they may get rendered differently. When the
+ * cache is full, the least recently used statement gets evicted.
+ *
+ * @since 3.0
+ */
+class EntityStatementCache {
+
+	/**
+	 * Default maximum number of cached statements: 256.
+	 */
+	static final int DEFAULT_CACHE_LIMIT = 256;
+
+	private final ConcurrentLruCache<Shape, TemplateHolder> templates = new ConcurrentLruCache<>(DEFAULT_CACHE_LIMIT,
+			shape -> new TemplateHolder());
+
+	/**
+	 * Return a {@link PreparedOperation} for the statement identified by {@code key} binding the given {@code values}.
+	 * On a cache miss, the operation gets created by {@code operationFactory} and its statement is cached if the values
+	 * it binds are exactly the given {@code values}, in the same order.
+	 *
+	 * @param key the shape of the statement.
+	 * @param values the values to bind, in the order of their bind markers.
+	 * @param operationFactory creates the operation for the given {@code values} on a cache miss.
+	 * @return the {@link PreparedOperation}.
+	 */
+	PreparedOperation<?> getOperation(Key key, List<Parameter> values,
+			Supplier<PreparedOperation<?>> operationFactory) {
+
+		TemplateHolder holder = this.templates.get(new Shape(key, getValueTypes(values)));
+		StatementTemplate template = holder.template;
+
+		if (template != null) {
+			return template.bind(values);
+		}
+
+		PreparedOperation<?> operation = operationFactory.get();
+		RecordingBindTarget recorder = new RecordingBindTarget();
+		operation.bindTo(recorder);
+
+		if (recorder.hasBound(values)) {
+			holder.template = new StatementTemplate(operation.toQuery(), recorder.markers);
+		}
+
+		return operation;
+	}
+
+	/**
+	 * @return the number of statement shapes currently held by the cache.
+	 */
+	int size() {
+		return this.templates.size();
+	}
+
+	/**
+	 * Returns the types of the given values, using {@literal null} for {@literal null} values.
+	 */
+	private static List<Class<?>> getValueTypes(List<Parameter> values) {
+
+		List<Class<?>> types = new ArrayList<>(values.size());
+
+		for (Parameter value : values) {
+			types.add(value.hasValue() ? value.getValue().getClass() : null);
+		}
+
+		return types;
+	}
+
+	/**
+	 * The shape of an entity statement.
+	 */
+	enum Operation {
+		INSERT, UPDATE, DELETE
+	}
+
+	/**
+	 * Identifies a cached statement.
+	 *
+	 * @param operation the kind of statement.
+	 * @param entityType the type of the entity.
+	 * @param table the table the statement applies to.
+	 * @param columns the columns the statement assigns, in order.
+	 * @param nullVersion whether the statement matches rows with a {@literal null} version.
+	 */
+	record Key(Operation operation, Class<?> entityType, SqlIdentifier table, List<SqlIdentifier> columns,
+			boolean nullVersion) {}
+
+	/**
+	 * The cache key: the statement along with the types of its bound values.
+	 */
+	private record Shape(Key key, List<Class<?>> valueTypes) {}
+
+	/**
+	 * Holds the template of a {@link Shape} once an operation of that shape turned out to bind its values unchanged.
+	 */
+	private static class TemplateHolder {
+		volatile @Nullable StatementTemplate template;
+	}
+
+	/**
+	 * A rendered statement along with the bind marker identifiers (index or name) of its values.
+	 */
+	private record StatementTemplate(String sql, List<Object> markers) {
+
+		PreparedOperation<String> bind(List<Parameter> values) {
+
+			if (values.size() != this.markers.size()) {
+				throw new IllegalStateException(
+						String.format("Statement [%s] binds %d values but got %d", this.sql, this.markers.size(), values.size()));
+			}
+
+			return new BoundStatement(this.sql, this.markers, values);
+		}
+	}
+
+	private record BoundStatement(String sql, List<Object> markers,
+			List<Parameter> values) implements PreparedOperation<String> {
+
+		@Override
+		public String getSource() {
+			return this.sql;
+		}
+
+		@Override
+		public String toQuery() {
+			return this.sql;
+		}
+
+		@Override
+		public void bindTo(BindTarget target) {
+
+			for (int i = 0; i < this.markers.size(); i++) {
+
+				Object marker = this.markers.get(i);
+				Parameter value = this.values.get(i);
+
+				if (value.hasValue()) {
+
+					if (marker instanceof Integer index) {
+						target.bind(index, value.getValue());
+					} else {
+						target.bind((String) marker, value.getValue());
+					}
+				} else if (marker instanceof Integer index) {
+					target.bindNull(index, value.getType());
+				} else {
+					target.bindNull((String) marker, value.getType());
+				}
+			}
+		}
+	}
+
+	/**
+	 * {@link BindTarget} recording the markers and values bound by a {@link PreparedOperation}.
+	 */
+	private static class RecordingBindTarget implements BindTarget {
+
+		private final List<Object> markers = new ArrayList<>();
+		private final List<Object> values = new ArrayList<>();
+
+		@Override
+		public void bind(String identifier, Object value) {
+			record(identifier, value);
+		}
+
+		@Override
+		public void bind(int index, Object value) {
+			record(index, value);
+		}
+
+		@Override
+		public void bindNull(String identifier, Class<?> type) {
+			record(identifier, null);
+		}
+
+		@Override
+		public void bindNull(int index, Class<?> type) {
+			record(index, null);
+		}
+
+		private void record(Object marker, @Nullable Object value) {
+
+			this.markers.add(marker);
+			this.values.add(value);
+		}
+
+		boolean hasBound(List<Parameter> parameters) {
+
+			if (parameters.size() != this.values.size()) {
+				return false;
+			}
+
+			for (int i = 0; i < parameters.size(); i++) {
+
+				Object value = this.values.get(i);
+
+				if (!Objects.equals(parameters.get(i).getValue(), value)
+						|| (value != null && value.getClass() != parameters.get(i).getValue().getClass())) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+	}
+}
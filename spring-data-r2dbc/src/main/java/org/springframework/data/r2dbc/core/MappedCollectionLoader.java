@@ -0,0 +1,303 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.CollectionFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.relational.core.mapping.MappedCollection;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.PreparedOperation;
+
+/**
+ * Loads the {@link MappedCollection @MappedCollection} properties of aggregate roots. Aggregate roots are processed in
+ * batches: each batch issues one query per mapped collection that selects the children of all aggregates within the
+ * batch ordered by their back reference. Children are grouped into their aggregate while rows arrive, and the
+ * aggregates of a batch are emitted as soon as its last child row was read. Memory consumption is therefore bounded by
+ * the batch size rather than by the size of the result.
+ * <p>
+ * Only collections of entities referencing their aggregate root through a back reference column are loaded. Nested
+ * collections of child entities are not loaded, and mapped collections are not written.
+ *
+ * @since 3.0
+ */
+class MappedCollectionLoader {
+
+	private final DatabaseClient databaseClient;
+	private final ReactiveDataAccessStrategy dataAccessStrategy;
+	private final Map<Class<?>, List<MappedCollectionProperty>> mappedCollections = new ConcurrentHashMap<>();
+
+	MappedCollectionLoader(DatabaseClient databaseClient, ReactiveDataAccessStrategy dataAccessStrategy) {
+
+		this.databaseClient = databaseClient;
+		this.dataAccessStrategy = dataAccessStrategy;
+	}
+
+	/**
+	 * @param entity the aggregate root entity.
+	 * @return {@literal true} if the {@code entity} has {@link MappedCollection @MappedCollection} properties to load.
+	 */
+	boolean hasMappedCollections(RelationalPersistentEntity<?> entity) {
+		return !getMappedCollections(entity).isEmpty();
+	}
+
+	/**
+	 * Remove the columns of the {@link MappedCollection @MappedCollection} properties from the given {@link OutboundRow}
+	 * as mapped collections are stored in the table of their elements.
+	 *
+	 * @param entity the aggregate root entity.
+	 * @param outboundRow the row to write for an aggregate root.
+	 */
+	void removeMappedCollections(RelationalPersistentEntity<?> entity, OutboundRow outboundRow) {
+
+		for (MappedCollectionProperty collection : getMappedCollections(entity)) {
+			outboundRow.remove(collection.property().getColumnName());
+		}
+	}
+
+	/**
+	 * Load the mapped collections of the given {@code aggregates}.
+	 *
+	 * @param aggregates the aggregate roots to load the mapped collections for.
+	 * @param entity the aggregate root entity.
+	 * @param batchSize number of aggregates that share a query per mapped collection. {@code aggregates} is requested one
+	 *          batch at a time.
+	 * @return the aggregate roots along with their mapped collections, in the order of {@code aggregates}.
+	 */
+	<T> Flux<T> load(Flux<T> aggregates, RelationalPersistentEntity<?> entity, int batchSize) {
+
+		List<MappedCollectionProperty> collections = getMappedCollections(entity);
+
+		if (collections.isEmpty()) {
+			return aggregates;
+		}
+
+		return aggregates.buffer(batchSize).concatMap(batch -> loadBatch(batch, entity, collections), 0);
+	}
+
+	private <T> Flux<T> loadBatch(List<T> batch, RelationalPersistentEntity<?> entity,
+			List<MappedCollectionProperty> collections) {
+
+		Batch<T> aggregates = new Batch<>(batch, entity, dataAccessStrategy.getConverter());
+
+		if (aggregates.isEmpty()) {
+			return Flux.fromIterable(batch);
+		}
+
+		return Flux.fromIterable(collections) //
+				.concatMap(collection -> loadCollection(aggregates, collection)) //
+				.thenMany(Flux.defer(() -> Flux.fromIterable(aggregates.getAggregates())));
+	}
+
+	private Mono<Void> loadCollection(Batch<?> aggregates, MappedCollectionProperty collection) {
+
+		R2dbcConverter converter = dataAccessStrategy.getConverter();
+		RelationalPersistentEntity<?> childEntity = collection.childEntity();
+		String reverseColumn = dataAccessStrategy.toSql(collection.reverseColumn());
+
+		Sort sort = Sort.by(reverseColumn);
+		if (collection.keyColumn() != null) {
+			sort = sort.and(Sort.by(dataAccessStrategy.toSql(collection.keyColumn())));
+		}
+
+		StatementMapper statementMapper = dataAccessStrategy.getStatementMapper().forType(childEntity.getType());
+		StatementMapper.SelectSpec selectSpec = statementMapper.createSelect(childEntity.getTableName()) //
+				.doWithTable((table, spec) -> spec.withProjection(table.asterisk())) //
+				.withCriteria(Criteria.where(reverseColumn).in(aggregates.getIds())) //
+				.withSort(sort);
+
+		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
+		String reverseColumnReference = collection.reverseColumn().getReference();
+
+		BitSet loaded = new BitSet();
+
+		return databaseClient.sql(operation) //
+				.map((row, metadata) -> new ChildRow(aggregates.readId(row.get(reverseColumnReference)),
+						converter.read(childEntity.getType(), row, metadata))) //
+				.all() //
+				.bufferUntilChanged(ChildRow::aggregateId) //
+				.doOnNext(children -> {
+
+					List<Object> values = new ArrayList<>(children.size());
+					for (ChildRow child : children) {
+						values.add(child.value());
+					}
+
+					aggregates.setCollection(children.get(0).aggregateId(), collection, values, loaded);
+				}) //
+				.then(Mono.fromRunnable(() -> aggregates.setEmptyCollections(collection, loaded)));
+	}
+
+	private List<MappedCollectionProperty> getMappedCollections(RelationalPersistentEntity<?> entity) {
+		return this.mappedCollections.computeIfAbsent(entity.getType(), it -> doGetMappedCollections(entity));
+	}
+
+	private List<MappedCollectionProperty> doGetMappedCollections(RelationalPersistentEntity<?> entity) {
+
+		if (!entity.hasIdProperty()) {
+			return Collections.emptyList();
+		}
+
+		MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext = dataAccessStrategy
+				.getConverter().getMappingContext();
+		List<MappedCollectionProperty> collections = new ArrayList<>();
+
+		for (RelationalPersistentProperty property : entity) {
+
+			if (!property.isCollectionLike() || property.isArray() || !property.isEntity()
+					|| !property.isAnnotationPresent(MappedCollection.class)) {
+				continue;
+			}
+
+			PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(mappingContext,
+					mappingContext.getPersistentPropertyPath(property.getName(), entity.getType()));
+
+			collections.add(new MappedCollectionProperty(property,
+					mappingContext.getRequiredPersistentEntity(property.getActualType()), path.getReverseColumnName(),
+					property.isOrdered() ? property.getKeyColumn() : null));
+		}
+
+		return collections;
+	}
+
+	/**
+	 * A {@link MappedCollection @MappedCollection} property of an aggregate root.
+	 *
+	 * @param property the collection property.
+	 * @param childEntity the entity of the collection elements.
+	 * @param reverseColumn the column of the child table referencing the aggregate root.
+	 * @param keyColumn the column holding the index of ordered collections.
+	 */
+	private record MappedCollectionProperty(RelationalPersistentProperty property,
+			RelationalPersistentEntity<?> childEntity, SqlIdentifier reverseColumn, @Nullable SqlIdentifier keyColumn) {}
+
+	/**
+	 * A child entity read along with the identifier of its aggregate root.
+	 */
+	private record ChildRow(@Nullable Object aggregateId, Object value) {}
+
+	/**
+	 * A batch of aggregate roots indexed by their identifier.
+	 */
+	private static class Batch<T> {
+
+		private final Object[] aggregates;
+		private final RelationalPersistentEntity<?> entity;
+		private final R2dbcConverter converter;
+		private final RelationalPersistentProperty idProperty;
+		private final Map<Object, List<Integer>> positions = new LinkedHashMap<>();
+
+		Batch(List<T> aggregates, RelationalPersistentEntity<?> entity, R2dbcConverter converter) {
+
+			this.aggregates = aggregates.toArray();
+			this.entity = entity;
+			this.converter = converter;
+			this.idProperty = entity.getRequiredIdProperty();
+
+			for (int i = 0; i < this.aggregates.length; i++) {
+
+				Object id = entity.getIdentifierAccessor(this.aggregates[i]).getIdentifier();
+
+				if (id != null) {
+					this.positions.computeIfAbsent(id, it -> new ArrayList<>(1)).add(i);
+				}
+			}
+		}
+
+		boolean isEmpty() {
+			return this.positions.isEmpty();
+		}
+
+		List<Object> getIds() {
+
+			List<Object> ids = new ArrayList<>(this.positions.size());
+
+			for (Object id : this.positions.keySet()) {
+				ids.add(converter.writeValue(id, idProperty.getTypeInformation()));
+			}
+
+			return ids;
+		}
+
+		@Nullable
+		Object readId(@Nullable Object value) {
+			return converter.readValue(value, idProperty.getTypeInformation());
+		}
+
+		@SuppressWarnings("unchecked")
+		List<T> getAggregates() {
+			return (List<T>) Arrays.asList(this.aggregates);
+		}
+
+		void setCollection(@Nullable Object id, MappedCollectionProperty collection, List<Object> values,
+				BitSet loaded) {
+
+			List<Integer> indexes = id != null ? this.positions.get(id) : null;
+
+			if (indexes == null) {
+				return;
+			}
+
+			for (int index : indexes) {
+
+				setCollection(index, collection, values);
+				loaded.set(index);
+			}
+		}
+
+		void setEmptyCollections(MappedCollectionProperty collection, BitSet loaded) {
+
+			for (int i = loaded.nextClearBit(0); i < this.aggregates.length; i = loaded.nextClearBit(i + 1)) {
+				setCollection(i, collection, Collections.emptyList());
+			}
+		}
+
+		private void setCollection(int index, MappedCollectionProperty collection, List<Object> values) {
+
+			RelationalPersistentProperty property = collection.property();
+
+			Collection<Object> target = CollectionFactory.createCollection(property.getType(),
+					collection.childEntity().getType(), values.size());
+			target.addAll(values);
+
+			PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(this.aggregates[index]);
+			accessor.setProperty(property, target);
+			this.aggregates[index] = accessor.getBean();
+		}
+	}
+}
@@ -15,9 +15,7 @@
  */
 package org.springframework.data.r2dbc.core;
 
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -47,20 +45,18 @@ class NamedParameterExpander {
 	 */
 	public static final int DEFAULT_CACHE_LIMIT = 256;
 
-	private volatile int cacheLimit = DEFAULT_CACHE_LIMIT;
-
 	private final Log logger = LogFactory.getLog(getClass());
 
 	/**
 	 * Cache of original SQL String to ParsedSql representation.
 	 */
-	@SuppressWarnings("serial") private final Map<String, ParsedSql> parsedSqlCache = new LinkedHashMap<String, ParsedSql>(
-			DEFAULT_CACHE_LIMIT, 0.75f, true) {
-		@Override
-		protected boolean removeEldestEntry(Map.Entry<String, ParsedSql> eldest) {
-			return size() > getCacheLimit();
-		}
-	};
+	private final SqlCache<String, ParsedSql> parsedSqlCache = new SqlCache<>(DEFAULT_CACHE_LIMIT);
+
+	/**
+	 * Cache of original SQL String and expansion shape to the expanded SQL.
+	 */
+	private final SqlCache<ExpansionKey, NamedParameterUtils.ExpandedSql> expandedSqlCache = new SqlCache<>(
+			DEFAULT_CACHE_LIMIT);
 
 	/**
 	 * Create a new enabled instance of {@link NamedParameterExpander}.
@@ -71,40 +67,45 @@ class NamedParameterExpander {
 	 * Specify the maximum number of entries for the SQL cache. Default is 256.
 	 */
 	public void setCacheLimit(int cacheLimit) {
-		this.cacheLimit = cacheLimit;
+		this.parsedSqlCache.setLimit(cacheLimit);
+		this.expandedSqlCache.setLimit(cacheLimit);
 	}
 
 	/**
 	 * Return the maximum number of entries for the SQL cache.
 	 */
 	public int getCacheLimit() {
-		return this.cacheLimit;
+		return this.parsedSqlCache.getLimit();
+	}
+
+	/**
+	 * Return hit, miss and eviction statistics of the parsed SQL cache.
+	 *
+	 * @since 3.0
+	 */
+	SqlCache.Statistics getParsedSqlCacheStatistics() {
+		return this.parsedSqlCache.getStatistics();
+	}
+
+	/**
+	 * Return hit, miss and eviction statistics of the expanded SQL cache.
+	 *
+	 * @since 3.0
+	 */
+	SqlCache.Statistics getExpandedSqlCacheStatistics() {
+		return this.expandedSqlCache.getStatistics();
 	}
 
 	/**
 	 * Obtain a parsed representation of the given SQL statement.
 	 * <p>
-	 * The default implementation uses an LRU cache with an upper limit of 256 entries.
+	 * The default implementation uses a concurrent cache with an upper limit of 256 entries.
 	 *
 	 * @param sql the original SQL statement
 	 * @return a representation of the parsed SQL statement
 	 */
 	private ParsedSql getParsedSql(String sql) {
-
-		if (getCacheLimit() <= 0) {
-			return NamedParameterUtils.parseSqlStatement(sql);
-		}
-
-		synchronized (this.parsedSqlCache) {
-
-			ParsedSql parsedSql = this.parsedSqlCache.get(sql);
-			if (parsedSql == null) {
-
-				parsedSql = NamedParameterUtils.parseSqlStatement(sql);
-				this.parsedSqlCache.put(sql, parsedSql);
-			}
-			return parsedSql;
-		}
+		return this.parsedSqlCache.get(sql, NamedParameterUtils::parseSqlStatement);
 	}
 
 	/**
@@ -130,8 +131,12 @@ class NamedParameterExpander {
 
 		ParsedSql parsedSql = getParsedSql(sql);
 
-		PreparedOperation<String> expanded = NamedParameterUtils.substituteNamedParameters(parsedSql, bindMarkersFactory,
-				paramSource);
+		ExpansionKey key = new ExpansionKey(sql, bindMarkersFactory,
+				NamedParameterUtils.getExpansionShape(parsedSql, paramSource));
+		NamedParameterUtils.ExpandedSql expandedSql = this.expandedSqlCache.get(key,
+				it -> NamedParameterUtils.expand(parsedSql, bindMarkersFactory, paramSource));
+
+		PreparedOperation<String> expanded = NamedParameterUtils.bind(expandedSql, paramSource);
 
 		if (this.logger.isDebugEnabled()) {
 			this.logger.debug(String.format("Expanding SQL statement [%s] to [%s]", sql, expanded.toQuery()));
@@ -149,4 +154,10 @@ class NamedParameterExpander {
 	public List<String> getParameterNames(String sql) {
 		return getParsedSql(sql).getParameterNames();
 	}
+
+	/**
+	 * Identifies expanded SQL by its original SQL, the bind markers and the
+	 * {@link NamedParameterUtils#getExpansionShape(ParsedSql, BindParameterSource) expansion shape} of its values.
+	 */
+	private record ExpansionKey(String sql, BindMarkersFactory bindMarkersFactory, List<Integer> shape) {}
 }
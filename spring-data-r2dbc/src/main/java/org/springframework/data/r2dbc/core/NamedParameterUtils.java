@@ -17,6 +17,7 @@ package org.springframework.data.r2dbc.core;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -265,13 +266,29 @@ abstract class NamedParameterUtils {
 	 */
 	public static PreparedOperation<String> substituteNamedParameters(ParsedSql parsedSql,
 			BindMarkersFactory bindMarkersFactory, BindParameterSource paramSource) {
+		return bind(expand(parsedSql, bindMarkersFactory, paramSource), paramSource);
+	}
+
+	/**
+	 * Expand the parsed SQL statement into native placeholders without binding any values. The resulting
+	 * {@link ExpandedSql} can be bound through {@link #bind(ExpandedSql, BindParameterSource)} to any parameter source
+	 * with the same {@link #getExpansionShape(ParsedSql, BindParameterSource) expansion shape}.
+	 *
+	 * @param parsedSql the parsed representation of the SQL statement.
+	 * @param bindMarkersFactory the bind marker factory.
+	 * @param paramSource the source for named parameters.
+	 * @return the expanded SQL along with its bind markers.
+	 * @since 3.0
+	 */
+	static ExpandedSql expand(ParsedSql parsedSql, BindMarkersFactory bindMarkersFactory,
+			BindParameterSource paramSource) {
 
 		NamedParameters markerHolder = new NamedParameters(bindMarkersFactory);
 
 		String originalSql = parsedSql.getOriginalSql();
 		List<String> paramNames = parsedSql.getParameterNames();
 		if (paramNames.isEmpty()) {
-			return new ExpandedQuery(originalSql, markerHolder, paramSource);
+			return new ExpandedSql(originalSql, markerHolder);
 		}
 
 		StringBuilder actualSql = new StringBuilder(originalSql.length());
@@ -323,7 +340,58 @@ abstract class NamedParameterUtils {
 		}
 		actualSql.append(originalSql, lastIndex, originalSql.length());
 
-		return new ExpandedQuery(actualSql.toString(), markerHolder, paramSource);
+		return new ExpandedSql(actualSql.toString(), markerHolder);
+	}
+
+	/**
+	 * Bind the values of {@code paramSource} to previously {@link #expand expanded} SQL.
+	 *
+	 * @param expandedSql the expanded SQL.
+	 * @param paramSource the source for named parameters.
+	 * @return the expanded query that accepts bind parameters and allows for execution without further translation.
+	 * @since 3.0
+	 */
+	static PreparedOperation<String> bind(ExpandedSql expandedSql, BindParameterSource paramSource) {
+		return new ExpandedQuery(expandedSql.sql(), expandedSql.parameters(), paramSource);
+	}
+
+	/**
+	 * Determine the shape of the values that affects the expansion of the parsed SQL statement: the size of each
+	 * {@link Collection} value and the length of each array within. Parameter sources with the same shape expand to the
+	 * same SQL.
+	 *
+	 * @param parsedSql the parsed representation of the SQL statement.
+	 * @param paramSource the source for named parameters.
+	 * @return the expansion shape. Empty if no value gets expanded to multiple placeholders.
+	 * @since 3.0
+	 */
+	static List<Integer> getExpansionShape(ParsedSql parsedSql, BindParameterSource paramSource) {
+
+		List<String> paramNames = parsedSql.getParameterNames();
+		List<Integer> shape = null;
+
+		for (int i = 0; i < paramNames.size(); i++) {
+
+			String paramName = paramNames.get(i);
+			Object value = paramSource.hasValue(paramName) ? paramSource.getValue(paramName) : null;
+
+			if (!(value instanceof Collection<?> collection)) {
+				continue;
+			}
+
+			if (shape == null) {
+				shape = new ArrayList<>();
+			}
+
+			shape.add(i);
+			shape.add(collection.size());
+
+			for (Object entryItem : collection) {
+				shape.add(entryItem instanceof Object[] expressionList ? expressionList.length : -1);
+			}
+		}
+
+		return shape == null ? Collections.emptyList() : shape;
 	}
 
 	/**
@@ -478,6 +546,14 @@ abstract class NamedParameterUtils {
 		}
 	}
 
+	/**
+	 * SQL expanded to native placeholders along with the bind markers for each named parameter. Bind markers are not
+	 * created once expansion is complete so {@link ExpandedSql} can be shared across queries of the same shape.
+	 *
+	 * @since 3.0
+	 */
+	record ExpandedSql(String sql, NamedParameters parameters) {}
+
 	/**
 	 * Expanded query that allows binding of parameters using parameter names that were used to expand the query. Binding
 	 * unrolls {@link Collection}s and nested arrays.
@@ -23,9 +23,13 @@ import reactor.core.publisher.Mono;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import org.reactivestreams.Publisher;
+
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.TransientDataAccessResourceException;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.relational.core.query.KeysetPosition;
+import org.springframework.data.relational.core.query.KeysetWindow;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.query.Update;
 import org.springframework.r2dbc.core.DatabaseClient;
@@ -120,6 +124,23 @@ public interface R2dbcEntityOperations extends FluentR2dbcOperations {
 	 */
 	<T> Mono<T> selectOne(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Execute a {@code SELECT} query for a {@link KeysetWindow} of entities that sort after the given
+	 * {@link KeysetPosition}. Instead of skipping rows through an offset, the window is selected through a predicate on
+	 * the sort properties so that each window costs an index seek. The {@link Query} must be sorted and limited, the
+	 * limit defining the size of the window.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass the entity type must not be {@literal null}.
+	 * @param position the position to continue after, must not be {@literal null}. Use
+	 *          {@link KeysetPosition#initial()} to obtain the first window.
+	 * @return the {@link KeysetWindow} of entities.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.0
+	 */
+	<T> Mono<KeysetWindow<T>> scroll(Query query, Class<T> entityClass, KeysetPosition position)
+			throws DataAccessException;
+
 	/**
 	 * Update the queried entities and return {@literal true} if the update was applied.
 	 *
@@ -247,6 +268,18 @@ public interface R2dbcEntityOperations extends FluentR2dbcOperations {
 	 */
 	<T> Mono<T> insert(T entity) throws DataAccessException;
 
+	/**
+	 * Insert the given entities and emit them in the order of the given {@link Publisher} once inserted. Entities get
+	 * inserted in batches, executing consecutive entities that render the same {@code INSERT} statement as a single
+	 * statement with multiple bindings.
+	 *
+	 * @param entities the entities to insert, must not be {@literal null}.
+	 * @return the inserted entities.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.0
+	 */
+	<T> Flux<T> insertAll(Publisher<T> entities) throws DataAccessException;
+
 	/**
 	 * Update the given entity and emit the entity if the update was applied.
 	 *
@@ -257,6 +290,19 @@ public interface R2dbcEntityOperations extends FluentR2dbcOperations {
 	 */
 	<T> Mono<T> update(T entity) throws DataAccessException;
 
+	/**
+	 * Update the given entities and emit them in the order of the given {@link Publisher} once updated. Entities get
+	 * updated in batches, executing consecutive entities that render the same {@code UPDATE} statement as a single
+	 * statement with multiple bindings. The update count of each entity is verified like for {@link #update(Object)}.
+	 *
+	 * @param entities the entities to update, must not be {@literal null}.
+	 * @return the updated entities.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @throws TransientDataAccessResourceException if an update did not affect any rows.
+	 * @since 3.0
+	 */
+	<T> Flux<T> updateAll(Publisher<T> entities) throws DataAccessException;
+
 	/**
 	 * Delete the given entity and emit the entity if the delete was applied.
 	 *
@@ -265,4 +311,15 @@ public interface R2dbcEntityOperations extends FluentR2dbcOperations {
 	 * @throws DataAccessException if there is any problem issuing the execution.
 	 */
 	<T> Mono<T> delete(T entity) throws DataAccessException;
+
+	/**
+	 * Delete the given entities and emit them in the order of the given {@link Publisher} once deleted. Entities get
+	 * deleted in batches, executing consecutive entities of the same type as a single statement with multiple bindings.
+	 *
+	 * @param entities the entities to delete, must not be {@literal null}.
+	 * @return the deleted entities.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.0
+	 */
+	<T> Flux<T> deleteAll(Publisher<T> entities) throws DataAccessException;
 }
@@ -16,18 +16,25 @@
 package org.springframework.data.r2dbc.core;
 
 import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.beans.FeatureDescriptor;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.reactivestreams.Publisher;
@@ -60,6 +67,8 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentEnti
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.data.relational.core.query.KeysetPosition;
+import org.springframework.data.relational.core.query.KeysetWindow;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.Expression;
@@ -73,6 +82,7 @@ import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.r2dbc.core.Parameter;
 import org.springframework.r2dbc.core.PreparedOperation;
 import org.springframework.r2dbc.core.RowsFetchSpec;
+import org.springframework.r2dbc.core.binding.BindTarget;
 import org.springframework.util.Assert;
 
 /**
@@ -92,6 +102,14 @@ import org.springframework.util.Assert;
  */
 public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAware, ApplicationContextAware {
 
+	/**
+	 * Default number of entities per batch of {@link #insertAll(Publisher)}, {@link #updateAll(Publisher)} and
+	 * {@link #deleteAll(Publisher)}: 100.
+	 *
+	 * @since 3.0
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
 	private final DatabaseClient databaseClient;
 
 	private final ReactiveDataAccessStrategy dataAccessStrategy;
@@ -102,6 +120,14 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 	private @Nullable ReactiveEntityCallbacks entityCallbacks;
 
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private boolean mappedCollectionLoadingEnabled = false;
+
+	private final EntityStatementCache statementCache = new EntityStatementCache();
+
+	private final MappedCollectionLoader collectionLoader;
+
 	/**
 	 * Create a new {@link R2dbcEntityTemplate} given {@link ConnectionFactory}.
 	 *
@@ -119,6 +145,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		this.dataAccessStrategy = new DefaultReactiveDataAccessStrategy(dialect);
 		this.mappingContext = dataAccessStrategy.getConverter().getMappingContext();
 		this.projectionFactory = new SpelAwareProxyProjectionFactory();
+		this.collectionLoader = new MappedCollectionLoader(this.databaseClient, this.dataAccessStrategy);
 	}
 
 	/**
@@ -160,6 +187,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		this.dataAccessStrategy = strategy;
 		this.mappingContext = strategy.getConverter().getMappingContext();
 		this.projectionFactory = new SpelAwareProxyProjectionFactory();
+		this.collectionLoader = new MappedCollectionLoader(databaseClient, strategy);
 	}
 
 	/*
@@ -230,6 +258,35 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * Set the maximum number of entities per batch of {@link #insertAll(Publisher)}, {@link #updateAll(Publisher)} and
+	 * {@link #deleteAll(Publisher)}. The upstream {@link Publisher} is requested one batch at a time and the next batch
+	 * is requested only after the previous one has been written. Defaults to {@link #DEFAULT_BATCH_SIZE}.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @since 3.0
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Configure whether to load {@link org.springframework.data.relational.core.mapping.MappedCollection @MappedCollection}
+	 * properties of selected aggregate roots. Disabled by default.
+	 * <p>
+	 * When enabled, selecting entities issues one additional query per mapped collection for each batch of
+	 * {@link #setBatchSize(int) batch size} aggregate roots. Mapped collections are read-only: inserts and updates skip
+	 * them instead of writing them as a column of the aggregate root's table, and child entities are not written.
+	 *
+	 * @param mappedCollectionLoadingEnabled {@literal true} to load mapped collections.
+	 * @since 3.0
+	 */
+	public void setMappedCollectionLoadingEnabled(boolean mappedCollectionLoadingEnabled) {
+		this.mappedCollectionLoadingEnabled = mappedCollectionLoadingEnabled;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with org.springframework.data.r2dbc.core.FluentR2dbcOperations
 	// -------------------------------------------------------------------------
@@ -410,8 +467,15 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		}
 
 		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
+		RowsFetchSpec<T> fetchSpec = getRowsFetchSpec(databaseClient.sql(operation), entityClass, returnType);
 
-		return getRowsFetchSpec(databaseClient.sql(operation), entityClass, returnType);
+		RelationalPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+		if (mappedCollectionLoadingEnabled && entity != null && returnType.equals(entityClass)
+				&& collectionLoader.hasMappedCollections(entity)) {
+			return new MappedCollectionFetchSpecAdapter<>(fetchSpec, entity);
+		}
+
+		return fetchSpec;
 	}
 
 	/*
@@ -424,6 +488,26 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 				RowsFetchSpec::one);
 	}
 
+	@Override
+	public <T> Mono<KeysetWindow<T>> scroll(Query query, Class<T> entityClass, KeysetPosition position)
+			throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity class must not be null");
+		Assert.notNull(position, "KeysetPosition must not be null");
+		Assert.isTrue(query.isSorted() && query.isLimited(), "Keyset pagination requires a sorted and limited query");
+
+		int limit = query.getLimit();
+		RelationalPersistentEntity<?> persistentEntity = getRequiredEntity(entityClass);
+
+		return select(query.after(position).limit(limit + 1), entityClass).collectList()
+				.map(content -> KeysetWindow.of(content, limit, query.getSort(), entity -> {
+
+					PersistentPropertyAccessor<T> accessor = persistentEntity.getPropertyAccessor(entity);
+					return property -> accessor.getProperty(persistentEntity.getRequiredPersistentProperty(property));
+				}));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.r2dbc.core.R2dbcEntityOperations#update(org.springframework.data.r2dbc.query.Query, org.springframework.data.r2dbc.query.Update, java.lang.Class)
@@ -546,6 +630,30 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 	}
 
 	<T> Mono<T> doInsert(T entity, SqlIdentifier tableName) {
+		return prepareInsert(entity, tableName).flatMap(this::doInsert);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.core.R2dbcEntityOperations#insertAll(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public <T> Flux<T> insertAll(Publisher<T> entities) throws DataAccessException {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		return Flux.from(entities).buffer(this.batchSize).concatMap(this::doInsertAll, 0);
+	}
+
+	private <T> Flux<T> doInsertAll(List<T> entities) {
+
+		return Flux.fromIterable(entities) //
+				.concatMap(entity -> prepareInsert(entity, getRequiredEntity(entity).getTableName())) //
+				.bufferUntilChanged(PendingStatement::getBatchKey) //
+				.concatMap(this::doInsertBatch);
+	}
+
+	private <T> Mono<PendingStatement<T>> prepareInsert(T entity, SqlIdentifier tableName) {
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
 
@@ -553,15 +661,27 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 			T initializedEntity = setVersionIfNecessary(persistentEntity, onBeforeConvert);
 
-			OutboundRow outboundRow = dataAccessStrategy.getOutboundRow(initializedEntity);
+			OutboundRow outboundRow = getOutboundRow(persistentEntity, initializedEntity);
 
 			potentiallyRemoveId(persistentEntity, outboundRow);
 
 			return maybeCallBeforeSave(initializedEntity, outboundRow, tableName) //
-					.flatMap(entityToSave -> doInsert(entityToSave, tableName, outboundRow));
+					.map(entityToSave -> new PendingStatement<>(entityToSave, tableName, outboundRow,
+							getInsertOperation(persistentEntity.getType(), tableName, outboundRow)));
 		});
 	}
 
+	private OutboundRow getOutboundRow(RelationalPersistentEntity<?> persistentEntity, Object entity) {
+
+		OutboundRow outboundRow = dataAccessStrategy.getOutboundRow(entity);
+
+		if (mappedCollectionLoadingEnabled) {
+			collectionLoader.removeMappedCollections(persistentEntity, outboundRow);
+		}
+
+		return outboundRow;
+	}
+
 	private void potentiallyRemoveId(RelationalPersistentEntity<?> persistentEntity, OutboundRow outboundRow) {
 
 		RelationalPersistentProperty idProperty = persistentEntity.getIdProperty();
@@ -590,33 +710,119 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return false;
 	}
 
-	private <T> Mono<T> doInsert(T entity, SqlIdentifier tableName, OutboundRow outboundRow) {
+	private PreparedOperation<?> getInsertOperation(Class<?> entityType, SqlIdentifier tableName,
+			OutboundRow outboundRow) {
 
-		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
-		StatementMapper.InsertSpec insert = mapper.createInsert(tableName);
+		Map<SqlIdentifier, Parameter> assignments = new LinkedHashMap<>(outboundRow.size());
 
-		for (SqlIdentifier column : outboundRow.keySet()) {
-			Parameter settableValue = outboundRow.get(column);
+		outboundRow.forEach((column, settableValue) -> {
 			if (settableValue.hasValue()) {
-				insert = insert.withColumn(column, settableValue);
+				assignments.put(column, settableValue);
 			}
+		});
+
+		EntityStatementCache.Key key = new EntityStatementCache.Key(EntityStatementCache.Operation.INSERT, entityType,
+				tableName, new ArrayList<>(assignments.keySet()), false);
+
+		return this.statementCache.getOperation(key, new ArrayList<>(assignments.values()), () -> {
+
+			StatementMapper mapper = dataAccessStrategy.getStatementMapper();
+			return mapper.getMappedObject(mapper.createInsert(tableName).withColumns(assignments));
+		});
+	}
+
+	private <T> Mono<T> doInsert(PendingStatement<T> insert) {
+
+		T entity = insert.entity();
+
+		return this.databaseClient.sql(insert.operation()) //
+				.filter(statement -> returnGeneratedValues(statement, entity.getClass())) //
+				.map(this.dataAccessStrategy.getConverter().populateIdIfNecessary(entity)) //
+				.all() //
+				.last(entity).flatMap(saved -> maybeCallAfterSave(saved, insert.row(), insert.tableName()));
+	}
+
+	/**
+	 * Insert entities rendering the same {@code INSERT} statement using a single {@link Statement} with a binding per
+	 * entity. Generated values get applied to the entities in the order of the returned rows.
+	 */
+	private <T> Flux<T> doInsertBatch(List<PendingStatement<T>> inserts) {
+
+		if (inserts.size() == 1) {
+			return doInsert(inserts.get(0)).flux();
 		}
 
-		PreparedOperation<?> operation = mapper.getMappedObject(insert);
+		return Flux.defer(() -> {
 
-		List<SqlIdentifier> identifierColumns = dataAccessStrategy.getIdentifierColumns(entity.getClass());
+			List<T> saved = new ArrayList<>(inserts.size());
+			inserts.forEach(insert -> saved.add(insert.entity()));
 
-		return this.databaseClient.sql(operation) //
-				.filter(statement -> {
+			AtomicInteger rowIndex = new AtomicInteger();
+
+			Mono<Void> execution = executeBatch(inserts,
+					statement -> returnGeneratedValues(statement, saved.get(0).getClass()),
+					results -> results.concatMap(result -> result.map((row, metadata) -> {
+
+						int index = rowIndex.getAndIncrement();
+
+						if (index < saved.size()) {
+							saved.set(index,
+									this.dataAccessStrategy.getConverter().populateIdIfNecessary(saved.get(index)).apply(row, metadata));
+						}
+
+						return index;
+					})).then());
+
+			return execution.thenMany(Flux.range(0, inserts.size()).concatMap(index -> {
+
+				PendingStatement<T> insert = inserts.get(index);
+				return maybeCallAfterSave(saved.get(index), insert.row(), insert.tableName());
+			}));
+		});
+	}
+
+	/**
+	 * Execute statements rendering the same SQL as a single {@link Statement} with a binding per statement. The R2DBC
+	 * driver emits a {@link Result} per binding, in the order of the bindings. The statement gets executed through the
+	 * {@link DatabaseClient}, binding the first statement and applying its
+	 * {@link org.springframework.r2dbc.core.ExecuteFunction}. The remaining bindings get added by a
+	 * {@link org.springframework.r2dbc.core.StatementFilterFunction}, which also consumes the results since
+	 * {@link DatabaseClient} only exposes the rows and update counts of all bindings combined.
+	 *
+	 * @param statements the statements to execute, must not be empty.
+	 * @param customizer applied to the {@link Statement} before its execution.
+	 * @param resultHandler consumes the {@link Result results} while the connection is held.
+	 * @return completion of the execution.
+	 */
+	private <T> Mono<Void> executeBatch(List<PendingStatement<T>> statements, UnaryOperator<Statement> customizer,
+			Function<Flux<Result>, Mono<Void>> resultHandler) {
+
+		return this.databaseClient.sql(statements.get(0).operation()) //
+				.filter((statement, next) -> {
+
+					StatementBindTarget bindTarget = new StatementBindTarget(statement);
 
-					if (identifierColumns.isEmpty()) {
-						return statement.returnGeneratedValues();
+					for (int i = 1; i < statements.size(); i++) {
+
+						statement.add();
+						statements.get(i).operation().bindTo(bindTarget);
 					}
 
-					return statement.returnGeneratedValues(dataAccessStrategy.renderForGeneratedValues(identifierColumns.get(0)));
-				}).map(this.dataAccessStrategy.getConverter().populateIdIfNecessary(entity)) //
-				.all() //
-				.last(entity).flatMap(saved -> maybeCallAfterSave(saved, outboundRow, tableName));
+					return resultHandler.apply(Flux.from(next.execute(customizer.apply(statement))))
+							.thenMany(Flux.<Result> empty());
+				}) //
+				.then();
+	}
+
+	private Statement returnGeneratedValues(Statement statement, Class<?> entityType) {
+
+		List<SqlIdentifier> identifierColumns = dataAccessStrategy.getIdentifierColumns(entityType);
+
+		if (identifierColumns.isEmpty()) {
+			return statement.returnGeneratedValues();
+		}
+
+		return statement.returnGeneratedValues(dataAccessStrategy.renderForGeneratedValues(identifierColumns.get(0)));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -649,54 +855,103 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 	}
 
 	private <T> Mono<T> doUpdate(T entity, SqlIdentifier tableName) {
+		return prepareUpdate(entity, tableName).flatMap(this::doUpdate);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.core.R2dbcEntityOperations#updateAll(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public <T> Flux<T> updateAll(Publisher<T> entities) throws DataAccessException {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		return Flux.from(entities).buffer(this.batchSize).concatMap(this::doUpdateAll, 0);
+	}
+
+	private <T> Flux<T> doUpdateAll(List<T> entities) {
+
+		return Flux.fromIterable(entities) //
+				.concatMap(entity -> prepareUpdate(entity, getRequiredEntity(entity).getTableName())) //
+				.bufferUntilChanged(PendingStatement::getBatchKey) //
+				.concatMap(this::doUpdateBatch);
+	}
+
+	private <T> Mono<PendingStatement<T>> prepareUpdate(T entity, SqlIdentifier tableName) {
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
 
 		return maybeCallBeforeConvert(entity, tableName).flatMap(onBeforeConvert -> {
 
 			T entityToUse;
-			Criteria matchingVersionCriteria;
+			Object version;
 
 			if (persistentEntity.hasVersionProperty()) {
 
-				matchingVersionCriteria = createMatchingVersionCriteria(onBeforeConvert, persistentEntity);
+				version = persistentEntity.getPropertyAccessor(onBeforeConvert)
+						.getProperty(persistentEntity.getRequiredVersionProperty());
 				entityToUse = incrementVersion(persistentEntity, onBeforeConvert);
 			} else {
 
 				entityToUse = onBeforeConvert;
-				matchingVersionCriteria = null;
+				version = null;
 			}
 
-			OutboundRow outboundRow = dataAccessStrategy.getOutboundRow(entityToUse);
+			OutboundRow outboundRow = getOutboundRow(persistentEntity, entityToUse);
 
 			return maybeCallBeforeSave(entityToUse, outboundRow, tableName) //
-					.flatMap(onBeforeSave -> {
+					.map(onBeforeSave -> {
 
 						SqlIdentifier idColumn = persistentEntity.getRequiredIdProperty().getColumnName();
 						Parameter id = outboundRow.remove(idColumn);
-						Criteria criteria = Criteria.where(dataAccessStrategy.toSql(idColumn)).is(id);
 
-						if (matchingVersionCriteria != null) {
-							criteria = criteria.and(matchingVersionCriteria);
-						}
-
-						return doUpdate(onBeforeSave, tableName, persistentEntity, criteria, outboundRow);
+						return new PendingStatement<>(onBeforeSave, tableName, outboundRow,
+								getUpdateOperation(persistentEntity, tableName, outboundRow, id, version));
 					});
 		});
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private <T> Mono<T> doUpdate(T entity, SqlIdentifier tableName, RelationalPersistentEntity<T> persistentEntity,
-			Criteria criteria, OutboundRow outboundRow) {
+	private PreparedOperation<?> getUpdateOperation(RelationalPersistentEntity<?> persistentEntity,
+			SqlIdentifier tableName, OutboundRow outboundRow, Parameter id, @Nullable Object version) {
+
+		List<SqlIdentifier> columns = new ArrayList<>(outboundRow.keySet());
+		List<Parameter> values = new ArrayList<>(outboundRow.size() + 2);
+		values.addAll(outboundRow.values());
+		values.add(id);
 
-		Update update = Update.from((Map) outboundRow);
+		boolean nullVersion = persistentEntity.hasVersionProperty() && version == null;
+		if (version != null) {
+			values.add(Parameter.from(version));
+		}
 
-		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
-		StatementMapper.UpdateSpec updateSpec = mapper.createUpdate(tableName, update).withCriteria(criteria);
+		EntityStatementCache.Key key = new EntityStatementCache.Key(EntityStatementCache.Operation.UPDATE,
+				persistentEntity.getType(), tableName, columns, nullVersion);
 
-		PreparedOperation<?> operation = mapper.getMappedObject(updateSpec);
+		return this.statementCache.getOperation(key, values, () -> {
 
-		return this.databaseClient.sql(operation) //
+			SqlIdentifier idColumn = persistentEntity.getRequiredIdProperty().getColumnName();
+			Criteria criteria = Criteria.where(dataAccessStrategy.toSql(idColumn)).is(id);
+
+			if (persistentEntity.hasVersionProperty()) {
+				criteria = criteria.and(createMatchingVersionCriteria(version, persistentEntity));
+			}
+
+			Update update = Update.from((Map) outboundRow);
+
+			StatementMapper mapper = dataAccessStrategy.getStatementMapper();
+			StatementMapper.UpdateSpec updateSpec = mapper.createUpdate(tableName, update).withCriteria(criteria);
+
+			return mapper.getMappedObject(updateSpec);
+		});
+	}
+
+	private <T> Mono<T> doUpdate(PendingStatement<T> update) {
+
+		T entity = update.entity();
+
+		return this.databaseClient.sql(update.operation()) //
 				.fetch() //
 				.rowsUpdated() //
 				.handle((rowsUpdated, sink) -> {
@@ -705,14 +960,50 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 						return;
 					}
 
-					if (persistentEntity.hasVersionProperty()) {
-						sink.error(new OptimisticLockingFailureException(
-								formatOptimisticLockingExceptionMessage(entity, persistentEntity)));
-					} else {
-						sink.error(new TransientDataAccessResourceException(
-								formatTransientEntityExceptionMessage(entity, persistentEntity)));
-					}
-				}).then(maybeCallAfterSave(entity, outboundRow, tableName));
+					sink.error(createUpdateFailure(entity));
+				}).then(maybeCallAfterSave(entity, update.row(), update.tableName()));
+	}
+
+	/**
+	 * Update entities rendering the same {@code UPDATE} statement using a single {@link Statement} with a binding per
+	 * entity. The update count of each binding is verified like for {@link #update(Object)}.
+	 */
+	private <T> Flux<T> doUpdateBatch(List<PendingStatement<T>> updates) {
+
+		if (updates.size() == 1) {
+			return doUpdate(updates.get(0)).flux();
+		}
+
+		return Flux.defer(() -> {
+
+			AtomicInteger resultIndex = new AtomicInteger();
+
+			Mono<Void> execution = executeBatch(updates, UnaryOperator.identity(),
+					results -> results.concatMap(result -> Flux.from(result.getRowsUpdated()) //
+							.reduce(0L, (total, rowsUpdated) -> total + rowsUpdated) //
+							.handle((rowsUpdated, sink) -> {
+
+								int index = resultIndex.getAndIncrement();
+
+								if (rowsUpdated == 0 && index < updates.size()) {
+									sink.error(createUpdateFailure(updates.get(index).entity()));
+								}
+							})).then());
+
+			return execution.thenMany(Flux.fromIterable(updates).concatMap(
+					update -> maybeCallAfterSave(update.entity(), update.row(), update.tableName())));
+		});
+	}
+
+	private <T> DataAccessException createUpdateFailure(T entity) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
+
+		if (persistentEntity.hasVersionProperty()) {
+			return new OptimisticLockingFailureException(formatOptimisticLockingExceptionMessage(entity, persistentEntity));
+		}
+
+		return new TransientDataAccessResourceException(formatTransientEntityExceptionMessage(entity, persistentEntity));
 	}
 
 	private <T> String formatOptimisticLockingExceptionMessage(T entity, RelationalPersistentEntity<T> persistentEntity) {
@@ -745,12 +1036,11 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return (T) propertyAccessor.getBean();
 	}
 
-	private <T> Criteria createMatchingVersionCriteria(T entity, RelationalPersistentEntity<T> persistentEntity) {
+	private Criteria createMatchingVersionCriteria(@Nullable Object version,
+			RelationalPersistentEntity<?> persistentEntity) {
 
-		PersistentPropertyAccessor<?> propertyAccessor = persistentEntity.getPropertyAccessor(entity);
-		RelationalPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+		RelationalPersistentProperty versionProperty = persistentEntity.getRequiredVersionProperty();
 
-		Object version = propertyAccessor.getProperty(versionProperty);
 		Criteria.CriteriaStep versionColumn = Criteria.where(dataAccessStrategy.toSql(versionProperty.getColumnName()));
 		if (version == null) {
 			return versionColumn.isNull();
@@ -768,9 +1058,62 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		RelationalPersistentEntity<?> persistentEntity = getRequiredEntity(entity);
+		return this.databaseClient.sql(prepareDelete(entity).operation()).fetch().rowsUpdated().thenReturn(entity);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.core.R2dbcEntityOperations#deleteAll(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public <T> Flux<T> deleteAll(Publisher<T> entities) throws DataAccessException {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		return Flux.from(entities).buffer(this.batchSize).concatMap(this::doDeleteAll, 0);
+	}
+
+	private <T> Flux<T> doDeleteAll(List<T> entities) {
+
+		return Flux.fromIterable(entities) //
+				.map(this::prepareDelete) //
+				.bufferUntilChanged(PendingStatement::getBatchKey) //
+				.concatMap(deletes -> {
+
+					if (deletes.size() == 1) {
+						return this.databaseClient.sql(deletes.get(0).operation()).fetch().rowsUpdated()
+								.thenReturn(deletes.get(0).entity());
+					}
+
+					return executeBatch(deletes, UnaryOperator.identity(),
+							results -> results.concatMap(Result::getRowsUpdated).then())
+							.thenMany(Flux.fromIterable(deletes).map(PendingStatement::entity));
+				});
+	}
+
+	private <T> PendingStatement<T> prepareDelete(T entity) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
+		SqlIdentifier tableName = persistentEntity.getTableName();
+
+		Query byIdQuery = getByIdQuery(entity, persistentEntity);
+		Object id = persistentEntity.getIdentifierAccessor(entity).getRequiredIdentifier();
+		Parameter value = Parameter.from(this.dataAccessStrategy.getConverter().writeValue(id,
+				persistentEntity.getRequiredIdProperty().getTypeInformation()));
+
+		EntityStatementCache.Key key = new EntityStatementCache.Key(EntityStatementCache.Operation.DELETE,
+				persistentEntity.getType(), tableName, Collections.emptyList(), false);
 
-		return delete(getByIdQuery(entity, persistentEntity), persistentEntity.getType()).thenReturn(entity);
+		PreparedOperation<?> operation = this.statementCache.getOperation(key, Collections.singletonList(value), () -> {
+
+			StatementMapper statementMapper = dataAccessStrategy.getStatementMapper().forType(persistentEntity.getType());
+			StatementMapper.DeleteSpec deleteSpec = statementMapper.createDelete(tableName)
+					.withCriteria(byIdQuery.getCriteria().get());
+
+			return statementMapper.getMappedObject(deleteSpec);
+		});
+
+		return new PendingStatement<>(entity, tableName, null, operation);
 	}
 
 	protected <T> Mono<T> maybeCallBeforeConvert(T object, SqlIdentifier table) {
@@ -885,6 +1228,56 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return executeSpec.map(rowMapper);
 	}
 
+	/**
+	 * An entity prepared for an insert, update or delete along with its {@link OutboundRow} and the operation to execute.
+	 */
+	private record PendingStatement<T>(T entity, SqlIdentifier tableName, @Nullable OutboundRow row,
+			PreparedOperation<?> operation, String sql) {
+
+		PendingStatement(T entity, SqlIdentifier tableName, @Nullable OutboundRow row, PreparedOperation<?> operation) {
+			this(entity, tableName, row, operation, operation.toQuery());
+		}
+
+		/**
+		 * @return the key of entities that can be inserted through the same {@link Statement}.
+		 */
+		List<Object> getBatchKey() {
+			return Arrays.asList(entity.getClass(), sql);
+		}
+	}
+
+	/**
+	 * {@link BindTarget} binding values to the current binding of a {@link Statement}.
+	 */
+	private static class StatementBindTarget implements BindTarget {
+
+		private final Statement statement;
+
+		StatementBindTarget(Statement statement) {
+			this.statement = statement;
+		}
+
+		@Override
+		public void bind(String identifier, Object value) {
+			this.statement.bind(identifier, value);
+		}
+
+		@Override
+		public void bind(int index, Object value) {
+			this.statement.bind(index, value);
+		}
+
+		@Override
+		public void bindNull(String identifier, Class<?> type) {
+			this.statement.bindNull(identifier, type);
+		}
+
+		@Override
+		public void bindNull(int index, Class<?> type) {
+			this.statement.bindNull(index, type);
+		}
+	}
+
 	/**
 	 * {@link RowsFetchSpec} adapter emitting values from {@link Optional} if they exist.
 	 *
@@ -946,4 +1339,36 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		}
 	}
 
+	/**
+	 * {@link RowsFetchSpec} adapter loading the {@link org.springframework.data.relational.core.mapping.MappedCollection
+	 * mapped collections} of each emitted aggregate root.
+	 *
+	 * @param <T>
+	 */
+	private class MappedCollectionFetchSpecAdapter<T> implements RowsFetchSpec<T> {
+
+		private final RowsFetchSpec<T> delegate;
+		private final RelationalPersistentEntity<?> entity;
+
+		private MappedCollectionFetchSpecAdapter(RowsFetchSpec<T> delegate, RelationalPersistentEntity<?> entity) {
+			this.delegate = delegate;
+			this.entity = entity;
+		}
+
+		@Override
+		public Mono<T> one() {
+			return collectionLoader.load(delegate.one().flux(), entity, batchSize).next();
+		}
+
+		@Override
+		public Mono<T> first() {
+			return collectionLoader.load(delegate.first().flux(), entity, batchSize).next();
+		}
+
+		@Override
+		public Flux<T> all() {
+			return collectionLoader.load(delegate.all(), entity, batchSize);
+		}
+	}
+
 }
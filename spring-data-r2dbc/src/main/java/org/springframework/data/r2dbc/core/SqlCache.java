@@ -0,0 +1,176 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+
+/**
+ * Bounded, concurrent cache for SQL artifacts such as parsed or expanded statements. Lookups of cached entries do not
+ * acquire any lock. When the cache exceeds its limit, entries get evicted in second-chance (CLOCK) order, which
+ * approximates least-recently-used eviction: entries that were read since the eviction pointer last passed them are
+ * retained for another round.
+ * <p>
+ * The cache keeps track of its hits, misses and evictions, see {@link #getStatistics()}.
+ *
+ * @param <K> the key type.
+ * @param <V> the value type.
+ * @since 3.0
+ */
+class SqlCache<K, V> {
+
+	private final Map<K, Node<K, V>> entries = new ConcurrentHashMap<>();
+	private final Queue<Node<K, V>> evictionQueue = new ConcurrentLinkedQueue<>();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	private volatile int limit;
+
+	/**
+	 * Create a new {@link SqlCache} holding up to {@code limit} entries.
+	 *
+	 * @param limit the maximum number of entries. A limit of zero or less disables caching.
+	 */
+	SqlCache(int limit) {
+		this.limit = limit;
+	}
+
+	/**
+	 * Set the maximum number of entries. A limit of zero or less disables caching. Superfluous entries are evicted with
+	 * the next cache miss.
+	 *
+	 * @param limit the maximum number of entries.
+	 */
+	void setLimit(int limit) {
+		this.limit = limit;
+	}
+
+	/**
+	 * @return the maximum number of entries.
+	 */
+	int getLimit() {
+		return this.limit;
+	}
+
+	/**
+	 * Return the value associated with {@code key}, computing it through {@code valueFunction} if the key is not cached.
+	 *
+	 * @param key the cache key.
+	 * @param valueFunction computes the value for a key that is not cached. Must not return {@literal null}.
+	 * @return the cached or computed value.
+	 */
+	V get(K key, Function<K, V> valueFunction) {
+
+		Node<K, V> node = this.entries.get(key);
+
+		if (node != null) {
+
+			this.hits.increment();
+			node.referenced = true;
+			return node.value;
+		}
+
+		this.misses.increment();
+
+		if (this.limit <= 0) {
+
+			evictIfNecessary();
+			return valueFunction.apply(key);
+		}
+
+		V value = valueFunction.apply(key);
+		Assert.state(value != null, "Cached value must not be null");
+
+		Node<K, V> newNode = new Node<>(key, value);
+		Node<K, V> existing = this.entries.putIfAbsent(key, newNode);
+
+		if (existing != null) {
+			return existing.value;
+		}
+
+		this.evictionQueue.offer(newNode);
+		evictIfNecessary();
+
+		return value;
+	}
+
+	/**
+	 * @return the number of currently cached entries.
+	 */
+	int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * @return a snapshot of the cache statistics.
+	 */
+	Statistics getStatistics() {
+		return new Statistics(this.hits.sum(), this.misses.sum(), this.evictions.sum(), size());
+	}
+
+	private void evictIfNecessary() {
+
+		while (this.entries.size() > Math.max(this.limit, 0)) {
+
+			Node<K, V> candidate = this.evictionQueue.poll();
+
+			if (candidate == null) {
+				return;
+			}
+
+			if (candidate.referenced && this.limit > 0) {
+
+				candidate.referenced = false;
+				this.evictionQueue.offer(candidate);
+				continue;
+			}
+
+			if (this.entries.remove(candidate.key, candidate)) {
+				this.evictions.increment();
+			}
+		}
+	}
+
+	/**
+	 * Statistics of a {@link SqlCache}.
+	 *
+	 * @param hitCount the number of lookups that returned a cached value.
+	 * @param missCount the number of lookups that had to compute the value.
+	 * @param evictionCount the number of entries evicted because the cache exceeded its limit.
+	 * @param size the number of currently cached entries.
+	 */
+	record Statistics(long hitCount, long missCount, long evictionCount, int size) {}
+
+	private static class Node<K, V> {
+
+		final K key;
+		final V value;
+		volatile boolean referenced;
+
+		Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+}
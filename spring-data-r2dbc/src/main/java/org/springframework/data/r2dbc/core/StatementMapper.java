@@ -530,6 +530,23 @@ public interface StatementMapper {
 			return new InsertSpec(this.table, values);
 		}
 
+		/**
+		 * Associate all given columns with their {@link Parameter} and create a new {@link InsertSpec}.
+		 *
+		 * @param columns
+		 * @return the {@link InsertSpec}.
+		 * @since 3.0
+		 */
+		public InsertSpec withColumns(Map<SqlIdentifier, Parameter> columns) {
+
+			Assert.notNull(columns, "Columns must not be null");
+
+			Map<SqlIdentifier, Parameter> values = new LinkedHashMap<>(this.assignments);
+			values.putAll(columns);
+
+			return new InsertSpec(this.table, values);
+		}
+
 		public SqlIdentifier getTable() {
 			return this.table;
 		}
@@ -126,6 +126,8 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 			selectSpec = selectSpec.limit(pageable.getPageSize()).offset(pageable.getOffset());
 		}
 
+		criteria = applyKeysetPosition(criteria, sort);
+
 		if (criteria != null) {
 			selectSpec = selectSpec.withCriteria(criteria);
 		}
@@ -136,7 +136,7 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 		Assert.notNull(objectsToSave, "Objects to save must not be null");
 
-		return Flux.fromIterable(objectsToSave).concatMap(this::save);
+		return saveAllInternal(Flux.fromIterable(objectsToSave));
 	}
 
 	/*
@@ -149,7 +149,24 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 		Assert.notNull(objectsToSave, "Object publisher must not be null");
 
-		return Flux.from(objectsToSave).concatMap(this::save);
+		return saveAllInternal(Flux.from(objectsToSave));
+	}
+
+	/**
+	 * Save the given entities in order. Consecutive new entities get inserted in batches, consecutive existing ones get
+	 * updated in batches.
+	 */
+	private <S extends T> Flux<S> saveAllInternal(Flux<S> objectsToSave) {
+
+		return objectsToSave.windowUntilChanged(this.entity::isNew) //
+				.concatMap(window -> window.switchOnFirst((first, objects) -> {
+
+					if (first.hasValue() && this.entity.isNew(first.get())) {
+						return this.entityOperations.insertAll(objects);
+					}
+
+					return this.entityOperations.updateAll(objects);
+				}));
 	}
 
 	/*
@@ -331,10 +348,7 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 		Assert.notNull(objectPublisher, "The Object Publisher must not be null");
 
-		Flux<ID> idPublisher = Flux.from(objectPublisher) //
-				.map(this.entity::getRequiredId);
-
-		return deleteById(idPublisher);
+		return this.entityOperations.deleteAll(Flux.from(objectPublisher)).then();
 	}
 
 	/*
@@ -20,6 +20,7 @@ import static org.mockito.Mockito.*;
 
 import io.r2dbc.spi.R2dbcType;
 import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
 import io.r2dbc.spi.test.MockColumnMetadata;
 import io.r2dbc.spi.test.MockRow;
 import io.r2dbc.spi.test.MockRowMetadata;
@@ -254,6 +255,24 @@ public class MappingR2dbcConverterUnitTests {
 		assertThat(result.person).isNull();
 	}
 
+	@Test
+	void resolvesColumnsOncePerRowMetadata() {
+
+		RowMetadata metadata = mock(RowMetadata.class);
+		doReturn(Collections.singletonList(MockColumnMetadata.builder().name("FIRSTNAME").type(R2dbcType.VARCHAR).build()))
+				.when(metadata).getColumnMetadatas();
+
+		ConstructorAndPropertyPopulation walter = converter.read(ConstructorAndPropertyPopulation.class,
+				MockRow.builder().identified("firstname", Object.class, "Walter").build(), metadata);
+		ConstructorAndPropertyPopulation skyler = converter.read(ConstructorAndPropertyPopulation.class,
+				MockRow.builder().identified("firstname", Object.class, "Skyler").build(), metadata);
+
+		assertThat(walter.getFirstname()).isEqualTo("Walter");
+		assertThat(walter.getLastname()).isNull();
+		assertThat(skyler.getFirstname()).isEqualTo("Skyler");
+		verify(metadata, times(1)).getColumnMetadatas();
+	}
+
 	@Test // GH-711
 	void writeShouldObtainIdFromIdentifierAccessor() {
 
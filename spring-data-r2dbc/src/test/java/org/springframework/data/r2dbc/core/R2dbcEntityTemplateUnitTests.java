@@ -25,18 +25,25 @@ import io.r2dbc.spi.test.MockRow;
 import io.r2dbc.spi.test.MockRowMetadata;
 import lombok.Value;
 import lombok.With;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -54,7 +61,10 @@ import org.springframework.data.r2dbc.mapping.event.BeforeSaveCallback;
 import org.springframework.data.r2dbc.mapping.event.ReactiveAuditingEntityCallback;
 import org.springframework.data.r2dbc.testing.StatementRecorder;
 import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.MappedCollection;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.KeysetPosition;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
@@ -158,6 +168,110 @@ public class R2dbcEntityTemplateUnitTests {
 		assertThat(statement.getBindings()).hasSize(1).containsEntry(0, Parameter.from("Walter"));
 	}
 
+	@Test
+	void selectShouldNotLoadMappedCollectionsByDefault() {
+
+		recorder.addStubbing(s -> s.contains("FROM purchase_order"), purchaseOrders());
+
+		entityTemplate.select(Query.empty(), PurchaseOrder.class) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.getItems()).isNull()) //
+				.assertNext(actual -> assertThat(actual.getItems()).isNull()) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).hasSize(1);
+	}
+
+	@Test
+	void selectShouldLoadMappedCollectionsThroughSingleQueryPerBatch() {
+
+		MockRowMetadata itemMetadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("order_id").type(R2dbcType.BIGINT).build())
+				.columnMetadata(MockColumnMetadata.builder().name("product").type(R2dbcType.VARCHAR).build()).build();
+		MockResult items = MockResult.builder()
+				.row(MockRow.builder().identified("order_id", Object.class, 1L).identified("product", Object.class, "pen")
+						.metadata(itemMetadata).build(),
+						MockRow.builder().identified("order_id", Object.class, 1L)
+								.identified("product", Object.class, "paper").metadata(itemMetadata).build())
+				.build();
+
+		recorder.addStubbing(s -> s.contains("FROM purchase_order"), purchaseOrders());
+		recorder.addStubbing(s -> s.contains("FROM order_item"), items);
+
+		entityTemplate.setMappedCollectionLoadingEnabled(true);
+		entityTemplate.select(Query.empty(), PurchaseOrder.class) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.getItems()).extracting(OrderItem::getProduct)
+						.containsExactlyInAnyOrder("pen", "paper")) //
+				.assertNext(actual -> assertThat(actual.getItems()).isEmpty()) //
+				.verifyComplete();
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.contains("FROM order_item"));
+
+		assertThat(recorder.getCreatedStatements()).hasSize(2);
+		assertThat(statement.getSql()).isEqualTo(
+				"SELECT order_item.* FROM order_item WHERE order_item.order_id IN ($1, $2) ORDER BY order_item.order_id ASC");
+		assertThat(statement.getBindings()).hasSize(2).containsEntry(0, Parameter.from(1L)).containsEntry(1,
+				Parameter.from(2L));
+	}
+
+	@Test
+	void loadMappedCollectionsRequestsOneBatchAtATime() {
+
+		recorder.addStubbing(s -> s.contains("FROM order_item"), Collections.emptyList());
+
+		MappedCollectionLoader loader = new MappedCollectionLoader(client, entityTemplate.getDataAccessStrategy());
+		RelationalPersistentEntity<?> entity = entityTemplate.getDataAccessStrategy().getConverter().getMappingContext()
+				.getRequiredPersistentEntity(PurchaseOrder.class);
+		TestPublisher<PurchaseOrder> aggregates = TestPublisher.create();
+
+		loader.load(aggregates.flux(), entity, 2) //
+				.as(StepVerifier::create) //
+				.then(() -> aggregates.assertMaxRequested(2) //
+						.next(new PurchaseOrder(1L, "first", null), new PurchaseOrder(2L, "second", null))) //
+				.expectNextCount(2) //
+				.then(() -> aggregates.assertMaxRequested(2) //
+						.next(new PurchaseOrder(3L, "third", null)) //
+						.complete()) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).hasSize(2);
+	}
+
+	@Test
+	void insertShouldSkipMappedCollectionsIfLoadingIsEnabled() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		entityTemplate.setMappedCollectionLoadingEnabled(true);
+		entityTemplate.insert(new PurchaseOrder(null, "first", Set.of(new OrderItem("pen")))).as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("INSERT"));
+
+		assertThat(statement.getSql()).isEqualTo("INSERT INTO purchase_order (name) VALUES ($1)");
+		assertThat(statement.getBindings()).hasSize(1).containsEntry(0, Parameter.from("first"));
+	}
+
+	private static MockResult purchaseOrders() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.BIGINT).build())
+				.columnMetadata(MockColumnMetadata.builder().name("name").type(R2dbcType.VARCHAR).build()).build();
+
+		return MockResult.builder()
+				.row(MockRow.builder().identified("id", Object.class, 1L).identified("name", Object.class, "first")
+						.metadata(metadata).build(),
+						MockRow.builder().identified("id", Object.class, 2L).identified("name", Object.class, "second")
+								.metadata(metadata).build())
+				.build();
+	}
+
 	@Test // gh-215
 	void selectShouldInvokeCallback() {
 
@@ -184,6 +298,44 @@ public class R2dbcEntityTemplateUnitTests {
 		assertThat(callback.getValues()).hasSize(1);
 	}
 
+	@Test
+	void scrollShouldSelectRowsAfterKeysetPositionWithNullKeyAndMixedDirections() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.VARCHAR).build())
+				.columnMetadata(MockColumnMetadata.builder().name("THE_NAME").type(R2dbcType.VARCHAR).build()).build();
+		MockResult result = MockResult.builder()
+				.row(MockRow.builder().identified("id", Object.class, "c").identified("THE_NAME", Object.class, null)
+						.metadata(metadata).build(),
+						MockRow.builder().identified("id", Object.class, "d").identified("THE_NAME", Object.class, "Dora")
+								.metadata(metadata).build(),
+						MockRow.builder().identified("id", Object.class, "e").identified("THE_NAME", Object.class, "Anna")
+								.metadata(metadata).build())
+				.build();
+
+		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
+
+		Sort sort = Sort.by(Sort.Order.desc("name").nullsFirst(), Sort.Order.asc("id"));
+		KeysetPosition position = KeysetPosition.of(sort, property -> property.equals("id") ? "b" : null);
+
+		entityTemplate.scroll(Query.empty().sort(sort).limit(2), Person.class, position) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(window -> {
+
+					assertThat(window.getContent()).extracting(Person::getId).containsExactly("c", "d");
+					assertThat(window.hasNext()).isTrue();
+					assertThat(window.getNextPosition()).isEqualTo(KeysetPosition.of(Map.of("name", "Dora", "id", "d")));
+				}).verifyComplete();
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
+
+		assertThat(statement.getSql()).startsWith("SELECT person.* FROM person WHERE ") //
+				.contains("person.THE_NAME IS NOT NULL OR ") //
+				.contains("person.THE_NAME IS NULL AND person.id > $1") //
+				.endsWith("ORDER BY person.THE_NAME DESC NULLS FIRST, person.id ASC LIMIT 3");
+		assertThat(statement.getBindings()).hasSize(1).containsEntry(0, Parameter.from("b"));
+	}
+
 	@Test // gh-220
 	void shouldSelectOne() {
 
@@ -297,6 +449,76 @@ public class R2dbcEntityTemplateUnitTests {
 				Parameter.from(1L));
 	}
 
+	@Test
+	void insertAllShouldInsertEntitiesThroughSingleStatement() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.VARCHAR).build()).build();
+		MockResult result = MockResult.builder()
+				.row(MockRow.builder().identified("id", Object.class, "walter").metadata(metadata).build(),
+						MockRow.builder().identified("id", Object.class, "jesse").metadata(metadata).build())
+				.build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		entityTemplate.insertAll(Flux.just(new Person(null, "Walter", null), new Person(null, "Jesse", null))) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.id).isEqualTo("walter")) //
+				.assertNext(actual -> assertThat(actual.id).isEqualTo("jesse")) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).hasSize(1);
+		assertThat(recorder.getCreatedStatement(s -> s.startsWith("INSERT")).getSql())
+				.isEqualTo("INSERT INTO person (THE_NAME) VALUES ($1)");
+	}
+
+	@Test
+	void insertAllShouldExecuteThroughExecuteFunctionOfDatabaseClient() {
+
+		MockResult result = MockResult.builder().rowMetadata(MockRowMetadata.builder().build()).rowsUpdated(1).build();
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		AtomicInteger executions = new AtomicInteger();
+		DatabaseClient client = DatabaseClient.builder().connectionFactory(recorder)
+				.bindMarkers(PostgresDialect.INSTANCE.getBindMarkersFactory()).executeFunction(statement -> {
+
+					executions.incrementAndGet();
+					return statement.execute();
+				}).build();
+		R2dbcEntityTemplate entityTemplate = new R2dbcEntityTemplate(client, PostgresDialect.INSTANCE);
+
+		entityTemplate.insertAll(Flux.just(new Person(null, "Walter", null), new Person(null, "Jesse", null))) //
+				.as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		assertThat(executions).hasValue(1);
+		assertThat(recorder.getCreatedStatements()).hasSize(1);
+	}
+
+	@Test
+	void insertAllRequestsOneBatchAtATime() {
+
+		MockResult result = MockResult.builder().rowMetadata(MockRowMetadata.builder().build()).rowsUpdated(1).build();
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		entityTemplate.setBatchSize(2);
+		TestPublisher<Person> entities = TestPublisher.create();
+
+		entityTemplate.insertAll(entities) //
+				.as(StepVerifier::create) //
+				.then(() -> entities.assertMaxRequested(2) //
+						.next(new Person(null, "Walter", null), new Person(null, "Jesse", null))) //
+				.expectNextCount(2) //
+				.then(() -> entities.assertMaxRequested(2) //
+						.next(new Person(null, "Skyler", null)) //
+						.complete()) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).hasSize(2);
+	}
+
 	@Test // gh-557, gh-402
 	void shouldSkipDefaultIdValueOnInsert() {
 
@@ -444,6 +666,37 @@ public class R2dbcEntityTemplateUnitTests {
 				Parameter.from(1L));
 	}
 
+	@Test
+	void updateAllShouldVerifyVersionOfEachEntity() {
+
+		recorder.addStubbing(s -> s.startsWith("UPDATE"),
+				Arrays.asList(MockResult.builder().rowsUpdated(1).build(), MockResult.builder().rowsUpdated(0).build()));
+
+		entityTemplate
+				.updateAll(Flux.just(new VersionedPerson("walter", 1, "Walter"), new VersionedPerson("jesse", 1, "Jesse"))) //
+				.as(StepVerifier::create) //
+				.verifyErrorSatisfies(e -> assertThat(e).isInstanceOf(OptimisticLockingFailureException.class)
+						.hasMessageContaining("jesse"));
+
+		assertThat(recorder.getCreatedStatements()).hasSize(1);
+	}
+
+	@Test
+	void deleteAllShouldDeleteEntitiesThroughSingleStatement() {
+
+		recorder.addStubbing(s -> s.startsWith("DELETE"),
+				Arrays.asList(MockResult.builder().rowsUpdated(1).build(), MockResult.builder().rowsUpdated(1).build()));
+
+		entityTemplate.deleteAll(Flux.just(new Person("walter", "Walter", null), new Person("jesse", "Jesse", null))) //
+				.as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).hasSize(1);
+		assertThat(recorder.getCreatedStatement(s -> s.startsWith("DELETE")).getSql())
+				.isEqualTo("DELETE FROM person WHERE person.id = $1");
+	}
+
 	@Test // gh-215
 	void updateShouldInvokeCallback() {
 
@@ -477,6 +730,85 @@ public class R2dbcEntityTemplateUnitTests {
 				Parameter.from("before-save"));
 	}
 
+	@Test
+	void updateShouldBindCachedStatementForEntitiesOfSameShape() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("UPDATE"), result);
+
+		entityTemplate.update(new VersionedPerson("walter", 1, "Walter")).as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+		entityTemplate.update(new VersionedPerson("jesse", 3, "Jesse")).as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).hasSize(2);
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatements().get(1);
+
+		assertThat(statement.getSql()).isEqualTo(
+				"UPDATE versioned_person SET version = $1, name = $2 WHERE versioned_person.id = $3 AND (versioned_person.version = $4)");
+		assertThat(statement.getBindings()).hasSize(4) //
+				.containsEntry(0, Parameter.from(4L)) //
+				.containsEntry(1, Parameter.from("Jesse")) //
+				.containsEntry(2, Parameter.from("jesse")) //
+				.containsEntry(3, Parameter.from(3L));
+	}
+
+	@Test
+	void insertShouldBindCachedStatementForEntitiesOfSameShape() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		entityTemplate.insert(Person.empty().withName("Walter").withDescription("chemist")).as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+		entityTemplate.insert(Person.empty().withName("Jesse").withDescription("cook")).as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).hasSize(2);
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatements().get(1);
+
+		assertThat(statement.getSql()).isEqualTo("INSERT INTO person (THE_NAME, description) VALUES ($1, $2)");
+		assertThat(statement.getBindings()).hasSize(2) //
+				.containsEntry(0, Parameter.from("Jesse")) //
+				.containsEntry(1, Parameter.from("cook"));
+	}
+
+	@Test
+	void updateShouldNotBindStatementCachedForNullValuesToOtherValues() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("UPDATE"), result);
+
+		entityTemplate.update(new Person("walter", "Walter", null)).as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+		entityTemplate.update(new Person("jesse", "Jesse", "cook")).as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).hasSize(2);
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatements().get(1);
+
+		assertThat(statement.getSql()).isEqualTo("UPDATE person SET THE_NAME = $1, description = $2 WHERE person.id = $3");
+		assertThat(statement.getBindings()).hasSize(3) //
+				.containsEntry(0, Parameter.from("Jesse")) //
+				.containsEntry(1, Parameter.from("cook")) //
+				.containsEntry(2, Parameter.from("jesse"));
+	}
+
 	@Value
 	@With
 	static class Person {
@@ -492,6 +824,23 @@ public class R2dbcEntityTemplateUnitTests {
 		}
 	}
 
+	@Value
+	@With
+	static class PurchaseOrder {
+
+		@Id Long id;
+
+		String name;
+
+		@MappedCollection(idColumn = "order_id") Set<OrderItem> items;
+	}
+
+	@Value
+	static class OrderItem {
+
+		String product;
+	}
+
 	@Value
 	@With
 	private static class VersionedPerson {
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SqlCache}.
+ */
+class SqlCacheUnitTests {
+
+	@Test
+	void shouldCacheComputedValues() {
+
+		SqlCache<String, String> cache = new SqlCache<>(2);
+
+		assertThat(cache.get("a", String::toUpperCase)).isEqualTo("A");
+		assertThat(cache.get("a", key -> "other")).isEqualTo("A");
+
+		assertThat(cache.getStatistics()).isEqualTo(new SqlCache.Statistics(1, 1, 0, 1));
+	}
+
+	@Test
+	void shouldEvictEntriesNotReadRecently() {
+
+		SqlCache<String, String> cache = new SqlCache<>(2);
+
+		cache.get("a", String::toUpperCase);
+		cache.get("b", String::toUpperCase);
+		cache.get("a", String::toUpperCase);
+		cache.get("c", String::toUpperCase);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getStatistics().evictionCount()).isEqualTo(1);
+		assertThat(cache.get("a", key -> "other")).isEqualTo("A");
+		assertThat(cache.get("b", key -> "other")).isEqualTo("other");
+	}
+
+	@Test
+	void shouldNotCacheWithoutLimit() {
+
+		SqlCache<String, String> cache = new SqlCache<>(0);
+
+		cache.get("a", String::toUpperCase);
+
+		assertThat(cache.get("a", key -> "other")).isEqualTo("other");
+		assertThat(cache.size()).isZero();
+	}
+}
@@ -46,9 +46,11 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.PersistenceConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
 import org.springframework.data.r2dbc.testing.R2dbcIntegrationTestSupport;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.query.KeysetPosition;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -292,6 +294,33 @@ public abstract class AbstractR2dbcRepositoryIntegrationTests extends R2dbcInteg
 				.verifyComplete();
 	}
 
+	@Test
+	void shouldContinueAfterKeysetPositionWithMixedDirections() {
+
+		repository.saveAll(Arrays.asList(new LegoSet(null, "A", 1), new LegoSet(null, "A", 2), new LegoSet(null, "B", 3),
+				new LegoSet(null, "B", 4), new LegoSet(null, "C", 5))) //
+				.as(StepVerifier::create) //
+				.expectNextCount(5) //
+				.verifyComplete();
+
+		Sort sort = Sort.by(Sort.Order.desc("name"), Sort.Order.asc("manual"));
+
+		repository.findFirst2By(KeysetPosition.initial(), sort).map(LegoSet::getManual) //
+				.as(StepVerifier::create) //
+				.expectNext(5, 3) //
+				.verifyComplete();
+
+		repository.findFirst2By(KeysetPosition.of(Map.of("name", "B", "manual", 3)), sort).map(LegoSet::getManual) //
+				.as(StepVerifier::create) //
+				.expectNext(4, 1) //
+				.verifyComplete();
+
+		repository.findFirst2By(KeysetPosition.of(Map.of("name", "A", "manual", 1)), sort).map(LegoSet::getManual) //
+				.as(StepVerifier::create) //
+				.expectNext(2) //
+				.verifyComplete();
+	}
+
 	@Test // GH-341
 	void shouldDeleteAll() {
 
@@ -433,6 +462,8 @@ public abstract class AbstractR2dbcRepositoryIntegrationTests extends R2dbcInteg
 
 		Flux<LegoSet> findFirst10By();
 
+		Flux<LegoSet> findFirst2By(KeysetPosition position, Sort sort);
+
 		Flux<LegoSet> findAllByOrderByManual(Pageable pageable);
 
 		Flux<Named> findAsProjection();
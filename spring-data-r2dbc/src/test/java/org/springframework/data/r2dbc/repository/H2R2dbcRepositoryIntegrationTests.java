@@ -26,6 +26,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -42,12 +43,14 @@ import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
 import org.springframework.data.r2dbc.mapping.event.AfterConvertCallback;
 import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
 import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
 import org.springframework.data.r2dbc.testing.H2TestSupport;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.query.KeysetPosition;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.test.context.ContextConfiguration;
@@ -171,6 +174,30 @@ public class H2R2dbcRepositoryIntegrationTests extends AbstractR2dbcRepositoryIn
 			}).verifyComplete();
 	}
 
+	@Test
+	void shouldContinueAfterKeysetPositionWithNullKeys() {
+
+		repository.saveAll(Arrays.asList(new LegoSet(null, null, 1), new LegoSet(null, null, 2), new LegoSet(null, "B", 3),
+				new LegoSet(null, "A", 4))) //
+				.as(StepVerifier::create) //
+				.expectNextCount(4) //
+				.verifyComplete();
+
+		Sort sort = Sort.by(Sort.Order.desc("name").nullsFirst(), Sort.Order.asc("manual"));
+
+		repository.findFirst2By(KeysetPosition.of(sort, property -> property.equals("name") ? null : 1), sort)
+				.map(LegoSet::getManual) //
+				.as(StepVerifier::create) //
+				.expectNext(2, 3) //
+				.verifyComplete();
+
+		repository.findFirst2By(KeysetPosition.of(sort, property -> property.equals("name") ? "B" : 3), sort)
+				.map(LegoSet::getManual) //
+				.as(StepVerifier::create) //
+				.expectNext(4) //
+				.verifyComplete();
+	}
+
 	@Test // gh-519
 	void shouldReturnEntityThroughInterface() {
 
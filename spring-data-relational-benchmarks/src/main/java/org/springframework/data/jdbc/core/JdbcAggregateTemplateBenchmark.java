@@ -0,0 +1,160 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
+import org.springframework.data.jdbc.core.convert.BatchJdbcOperations;
+import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.DefaultJdbcTypeFactory;
+import org.springframework.data.jdbc.core.convert.DelegatingDataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.InsertStrategyFactory;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+import org.springframework.data.jdbc.core.convert.SqlGeneratorSource;
+import org.springframework.data.jdbc.core.convert.SqlParametersFactory;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * End-to-end benchmarks for saving and loading an aggregate with a {@link JdbcAggregateTemplate} against in-memory
+ * databases.
+ *
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JdbcAggregateTemplateBenchmark {
+
+	@Param({ "H2", "HSQL" }) EmbeddedDatabaseType database;
+
+	EmbeddedDatabase dataSource;
+	NamedParameterJdbcTemplate operations;
+	JdbcAggregateTemplate template;
+	Person existingPerson;
+
+	@Setup
+	public void setUp() {
+
+		dataSource = new EmbeddedDatabaseBuilder().generateUniqueName(true).setType(database).build();
+		operations = new NamedParameterJdbcTemplate(dataSource);
+
+		operations.getJdbcOperations()
+				.execute("CREATE TABLE PERSON (ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, NAME VARCHAR(100))");
+		operations.getJdbcOperations()
+				.execute("CREATE TABLE PHONE (PERSON BIGINT, PERSON_KEY INT, PHONE_NUMBER VARCHAR(100))");
+
+		Dialect dialect = database == EmbeddedDatabaseType.H2 ? H2Dialect.INSTANCE : HsqlDbDialect.INSTANCE;
+
+		JdbcCustomConversions conversions = new JdbcCustomConversions();
+		JdbcMappingContext context = new JdbcMappingContext();
+		context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+
+		DelegatingDataAccessStrategy relationResolver = new DelegatingDataAccessStrategy();
+		JdbcConverter converter = new BasicJdbcConverter(context, relationResolver, conversions,
+				new DefaultJdbcTypeFactory(operations.getJdbcOperations()), dialect.getIdentifierProcessing());
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy(
+				new SqlGeneratorSource(context, converter, dialect), context, converter, operations,
+				new SqlParametersFactory(context, converter, dialect),
+				new InsertStrategyFactory(operations, new BatchJdbcOperations(operations.getJdbcOperations()), dialect));
+		relationResolver.setDelegate(accessStrategy);
+
+		template = new JdbcAggregateTemplate(event -> {}, context, converter, accessStrategy);
+		existingPerson = template.insert(createPerson());
+	}
+
+	@TearDown(Level.Iteration)
+	public void deleteInsertedAggregates() {
+
+		operations.update("DELETE FROM PHONE WHERE PERSON <> :id",
+				Collections.singletonMap("id", existingPerson.id));
+		operations.update("DELETE FROM PERSON WHERE ID <> :id", Collections.singletonMap("id", existingPerson.id));
+	}
+
+	@TearDown
+	public void tearDown() {
+		dataSource.shutdown();
+	}
+
+	@Benchmark
+	public Person insert() {
+		return template.insert(createPerson());
+	}
+
+	@Benchmark
+	public Person save() {
+		return template.save(existingPerson);
+	}
+
+	@Benchmark
+	public Person findById() {
+		return template.findById(existingPerson.id, Person.class);
+	}
+
+	private static Person createPerson() {
+
+		Person person = new Person();
+		person.name = "Ada";
+
+		for (int i = 0; i < 5; i++) {
+
+			Phone phone = new Phone();
+			phone.phoneNumber = "555-" + i;
+			person.phones.add(phone);
+		}
+
+		return person;
+	}
+
+	static class Person {
+
+		@Id Long id;
+		String name;
+		List<Phone> phones = new ArrayList<>();
+	}
+
+	static class Phone {
+		String phoneNumber;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+
+/**
+ * Benchmarks for reading an entity from a row with {@link BasicJdbcConverter}.
+ *
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JdbcConverterBenchmark {
+
+	EntityRowMapper<Person> rowMapper;
+	CachedRowSet row;
+
+	@Setup
+	public void setUp() throws SQLException {
+
+		JdbcMappingContext context = new JdbcMappingContext();
+		JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> Collections.emptyList());
+
+		rowMapper = new EntityRowMapper<>(context.getRequiredPersistentEntity(Person.class), converter);
+		row = createRow(42L, "Ada", "Lovelace", 36, Date.valueOf(LocalDate.of(1815, 12, 10)), true);
+	}
+
+	@Benchmark
+	public Person readRow() {
+		return rowMapper.mapRow(row, 0);
+	}
+
+	private static CachedRowSet createRow(Object... values) throws SQLException {
+
+		String[] columns = { "ID", "FIRST_NAME", "LAST_NAME", "AGE", "BIRTHDAY", "ACTIVE" };
+
+		RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+		metaData.setColumnCount(columns.length);
+		for (int i = 0; i < columns.length; i++) {
+			metaData.setColumnLabel(i + 1, columns[i]);
+			metaData.setColumnName(i + 1, columns[i]);
+		}
+
+		CachedRowSet row = RowSetProvider.newFactory().createCachedRowSet();
+		row.setMetaData(metaData);
+		row.moveToInsertRow();
+		for (int i = 0; i < values.length; i++) {
+			row.updateObject(i + 1, values[i]);
+		}
+		row.insertRow();
+		row.moveToCurrentRow();
+
+		row.beforeFirst();
+		row.next();
+
+		return row;
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.time.LocalDate;
+
+import org.springframework.data.annotation.Id;
+
+/**
+ * Aggregate root used by the JDBC conversion benchmarks.
+ *
+ * @since 3.0
+ */
+class Person {
+
+	@Id Long id;
+	String firstName;
+	String lastName;
+	int age;
+	LocalDate birthday;
+	boolean active;
+
+	static Person create(Long id) {
+
+		Person person = new Person();
+		person.id = id;
+		person.firstName = "Ada";
+		person.lastName = "Lovelace";
+		person.age = 36;
+		person.birthday = LocalDate.of(1815, 12, 10);
+		person.active = true;
+
+		return person;
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Benchmarks for creating statements with {@link SqlGenerator}. Statements for CRUD operations get created by a new
+ * {@link SqlGenerator} per invocation, since a {@link SqlGenerator} renders each of them only once.
+ *
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlGeneratorBenchmark {
+
+	JdbcMappingContext context;
+	JdbcConverter converter;
+	RelationalPersistentEntity<?> entity;
+	SqlGenerator sqlGenerator;
+	Query query;
+
+	@Setup
+	public void setUp() {
+
+		context = new JdbcMappingContext();
+		converter = new BasicJdbcConverter(context, (identifier, path) -> Collections.emptyList());
+		entity = context.getRequiredPersistentEntity(Person.class);
+		sqlGenerator = createSqlGenerator();
+		query = Query.query(Criteria.where("lastName").is("Lovelace").and("age").greaterThan(30)) //
+				.sort(Sort.by("firstName")) //
+				.limit(10);
+	}
+
+	@Benchmark
+	public String createInsert() {
+		return createSqlGenerator().getInsert(Collections.emptySet());
+	}
+
+	@Benchmark
+	public String createUpdate() {
+		return createSqlGenerator().getUpdate();
+	}
+
+	@Benchmark
+	public String createFindOne() {
+		return createSqlGenerator().getFindOne();
+	}
+
+	@Benchmark
+	public String createFindAll() {
+		return createSqlGenerator().getFindAll();
+	}
+
+	@Benchmark
+	public String selectByQuery() {
+		return sqlGenerator.selectByQuery(query, new MapSqlParameterSource());
+	}
+
+	private SqlGenerator createSqlGenerator() {
+		return new SqlGenerator(context, converter, entity, H2Dialect.INSTANCE);
+	}
+}
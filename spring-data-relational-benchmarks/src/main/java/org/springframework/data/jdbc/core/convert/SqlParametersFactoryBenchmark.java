@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.conversion.IdValueSource;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+
+/**
+ * Benchmarks for creating the parameters of inserts and updates with {@link SqlParametersFactory}.
+ *
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlParametersFactoryBenchmark {
+
+	SqlParametersFactory sqlParametersFactory;
+	Person newPerson;
+	Person existingPerson;
+
+	@Setup
+	public void setUp() {
+
+		JdbcMappingContext context = new JdbcMappingContext();
+		JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> Collections.emptyList());
+
+		sqlParametersFactory = new SqlParametersFactory(context, converter, H2Dialect.INSTANCE);
+		newPerson = Person.create(null);
+		existingPerson = Person.create(42L);
+	}
+
+	@Benchmark
+	public SqlIdentifierParameterSource forInsert() {
+		return sqlParametersFactory.forInsert(newPerson, Person.class, Identifier.empty(), IdValueSource.GENERATED);
+	}
+
+	@Benchmark
+	public SqlIdentifierParameterSource forUpdate() {
+		return sqlParametersFactory.forUpdate(existingPerson, Person.class);
+	}
+}
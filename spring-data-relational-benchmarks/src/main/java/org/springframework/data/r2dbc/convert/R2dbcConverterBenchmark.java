@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.convert;
+
+import io.r2dbc.spi.R2dbcType;
+import io.r2dbc.spi.test.MockColumnMetadata;
+import io.r2dbc.spi.test.MockRow;
+import io.r2dbc.spi.test.MockRowMetadata;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+
+/**
+ * Benchmarks for reading an entity from a row with {@link MappingR2dbcConverter}.
+ *
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class R2dbcConverterBenchmark {
+
+	MappingR2dbcConverter converter;
+	MockRow row;
+	MockRowMetadata metadata;
+
+	@Setup
+	public void setUp() {
+
+		converter = new MappingR2dbcConverter(new R2dbcMappingContext());
+
+		row = MockRow.builder() //
+				.identified("id", Object.class, 42L) //
+				.identified("first_name", Object.class, "Ada") //
+				.identified("last_name", Object.class, "Lovelace") //
+				.identified("age", Object.class, 36) //
+				.identified("birthday", Object.class, LocalDate.of(1815, 12, 10)) //
+				.identified("active", Object.class, true) //
+				.build();
+
+		metadata = MockRowMetadata.builder() //
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.BIGINT).build()) //
+				.columnMetadata(MockColumnMetadata.builder().name("first_name").type(R2dbcType.VARCHAR).build()) //
+				.columnMetadata(MockColumnMetadata.builder().name("last_name").type(R2dbcType.VARCHAR).build()) //
+				.columnMetadata(MockColumnMetadata.builder().name("age").type(R2dbcType.INTEGER).build()) //
+				.columnMetadata(MockColumnMetadata.builder().name("birthday").type(R2dbcType.DATE).build()) //
+				.columnMetadata(MockColumnMetadata.builder().name("active").type(R2dbcType.BOOLEAN).build()) //
+				.build();
+	}
+
+	@Benchmark
+	public Person readRow() {
+		return converter.read(Person.class, row, metadata);
+	}
+
+	static class Person {
+
+		@Id Long id;
+		String firstName;
+		String lastName;
+		int age;
+		LocalDate birthday;
+		boolean active;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+
+/**
+ * Benchmarks for creating the {@link DbAction}s of an aggregate through {@link WritingContext}, for an aggregate that
+ * gets inserted and for one that gets updated.
+ *
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WritingContextBenchmark {
+
+	RelationalMappingContext context;
+	RelationalEntityWriter<Person> writer;
+	Person newPerson;
+	Person existingPerson;
+
+	@Setup
+	public void setUp() {
+
+		context = new RelationalMappingContext();
+		context.getRequiredPersistentEntity(Person.class);
+		writer = new RelationalEntityWriter<>(context);
+
+		newPerson = createPerson(null);
+		existingPerson = createPerson(42L);
+	}
+
+	@Benchmark
+	public RootAggregateChange<Person> insert() {
+
+		RootAggregateChange<Person> change = MutableAggregateChange.forSave(newPerson);
+		new WritingContext<>(context, newPerson, change).insert();
+		return change;
+	}
+
+	@Benchmark
+	public RootAggregateChange<Person> save() {
+
+		RootAggregateChange<Person> change = MutableAggregateChange.forSave(existingPerson);
+		writer.write(existingPerson, change);
+		return change;
+	}
+
+	private static Person createPerson(Long id) {
+
+		Person person = new Person();
+		person.id = id;
+		person.name = "Ada";
+		person.address = new Address();
+		person.address.street = "Main Street";
+
+		for (int i = 0; i < 10; i++) {
+
+			Phone phone = new Phone();
+			phone.number = "555-" + i;
+			person.phones.add(phone);
+		}
+
+		return person;
+	}
+
+	static class Person {
+
+		@Id Long id;
+		String name;
+		Address address;
+		List<Phone> phones = new ArrayList<>();
+	}
+
+	static class Address {
+		String street;
+	}
+
+	static class Phone {
+		String number;
+	}
+}
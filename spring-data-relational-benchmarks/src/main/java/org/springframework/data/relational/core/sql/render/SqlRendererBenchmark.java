@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Insert;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Update;
+
+/**
+ * Benchmarks for rendering {@link Select}, {@link Insert} and {@link Update} statements with {@link SqlRenderer}.
+ *
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlRendererBenchmark {
+
+	SqlRenderer renderer;
+	Select select;
+	Insert insert;
+	Update update;
+
+	@Setup
+	public void setUp() {
+
+		renderer = SqlRenderer.create(new RenderContextFactory(PostgresDialect.INSTANCE).createRenderContext());
+
+		Table person = SQL.table("person");
+		Table address = SQL.table("address");
+		Column id = person.column("id");
+		Column firstName = person.column("first_name");
+		Column lastName = person.column("last_name");
+		Column age = person.column("age");
+
+		select = StatementBuilder.select(id, firstName, lastName, age, address.column("street")) //
+				.from(person) //
+				.limitOffset(10, 20) //
+				.leftOuterJoin(address).on(address.column("person")).equals(id) //
+				.where(lastName.isEqualTo(SQL.bindMarker(":last_name")).and(age.isGreater(SQL.bindMarker(":age")))) //
+				.orderBy(lastName, firstName) //
+				.build();
+
+		insert = StatementBuilder.insert(person) //
+				.columns(firstName, lastName, age) //
+				.values(SQL.bindMarker(":first_name"), SQL.bindMarker(":last_name"), SQL.bindMarker(":age")) //
+				.build();
+
+		update = StatementBuilder.update(person) //
+				.set(firstName.set(SQL.bindMarker(":first_name")), lastName.set(SQL.bindMarker(":last_name")),
+						age.set(SQL.bindMarker(":age"))) //
+				.where(id.isEqualTo(SQL.bindMarker(":id"))) //
+				.build();
+	}
+
+	@Benchmark
+	public String renderSelect() {
+		return renderer.render(select);
+	}
+
+	@Benchmark
+	public String renderInsert() {
+		return renderer.render(insert);
+	}
+
+	@Benchmark
+	public String renderUpdate() {
+		return renderer.render(update);
+	}
+}
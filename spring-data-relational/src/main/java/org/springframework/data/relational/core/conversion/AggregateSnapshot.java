@@ -0,0 +1,165 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.util.Pair;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Captures the persistent state of the entities referenced by an aggregate root at a certain point in time, typically
+ * when the aggregate got loaded from or written to the database. Passed to a {@link RelationalEntityUpdateWriter} it
+ * allows to limit the {@link DbAction}s of an update to the parts of the aggregate that actually changed.
+ * <p>
+ * The state of each entity consists of the values of its simple and embedded properties. Collections, maps, arrays
+ * and {@link Date}s are copied, other values are held by reference and therefore must not be modified in place.
+ *
+ * @since 3.0
+ */
+public final class AggregateSnapshot {
+
+	private final Class<?> aggregateType;
+	private final Map<PersistentPropertyPath<RelationalPersistentProperty>, List<NodeState>> states;
+
+	AggregateSnapshot(Class<?> aggregateType,
+			Map<PersistentPropertyPath<RelationalPersistentProperty>, List<NodeState>> states) {
+
+		this.aggregateType = aggregateType;
+		this.states = states;
+	}
+
+	/**
+	 * Creates a snapshot of the current state of the given aggregate root.
+	 *
+	 * @param context the mapping context. Must not be {@literal null}.
+	 * @param aggregateRoot the aggregate root. Must not be {@literal null}.
+	 * @return the snapshot. Guaranteed to be not {@literal null}.
+	 */
+	public static <T> AggregateSnapshot of(RelationalMappingContext context, T aggregateRoot) {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+		Assert.notNull(aggregateRoot, "Aggregate root must not be null");
+
+		return new WritingContext<>(context, aggregateRoot, MutableAggregateChange.forSave(aggregateRoot)).snapshot();
+	}
+
+	/**
+	 * @return the type of the aggregate root this snapshot was taken from.
+	 */
+	public Class<?> getAggregateType() {
+		return aggregateType;
+	}
+
+	/**
+	 * Returns the captured state of the entities reachable via the given path, in the order they were encountered, or
+	 * {@literal null} if the path was not captured.
+	 */
+	@Nullable
+	List<NodeState> getState(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return states.get(path);
+	}
+
+	/**
+	 * The state of a single entity in the aggregate.
+	 *
+	 * @param parentIndex the index of the parent entity among the entities of the parent path, {@literal -1} if the
+	 *          parent is the aggregate root.
+	 * @param qualifier the list index or map key of the entity, if any.
+	 * @param id the id of the entity, if any.
+	 * @param values the values of the simple and embedded properties, keyed by property name.
+	 */
+	record NodeState(int parentIndex, @Nullable Object qualifier, @Nullable Object id, Map<String, Object> values) {
+
+		static NodeState of(RelationalMappingContext context, PathNode node, int parentIndex) {
+
+			RelationalPersistentProperty leafProperty = node.getPath().getRequiredLeafProperty();
+			RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(leafProperty);
+
+			Object qualifier = leafProperty.isQualified() ? ((Pair<?, ?>) node.getValue()).getFirst() : null;
+			Object instance = node.getActualValue();
+
+			return new NodeState(parentIndex, qualifier, entity.getIdentifierAccessor(instance).getIdentifier(),
+					getValues(context, entity, instance));
+		}
+
+		private static Map<String, Object> getValues(RelationalMappingContext context,
+				RelationalPersistentEntity<?> entity, Object instance) {
+
+			Map<String, Object> values = new LinkedHashMap<>();
+			PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(instance);
+
+			for (RelationalPersistentProperty property : entity) {
+
+				Object value = accessor.getProperty(property);
+
+				if (property.isEmbedded()) {
+					values.put(property.getName(), value == null ? null
+							: getValues(context, context.getRequiredPersistentEntity(property), value));
+				} else if (!property.isEntity()) {
+					values.put(property.getName(), copy(value));
+				}
+			}
+
+			return Collections.unmodifiableMap(values);
+		}
+
+		@Nullable
+		private static Object copy(@Nullable Object value) {
+
+			if (value == null) {
+				return null;
+			}
+
+			if (value.getClass().isArray()) {
+				return CollectionUtils.arrayToList(value);
+			}
+
+			if (value instanceof Set<?> set) {
+				return new LinkedHashSet<>(set);
+			}
+
+			if (value instanceof Collection<?> collection) {
+				return new ArrayList<>(collection);
+			}
+
+			if (value instanceof Map<?, ?> map) {
+				return new LinkedHashMap<>(map);
+			}
+
+			if (value instanceof Date date) {
+				return date.clone();
+			}
+
+			return value;
+		}
+	}
+}
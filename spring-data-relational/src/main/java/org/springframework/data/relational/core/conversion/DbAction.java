@@ -203,6 +203,78 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents an update statement for a single entity that is not the root of an aggregate, identified by its id. The
+	 * references to its parent entities are left untouched.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.0
+	 */
+	final class Update<T> implements WithEntity<T>, WithPropertyPath<T> {
+
+		private final T entity;
+		private final PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+
+		public Update(T entity, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+			this.entity = entity;
+			this.propertyPath = propertyPath;
+		}
+
+		@Override
+		public Class<T> getEntityType() {
+			return WithEntity.super.getEntityType();
+		}
+
+		public T getEntity() {
+			return this.entity;
+		}
+
+		public PersistentPropertyPath<RelationalPersistentProperty> getPropertyPath() {
+			return this.propertyPath;
+		}
+
+		@Override
+		public IdValueSource getIdValueSource() {
+			return IdValueSource.PROVIDED;
+		}
+
+		public String toString() {
+			return "DbAction.Update(entity=" + this.getEntity() + ", propertyPath=" + this.getPropertyPath() + ")";
+		}
+	}
+
+	/**
+	 * Represents a delete statement for a single entity that is reachable via a given path from the aggregate root,
+	 * identified by its id.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.0
+	 */
+	final class DeleteById<T> implements WithPropertyPath<T> {
+
+		private final Object id;
+		private final PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+
+		public DeleteById(Object id, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+			this.id = id;
+			this.propertyPath = propertyPath;
+		}
+
+		public Object getId() {
+			return this.id;
+		}
+
+		public PersistentPropertyPath<RelationalPersistentProperty> getPropertyPath() {
+			return this.propertyPath;
+		}
+
+		public String toString() {
+			return "DbAction.DeleteById(id=" + this.getId() + ", propertyPath=" + this.getPropertyPath() + ")";
+		}
+	}
+
 	/**
 	 * Represents a delete statement for a aggregate root when only the ID is known.
 	 * <p>
@@ -418,6 +490,41 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a batch update statement for multiple entities that are aggregate roots without version.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.0
+	 */
+	final class BatchUpdateRoot<T> extends BatchWithValue<T, UpdateRoot<T>, Class<T>> {
+
+		public BatchUpdateRoot(List<UpdateRoot<T>> actions) {
+
+			super(actions, UpdateRoot::getEntityType);
+
+			actions.forEach(action -> Assert.isNull(action.getPreviousVersion(),
+					"Updates of a BatchUpdateRoot must not have a previous version"));
+		}
+	}
+
+	/**
+	 * Represents a batch update statement for multiple entities that are aggregate roots, enforcing optimistic locking
+	 * by the previous version of each entity.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.0
+	 */
+	final class BatchUpdateRootWithVersion<T> extends BatchWithValue<T, UpdateRoot<T>, Class<T>> {
+
+		public BatchUpdateRootWithVersion(List<UpdateRoot<T>> actions) {
+
+			super(actions, UpdateRoot::getEntityType);
+
+			actions.forEach(action -> Assert.notNull(action.getPreviousVersion(),
+					"Updates of a BatchUpdateRootWithVersion must have a previous version"));
+		}
+	}
+
 	/**
 	 * Represents a batch delete statement for multiple entities that are reachable via a given path from the aggregate
 	 * root.
@@ -17,6 +17,7 @@ package org.springframework.data.relational.core.conversion;
 
 import org.springframework.data.convert.EntityWriter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.lang.Nullable;
 
 /**
  * Converts an aggregate represented by its root into a {@link RootAggregateChange}. Does not perform any isNew
@@ -30,13 +31,28 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 public class RelationalEntityUpdateWriter<T> implements EntityWriter<T, RootAggregateChange<T>> {
 
 	private final RelationalMappingContext context;
+	@Nullable private final AggregateSnapshot previousState;
 
 	public RelationalEntityUpdateWriter(RelationalMappingContext context) {
+		this(context, null);
+	}
+
+	/**
+	 * Creates a writer that only creates actions for the referenced entities that differ from the given state.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param previousState the state of the aggregate as currently persisted. May be {@literal null} in which case all
+	 *          referenced entities get deleted and inserted again.
+	 * @since 3.0
+	 */
+	public RelationalEntityUpdateWriter(RelationalMappingContext context, @Nullable AggregateSnapshot previousState) {
+
 		this.context = context;
+		this.previousState = previousState;
 	}
 
 	@Override
 	public void write(T root, RootAggregateChange<T> aggregateChange) {
-		new WritingContext<>(context, root, aggregateChange).update();
+		new WritingContext<>(context, root, aggregateChange, previousState).update();
 	}
 }
@@ -45,8 +45,18 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 	 * into a single batch.
 	 */
 	private final List<DbAction.InsertRoot<T>> insertRootBatchCandidates = new ArrayList<>();
+	/**
+	 * Holds a list of UpdateRoot actions that are compatible with each other, in the sense, that they might be combined
+	 * into a single batch.
+	 */
+	private final List<DbAction.UpdateRoot<T>> updateRootBatchCandidates = new ArrayList<>();
 	private final BatchedActions insertActions = BatchedActions.batchedInserts();
 	private final BatchedActions deleteActions = BatchedActions.batchedDeletes();
+	/**
+	 * Holds {@link DbAction.DeleteById} and {@link DbAction.Update} actions for single non-root entities. They are
+	 * executed after the deletes and before the inserts.
+	 */
+	private final List<DbAction<?>> entityActions = new ArrayList<>();
 
 	SaveBatchingAggregateChange(Class<T> entityType) {
 		this.entityType = entityType;
@@ -73,7 +83,13 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 		} else {
 			insertRootBatchCandidates.forEach(consumer);
 		}
+		if (updateRootBatchCandidates.size() > 1) {
+			consumer.accept(createBatchUpdateRoot(updateRootBatchCandidates));
+		} else {
+			updateRootBatchCandidates.forEach(consumer);
+		}
 		deleteActions.forEach(consumer);
+		entityActions.forEach(consumer);
 		insertActions.forEach(consumer);
 	}
 
@@ -85,9 +101,16 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 			if (action instanceof DbAction.UpdateRoot<?> rootAction) {
 
 				combineBatchCandidatesIntoSingleBatchRootAction();
-				rootActions.add(rootAction);
+
+				if (!updateRootBatchCandidates.isEmpty() && !isBatchCompatible(updateRootBatchCandidates.get(0), rootAction)) {
+					combineUpdateBatchCandidatesIntoSingleBatchRootAction();
+				}
+				// noinspection unchecked
+				updateRootBatchCandidates.add((DbAction.UpdateRoot<T>) rootAction);
 			} else if (action instanceof DbAction.InsertRoot<?> rootAction) {
 
+				combineUpdateBatchCandidatesIntoSingleBatchRootAction();
+
 				if (!insertRootBatchCandidates.isEmpty()
 						&& !insertRootBatchCandidates.get(0).getIdValueSource().equals(rootAction.getIdValueSource())) {
 					combineBatchCandidatesIntoSingleBatchRootAction();
@@ -98,6 +121,8 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 				insertActions.add(insertAction);
 			} else if (action instanceof DbAction.Delete<?> deleteAction) {
 				deleteActions.add(deleteAction);
+			} else if (action instanceof DbAction.DeleteById<?> || action instanceof DbAction.Update<?>) {
+				entityActions.add(action);
 			}
 		});
 	}
@@ -116,4 +141,34 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 		insertRootBatchCandidates.clear();
 	}
 
+	/**
+	 * All actions gathered in {@link #updateRootBatchCandidates} are combined into a single root action and the list of
+	 * batch candidates is emptied.
+	 */
+	private void combineUpdateBatchCandidatesIntoSingleBatchRootAction() {
+
+		if (updateRootBatchCandidates.size() > 1) {
+			rootActions.add(createBatchUpdateRoot(List.copyOf(updateRootBatchCandidates)));
+		} else {
+			rootActions.addAll(updateRootBatchCandidates);
+		}
+		updateRootBatchCandidates.clear();
+	}
+
+	/**
+	 * Updates can be batched when they are for the same type and either all or none of them check a previous version.
+	 */
+	private static boolean isBatchCompatible(DbAction.UpdateRoot<?> candidate, DbAction.UpdateRoot<?> update) {
+
+		return candidate.getEntityType().equals(update.getEntityType())
+				&& (candidate.getPreviousVersion() == null) == (update.getPreviousVersion() == null);
+	}
+
+	private static <T> DbAction<T> createBatchUpdateRoot(List<DbAction.UpdateRoot<T>> updates) {
+
+		return updates.get(0).getPreviousVersion() == null //
+				? new DbAction.BatchUpdateRoot<>(updates) //
+				: new DbAction.BatchUpdateRootWithVersion<>(updates);
+	}
+
 }
@@ -20,10 +20,15 @@ import static java.util.Arrays.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.LazyLoadingValue;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -52,14 +57,25 @@ class WritingContext<T> {
 	private final IdValueSource rootIdValueSource;
 	@Nullable private final Number previousVersion;
 	private final RootAggregateChange<T> aggregateChange;
+	@Nullable private final AggregateSnapshot previousState;
 
 	WritingContext(RelationalMappingContext context, T root, RootAggregateChange<T> aggregateChange) {
+		this(context, root, aggregateChange, null);
+	}
+
+	/**
+	 * @param previousState the state of the aggregate as known to be persisted in the database. If present,
+	 *          {@link #update()} only creates actions for the referenced entities that differ from it.
+	 */
+	WritingContext(RelationalMappingContext context, T root, RootAggregateChange<T> aggregateChange,
+			@Nullable AggregateSnapshot previousState) {
 
 		this.context = context;
 		this.root = root;
 		this.entityType = aggregateChange.getEntityType();
 		this.previousVersion = aggregateChange.getPreviousVersion();
 		this.aggregateChange = aggregateChange;
+		this.previousState = previousState;
 		this.rootIdValueSource = IdValueSource.forInstance(root,
 				context.getRequiredPersistentEntity(aggregateChange.getEntityType()));
 		this.paths = context.findPersistentPropertyPaths(entityType, (p) -> p.isEntity() && !p.isEmbedded()) //
@@ -86,6 +102,13 @@ class WritingContext<T> {
 	void update() {
 
 		setRootAction(new DbAction.UpdateRoot<>(root, previousVersion));
+
+		if (previousState != null && previousState.getAggregateType().equals(entityType)) {
+
+			updateReferenced().forEach(aggregateChange::addAction);
+			return;
+		}
+
 		deleteReferenced().forEach(aggregateChange::addAction);
 		insertReferenced().forEach(aggregateChange::addAction);
 	}
@@ -104,6 +127,22 @@ class WritingContext<T> {
 		}
 	}
 
+	/**
+	 * Captures the state of all entities referenced by the aggregate root. Lazily loaded properties that haven't been
+	 * loaded yet are left out, so taking the snapshot doesn't trigger loading them.
+	 */
+	AggregateSnapshot snapshot() {
+
+		Map<PersistentPropertyPath<RelationalPersistentProperty>, List<AggregateSnapshot.NodeState>> states = new HashMap<>();
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : paths) {
+			if (!isUnloaded(path)) {
+				states.put(path, captureState(path));
+			}
+		}
+
+		return new AggregateSnapshot(entityType, states);
+	}
+
 	private boolean isNew(Object o) {
 		return context.getRequiredPersistentEntity(o.getClass()).isNew(o);
 	}
@@ -119,37 +158,176 @@ class WritingContext<T> {
 		return actions;
 	}
 
-	@SuppressWarnings("unchecked")
 	private List<? extends DbAction<?>> insertAll(PersistentPropertyPath<RelationalPersistentProperty> path) {
 
+		List<DbAction.Insert<Object>> inserts = new ArrayList<>();
+		from(path).forEach(node -> inserts.add(insert(node)));
+		return inserts;
+	}
+
+	/**
+	 * Creates the actions for all referenced entities that changed compared to {@link #previousState}. The unit of
+	 * comparison is the subtree of entities reachable via a single property of the aggregate root: unchanged subtrees and
+	 * lazily loaded subtrees that haven't been loaded are skipped, changed subtrees consisting of a single collection of
+	 * entities with an id are synchronized entity by entity and all other changed subtrees are deleted and inserted
+	 * again.
+	 */
+	private List<DbAction<?>> updateReferenced() {
+
+		Assert.state(previousState != null, "The previous state must not be null");
+
+		List<DbAction<?>> deletes = new ArrayList<>();
+		List<DbAction<?>> updates = new ArrayList<>();
+		List<DbAction<?>> inserts = new ArrayList<>();
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> topLevelPath : paths) {
+
+			if (!isDirectlyReferencedByRootIgnoringEmbeddables(topLevelPath) || isUnloaded(topLevelPath)) {
+				continue;
+			}
+
+			List<PersistentPropertyPath<RelationalPersistentProperty>> subtree = paths.stream() //
+					.filter(path -> path.equals(topLevelPath) || topLevelPath.isBasePathOf(path)) //
+					.toList();
+
+			boolean changed = false;
+			for (PersistentPropertyPath<RelationalPersistentProperty> path : subtree) {
+				changed |= !captureState(path).equals(previousState.getState(path));
+			}
+
+			if (!changed) {
+				continue;
+			}
+
+			if (subtree.size() != 1 || !isComparableById(topLevelPath)
+					|| !updateById(topLevelPath, deletes, updates, inserts)) {
+
+				subtree.forEach(path -> deletes.add(0, deleteReferenced(path)));
+				subtree.forEach(path -> inserts.addAll(insertAll(path)));
+			}
+		}
+
+		List<DbAction<?>> actions = new ArrayList<>(deletes);
+		actions.addAll(updates);
+		actions.addAll(inserts);
+
+		return actions;
+	}
+
+	/**
+	 * Entities reachable via the given path can be compared by id, if they have an id property and neither the previous
+	 * nor the current state contains duplicate ids or, for the previous state, entities without id. Entities without id
+	 * in the current state get inserted, which requires their id property to be mutable, since otherwise the collection
+	 * holding them has to be rebuilt from the executed inserts.
+	 */
+	private boolean isComparableById(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		Assert.state(previousState != null, "The previous state must not be null");
+
 		RelationalPersistentEntity<?> persistentEntity = context
 				.getRequiredPersistentEntity(path.getRequiredLeafProperty());
-		List<DbAction.Insert<Object>> inserts = new ArrayList<>();
-		from(path).forEach(node -> {
+		RelationalPersistentProperty idProperty = persistentEntity.getIdProperty();
+		if (idProperty == null) {
+			return false;
+		}
 
-			DbAction.WithEntity<?> parentAction = getAction(node.getParent());
-			Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers = new HashMap<>();
-			Object instance;
-			if (node.getPath().getRequiredLeafProperty().isQualified()) {
+		List<AggregateSnapshot.NodeState> previous = previousState.getState(path);
+		if (previous == null) {
+			return false;
+		}
 
-				Pair<Object, Object> value = (Pair) node.getValue();
-				qualifiers.put(node.getPath(), value.getFirst());
+		HashSet<Object> previousIds = new HashSet<>();
+		for (AggregateSnapshot.NodeState state : previous) {
+			if (state.id() == null || !previousIds.add(state.id())) {
+				return false;
+			}
+		}
 
-				RelationalPersistentEntity<?> parentEntity = context.getRequiredPersistentEntity(parentAction.getEntityType());
+		HashSet<Object> currentIds = new HashSet<>();
+		for (PathNode node : from(path)) {
 
-				if (!parentEntity.hasIdProperty() && parentAction instanceof DbAction.Insert) {
-					qualifiers.putAll(((DbAction.Insert<?>) parentAction).getQualifiers());
-				}
-				instance = value.getSecond();
-			} else {
-				instance = node.getValue();
+			Object instance = node.getActualValue();
+			boolean generated = IdValueSource.forInstance(instance, persistentEntity) == IdValueSource.GENERATED;
+
+			if (generated ? idProperty.isImmutable()
+					: !currentIds.add(persistentEntity.getIdentifierAccessor(instance).getIdentifier())) {
+				return false;
 			}
-			IdValueSource idValueSource = IdValueSource.forInstance(instance, persistentEntity);
-			DbAction.Insert<Object> insert = new DbAction.Insert<>(instance, path, parentAction, qualifiers, idValueSource);
-			inserts.add(insert);
-			previousActions.put(node, insert);
-		});
-		return inserts;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Compares the entities reachable via the given path by id. New entities are inserted, entities with a changed state
+	 * are updated and entities no longer present are deleted. Entities moved to another list index or map key can't be
+	 * synchronized by id, since moving them would require inserting them again with their existing id, which fails for
+	 * database generated ids.
+	 *
+	 * @return {@literal false} without adding any actions if an entity was moved, {@literal true} otherwise.
+	 */
+	private boolean updateById(PersistentPropertyPath<RelationalPersistentProperty> path, List<DbAction<?>> deletes,
+			List<DbAction<?>> updates, List<DbAction<?>> inserts) {
+
+		Assert.state(previousState != null, "The previous state must not be null");
+
+		Map<Object, AggregateSnapshot.NodeState> previousById = new LinkedHashMap<>();
+		for (AggregateSnapshot.NodeState state : Objects.requireNonNull(previousState.getState(path))) {
+			previousById.put(state.id(), state);
+		}
+
+		List<PathNode> newNodes = new ArrayList<>();
+		List<DbAction<?>> pathUpdates = new ArrayList<>();
+
+		for (PathNode node : from(path)) {
+
+			AggregateSnapshot.NodeState state = AggregateSnapshot.NodeState.of(context, node, -1);
+			AggregateSnapshot.NodeState previous = state.id() == null ? null : previousById.remove(state.id());
+
+			if (previous == null) {
+				newNodes.add(node);
+			} else if (!Objects.equals(previous.qualifier(), state.qualifier())) {
+				return false;
+			} else if (!previous.equals(state)) {
+				pathUpdates.add(new DbAction.Update<>(node.getActualValue(), path));
+			}
+		}
+
+		previousById.keySet().forEach(id -> deletes.add(new DbAction.DeleteById<>(id, path)));
+		updates.addAll(pathUpdates);
+		newNodes.forEach(node -> inserts.add(insert(node)));
+
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private DbAction.Insert<Object> insert(PathNode node) {
+
+		PersistentPropertyPath<RelationalPersistentProperty> path = node.getPath();
+		RelationalPersistentEntity<?> persistentEntity = context
+				.getRequiredPersistentEntity(path.getRequiredLeafProperty());
+
+		DbAction.WithEntity<?> parentAction = getAction(node.getParent());
+		Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers = new HashMap<>();
+		Object instance;
+		if (path.getRequiredLeafProperty().isQualified()) {
+
+			Pair<Object, Object> value = (Pair) node.getValue();
+			qualifiers.put(path, value.getFirst());
+
+			RelationalPersistentEntity<?> parentEntity = context.getRequiredPersistentEntity(parentAction.getEntityType());
+
+			if (!parentEntity.hasIdProperty() && parentAction instanceof DbAction.Insert) {
+				qualifiers.putAll(((DbAction.Insert<?>) parentAction).getQualifiers());
+			}
+			instance = value.getSecond();
+		} else {
+			instance = node.getValue();
+		}
+		IdValueSource idValueSource = IdValueSource.forInstance(instance, persistentEntity);
+		DbAction.Insert<Object> insert = new DbAction.Insert<>(instance, path, parentAction, qualifiers, idValueSource);
+		previousActions.put(node, insert);
+		return insert;
 	}
 
 	private List<DbAction<?>> deleteReferenced() {
@@ -195,6 +373,34 @@ class WritingContext<T> {
 		return null;
 	}
 
+	private List<AggregateSnapshot.NodeState> captureState(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		List<PathNode> parentNodes = nodesCache.getOrDefault(path.getParentPath(), Collections.emptyList());
+
+		Map<PathNode, Integer> parentIndexes = new IdentityHashMap<>(parentNodes.size());
+		for (int i = 0; i < parentNodes.size(); i++) {
+			parentIndexes.put(parentNodes.get(i), i);
+		}
+
+		return from(path).stream() //
+				.map(node -> AggregateSnapshot.NodeState.of(context, node, parentIndexes.getOrDefault(node.getParent(), -1))) //
+				.toList();
+	}
+
+	/**
+	 * Returns whether the given path leads into a lazily loaded property of the aggregate root that hasn't been loaded
+	 * yet and therefore can't have been changed.
+	 */
+	private boolean isUnloaded(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		PersistentPropertyPath<RelationalPersistentProperty> topLevelPath = path;
+		while (!isDirectlyReferencedByRootIgnoringEmbeddables(topLevelPath)) {
+			topLevelPath = topLevelPath.getParentPath();
+		}
+
+		return getFromRootValue(topLevelPath) instanceof LazyLoadingValue value && !value.isLoaded();
+	}
+
 	private List<PathNode> from(PersistentPropertyPath<RelationalPersistentProperty> path) {
 
 		List<PathNode> nodes = new ArrayList<>();
@@ -17,6 +17,7 @@ package org.springframework.data.relational.core.dialect;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
@@ -39,6 +40,30 @@ public class Db2Dialect extends AbstractDialect {
 		public boolean supportedForBatchOperations() {
 			return false;
 		}
+
+		@Override
+		public String createMultiRowInsert(String table, List<String> columns, String values, int rows,
+				String idColumn) {
+
+			return "SELECT " + idColumn + " FROM FINAL TABLE (INSERT INTO " + table + " (" + String.join(", ", columns)
+					+ ") VALUES " + String.join(", ", Collections.nCopies(rows, "(" + values + ")"))
+					+ ") ORDER BY INPUT SEQUENCE";
+		}
+
+		@Override
+		public int getMaxBindParameters() {
+			return 32767;
+		}
+
+		@Override
+		public boolean sequencesSupported() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(String sequenceName) {
+			return "VALUES NEXT VALUE FOR " + sequenceName;
+		}
 	};
 
 	protected Db2Dialect() {}
@@ -135,6 +135,17 @@ public interface Dialect {
 		return OrderByNullPrecedence.SQL_STANDARD;
 	}
 
+	/**
+	 * Return the {@link InListPadding} applied to values bound to {@code IN} lists. Padding keeps the number of distinct
+	 * statements low for databases caching execution plans per statement text. Defaults to {@link InListPadding#NONE}.
+	 *
+	 * @return the {@link InListPadding} used by this dialect.
+	 * @since 3.0
+	 */
+	default InListPadding getInListPadding() {
+		return InListPadding.NONE;
+	}
+
 	/**
 	 * Provide a SQL function that is suitable for implementing an exists-query.
 	 * The default is `COUNT(1)`, but for some database a `LEAST(COUNT(1), 1)` might be required, which doesn't get accepted by other databases.
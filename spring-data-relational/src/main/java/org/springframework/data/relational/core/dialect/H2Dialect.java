@@ -40,8 +40,25 @@ public class H2Dialect extends AbstractDialect {
 	 */
 	public static final H2Dialect INSTANCE = new H2Dialect();
 
+	private static final IdGeneration ID_GENERATION = new IdGeneration() {
+		@Override
+		public boolean sequencesSupported() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(String sequenceName) {
+			return "SELECT NEXT VALUE FOR " + sequenceName;
+		}
+	};
+
 	protected H2Dialect() {}
 
+	@Override
+	public IdGeneration getIdGeneration() {
+		return ID_GENERATION;
+	}
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
@@ -82,6 +99,11 @@ public class H2Dialect extends AbstractDialect {
 		return ARRAY_COLUMNS;
 	}
 
+	@Override
+	public InListPadding getInListPadding() {
+		return InListPadding.POWER_OF_TWO;
+	}
+
 	static class H2ArrayColumns implements ArrayColumns {
 
 		@Override
@@ -25,8 +25,25 @@ public class HsqlDbDialect extends AbstractDialect {
 
 	public static final HsqlDbDialect INSTANCE = new HsqlDbDialect();
 
+	private static final IdGeneration ID_GENERATION = new IdGeneration() {
+		@Override
+		public boolean sequencesSupported() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(String sequenceName) {
+			return "CALL NEXT VALUE FOR " + sequenceName;
+		}
+	};
+
 	protected HsqlDbDialect() {}
 
+	@Override
+	public IdGeneration getIdGeneration() {
+		return ID_GENERATION;
+	}
+
 	@Override
 	public LimitClause limit() {
 		return LIMIT_CLAUSE;
@@ -17,6 +17,9 @@ package org.springframework.data.relational.core.dialect;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
 
 /**
  * Describes how obtaining generated ids after an insert works for a given JDBC driver.
@@ -57,4 +60,62 @@ public interface IdGeneration {
 	default boolean supportedForBatchOperations() {
 		return true;
 	}
+
+	/**
+	 * Creates a statement inserting multiple rows at once and returning the generated id of each row. Used for batch
+	 * inserts when id generation is not {@link #supportedForBatchOperations() supported for batch operations}, so these
+	 * still require a single round trip per statement.
+	 * <p>
+	 * The statement must return the generated ids in the first column of its result set. If the database does not
+	 * guarantee to return them in the order of the inserted rows, the statement must return the zero-based index of the
+	 * row in the second column.
+	 *
+	 * @param table the rendered name of the table. Must not be {@literal null}.
+	 * @param columns the rendered names of the columns to insert. Must not be {@literal null}.
+	 * @param values the rendered values of a single row without surrounding parentheses, e.g. {@code ?, ?}. Must not be
+	 *          {@literal null}.
+	 * @param rows the number of rows to insert.
+	 * @param idColumn the rendered name of the id column. Must not be {@literal null}.
+	 * @return the statement or {@literal null} if the database does not support returning the ids generated by a
+	 *         multi-row insert.
+	 * @since 3.0
+	 */
+	@Nullable
+	default String createMultiRowInsert(String table, List<String> columns, String values, int rows, String idColumn) {
+		return null;
+	}
+
+	/**
+	 * The maximum number of bind parameters a single statement created by
+	 * {@link #createMultiRowInsert(String, List, String, int, String)} may contain.
+	 *
+	 * @return the maximum number of bind parameters per statement.
+	 * @since 3.0
+	 */
+	default int getMaxBindParameters() {
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Does the database support sequences to take ids from, as configured by
+	 * {@link org.springframework.data.relational.core.mapping.Sequence}.
+	 *
+	 * @return {@literal true} if {@link #createSequenceQuery(String)} is supported.
+	 * @since 3.0
+	 */
+	default boolean sequencesSupported() {
+		return false;
+	}
+
+	/**
+	 * Creates a query fetching the next value of the given sequence as a single row with a single column.
+	 *
+	 * @param sequenceName the rendered name of the sequence. Must not be {@literal null}.
+	 * @return the query. Guaranteed to be not {@literal null}.
+	 * @throws UnsupportedOperationException if the database does not support sequences.
+	 * @since 3.0
+	 */
+	default String createSequenceQuery(String sequenceName) {
+		throw new UnsupportedOperationException(String.format("%s does not support sequences", getClass().getName()));
+	}
 }
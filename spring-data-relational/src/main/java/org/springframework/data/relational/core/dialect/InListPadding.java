@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Strategy for padding the values bound to an {@code IN} list. Each distinct number of values yields a different SQL
+ * statement, and therefore a separate entry in the statement and execution plan caches of the database. Padding
+ * repeats the last value so that lists of similar sizes share a statement. Repeated values do not change the result
+ * of an {@code IN} or {@code NOT IN} condition.
+ *
+ * @since 3.0
+ * @see Dialect#getInListPadding()
+ */
+public interface InListPadding {
+
+	/**
+	 * An {@link InListPadding} that binds values as they are.
+	 */
+	InListPadding NONE = size -> size;
+
+	/**
+	 * An {@link InListPadding} that pads values to the next power of two, so that e.g. lists of 5 to 8 values share a
+	 * statement.
+	 */
+	InListPadding POWER_OF_TWO = powerOfTwo(Integer.MAX_VALUE);
+
+	/**
+	 * Create an {@link InListPadding} that pads values to the next power of two, but to no more than {@code maxSize}
+	 * values. Lists that already exceed {@code maxSize} values are not padded.
+	 *
+	 * @param maxSize the maximum number of values in an {@code IN} list supported by the database.
+	 * @return a new {@link InListPadding}.
+	 */
+	static InListPadding powerOfTwo(int maxSize) {
+
+		Assert.isTrue(maxSize > 0, "Maximum size must be greater than zero");
+
+		return size -> {
+
+			if (size <= 1 || size >= maxSize) {
+				return size;
+			}
+
+			int padded = Integer.highestOneBit(size - 1) << 1;
+			return padded > 0 ? Math.min(padded, maxSize) : size;
+		};
+	}
+
+	/**
+	 * Return the number of values to bind for an {@code IN} list of {@code size} values.
+	 *
+	 * @param size the actual number of values.
+	 * @return the number of values to bind. Must not be less than {@code size}.
+	 */
+	int getPaddedSize(int size);
+
+	/**
+	 * Pad the given values by repeating the last one up to the {@link #getPaddedSize(int) padded size}.
+	 *
+	 * @param values the values to bind, must not be {@literal null}.
+	 * @return the padded values. {@code values} itself if no padding is required.
+	 */
+	default <T> List<T> pad(List<T> values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		int size = values.size();
+		int paddedSize = getPaddedSize(size);
+
+		if (size == 0 || paddedSize <= size) {
+			return values;
+		}
+
+		List<T> padded = new ArrayList<>(paddedSize);
+		padded.addAll(values);
+
+		T last = values.get(size - 1);
+		while (padded.size() < paddedSize) {
+			padded.add(last);
+		}
+
+		return padded;
+	}
+}
@@ -28,10 +28,27 @@ import org.springframework.data.relational.core.sql.IdentifierProcessing;
  */
 public class MariaDbDialect extends MySqlDialect {
 
+	private static final IdGeneration ID_GENERATION = new IdGeneration() {
+		@Override
+		public boolean sequencesSupported() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(String sequenceName) {
+			return "SELECT NEXTVAL(" + sequenceName + ")";
+		}
+	};
+
 	public MariaDbDialect(IdentifierProcessing identifierProcessing) {
 		super(identifierProcessing);
 	}
 
+	@Override
+	public IdGeneration getIdGeneration() {
+		return ID_GENERATION;
+	}
+
 	@Override
 	public Collection<Object> getConverters() {
 		return Collections.singletonList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE);
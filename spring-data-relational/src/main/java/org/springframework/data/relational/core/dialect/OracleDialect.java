@@ -42,8 +42,20 @@ public class OracleDialect extends AnsiDialect {
 		public boolean driverRequiresKeyColumnNames() {
 			return true;
 		}
+
+		@Override
+		public boolean sequencesSupported() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(String sequenceName) {
+			return "SELECT " + sequenceName + ".NEXTVAL FROM DUAL";
+		}
 	};
 
+	private static final InListPadding IN_LIST_PADDING = InListPadding.powerOfTwo(1000);
+
 	protected OracleDialect() {}
 
 	@Override
@@ -51,6 +63,14 @@ public class OracleDialect extends AnsiDialect {
 		return ID_GENERATION;
 	}
 
+	/**
+	 * Pads {@code IN} lists to powers of two, up to the limit of 1000 expressions per list.
+	 */
+	@Override
+	public InListPadding getInListPadding() {
+		return IN_LIST_PADDING;
+	}
+
 	@Override
 	public Collection<Object> getConverters() {
 		return asList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE, NumberToBooleanConverter.INSTANCE, BooleanToIntegerConverter.INSTANCE);
@@ -51,8 +51,25 @@ public class PostgresDialect extends AbstractDialect {
 	 */
 	public static final PostgresDialect INSTANCE = new PostgresDialect();
 
+	private static final IdGeneration ID_GENERATION = new IdGeneration() {
+		@Override
+		public boolean sequencesSupported() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(String sequenceName) {
+			return "SELECT nextval('" + sequenceName + "')";
+		}
+	};
+
 	protected PostgresDialect() {}
 
+	@Override
+	public IdGeneration getIdGeneration() {
+		return ID_GENERATION;
+	}
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
@@ -78,6 +95,8 @@ public class PostgresDialect extends AbstractDialect {
 
 	private final PostgresArrayColumns ARRAY_COLUMNS = new PostgresArrayColumns();
 
+	private static final InListPadding IN_LIST_PADDING = InListPadding.powerOfTwo(Short.MAX_VALUE);
+
 	@Override
 	public LimitClause limit() {
 		return LIMIT_CLAUSE;
@@ -100,6 +119,14 @@ public class PostgresDialect extends AbstractDialect {
 		return Collections.singletonList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE);
 	}
 
+	/**
+	 * Pads {@code IN} lists to powers of two, up to the maximum number of bind parameters supported by the driver.
+	 */
+	@Override
+	public InListPadding getInListPadding() {
+		return IN_LIST_PADDING;
+	}
+
 	static class PostgresLockClause implements LockClause {
 
 		private final IdentifierProcessing identifierProcessing;
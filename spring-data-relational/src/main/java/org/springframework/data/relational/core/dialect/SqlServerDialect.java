@@ -15,6 +15,9 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import java.util.List;
+import java.util.StringJoiner;
+
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
@@ -42,6 +45,44 @@ public class SqlServerDialect extends AbstractDialect {
 		public boolean supportedForBatchOperations() {
 			return false;
 		}
+
+		@Override
+		public String createMultiRowInsert(String table, List<String> columns, String values, int rows,
+				String idColumn) {
+
+			// OUTPUT INSERTED of a plain INSERT doesn't guarantee the order of the rows, MERGE allows to return the index
+			// of the source row.
+			StringJoiner sourceColumns = new StringJoiner(", ");
+			StringJoiner sourceValues = new StringJoiner(", ");
+			for (int i = 0; i < columns.size(); i++) {
+				sourceColumns.add("c" + i);
+				sourceValues.add("source.c" + i);
+			}
+
+			StringJoiner sourceRows = new StringJoiner(", ");
+			for (int i = 0; i < rows; i++) {
+				sourceRows.add("(" + values + ", " + i + ")");
+			}
+
+			return "MERGE INTO " + table + " USING (VALUES " + sourceRows + ") AS source (" + sourceColumns
+					+ ", row_index) ON 1 = 0 WHEN NOT MATCHED THEN INSERT (" + String.join(", ", columns) + ") VALUES ("
+					+ sourceValues + ") OUTPUT INSERTED." + idColumn + ", source.row_index;";
+		}
+
+		@Override
+		public int getMaxBindParameters() {
+			return 2000; // the limit is 2100, leave some headroom for the driver
+		}
+
+		@Override
+		public boolean sequencesSupported() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(String sequenceName) {
+			return "SELECT NEXT VALUE FOR " + sequenceName;
+		}
 	};
 
 	protected SqlServerDialect() {}
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.relational.core.mapping;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -204,6 +207,17 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 		return findAnnotation != null && OnEmpty.USE_EMPTY.equals(findAnnotation.onEmpty());
 	}
 
+	@Override
+	public boolean isLazy() {
+
+		MappedCollection findAnnotation = findAnnotation(MappedCollection.class);
+
+		Class<?> type = getType();
+
+		return findAnnotation != null && findAnnotation.lazy() && isEntity()
+				&& (type == List.class || type == Set.class || type == Collection.class || type == Map.class);
+	}
+
 	private boolean isListLike() {
 		return isCollectionLike() && !Set.class.isAssignableFrom(this.getType());
 	}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.util.Assert;
+
+/**
+ * The database sequence ids of an entity get taken from, as configured by {@link Sequence}.
+ *
+ * @since 3.0
+ */
+public final class IdSequence {
+
+	private final SqlIdentifier sequenceName;
+	private final int allocationSize;
+	private final Sequence.Optimizer optimizer;
+
+	IdSequence(SqlIdentifier sequenceName, int allocationSize, Sequence.Optimizer optimizer) {
+
+		Assert.notNull(sequenceName, "Sequence name must not be null");
+		Assert.isTrue(allocationSize > 0, "Allocation size must be greater than zero");
+		Assert.notNull(optimizer, "Optimizer must not be null");
+
+		this.sequenceName = sequenceName;
+		this.allocationSize = allocationSize;
+		this.optimizer = optimizer;
+	}
+
+	/**
+	 * @return the name of the sequence, including its schema if configured. Guaranteed to be not {@literal null}.
+	 */
+	public SqlIdentifier getSequenceName() {
+		return sequenceName;
+	}
+
+	/**
+	 * @return the number of ids provided by a single value fetched from the sequence.
+	 */
+	public int getAllocationSize() {
+		return allocationSize;
+	}
+
+	/**
+	 * @return how ids get derived from the values fetched from the sequence. Guaranteed to be not {@literal null}.
+	 */
+	public Sequence.Optimizer getOptimizer() {
+		return optimizer;
+	}
+
+	@Override
+	public String toString() {
+		return "IdSequence{" + sequenceName + ", allocationSize=" + allocationSize + ", optimizer=" + optimizer + '}';
+	}
+}
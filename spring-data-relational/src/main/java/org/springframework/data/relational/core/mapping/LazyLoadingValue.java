@@ -0,0 +1,31 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+/**
+ * A placeholder populated into a {@link RelationalPersistentProperty#isLazy() lazily loaded} property that loads the
+ * actual value on first access. Allows writing code to tell placeholders that were never accessed, and therefore can't
+ * have been changed, from loaded values without triggering the load.
+ *
+ * @since 3.0
+ */
+public interface LazyLoadingValue {
+
+	/**
+	 * @return {@literal true} if the actual value has been loaded.
+	 */
+	boolean isLoaded();
+}
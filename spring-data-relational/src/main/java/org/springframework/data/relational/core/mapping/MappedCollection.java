@@ -20,6 +20,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -51,4 +52,15 @@ public @interface MappedCollection {
 	 * @see NamingStrategy#getKeyColumn(RelationalPersistentProperty)
 	 */
 	String keyColumn() default "";
+
+	/**
+	 * Whether the collection gets loaded lazily. Lazily loaded collections get populated with a placeholder that loads
+	 * the actual elements on first access. Placeholders created while reading the same result get loaded together in a
+	 * single step. The elements get loaded at the time of the first access, which might be outside of the transaction
+	 * the owning entity was read in. Only applies to properties referencing entities that are declared as {@link List},
+	 * {@link Set}, {@link Collection} or {@link Map}. Properties of other types get loaded eagerly.
+	 *
+	 * @since 3.0
+	 */
+	boolean lazy() default false;
 }
@@ -36,6 +36,7 @@ public class RelationalMappingContext
 
 	private final NamingStrategy namingStrategy;
 	private boolean forceQuote = true;
+	private boolean singleQueryLoadingEnabled = false;
 
 	/**
 	 * Creates a new {@link RelationalMappingContext}.
@@ -77,6 +78,27 @@ public class RelationalMappingContext
 		this.forceQuote = forceQuote;
 	}
 
+	/**
+	 * Return whether the collections of an aggregate are loaded with a single statement per collection level for all
+	 * aggregates of a query instead of one statement per referencing entity. Disabled by default.
+	 *
+	 * @return
+	 * @since 3.0
+	 */
+	public boolean isSingleQueryLoadingEnabled() {
+		return singleQueryLoadingEnabled;
+	}
+
+	/**
+	 * Enable/disable loading the collections of aggregates with a single statement per collection level.
+	 *
+	 * @param singleQueryLoadingEnabled
+	 * @since 3.0
+	 */
+	public void setSingleQueryLoadingEnabled(boolean singleQueryLoadingEnabled) {
+		this.singleQueryLoadingEnabled = singleQueryLoadingEnabled;
+	}
+
 	@Override
 	protected <T> RelationalPersistentEntity<T> createPersistentEntity(TypeInformation<T> typeInformation) {
 
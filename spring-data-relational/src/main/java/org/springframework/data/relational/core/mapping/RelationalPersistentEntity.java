@@ -17,6 +17,7 @@ package org.springframework.data.relational.core.mapping;
 
 import org.springframework.data.mapping.model.MutablePersistentEntity;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
 
 /**
  * A {@link org.springframework.data.mapping.PersistentEntity} interface with additional methods for JDBC/RDBMS related
@@ -40,4 +41,14 @@ public interface RelationalPersistentEntity<T> extends MutablePersistentEntity<T
 	 * @return will never be {@literal null}.
 	 */
 	SqlIdentifier getIdColumn();
+
+	/**
+	 * Returns the sequence ids of this entity get taken from, as configured by a {@link Sequence} annotation on the id
+	 * property.
+	 *
+	 * @return the sequence or {@literal null} if ids don't get taken from a sequence.
+	 * @since 3.0
+	 */
+	@Nullable
+	IdSequence getIdSequence();
 }
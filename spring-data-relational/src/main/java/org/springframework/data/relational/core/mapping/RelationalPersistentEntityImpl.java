@@ -38,6 +38,7 @@ class RelationalPersistentEntityImpl<T> extends BasicPersistentEntity<T, Relatio
 	private final NamingStrategy namingStrategy;
 	private final Lazy<Optional<SqlIdentifier>> tableName;
 	private final Lazy<Optional<SqlIdentifier>> schemaName;
+	private final Lazy<Optional<IdSequence>> idSequence;
 	private boolean forceQuote = true;
 
 	/**
@@ -61,6 +62,20 @@ class RelationalPersistentEntityImpl<T> extends BasicPersistentEntity<T, Relatio
 				.map(Table::schema)
 				.filter(StringUtils::hasText)
 				.map(this::createSqlIdentifier));
+
+		this.idSequence = Lazy.of(() -> Optional.ofNullable(getIdProperty())
+				.map(idProperty -> idProperty.findAnnotation(Sequence.class))
+				.map(this::createIdSequence));
+	}
+
+	private IdSequence createIdSequence(Sequence sequence) {
+
+		SqlIdentifier sequenceName = createSqlIdentifier(sequence.value());
+		if (StringUtils.hasText(sequence.schema())) {
+			sequenceName = SqlIdentifier.from(createSqlIdentifier(sequence.schema()), sequenceName);
+		}
+
+		return new IdSequence(sequenceName, sequence.allocationSize(), sequence.optimizer());
 	}
 
 	private SqlIdentifier createSqlIdentifier(String name) {
@@ -115,6 +130,12 @@ class RelationalPersistentEntityImpl<T> extends BasicPersistentEntity<T, Relatio
 		return getRequiredIdProperty().getColumnName();
 	}
 
+	@Override
+	@Nullable
+	public IdSequence getIdSequence() {
+		return idSequence.get().orElse(null);
+	}
+
 	@Override
 	public String toString() {
 		return String.format("RelationalPersistentEntityImpl<%s>", getType());
@@ -84,4 +84,17 @@ public interface RelationalPersistentProperty extends PersistentProperty<Relatio
 	 * @return
 	 */
 	boolean shouldCreateEmptyEmbedded();
+
+	/**
+	 * Returns whether the referenced entities are supposed to be loaded on first access instead of together with the
+	 * owning entity. Only properties referencing entities that are declared as {@link java.util.List},
+	 * {@link java.util.Set}, {@link java.util.Collection} or {@link java.util.Map} can be loaded lazily.
+	 *
+	 * @return {@literal true} if the property is loaded lazily.
+	 * @since 3.0
+	 * @see MappedCollection#lazy()
+	 */
+	default boolean isLazy() {
+		return false;
+	}
 }
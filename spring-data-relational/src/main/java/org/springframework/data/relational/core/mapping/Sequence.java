@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies that the value of an id property gets taken from a database sequence instead of being generated by the
+ * database on insert. The ids are fetched before the insert, so inserts can be batched without retrieving generated
+ * keys. With an {@link #allocationSize()} greater than {@literal 1} each value fetched from the sequence provides a
+ * block of ids, as determined by the {@link #optimizer()}.
+ *
+ * @since 3.0
+ * @see RelationalPersistentEntity#getIdSequence()
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface Sequence {
+
+	/**
+	 * The name of the sequence.
+	 */
+	String value();
+
+	/**
+	 * The schema of the sequence. Uses the default schema if not specified.
+	 */
+	String schema() default "";
+
+	/**
+	 * The number of ids provided by a single value fetched from the sequence.
+	 */
+	int allocationSize() default 1;
+
+	/**
+	 * How ids get derived from the values fetched from the sequence.
+	 */
+	Optimizer optimizer() default Optimizer.POOLED;
+
+	/**
+	 * Strategies to derive a block of {@link #allocationSize()} ids from a single sequence value.
+	 */
+	enum Optimizer {
+
+		/**
+		 * The sequence is incremented by the allocation size and each value is the first id of its block, i.e. a value
+		 * {@code v} provides the ids {@code v} to {@code v + allocationSize - 1}.
+		 */
+		POOLED,
+
+		/**
+		 * The sequence is incremented by one and each value is the high part of the ids of its block, i.e. a value
+		 * {@code v} provides the ids {@code v * allocationSize} to {@code v * allocationSize + allocationSize - 1}.
+		 */
+		HILO;
+
+		/**
+		 * Returns the first id of the block provided by the given sequence value.
+		 *
+		 * @param sequenceValue the value fetched from the sequence.
+		 * @param allocationSize the number of ids per sequence value.
+		 * @return the first id of the block.
+		 */
+		public long getFirstId(long sequenceValue, int allocationSize) {
+			return this == HILO ? sequenceValue * allocationSize : sequenceValue;
+		}
+	}
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Position within a sorted result for keyset (seek) pagination. A {@link KeysetPosition} holds the values of the sort
+ * properties of the last element of the previous page. Instead of skipping rows through an offset, the next page is
+ * selected by a predicate that matches all rows sorting after these values, which lets the database seek into an
+ * index regardless of how deep the page is.
+ * <p>
+ * For a sort by {@code a, b} the predicate is {@code a > :a OR (a = :a AND b > :b)}, with {@code <} used for
+ * descending orders. {@literal null} values are supported for orders that define
+ * {@link Sort.NullHandling#NULLS_FIRST NULLS_FIRST} or {@link Sort.NullHandling#NULLS_LAST NULLS_LAST}; orders using
+ * {@link Sort.NullHandling#NATIVE native} null handling require non-null values. For a stable order, the sort should
+ * end with a unique property such as the identifier.
+ *
+ * @since 3.0
+ * @see Query#after(KeysetPosition)
+ * @see KeysetWindow
+ */
+public final class KeysetPosition {
+
+	private static final KeysetPosition INITIAL = new KeysetPosition(Collections.emptyMap());
+
+	private final Map<String, Object> keys;
+
+	private KeysetPosition(Map<String, Object> keys) {
+		this.keys = keys;
+	}
+
+	/**
+	 * Return the position before the first element.
+	 *
+	 * @return the initial {@link KeysetPosition}.
+	 */
+	public static KeysetPosition initial() {
+		return INITIAL;
+	}
+
+	/**
+	 * Create a {@link KeysetPosition} from the given sort property values.
+	 *
+	 * @param keys sort property names to their values, must not be {@literal null}.
+	 * @return a new {@link KeysetPosition}.
+	 */
+	public static KeysetPosition of(Map<String, ?> keys) {
+
+		Assert.notNull(keys, "Keys must not be null");
+
+		return keys.isEmpty() ? INITIAL : new KeysetPosition(Collections.unmodifiableMap(new LinkedHashMap<>(keys)));
+	}
+
+	/**
+	 * Create a {@link KeysetPosition} for the properties of {@link Sort} obtaining their values from
+	 * {@code propertyValues}.
+	 *
+	 * @param sort the sort defining the keyset, must not be {@literal null}.
+	 * @param propertyValues function returning the value of a sort property, must not be {@literal null}.
+	 * @return a new {@link KeysetPosition}.
+	 */
+	public static KeysetPosition of(Sort sort, Function<String, Object> propertyValues) {
+
+		Assert.notNull(sort, "Sort must not be null");
+		Assert.notNull(propertyValues, "Property values must not be null");
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+
+		for (Sort.Order order : sort) {
+			keys.put(order.getProperty(), propertyValues.apply(order.getProperty()));
+		}
+
+		return of(keys);
+	}
+
+	/**
+	 * @return {@literal true} if this is the position before the first element.
+	 */
+	public boolean isInitial() {
+		return this.keys.isEmpty();
+	}
+
+	/**
+	 * @return the sort property names and their values.
+	 */
+	public Map<String, Object> getKeys() {
+		return this.keys;
+	}
+
+	/**
+	 * Create the {@link Criteria} matching all rows that sort after this position.
+	 *
+	 * @param sort the sort of the query. Must contain a value for each of its properties unless the position is
+	 *          {@link #isInitial() initial}.
+	 * @return the {@link Criteria}. {@link Criteria#empty() Empty} for the initial position.
+	 */
+	public Criteria toCriteria(Sort sort) {
+
+		Assert.notNull(sort, "Sort must not be null");
+
+		if (isInitial()) {
+			return Criteria.empty();
+		}
+
+		Assert.isTrue(sort.isSorted(), "Keyset pagination requires a sorted query");
+
+		List<Sort.Order> orders = sort.toList();
+		List<Criteria> disjunction = new ArrayList<>(orders.size());
+
+		for (int i = 0; i < orders.size(); i++) {
+
+			Criteria after = createAfterCriteria(orders.get(i));
+
+			if (after == null) {
+				continue;
+			}
+
+			List<Criteria> conjunction = new ArrayList<>(i + 1);
+			for (int j = 0; j < i; j++) {
+				conjunction.add(createEqualCriteria(orders.get(j)));
+			}
+			conjunction.add(after);
+
+			disjunction.add(Criteria.from(conjunction));
+		}
+
+		Assert.state(!disjunction.isEmpty(), "Keyset position " + this.keys + " is the last position of " + sort);
+
+		Criteria criteria = disjunction.get(0);
+		for (int i = 1; i < disjunction.size(); i++) {
+			criteria = criteria.or(disjunction.get(i));
+		}
+
+		return disjunction.size() > 1 ? Criteria.empty().and(criteria) : criteria;
+	}
+
+	private Criteria createEqualCriteria(Sort.Order order) {
+
+		Object value = getRequiredValue(order);
+		Criteria.CriteriaStep column = Criteria.where(order.getProperty());
+
+		return value == null ? column.isNull() : column.is(value);
+	}
+
+	/**
+	 * Create the {@link Criteria} matching rows that sort after this position with respect to a single {@link Sort.Order}
+	 * or {@literal null} if no row can sort after it.
+	 */
+	@Nullable
+	private Criteria createAfterCriteria(Sort.Order order) {
+
+		Object value = getRequiredValue(order);
+		String property = order.getProperty();
+
+		if (value == null) {
+			return order.getNullHandling() == Sort.NullHandling.NULLS_FIRST ? Criteria.where(property).isNotNull() : null;
+		}
+
+		Criteria.CriteriaStep column = Criteria.where(property);
+		Criteria after = order.isAscending() ? column.greaterThan(value) : column.lessThan(value);
+
+		return order.getNullHandling() == Sort.NullHandling.NULLS_LAST //
+				? Criteria.empty().and(after.or(property).isNull()) //
+				: after;
+	}
+
+	@Nullable
+	private Object getRequiredValue(Sort.Order order) {
+
+		String property = order.getProperty();
+
+		Assert.isTrue(this.keys.containsKey(property),
+				() -> String.format("Keyset position %s does not contain a value for sort property %s", this.keys, property));
+
+		Object value = this.keys.get(property);
+
+		Assert.isTrue(value != null || order.getNullHandling() != Sort.NullHandling.NATIVE, () -> String.format(
+				"Keyset value for %s must not be null unless the sort defines NULLS_FIRST or NULLS_LAST", property));
+
+		return value;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof KeysetPosition that)) {
+			return false;
+		}
+
+		return this.keys.equals(that.keys);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.keys.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetPosition " + this.keys;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+
+/**
+ * A page of results selected through keyset pagination along with the {@link KeysetPosition} to continue from.
+ *
+ * @param <T> the element type.
+ * @since 3.0
+ * @see KeysetPosition
+ */
+public final class KeysetWindow<T> implements Iterable<T> {
+
+	private final List<T> content;
+	private final boolean hasNext;
+	private final KeysetPosition nextPosition;
+
+	private KeysetWindow(List<T> content, boolean hasNext, KeysetPosition nextPosition) {
+
+		this.content = content;
+		this.hasNext = hasNext;
+		this.nextPosition = nextPosition;
+	}
+
+	/**
+	 * Create a {@link KeysetWindow} from the results of a query that fetched up to {@code limit + 1} rows. The additional
+	 * row only indicates whether there is a next window and is not part of the content.
+	 *
+	 * @param results the query results, must not be {@literal null}.
+	 * @param limit the number of elements of a window.
+	 * @param sort the sort defining the keyset, must not be {@literal null}.
+	 * @param keyFunction function returning a function to obtain the sort property values of an element, must not be
+	 *          {@literal null}.
+	 * @return a new {@link KeysetWindow}.
+	 */
+	public static <T> KeysetWindow<T> of(List<T> results, int limit, Sort sort,
+			Function<T, Function<String, Object>> keyFunction) {
+
+		Assert.notNull(results, "Results must not be null");
+		Assert.notNull(sort, "Sort must not be null");
+		Assert.notNull(keyFunction, "Key function must not be null");
+
+		boolean hasNext = results.size() > limit;
+		List<T> content = hasNext ? results.subList(0, limit) : results;
+
+		KeysetPosition nextPosition = content.isEmpty() //
+				? KeysetPosition.initial() //
+				: KeysetPosition.of(sort, keyFunction.apply(content.get(content.size() - 1)));
+
+		return new KeysetWindow<>(Collections.unmodifiableList(content), hasNext, nextPosition);
+	}
+
+	/**
+	 * @return the elements of this window.
+	 */
+	public List<T> getContent() {
+		return this.content;
+	}
+
+	/**
+	 * @return {@literal true} if there are more elements after this window.
+	 */
+	public boolean hasNext() {
+		return this.hasNext;
+	}
+
+	/**
+	 * Return the position after the last element of this window. Pass it to the next query to obtain the next window.
+	 *
+	 * @return the position after the last element. {@link KeysetPosition#initial() Initial} if this window is empty.
+	 */
+	public KeysetPosition getNextPosition() {
+		return this.nextPosition;
+	}
+
+	/**
+	 * @return {@literal true} if this window has no elements.
+	 */
+	public boolean isEmpty() {
+		return this.content.isEmpty();
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return this.content.iterator();
+	}
+}
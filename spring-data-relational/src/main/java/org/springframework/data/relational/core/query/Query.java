@@ -15,6 +15,7 @@
  */
 package org.springframework.data.relational.core.query;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -42,6 +43,7 @@ import org.springframework.util.Assert;
 public class Query {
 
 	private static final int NO_LIMIT = -1;
+	private static final int NO_FETCH_SIZE = -1;
 
 	private final @Nullable CriteriaDefinition criteria;
 
@@ -49,6 +51,8 @@ public class Query {
 	private final Sort sort;
 	private final int limit;
 	private final long offset;
+	private final int fetchSize;
+	private final @Nullable Duration timeout;
 
 	/**
 	 * Static factory method to create a {@link Query} using the provided {@link CriteriaDefinition}.
@@ -66,16 +70,19 @@ public class Query {
 	 * @param criteria must not be {@literal null}.
 	 */
 	private Query(@Nullable CriteriaDefinition criteria) {
-		this(criteria, Collections.emptyList(), Sort.unsorted(), NO_LIMIT, NO_LIMIT);
+		this(criteria, Collections.emptyList(), Sort.unsorted(), NO_LIMIT, NO_LIMIT, NO_FETCH_SIZE, null);
 	}
 
-	private Query(@Nullable CriteriaDefinition criteria, List<SqlIdentifier> columns, Sort sort, int limit, long offset) {
+	private Query(@Nullable CriteriaDefinition criteria, List<SqlIdentifier> columns, Sort sort, int limit, long offset,
+			int fetchSize, @Nullable Duration timeout) {
 
 		this.criteria = criteria;
 		this.columns = columns;
 		this.sort = sort;
 		this.limit = limit;
 		this.offset = offset;
+		this.fetchSize = fetchSize;
+		this.timeout = timeout;
 	}
 
 	/**
@@ -139,7 +146,7 @@ public class Query {
 
 		List<SqlIdentifier> newColumns = new ArrayList<>(this.columns);
 		newColumns.addAll(columns);
-		return new Query(this.criteria, newColumns, this.sort, this.limit, offset);
+		return new Query(this.criteria, newColumns, this.sort, this.limit, this.offset, this.fetchSize, this.timeout);
 	}
 
 	/**
@@ -149,7 +156,7 @@ public class Query {
 	 * @return a new {@link Query} object containing the former settings with {@code offset} applied.
 	 */
 	public Query offset(long offset) {
-		return new Query(this.criteria, this.columns, this.sort, this.limit, offset);
+		return new Query(this.criteria, this.columns, this.sort, this.limit, offset, this.fetchSize, this.timeout);
 	}
 
 	/**
@@ -159,7 +166,7 @@ public class Query {
 	 * @return a new {@link Query} object containing the former settings with {@code limit} applied.
 	 */
 	public Query limit(int limit) {
-		return new Query(this.criteria, this.columns, this.sort, limit, this.offset);
+		return new Query(this.criteria, this.columns, this.sort, limit, this.offset, this.fetchSize, this.timeout);
 	}
 
 	/**
@@ -178,7 +185,7 @@ public class Query {
 		assertNoCaseSort(pageable.getSort());
 
 		return new Query(this.criteria, this.columns, this.sort.and(pageable.getSort()), pageable.getPageSize(),
-				pageable.getOffset());
+				pageable.getOffset(), this.fetchSize, this.timeout);
 	}
 
 	/**
@@ -197,7 +204,68 @@ public class Query {
 
 		assertNoCaseSort(sort);
 
-		return new Query(this.criteria, this.columns, this.sort.and(sort), this.limit, this.offset);
+		return new Query(this.criteria, this.columns, this.sort.and(sort), this.limit, this.offset, this.fetchSize,
+				this.timeout);
+	}
+
+	/**
+	 * Restrict the {@link Query} to rows that sort after the given {@link KeysetPosition} for keyset pagination. The
+	 * keyset is defined by the {@link #getSort() sort} of this query which must therefore be set before calling this
+	 * method. Combine with {@link #limit(int)} to select a page.
+	 *
+	 * @param position the position to continue after, must not be {@literal null}.
+	 * @return a new {@link Query} object containing the former settings with the keyset predicate applied.
+	 * @since 3.0
+	 * @see KeysetPosition#toCriteria(Sort)
+	 */
+	public Query after(KeysetPosition position) {
+
+		Assert.notNull(position, "KeysetPosition must not be null");
+
+		if (position.isInitial()) {
+			return this;
+		}
+
+		Assert.state(isSorted(), "Keyset pagination requires a sorted query");
+
+		Criteria keyset = position.toCriteria(this.sort);
+		CriteriaDefinition criteria = this.criteria == null || this.criteria.isEmpty() //
+				? keyset //
+				: Criteria.empty().and(this.criteria).and(keyset);
+
+		return new Query(criteria, this.columns, this.sort, this.limit, this.offset, this.fetchSize, this.timeout);
+	}
+
+	/**
+	 * Set the number of rows to fetch from the database per roundtrip when reading the results. A fetch size allows
+	 * drivers that otherwise read the entire result into memory to stream large results from the server. Stores that do
+	 * not support a fetch size ignore it.
+	 *
+	 * @param fetchSize the number of rows per roundtrip, must be greater than zero.
+	 * @return a new {@link Query} object containing the former settings with {@code fetchSize} applied.
+	 * @since 3.0
+	 */
+	public Query fetchSize(int fetchSize) {
+
+		Assert.isTrue(fetchSize > 0, "Fetch size must be greater than zero");
+
+		return new Query(this.criteria, this.columns, this.sort, this.limit, this.offset, fetchSize, this.timeout);
+	}
+
+	/**
+	 * Set the time to wait for the query to execute before it gets cancelled. Stores that do not support a timeout
+	 * ignore it.
+	 *
+	 * @param timeout the timeout, must not be {@literal null} and must be positive.
+	 * @return a new {@link Query} object containing the former settings with {@code timeout} applied.
+	 * @since 3.0
+	 */
+	public Query timeout(Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null");
+		Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "Timeout must be positive");
+
+		return new Query(this.criteria, this.columns, this.sort, this.limit, this.offset, this.fetchSize, timeout);
 	}
 
 	/**
@@ -261,6 +329,29 @@ public class Query {
 		return getLimit() != NO_LIMIT;
 	}
 
+	/**
+	 * Return the number of rows to fetch per roundtrip or {@literal -1} if not set.
+	 *
+	 * @return the fetch size.
+	 * @see #fetchSize(int)
+	 * @since 3.0
+	 */
+	public int getFetchSize() {
+		return this.fetchSize;
+	}
+
+	/**
+	 * Return the time to wait for the query to execute.
+	 *
+	 * @return the timeout or {@literal null} if not set.
+	 * @see #timeout(Duration)
+	 * @since 3.0
+	 */
+	@Nullable
+	public Duration getTimeout() {
+		return this.timeout;
+	}
+
 	private static void assertNoCaseSort(Sort sort) {
 
 		for (Sort.Order order : sort) {
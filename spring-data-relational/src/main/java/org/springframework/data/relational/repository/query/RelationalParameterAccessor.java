@@ -15,8 +15,10 @@
  */
 package org.springframework.data.relational.repository.query;
 
+import org.springframework.data.relational.core.query.KeysetPosition;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
+import org.springframework.lang.Nullable;
 
 /**
  * Relational-specific {@link ParameterAccessor}.
@@ -34,4 +36,14 @@ public interface RelationalParameterAccessor extends ParameterAccessor {
 	 * @return the bindable parameters.
 	 */
 	Parameters<?, ?> getBindableParameters();
+
+	/**
+	 * Returns the {@link KeysetPosition} argument of the query method.
+	 *
+	 * @return the {@link KeysetPosition} or {@literal null} if the query method does not declare a {@link KeysetPosition}
+	 *         parameter or the argument is {@literal null}.
+	 * @since 3.0
+	 */
+	@Nullable
+	KeysetPosition getKeysetPosition();
 }
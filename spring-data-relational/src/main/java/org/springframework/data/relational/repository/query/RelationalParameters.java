@@ -21,6 +21,7 @@ import java.util.List;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
+import org.springframework.data.relational.core.query.KeysetPosition;
 import org.springframework.data.relational.repository.query.RelationalParameters.RelationalParameter;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
@@ -76,6 +77,15 @@ public class RelationalParameters extends Parameters<RelationalParameters, Relat
 		}
 
 
+		/**
+		 * {@link KeysetPosition} parameters are special parameters as they do not bind to the query but define the
+		 * position to continue from.
+		 */
+		@Override
+		public boolean isSpecialParameter() {
+			return super.isSpecialParameter() || KeysetPosition.class.isAssignableFrom(getType());
+		}
+
 		public ResolvableType getResolvableType() {
 			return ResolvableType
 					.forClassWithGenerics(super.getType(), ResolvableType.forMethodParameter(this.parameter).getGenerics());
@@ -18,9 +18,12 @@ package org.springframework.data.relational.repository.query;
 import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.data.relational.core.query.KeysetPosition;
+import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.lang.Nullable;
 
 /**
  * Relational-specific {@link ParametersParameterAccessor}.
@@ -53,4 +56,17 @@ public class RelationalParametersParameterAccessor extends ParametersParameterAc
 	public Parameters<?, ?> getBindableParameters() {
 		return getParameters().getBindableParameters();
 	}
+
+	@Override
+	@Nullable
+	public KeysetPosition getKeysetPosition() {
+
+		for (Parameter parameter : getParameters()) {
+			if (KeysetPosition.class.isAssignableFrom(parameter.getType())) {
+				return (KeysetPosition) values.get(parameter.getIndex());
+			}
+		}
+
+		return null;
+	}
 }
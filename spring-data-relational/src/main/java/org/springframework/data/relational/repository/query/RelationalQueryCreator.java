@@ -18,13 +18,16 @@ package org.springframework.data.relational.repository.query;
 import java.util.Collection;
 import java.util.Iterator;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.KeysetPosition;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.util.Streamable;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -36,6 +39,7 @@ import org.springframework.util.Assert;
  */
 public abstract class RelationalQueryCreator<T> extends AbstractQueryCreator<T, Criteria> {
 
+	private final RelationalParameterAccessor accessor;
 	private final CriteriaFactory criteriaFactory;
 
 	/**
@@ -50,6 +54,7 @@ public abstract class RelationalQueryCreator<T> extends AbstractQueryCreator<T,
 		super(tree);
 
 		Assert.notNull(accessor, "RelationalParameterAccessor must not be null");
+		this.accessor = accessor;
 		this.criteriaFactory = new CriteriaFactory(new ParameterMetadataProvider(accessor));
 	}
 
@@ -90,6 +95,30 @@ public abstract class RelationalQueryCreator<T> extends AbstractQueryCreator<T,
 		return base.or(criteria);
 	}
 
+	/**
+	 * Combines the given {@link Criteria} with the keyset predicate of the {@link KeysetPosition} argument of the query
+	 * method, if any, so that the query selects only rows sorting after that position.
+	 *
+	 * @param criteria {@link Criteria} to be combined, can be {@literal null}.
+	 * @param sort the sort of the query defining the keyset, must not be {@literal null}.
+	 * @return {@link Criteria} combination or {@code criteria} if there is no {@link KeysetPosition} to apply.
+	 * @since 3.0
+	 * @see KeysetPosition#toCriteria(Sort)
+	 */
+	@Nullable
+	protected Criteria applyKeysetPosition(@Nullable Criteria criteria, Sort sort) {
+
+		KeysetPosition position = accessor.getKeysetPosition();
+
+		if (position == null || position.isInitial()) {
+			return criteria;
+		}
+
+		Criteria keyset = position.toCriteria(sort);
+
+		return criteria == null || criteria.isEmpty() ? keyset : Criteria.empty().and(criteria).and(keyset);
+	}
+
 	/**
 	 * Validate parameters for the derived query. Specifically checking that the query method defines scalar parameters
 	 * and collection parameters where required and that invalid parameter declarations are rejected.
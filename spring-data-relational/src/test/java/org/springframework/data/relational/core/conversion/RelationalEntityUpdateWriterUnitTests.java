@@ -19,13 +19,17 @@ import static org.assertj.core.api.Assertions.*;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.LazyLoadingValue;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 
 /**
@@ -59,6 +63,117 @@ public class RelationalEntityUpdateWriterUnitTests {
 				);
 	}
 
+	@Test
+	void unchangedReferencesAreNotWrittenWhenPreviousStateIsKnown() {
+
+		CollectionEntity entity = new CollectionEntity(SOME_ENTITY_ID);
+		entity.elements.add(new NamedElement(1L, "one"));
+		entity.list.add(new ElementWithoutId("first"));
+
+		AggregateSnapshot snapshot = AggregateSnapshot.of(context, entity);
+		entity.name = "changed";
+
+		RootAggregateChange<CollectionEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+		new RelationalEntityUpdateWriter<CollectionEntity>(context, snapshot).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbActionTestSupport::extractPath) //
+				.containsExactly(tuple(DbAction.UpdateRoot.class, ""));
+	}
+
+	@Test
+	void changedEntitiesWithIdAreWrittenIndividually() {
+
+		CollectionEntity entity = new CollectionEntity(SOME_ENTITY_ID);
+		NamedElement one = new NamedElement(1L, "one");
+		NamedElement two = new NamedElement(2L, "two");
+		entity.elements.add(one);
+		entity.elements.add(two);
+		entity.elements.add(new NamedElement(3L, "three"));
+
+		AggregateSnapshot snapshot = AggregateSnapshot.of(context, entity);
+		one.name = "uno";
+		entity.elements.remove(two);
+		entity.elements.add(new NamedElement(null, "four"));
+
+		RootAggregateChange<CollectionEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+		new RelationalEntityUpdateWriter<CollectionEntity>(context, snapshot).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbActionTestSupport::extractPath, DbActionTestSupport::insertIdValueSource) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, "", IdValueSource.PROVIDED), //
+						tuple(DbAction.DeleteById.class, "elements", null), //
+						tuple(DbAction.Update.class, "elements", IdValueSource.PROVIDED), //
+						tuple(DbAction.Insert.class, "elements", IdValueSource.GENERATED) //
+				);
+	}
+
+	@Test
+	void changedEntitiesWithoutIdGetDeletedAndInsertedAgain() {
+
+		CollectionEntity entity = new CollectionEntity(SOME_ENTITY_ID);
+		entity.elements.add(new NamedElement(1L, "one"));
+		entity.list.add(new ElementWithoutId("first"));
+
+		AggregateSnapshot snapshot = AggregateSnapshot.of(context, entity);
+		entity.list.add(new ElementWithoutId("second"));
+
+		RootAggregateChange<CollectionEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+		new RelationalEntityUpdateWriter<CollectionEntity>(context, snapshot).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, ""), //
+						tuple(DbAction.Delete.class, "list"), //
+						tuple(DbAction.Insert.class, "list"), //
+						tuple(DbAction.Insert.class, "list") //
+				);
+	}
+
+	@Test
+	void movedEntitiesWithIdGetDeletedAndInsertedAgainWithTheRestOfTheCollection() {
+
+		ListEntity entity = new ListEntity(SOME_ENTITY_ID);
+		NamedElement one = new NamedElement(1L, "one");
+		NamedElement two = new NamedElement(2L, "two");
+		entity.elements.add(one);
+		entity.elements.add(two);
+
+		AggregateSnapshot snapshot = AggregateSnapshot.of(context, entity);
+		entity.elements.set(0, two);
+		entity.elements.set(1, one);
+
+		RootAggregateChange<ListEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+		new RelationalEntityUpdateWriter<ListEntity>(context, snapshot).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, ""), //
+						tuple(DbAction.Delete.class, "elements"), //
+						tuple(DbAction.Insert.class, "elements"), //
+						tuple(DbAction.Insert.class, "elements") //
+				);
+	}
+
+	@Test
+	void unloadedLazyCollectionsAreNeitherLoadedNorWritten() {
+
+		ListEntity entity = new ListEntity(SOME_ENTITY_ID);
+		entity.elements = new UnloadedList();
+
+		AggregateSnapshot snapshot = AggregateSnapshot.of(context, entity);
+
+		RootAggregateChange<ListEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+		new RelationalEntityUpdateWriter<ListEntity>(context, snapshot).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbActionTestSupport::extractPath) //
+				.containsExactly(tuple(DbAction.UpdateRoot.class, ""));
+	}
+
 	private List<DbAction<?>> extractActions(MutableAggregateChange<?> aggregateChange) {
 
 		List<DbAction<?>> actions = new ArrayList<>();
@@ -80,4 +195,58 @@ public class RelationalEntityUpdateWriterUnitTests {
 		@Id final Long id;
 	}
 
+	@RequiredArgsConstructor
+	static class CollectionEntity {
+
+		@Id final Long id;
+		String name;
+		Set<NamedElement> elements = new LinkedHashSet<>();
+		List<ElementWithoutId> list = new ArrayList<>();
+	}
+
+	@RequiredArgsConstructor
+	static class ListEntity {
+
+		@Id final Long id;
+		List<NamedElement> elements = new ArrayList<>();
+	}
+
+	static class UnloadedList extends AbstractList<NamedElement> implements LazyLoadingValue {
+
+		@Override
+		public boolean isLoaded() {
+			return false;
+		}
+
+		@Override
+		public NamedElement get(int index) {
+			throw new IllegalStateException("Must not be loaded");
+		}
+
+		@Override
+		public int size() {
+			throw new IllegalStateException("Must not be loaded");
+		}
+	}
+
+	static class NamedElement {
+
+		@Id Long id;
+		String name;
+
+		NamedElement(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	static class ElementWithoutId {
+
+		String name;
+
+		ElementWithoutId(String name) {
+			this.name = name;
+		}
+	}
+
 }
@@ -63,6 +63,51 @@ class SaveBatchingAggregateChangeTest {
 			assertThat(extractActions(change)).containsExactly(rootUpdate);
 		}
 
+		@Test
+		void yieldsMultipleUpdateRoot_asBatchUpdateRootAction() {
+
+			DbAction.UpdateRoot<Root> root1Update = new DbAction.UpdateRoot<>(new Root(1L, null), null);
+			DbAction.UpdateRoot<Root> root2Update = new DbAction.UpdateRoot<>(new Root(2L, null), null);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(rootChange(root1Update));
+			change.add(rootChange(root2Update));
+
+			List<DbAction<?>> actions = extractActions(change);
+			assertThat(actions).extracting(DbAction::getClass, DbAction::getEntityType) //
+					.containsExactly(Tuple.tuple(DbAction.BatchUpdateRoot.class, Root.class));
+			assertThat(getBatchWithValueAction(actions, Root.class, DbAction.BatchUpdateRoot.class).getActions())
+					.containsExactly(root1Update, root2Update);
+		}
+
+		@Test
+		void yieldsUpdateRootWithAndWithoutVersion_asSeparateBatches() {
+
+			DbAction.UpdateRoot<Root> root1Update = new DbAction.UpdateRoot<>(new Root(1L, null), 1L);
+			DbAction.UpdateRoot<Root> root2Update = new DbAction.UpdateRoot<>(new Root(2L, null), 3L);
+			DbAction.UpdateRoot<Root> root3Update = new DbAction.UpdateRoot<>(new Root(3L, null), null);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(rootChange(root1Update));
+			change.add(rootChange(root2Update));
+			change.add(rootChange(root3Update));
+
+			List<DbAction<?>> actions = extractActions(change);
+			assertThat(actions).extracting(DbAction::getClass, DbAction::getEntityType) //
+					.containsExactly( //
+							Tuple.tuple(DbAction.BatchUpdateRootWithVersion.class, Root.class), //
+							Tuple.tuple(DbAction.UpdateRoot.class, Root.class));
+			assertThat(getBatchWithValueAction(actions, Root.class, DbAction.BatchUpdateRootWithVersion.class).getActions())
+					.containsExactly(root1Update, root2Update);
+		}
+
+		private RootAggregateChange<Root> rootChange(DbAction.UpdateRoot<Root> rootUpdate) {
+
+			RootAggregateChange<Root> aggregateChange = MutableAggregateChange.forSave(rootUpdate.getEntity());
+			aggregateChange.setRootAction(rootUpdate);
+			return aggregateChange;
+		}
+
 		@Test // GH-537
 		void yieldsSingleInsertRoot_followedByUpdateRoot_asIndividualActions() {
 
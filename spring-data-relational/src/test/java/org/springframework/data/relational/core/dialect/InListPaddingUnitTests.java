@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link InListPadding}.
+ */
+class InListPaddingUnitTests {
+
+	@Test
+	void padsToNextPowerOfTwo() {
+
+		assertThat(InListPadding.POWER_OF_TWO.getPaddedSize(1)).isEqualTo(1);
+		assertThat(InListPadding.POWER_OF_TWO.getPaddedSize(2)).isEqualTo(2);
+		assertThat(InListPadding.POWER_OF_TWO.getPaddedSize(3)).isEqualTo(4);
+		assertThat(InListPadding.POWER_OF_TWO.getPaddedSize(5)).isEqualTo(8);
+		assertThat(InListPadding.POWER_OF_TWO.getPaddedSize(8)).isEqualTo(8);
+		assertThat(InListPadding.POWER_OF_TWO.getPaddedSize(9)).isEqualTo(16);
+	}
+
+	@Test
+	void doesNotPadBeyondMaximumSize() {
+
+		InListPadding padding = InListPadding.powerOfTwo(1000);
+
+		assertThat(padding.getPaddedSize(600)).isEqualTo(1000);
+		assertThat(padding.getPaddedSize(1200)).isEqualTo(1200);
+	}
+
+	@Test
+	void repeatsLastValue() {
+
+		assertThat(InListPadding.POWER_OF_TWO.pad(Arrays.asList(1, 2, 3))).containsExactly(1, 2, 3, 3);
+		assertThat(InListPadding.POWER_OF_TWO.pad(Collections.emptyList())).isEmpty();
+	}
+
+	@Test
+	void noneKeepsValues() {
+
+		List<Integer> values = Arrays.asList(1, 2, 3);
+
+		assertThat(InListPadding.NONE.pad(values)).isSameAs(values);
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import static java.util.Arrays.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -76,4 +77,15 @@ public class SqlServerDialectUnitTests {
 		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, from))).isEqualTo("WITH (HOLDLOCK, ROWLOCK)");
 		assertThat(lock.getClausePosition()).isEqualTo(LockClause.Position.AFTER_FROM_TABLE);
 	}
+
+	@Test
+	public void shouldRenderMultiRowInsertReturningRowIndex() {
+
+		IdGeneration idGeneration = SqlServerDialect.INSTANCE.getIdGeneration();
+
+		assertThat(idGeneration.createMultiRowInsert("person", asList("first", "last"), "?, ?", 2, "id"))
+				.isEqualTo("MERGE INTO person USING (VALUES (?, ?, 0), (?, ?, 1)) AS source (c0, c1, row_index) ON 1 = 0 "
+						+ "WHEN NOT MATCHED THEN INSERT (first, last) VALUES (source.c0, source.c1) "
+						+ "OUTPUT INSERTED.id, source.row_index;");
+	}
 }
@@ -23,8 +23,12 @@ import lombok.Data;
 
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 
 import org.assertj.core.api.SoftAssertions;
@@ -128,6 +132,21 @@ public class BasicRelationalPersistentPropertyUnitTests {
 		softly.assertAll();
 	}
 
+	@Test
+	void lazyLoadingAppliesToDeclaredCollectionsAndMapsOfEntitiesOnly() {
+
+		RelationalPersistentEntity<?> lazyEntity = context.getRequiredPersistentEntity(LazyEntity.class);
+
+		assertThat(lazyEntity.getRequiredPersistentProperty("list").isLazy()).isTrue();
+		assertThat(lazyEntity.getRequiredPersistentProperty("set").isLazy()).isTrue();
+		assertThat(lazyEntity.getRequiredPersistentProperty("collection").isLazy()).isTrue();
+		assertThat(lazyEntity.getRequiredPersistentProperty("map").isLazy()).isTrue();
+		assertThat(lazyEntity.getRequiredPersistentProperty("arrayList").isLazy()).isFalse();
+		assertThat(lazyEntity.getRequiredPersistentProperty("array").isLazy()).isFalse();
+		assertThat(lazyEntity.getRequiredPersistentProperty("strings").isLazy()).isFalse();
+		assertThat(lazyEntity.getRequiredPersistentProperty("eager").isLazy()).isFalse();
+	}
+
 	@Data
 	@SuppressWarnings("unused")
 	private static class DummyEntity {
@@ -182,4 +201,18 @@ public class BasicRelationalPersistentPropertyUnitTests {
 
 	@SuppressWarnings("unused")
 	private static class OtherEntity {}
+
+	@SuppressWarnings("unused")
+	private static class LazyEntity {
+
+		@Id Long id;
+		@MappedCollection(lazy = true) List<OtherEntity> list;
+		@MappedCollection(lazy = true) Set<OtherEntity> set;
+		@MappedCollection(lazy = true) Collection<OtherEntity> collection;
+		@MappedCollection(lazy = true) Map<String, OtherEntity> map;
+		@MappedCollection(lazy = true) ArrayList<OtherEntity> arrayList;
+		@MappedCollection(lazy = true) OtherEntity[] array;
+		@MappedCollection(lazy = true) List<String> strings;
+		@MappedCollection List<OtherEntity> eager;
+	}
 }
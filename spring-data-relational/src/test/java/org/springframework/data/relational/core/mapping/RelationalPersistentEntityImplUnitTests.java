@@ -93,6 +93,28 @@ public class RelationalPersistentEntityImplUnitTests {
 		assertThat(tableName).isEqualTo(SqlIdentifier.from(quoted("ANAKYN_SKYWALKER"), quoted("ENTITY_WITH_SCHEMA")));
 	}
 
+	@Test
+	void discoversIdSequence() {
+
+		IdSequence idSequence = mappingContext.getRequiredPersistentEntity(EntityWithSequence.class).getIdSequence();
+
+		assertThat(idSequence).isNotNull();
+		assertThat(idSequence.getSequenceName()).isEqualTo(SqlIdentifier.from(quoted("SEQ_SCHEMA"), quoted("entity_seq")));
+		assertThat(idSequence.getAllocationSize()).isEqualTo(50);
+		assertThat(idSequence.getOptimizer()).isEqualTo(Sequence.Optimizer.HILO);
+	}
+
+	@Test
+	void entityWithoutSequenceAnnotationHasNoIdSequence() {
+
+		assertThat(mappingContext.getRequiredPersistentEntity(EntityWithSchema.class).getIdSequence()).isNull();
+	}
+
+	static class EntityWithSequence {
+		@Id @Sequence(value = "entity_seq", schema = "SEQ_SCHEMA", allocationSize = 50,
+				optimizer = Sequence.Optimizer.HILO) private Long id;
+	}
+
 	@Table(schema = "ANAKYN_SKYWALKER")
 	static class EntityWithSchema {
 		@Id private Long id;
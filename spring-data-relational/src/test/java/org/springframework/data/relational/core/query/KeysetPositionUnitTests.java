@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Unit tests for {@link KeysetPosition} and {@link KeysetWindow}.
+ */
+class KeysetPositionUnitTests {
+
+	@Test
+	void initialPositionDoesNotRestrictQuery() {
+
+		Query query = Query.empty().sort(Sort.by("id"));
+
+		assertThat(query.after(KeysetPosition.initial())).isSameAs(query);
+		assertThat(KeysetPosition.initial().toCriteria(Sort.by("id")).isEmpty()).isTrue();
+	}
+
+	@Test
+	void rendersSeekPredicateForAllSortProperties() {
+
+		KeysetPosition position = KeysetPosition.of(Map.of("a", 1, "b", 2));
+
+		assertThat(position.toCriteria(Sort.by("a", "b"))).hasToString("(a > 1 OR ((a = 1 AND b > 2)))");
+	}
+
+	@Test
+	void rendersSeekPredicateForDescendingNullsLastOrder() {
+
+		KeysetPosition position = KeysetPosition.of(Map.of("a", 5));
+
+		assertThat(position.toCriteria(Sort.by(Sort.Order.desc("a").nullsLast())))
+				.hasToString("(a < 5 OR a IS NULL)");
+	}
+
+	@Test
+	void rejectsNullValueForNativeNullHandling() {
+
+		KeysetPosition position = KeysetPosition.of(Collections.singletonMap("a", null));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> position.toCriteria(Sort.by("a")));
+	}
+
+	@Test
+	void combinesSeekPredicateWithQueryCriteria() {
+
+		Query query = Query.query(Criteria.where("name").is("Walter")).sort(Sort.by("id"))
+				.after(KeysetPosition.of(Map.of("id", 3)));
+
+		assertThat(query.getCriteria()).hasValueSatisfying(
+				criteria -> assertThat(criteria).hasToString("(name = 'Walter') AND (id > 3)"));
+	}
+
+	@Test
+	void windowExposesPositionOfLastElement() {
+
+		List<Integer> results = Arrays.asList(1, 2, 3);
+
+		KeysetWindow<Integer> window = KeysetWindow.of(results, 2, Sort.by("value"), it -> property -> it);
+
+		assertThat(window.getContent()).containsExactly(1, 2);
+		assertThat(window.hasNext()).isTrue();
+		assertThat(window.getNextPosition()).isEqualTo(KeysetPosition.of(Map.of("value", 2)));
+	}
+}
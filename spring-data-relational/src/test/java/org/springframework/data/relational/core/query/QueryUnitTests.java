@@ -17,6 +17,8 @@ package org.springframework.data.relational.core.query;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -62,4 +64,19 @@ public class QueryUnitTests {
 				.extracting(Sort.Order::getProperty) //
 				.containsExactly("alpha");
 	}
+
+	@Test
+	public void retainsFetchSizeAndTimeout() {
+
+		Query query = Query.empty() //
+				.fetchSize(100) //
+				.timeout(Duration.ofSeconds(5)) //
+				.sort(Sort.by("alpha")) //
+				.with(PageRequest.of(2, 20));
+
+		assertThat(query.getFetchSize()).isEqualTo(100);
+		assertThat(query.getTimeout()).isEqualTo(Duration.ofSeconds(5));
+		assertThat(Query.empty().getFetchSize()).isEqualTo(-1);
+		assertThat(Query.empty().getTimeout()).isNull();
+	}
 }